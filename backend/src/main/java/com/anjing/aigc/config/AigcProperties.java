@@ -1,5 +1,7 @@
 package com.anjing.aigc.config;
 
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.util.IdUtils;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -387,6 +389,245 @@ public class AigcProperties {
         private boolean cleanupAuditEnabled = true;
     }
     
+    // ==================== 生成结果缓存 ====================
+
+    /**
+     * 生成结果缓存配置
+     */
+    private ResultCacheConfig resultCache = new ResultCacheConfig();
+
+    @Data
+    public static class ResultCacheConfig {
+        /**
+         * 是否启用生成结果缓存（默认关闭，显式开启后才会复用结果）
+         */
+        private boolean enabled = false;
+
+        /**
+         * 缓存条目存活时间（秒）
+         */
+        private long ttlSeconds = 600L;
+
+        /**
+         * 最多缓存的请求形态数量
+         */
+        private int maxEntries = 256;
+
+        /**
+         * 启用缓存的内容类型
+         */
+        private List<ContentType> contentTypes = new ArrayList<>(List.of(
+                ContentType.IMAGE, ContentType.VIDEO, ContentType.AUDIO));
+
+        /**
+         * 允许缓存的 Provider 类型；默认只缓存输出确定的 Mock（OTHER）Provider
+         */
+        private List<String> providerTypes = new ArrayList<>(List.of("OTHER"));
+    }
+
+    // ==================== 广场互动计数 ====================
+
+    /**
+     * 广场点赞/收藏计数写回配置
+     */
+    private GalleryCounterConfig galleryCounter = new GalleryCounterConfig();
+
+    @Data
+    public static class GalleryCounterConfig {
+        /**
+         * 是否合并写回；关闭时每次互动立即执行一次原子 UPDATE
+         */
+        private boolean writeBehindEnabled = true;
+
+        /**
+         * 待写回增量的刷新间隔（毫秒）
+         */
+        private long flushIntervalMs = 1000L;
+    }
+
+    // ==================== 广场公开访问事件 ====================
+
+    /**
+     * 分享浏览、公开下载、Prompt 复用事件的异步批量写入配置
+     */
+    private GalleryEventsConfig galleryEvents = new GalleryEventsConfig();
+
+    @Data
+    public static class GalleryEventsConfig {
+        /**
+         * 是否异步批量写入；关闭时每个事件在请求线程中单独写一条审计
+         */
+        private boolean asyncEnabled = true;
+
+        /**
+         * 内存环形缓冲区容量（向上取整为 2 的幂），写满后新事件被丢弃
+         */
+        private int bufferCapacity = 8192;
+
+        /**
+         * 单次写回的最大事件数
+         */
+        private int batchSize = 500;
+
+        /**
+         * 缓冲事件的刷新间隔（毫秒）
+         */
+        private long flushIntervalMs = 1000L;
+    }
+
+    // ==================== 分享页文案缓存 ====================
+
+    /**
+     * 公开分享页 SEO/海报文案预计算缓存配置
+     */
+    private SharePayloadCacheConfig sharePayloadCache = new SharePayloadCacheConfig();
+
+    @Data
+    public static class SharePayloadCacheConfig {
+        /**
+         * 是否启用；关闭时每次分享访问都重新生成文案
+         */
+        private boolean enabled = true;
+
+        /**
+         * 最多缓存的作品数量，超出后淘汰最早生成的文案
+         */
+        private int maxEntries = 2048;
+    }
+
+    // ==================== 广场运营规则 ====================
+
+    /**
+     * 运营规则快照配置
+     */
+    private CurationRulesConfig curationRules = new CurationRulesConfig();
+
+    @Data
+    public static class CurationRulesConfig {
+        /**
+         * 检查其他节点是否修改过运营规则的间隔（毫秒）
+         */
+        private long refreshIntervalMs = 5000L;
+    }
+
+    // ==================== 广场互动关系缓存 ====================
+
+    /**
+     * 当前访问者点赞/收藏关系缓存配置
+     */
+    private ReactionCacheConfig reactionCache = new ReactionCacheConfig();
+
+    @Data
+    public static class ReactionCacheConfig {
+        /**
+         * 是否启用；关闭时每次判断都查询互动关系表
+         */
+        private boolean enabled = true;
+
+        /**
+         * 最多缓存的访问者数量，超出后淘汰最久未访问的访问者
+         */
+        private int maxActors = 1024;
+
+        /**
+         * 单个访问者关系的存活时间（秒），用于收敛其他节点写入造成的差异
+         */
+        private long ttlSeconds = 300L;
+    }
+
+    // ==================== 作者统计缓存 ====================
+
+    /**
+     * 广场作者主页与创作者榜的作品统计缓存配置
+     */
+    private AuthorStatsCacheConfig authorStatsCache = new AuthorStatsCacheConfig();
+
+    @Data
+    public static class AuthorStatsCacheConfig {
+        /**
+         * 是否启用；关闭时每次都执行分组统计查询
+         */
+        private boolean enabled = true;
+
+        /**
+         * 最多缓存的作者数量，超出后淘汰最久未访问的作者
+         */
+        private int maxAuthors = 1024;
+
+        /**
+         * 单个作者统计的存活时间（秒），用于收敛其他节点写入和计数写回造成的差异
+         */
+        private long ttlSeconds = 300L;
+    }
+
+    // ==================== 广场榜单缓存 ====================
+
+    /**
+     * 灵感广场合集、专题和创作者榜响应缓存配置
+     */
+    private GalleryFeedCacheConfig galleryFeedCache = new GalleryFeedCacheConfig();
+
+    @Data
+    public static class GalleryFeedCacheConfig {
+        /**
+         * 是否启用
+         */
+        private boolean enabled = true;
+
+        /**
+         * 新鲜期（秒），期内直接返回缓存
+         */
+        private long ttlSeconds = 30L;
+
+        /**
+         * 过期后仍可先返回旧值、同时后台刷新的时长（秒）
+         */
+        private long staleSeconds = 120L;
+
+        /**
+         * 最多缓存的筛选组合数量
+         */
+        private int maxEntries = 256;
+    }
+
+    /**
+     * 业务主键生成配置
+     */
+    private IdsConfig ids = new IdsConfig();
+
+    @Data
+    public static class IdsConfig {
+        /**
+         * 新 taskId/assetId/materialId 的生成策略：UUID、UUID_V7、SNOWFLAKE
+         */
+        private IdUtils.BusinessIdStrategy strategy = IdUtils.BusinessIdStrategy.UUID_V7;
+
+        /**
+         * 固定雪花算法节点号（0~1023）；小于 0 时通过数据库租约自动分配
+         */
+        private int nodeId = -1;
+
+        /**
+         * 是否通过数据库租约分配节点号
+         */
+        private boolean workerLeaseEnabled = true;
+
+        /**
+         * 租约时长（秒），需明显大于续约间隔和实例间时钟偏差
+         */
+        private long leaseSeconds = 60L;
+
+        /**
+         * 续约间隔（毫秒）
+         */
+        private long renewIntervalMs = 20000L;
+
+        /**
+         * 安全余量（毫秒）：租约到期前这段时间内不再用该节点号发号，需覆盖实例间时钟偏差
+         */
+        private long leaseSafetyMarginMs = 10000L;
+    }
+
     // ==================== 便捷方法 ====================
     
     /**
@@ -1,16 +1,20 @@
 package com.anjing.aigc.config;
 
+import com.anjing.config.http.OkHttpClientHttpRequestFactory;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * RestTemplate 配置（用于 OneRouter 意图分析）
  * 
  * 注意：OneRouter 是国内服务，不需要代理！
  * Google API 的代理在各 Provider 中单独配置。
+ * 底层复用共享出站客户端的连接池（见 OutboundHttpClientConfig），只覆盖超时。
  * 
  * @author AI Team
  */
@@ -19,14 +23,13 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
     
     @Bean
-    public RestTemplate restTemplate(AigcProperties aigcProperties) {
+    public RestTemplate restTemplate(AigcProperties aigcProperties, OkHttpClient outboundHttpClient) {
         var oneRouterConfig = aigcProperties.getProviders().getOnerouter();
         int timeout = oneRouterConfig.getTimeout();
         
         // OneRouter 不需要代理，直接访问
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(timeout);
-        factory.setReadTimeout(timeout);
+        OkHttpClientHttpRequestFactory factory = new OkHttpClientHttpRequestFactory(
+                outboundHttpClient, Duration.ofMillis(timeout), Duration.ofMillis(timeout));
         
         log.info("[RestTemplate] 初始化完成 (OneRouter 直连), timeout={}ms", timeout);
         
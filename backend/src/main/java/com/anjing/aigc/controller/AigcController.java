@@ -9,7 +9,11 @@ import com.anjing.aigc.model.request.ProviderProbeRequest;
 import com.anjing.aigc.model.request.ProviderRouteUpdateRequest;
 import com.anjing.aigc.model.request.ProviderSmokeTestRequest;
 import com.anjing.aigc.model.request.SaveToGalleryRequest;
+import com.anjing.aigc.model.request.DataUrlMigrationRequest;
+import com.anjing.aigc.model.request.GalleryTopicBackfillRequest;
+import com.anjing.aigc.model.request.TaskMaterialBackfillRequest;
 import com.anjing.aigc.model.request.OwnershipBackfillRequest;
+import com.anjing.aigc.model.response.CursorPageResponse;
 import com.anjing.aigc.model.response.GenerateResponse;
 import com.anjing.aigc.model.response.AssetDetailResponse;
 import com.anjing.aigc.model.response.GalleryAuditLogResponse;
@@ -22,6 +26,9 @@ import com.anjing.aigc.model.response.GalleryShareResponse;
 import com.anjing.aigc.model.response.GalleryTopicsResponse;
 import com.anjing.aigc.model.response.MaterialUploadResponse;
 import com.anjing.aigc.model.response.ModelListResponse;
+import com.anjing.aigc.model.response.DataUrlMigrationResponse;
+import com.anjing.aigc.model.response.GalleryTopicBackfillResponse;
+import com.anjing.aigc.model.response.TaskMaterialBackfillResponse;
 import com.anjing.aigc.model.response.OwnershipBackfillResponse;
 import com.anjing.aigc.model.response.ProviderAuditLogResponse;
 import com.anjing.aigc.model.response.ProviderCredentialUpdateResponse;
@@ -33,6 +40,9 @@ import com.anjing.aigc.model.response.ProviderSmokeTestResponse;
 import com.anjing.aigc.model.response.StorageAuditLogResponse;
 import com.anjing.aigc.model.response.StorageStatusResponse;
 import com.anjing.aigc.model.response.TaskStatusResponse;
+import com.anjing.aigc.service.AigcDataUrlMigrationService;
+import com.anjing.aigc.service.AigcGalleryTopicService;
+import com.anjing.aigc.service.AigcTaskMaterialService;
 import com.anjing.aigc.service.AigcDownloadService;
 import com.anjing.aigc.service.AigcGalleryAuditLogService;
 import com.anjing.aigc.service.AigcMaterialService;
@@ -41,6 +51,7 @@ import com.anjing.aigc.service.AigcService;
 import com.anjing.aigc.service.storage.AigcStorageAuditLogService;
 import com.anjing.aigc.service.storage.AigcStorageService;
 import com.anjing.model.constants.ApiConstants;
+import com.anjing.model.constants.RequestHeaderConstants;
 import com.anjing.model.response.APIResponse;
 import com.anjing.model.response.PageResult;
 import com.anjing.aigc.model.dto.AssetDTO;
@@ -50,8 +61,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.Valid;
@@ -78,6 +92,15 @@ import jakarta.validation.Valid;
 @Tag(name = "AIGC Creation", description = "AIGC 创作、任务、资产和灵感广场接口")
 public class AigcController {
 
+    /**
+     * 分享页响应带有访问者的点赞/收藏状态，只允许浏览器私有缓存，并按身份请求头区分
+     */
+    private static final String[] SHARE_VARY_HEADERS = {
+            RequestHeaderConstants.USER_ID,
+            RequestHeaderConstants.TENANT_ID,
+            RequestHeaderConstants.CALLER_ID
+    };
+
     private final AigcService aigcService;
     private final AigcMaterialService aigcMaterialService;
     private final AigcDownloadService aigcDownloadService;
@@ -85,6 +108,9 @@ public class AigcController {
     private final AigcStorageAuditLogService aigcStorageAuditLogService;
     private final AigcGalleryAuditLogService aigcGalleryAuditLogService;
     private final AigcOwnershipBackfillService aigcOwnershipBackfillService;
+    private final AigcDataUrlMigrationService aigcDataUrlMigrationService;
+    private final AigcTaskMaterialService aigcTaskMaterialService;
+    private final AigcGalleryTopicService aigcGalleryTopicService;
 
     /**
      * 智能生成接口 - Agent核心入口
@@ -237,6 +263,27 @@ public class AigcController {
         return APIResponse.success(logs);
     }
 
+    @GetMapping(ApiConstants.Aigc.STORAGE_AUDIT_FEED)
+    @Operation(summary = "按游标读取 AIGC 存储审计日志")
+    public APIResponse<CursorPageResponse<StorageAuditLogResponse>> getStorageAuditLogFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String backend,
+            @RequestParam(required = false) Boolean success) {
+        CursorPageResponse<StorageAuditLogResponse> logs = aigcStorageAuditLogService.getAuditLogFeed(
+                cursor, size, action, backend, success);
+        return APIResponse.success(logs);
+    }
+
+    @PostMapping(ApiConstants.Aigc.STORAGE_DATA_URL_MIGRATION)
+    @Operation(summary = "迁移历史 data URL 资产到受管存储")
+    public APIResponse<DataUrlMigrationResponse> migrateDataUrls(
+            @Valid @RequestBody DataUrlMigrationRequest request) {
+        DataUrlMigrationResponse response = aigcDataUrlMigrationService.migrate(request);
+        return APIResponse.success(response);
+    }
+
     @PostMapping(ApiConstants.Aigc.OWNERSHIP_BACKFILL)
     @Operation(summary = "回填历史 AIGC 数据归属")
     public APIResponse<OwnershipBackfillResponse> backfillOwnership(
@@ -245,6 +292,22 @@ public class AigcController {
         return APIResponse.success(response);
     }
 
+    @PostMapping(ApiConstants.Aigc.TASK_MATERIAL_BACKFILL)
+    @Operation(summary = "回填历史任务与引用素材的关联")
+    public APIResponse<TaskMaterialBackfillResponse> backfillTaskMaterials(
+            @Valid @RequestBody TaskMaterialBackfillRequest request) {
+        TaskMaterialBackfillResponse response = aigcTaskMaterialService.backfill(request);
+        return APIResponse.success(response);
+    }
+
+    @PostMapping(ApiConstants.Aigc.GALLERY_TOPIC_BACKFILL)
+    @Operation(summary = "回填已发布作品的广场专题标签")
+    public APIResponse<GalleryTopicBackfillResponse> backfillGalleryTopics(
+            @Valid @RequestBody GalleryTopicBackfillRequest request) {
+        GalleryTopicBackfillResponse response = aigcGalleryTopicService.backfill(request);
+        return APIResponse.success(response);
+    }
+
     @GetMapping(ApiConstants.Aigc.GALLERY_AUDITS)
     @Operation(summary = "获取 AIGC 广场发布和互动审计日志")
     public APIResponse<PageResult<GalleryAuditLogResponse>> getGalleryAuditLogs(
@@ -258,6 +321,19 @@ public class AigcController {
         return APIResponse.success(logs);
     }
 
+    @GetMapping(ApiConstants.Aigc.GALLERY_AUDIT_FEED)
+    @Operation(summary = "按游标读取 AIGC 广场审计日志")
+    public APIResponse<CursorPageResponse<GalleryAuditLogResponse>> getGalleryAuditLogFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String assetId,
+            @RequestParam(required = false) Boolean success) {
+        CursorPageResponse<GalleryAuditLogResponse> logs = aigcGalleryAuditLogService.getAuditLogFeed(
+                cursor, size, action, assetId, success);
+        return APIResponse.success(logs);
+    }
+
     @GetMapping(ApiConstants.Aigc.GALLERY_INTERACTION_REPORT)
     @Operation(summary = "获取 AIGC 广场互动报表")
     public APIResponse<GalleryInteractionReportResponse> getGalleryInteractionReport(
@@ -319,6 +395,18 @@ public class AigcController {
         return APIResponse.success(gallery);
     }
 
+    @GetMapping(ApiConstants.Aigc.GALLERY_FEED)
+    @Operation(summary = "按游标读取灵感广场作品流")
+    public APIResponse<CursorPageResponse<GalleryDTO>> getGalleryFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(required = false) String contentType,
+            @RequestParam(required = false) String model,
+            @RequestParam(required = false) String keyword) {
+        CursorPageResponse<GalleryDTO> feed = aigcService.getGalleryFeed(cursor, size, contentType, model, keyword);
+        return APIResponse.success(feed);
+    }
+
     @GetMapping(ApiConstants.Aigc.GALLERY_RANKING)
     @Operation(summary = "获取灵感广场全局热门榜单")
     public APIResponse<PageResult<GalleryDTO>> getGalleryRanking(
@@ -387,13 +475,28 @@ public class AigcController {
         return APIResponse.success(gallery);
     }
 
-    @GetMapping(ApiConstants.Aigc.GALLERY_SHARE)
-    @Operation(summary = "获取公开分享页所需的已发布 AIGC 广场作品")
-    public APIResponse<GalleryShareResponse> getGalleryShare(@PathVariable String assetId) {
-        GalleryShareResponse response = aigcService.getGalleryShare(assetId);
+    @GetMapping(ApiConstants.Aigc.GALLERY_DETAIL)
+    @Operation(summary = "获取已发布 AIGC 广场作品详情（完整提示词）")
+    public APIResponse<GalleryDTO> getGalleryDetail(@PathVariable String assetId) {
+        GalleryDTO response = aigcService.getGalleryDetail(assetId);
         return APIResponse.success(response);
     }
 
+    @GetMapping(ApiConstants.Aigc.GALLERY_SHARE)
+    @Operation(summary = "获取公开分享页所需的已发布 AIGC 广场作品（支持 If-None-Match 返回 304）")
+    public ResponseEntity<APIResponse<GalleryShareResponse>> getGalleryShare(
+            @PathVariable String assetId, WebRequest webRequest) {
+        GalleryShareResponse response = aigcService.getGalleryShare(
+                assetId, etag -> webRequest.checkNotModified("W/\"" + etag + "\""));
+        ResponseEntity.BodyBuilder builder = response == null
+                ? ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                : ResponseEntity.ok();
+        return builder
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(SHARE_VARY_HEADERS)
+                .body(response == null ? null : APIResponse.success(response));
+    }
+
     @PostMapping(ApiConstants.Aigc.GALLERY_SHARE_REUSE)
     @Operation(
             summary = "记录公开分享页 Prompt 复用",
@@ -494,6 +597,16 @@ public class AigcController {
         return APIResponse.success(assets);
     }
 
+    @GetMapping(ApiConstants.Aigc.ASSET_FEED)
+    @Operation(summary = "按游标读取我的资产流")
+    public APIResponse<CursorPageResponse<AssetDTO>> getAssetFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(required = false) String contentType) {
+        CursorPageResponse<AssetDTO> feed = aigcService.getAssetFeed(cursor, size, contentType);
+        return APIResponse.success(feed);
+    }
+
     @GetMapping(ApiConstants.Aigc.ASSET_DETAIL)
     @Operation(summary = "获取资产详情和来源任务")
     public APIResponse<AssetDetailResponse> getAssetDetail(@PathVariable String assetId) {
@@ -34,6 +34,9 @@ public class AssetDTO {
     /** 提示词 */
     private String prompt;
 
+    /** 列表中的提示词是否已截断，完整内容通过详情接口获取 */
+    private Boolean promptTruncated;
+
     /** 使用的模型 */
     private String model;
 
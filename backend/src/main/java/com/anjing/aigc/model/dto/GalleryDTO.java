@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
  * @author AIGC Team
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class GalleryDTO {
@@ -40,6 +40,9 @@ public class GalleryDTO {
     /** 提示词 */
     private String prompt;
 
+    /** 列表中的提示词是否已截断，完整内容通过详情接口获取 */
+    private Boolean promptTruncated;
+
     /** 使用的模型 */
     private String model;
 
@@ -12,7 +12,14 @@ import java.time.LocalDateTime;
  * @author AIGC Team
  */
 @Entity
-@Table(name = "aigc_asset")
+@Table(
+        name = "aigc_asset",
+        indexes = {
+                @Index(name = "idx_aigc_asset_published_type_created", columnList = "is_published, content_type, created_at"),
+                @Index(name = "idx_aigc_asset_published_owner_created", columnList = "is_published, owner_id, created_at"),
+                @Index(name = "idx_aigc_asset_tenant_owner_created", columnList = "tenant_id, owner_id, created_at")
+        }
+)
 @Data
 public class AigcAsset {
 
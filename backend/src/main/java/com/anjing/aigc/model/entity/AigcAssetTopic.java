@@ -0,0 +1,53 @@
+package com.anjing.aigc.model.entity;
+
+import com.anjing.util.DateUtils;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 广场作品与运营专题的归属标签。
+ *
+ * <p>作品发布时按专题关键词匹配一次 Prompt 并写入本表，专题页通过 (topic_id, asset_id) 索引直接取出成员作品，
+ * 不再在请求时扫描热门候选逐条匹配。</p>
+ */
+@Entity
+@Table(
+        name = "aigc_asset_topic",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_aigc_asset_topic", columnNames = {"topic_id", "asset_id"})
+        },
+        indexes = {
+                @Index(name = "idx_aigc_asset_topic_asset", columnList = "asset_id")
+        }
+)
+@Data
+public class AigcAssetTopic {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "topic_id", nullable = false, length = 64)
+    private String topicId;
+
+    @Column(name = "asset_id", nullable = false, length = 64)
+    private String assetId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = DateUtils.nowLocalDateTime();
+    }
+}
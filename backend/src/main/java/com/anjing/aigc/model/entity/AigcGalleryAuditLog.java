@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.Data;
@@ -19,7 +20,14 @@ import java.time.LocalDateTime;
  * AIGC gallery publication and interaction audit log.
  */
 @Entity
-@Table(name = "aigc_gallery_audit_log")
+@Table(
+        name = "aigc_gallery_audit_log",
+        indexes = {
+                @Index(name = "idx_aigc_gallery_audit_tenant_operator_created", columnList = "tenant_id, operator_id, created_at"),
+                @Index(name = "idx_aigc_gallery_audit_action_created", columnList = "action, created_at"),
+                @Index(name = "idx_aigc_gallery_audit_asset_created", columnList = "asset_id, created_at")
+        }
+)
 @Data
 public class AigcGalleryAuditLog {
 
@@ -75,6 +83,8 @@ public class AigcGalleryAuditLog {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = DateUtils.nowLocalDateTime();
+        if (createdAt == null) {
+            createdAt = DateUtils.nowLocalDateTime();
+        }
     }
 }
@@ -45,6 +45,10 @@ public class AigcGalleryCurationConfig {
     @Column(name = "operation_hint", length = 500)
     private String operationHint;
 
+    /** 配置修订号，每次保存加一；各节点据此发现其他节点的修改 */
+    @Column(name = "revision")
+    private Long revision;
+
     /** 更新来源 */
     @Column(name = "updated_by", length = 80)
     private String updatedBy;
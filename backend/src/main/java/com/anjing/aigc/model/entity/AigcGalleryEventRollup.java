@@ -0,0 +1,61 @@
+package com.anjing.aigc.model.entity;
+
+import com.anjing.aigc.model.enums.ContentType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 广场公开访问事件（分享浏览、公开下载、Prompt 复用）按作品和分钟的汇总计数。
+ *
+ * <p>事件先在内存中按 (asset_id, action, bucket_start) 合并，批量写回时对同一分钟桶累加 event_count，
+ * 热门分享链接每分钟只产生一次行更新。</p>
+ */
+@Entity
+@Table(
+        name = "aigc_gallery_event_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_aigc_gallery_event_rollup",
+                        columnNames = {"asset_id", "action", "bucket_start"})
+        },
+        indexes = {
+                @Index(name = "idx_aigc_gallery_event_rollup_action_bucket", columnList = "action, bucket_start")
+        }
+)
+@Data
+public class AigcGalleryEventRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "asset_id", nullable = false, length = 64)
+    private String assetId;
+
+    @Column(name = "action", nullable = false, length = 64)
+    private String action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", length = 20)
+    private ContentType contentType;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -24,6 +25,10 @@ import java.time.LocalDateTime;
                         name = "uk_aigc_gallery_reaction_actor",
                         columnNames = {"asset_id", "reaction_type", "actor_id", "tenant_key"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_aigc_gallery_reaction_actor_type",
+                        columnList = "tenant_key, actor_id, reaction_type, created_at")
         }
 )
 @Data
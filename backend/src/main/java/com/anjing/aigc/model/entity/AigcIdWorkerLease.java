@@ -0,0 +1,34 @@
+package com.anjing.aigc.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 雪花算法节点号租约。
+ *
+ * <p>每个节点号一行，实例启动时抢占一个已过期或无人持有的节点号并定期续约；
+ * 租约过期前其他实例不能接管，从而保证同一时刻一个节点号只对应一个进程。</p>
+ */
+@Entity
+@Table(name = "aigc_id_worker_lease")
+@Data
+public class AigcIdWorkerLease {
+
+    @Id
+    @Column(name = "worker_id", nullable = false)
+    private Integer workerId;
+
+    @Column(name = "owner_id", nullable = false, length = 128)
+    private String ownerId;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Data;
 
@@ -14,7 +15,12 @@ import java.time.LocalDateTime;
  * AIGC 参考素材实体。
  */
 @Entity
-@Table(name = "aigc_material")
+@Table(
+        name = "aigc_material",
+        indexes = {
+                @Index(name = "idx_aigc_material_tenant_owner_created", columnList = "tenant_id, owner_id, created_at")
+        }
+)
 @Data
 public class AigcMaterial {
 
@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.Data;
@@ -16,7 +17,13 @@ import java.time.LocalDateTime;
  * AIGC storage operation audit log.
  */
 @Entity
-@Table(name = "aigc_storage_audit_log")
+@Table(
+        name = "aigc_storage_audit_log",
+        indexes = {
+                @Index(name = "idx_aigc_storage_audit_tenant_operator_created", columnList = "tenant_id, operator_id, created_at"),
+                @Index(name = "idx_aigc_storage_audit_action_created", columnList = "action, created_at")
+        }
+)
 @Data
 public class AigcStorageAuditLog {
 
@@ -20,7 +20,14 @@ import java.util.List;
  * @author AIGC Team
  */
 @Entity
-@Table(name = "aigc_task")
+@Table(
+        name = "aigc_task",
+        indexes = {
+                @Index(name = "idx_aigc_task_tenant_user_created", columnList = "tenant_id, user_id, created_at"),
+                @Index(name = "idx_aigc_task_asset", columnList = "asset_id"),
+                @Index(name = "idx_aigc_task_created", columnList = "created_at")
+        }
+)
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,56 @@
+package com.anjing.aigc.model.entity;
+
+import com.anjing.util.DateUtils;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 任务与引用素材的关联。
+ *
+ * <p>任务上的 referenceMaterialIds 仍保留原始 JSON 列表；本表只用于按素材反查任务，
+ * 冗余任务创建时间使 (material_id, task_created_at) 索引可以直接按时间倒序分页。</p>
+ */
+@Entity
+@Table(
+        name = "aigc_task_material",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_aigc_task_material", columnNames = {"task_id", "material_id"})
+        },
+        indexes = {
+                @Index(name = "idx_aigc_task_material_material_created", columnList = "material_id, task_created_at")
+        }
+)
+@Data
+public class AigcTaskMaterial {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false, length = 64)
+    private String taskId;
+
+    @Column(name = "material_id", nullable = false, length = 64)
+    private String materialId;
+
+    @Column(name = "task_created_at")
+    private LocalDateTime taskCreatedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = DateUtils.nowLocalDateTime();
+    }
+}
@@ -0,0 +1,60 @@
+package com.anjing.aigc.model.projection;
+
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.enums.ContentType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 资产列表读模型。
+ *
+ * <p>列表查询只取展示需要的列，提示词在数据库侧截断为 {@link #PROMPT_PREVIEW_LENGTH} 个字符；
+ * 完整提示词通过详情接口读取。</p>
+ */
+public record AigcAssetSummary(
+        Long id,
+        String assetId,
+        ContentType contentType,
+        String url,
+        String thumbnailUrl,
+        String promptPreview,
+        Integer promptLength,
+        String model,
+        String ownerId,
+        Boolean isPublished,
+        Integer likeCount,
+        Integer favoriteCount,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * 与仓储查询中的 substring 长度保持一致。
+     */
+    public static final int PROMPT_PREVIEW_LENGTH = 200;
+
+    /**
+     * 由完整实体构造（详情、互动等单条路径），提示词不截断。
+     */
+    public static AigcAssetSummary from(AigcAsset asset) {
+        String prompt = asset.getPrompt();
+        return new AigcAssetSummary(
+                asset.getId(),
+                asset.getAssetId(),
+                asset.getContentType(),
+                asset.getUrl(),
+                asset.getThumbnailUrl(),
+                prompt,
+                prompt == null ? null : prompt.length(),
+                asset.getModel(),
+                asset.getOwnerId(),
+                asset.getIsPublished(),
+                asset.getLikeCount(),
+                asset.getFavoriteCount(),
+                asset.getCreatedAt()
+        );
+    }
+
+    public boolean promptTruncated() {
+        return promptLength != null && promptPreview != null && promptLength > promptPreview.length();
+    }
+}
@@ -0,0 +1,29 @@
+package com.anjing.aigc.model.projection;
+
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 任务列表读模型。
+ *
+ * <p>不加载 agentAnalysis、参考素材列表等 JSON 大字段；需要完整信息时走任务详情接口。</p>
+ */
+public record AigcTaskSummary(
+        String taskId,
+        TaskStatus status,
+        Integer progress,
+        ContentType contentType,
+        String intent,
+        String model,
+        String providerName,
+        String providerType,
+        String assetId,
+        String errorMessage,
+        String errorCode,
+        Long durationMs,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,21 @@
+package com.anjing.aigc.model.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 历史 data URL 资产迁移请求。
+ */
+@Data
+@Schema(description = "历史 data URL 资产迁移请求")
+public class DataUrlMigrationRequest {
+
+    @Schema(description = "是否仅预演；默认 true，不写入数据", defaultValue = "true")
+    private Boolean dryRun = true;
+
+    @Schema(description = "当 dryRun=false 时必须显式为 true，防止误写历史数据", defaultValue = "false")
+    private Boolean confirmMigration = false;
+
+    @Schema(description = "每批处理的行数，最大 500", defaultValue = "100")
+    private Integer batchSize = 100;
+}
@@ -0,0 +1,21 @@
+package com.anjing.aigc.model.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 已发布作品的专题标签回填请求。
+ */
+@Data
+@Schema(description = "已发布作品的专题标签回填请求")
+public class GalleryTopicBackfillRequest {
+
+    @Schema(description = "是否仅预演；默认 true，不写入数据", defaultValue = "true")
+    private Boolean dryRun = true;
+
+    @Schema(description = "当 dryRun=false 时必须显式为 true，防止误写历史数据", defaultValue = "false")
+    private Boolean confirmBackfill = false;
+
+    @Schema(description = "每批处理的作品数，最大 500", defaultValue = "100")
+    private Integer batchSize = 100;
+}
@@ -0,0 +1,48 @@
+package com.anjing.aigc.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 键集分页结果。
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "键集分页结果，使用 nextCursor 继续读取下一页")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "当前页记录")
+    private List<T> records;
+
+    @Schema(description = "每页大小")
+    private Integer size;
+
+    @Schema(description = "下一页游标，没有更多数据时为空")
+    private String nextCursor;
+
+    @Schema(description = "是否还有下一页")
+    private Boolean hasMore;
+
+    /**
+     * 由多读一行的查询结果构造：超出 size 的那一行只用于判断是否还有下一页。
+     */
+    public static <S, T> CursorPageResponse<T> fromLookahead(List<S> rows, int size,
+            Function<S, String> cursorOf, Function<S, T> mapper) {
+        boolean hasMore = rows.size() > size;
+        List<S> pageRows = hasMore ? rows.subList(0, size) : rows;
+        return CursorPageResponse.<T>builder()
+                .records(pageRows.stream().map(mapper).toList())
+                .size(size)
+                .nextCursor(hasMore ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+}
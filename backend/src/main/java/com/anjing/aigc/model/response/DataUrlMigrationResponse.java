@@ -0,0 +1,41 @@
+package com.anjing.aigc.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 历史 data URL 资产迁移结果。
+ */
+@Data
+@Builder
+@Schema(description = "历史 data URL 资产迁移结果")
+public class DataUrlMigrationResponse {
+
+    @Schema(description = "是否仅预演")
+    private Boolean dryRun;
+
+    @Schema(description = "是否已显式确认写入")
+    private Boolean confirmed;
+
+    @Schema(description = "仍保存 data URL 的资产数量")
+    private Long assetCandidates;
+
+    @Schema(description = "仍保存 data URL 的任务数量")
+    private Long taskCandidates;
+
+    @Schema(description = "已迁移资产数量")
+    private Integer assetMigrated;
+
+    @Schema(description = "已迁移任务数量")
+    private Integer taskMigrated;
+
+    @Schema(description = "迁移失败并保留原值的行数")
+    private Integer failed;
+
+    @Schema(description = "执行提示")
+    private String message;
+
+    @Schema(description = "检查时间")
+    private String checkedAt;
+}
@@ -1,6 +1,7 @@
 package com.anjing.aigc.model.response;
 
 import com.anjing.aigc.model.dto.GalleryDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -44,4 +45,8 @@ public class GalleryShareResponse {
 
     /** 海报页脚 */
     private String posterFooter;
+
+    /** 分享页 ETag：文案摘要、作品展示字段、互动计数和访问者状态的摘要，不随响应体输出 */
+    @JsonIgnore
+    private String etag;
 }
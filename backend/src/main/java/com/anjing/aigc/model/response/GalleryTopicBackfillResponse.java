@@ -0,0 +1,35 @@
+package com.anjing.aigc.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 已发布作品的专题标签回填结果。
+ */
+@Data
+@Builder
+@Schema(description = "已发布作品的专题标签回填结果")
+public class GalleryTopicBackfillResponse {
+
+    @Schema(description = "是否仅预演")
+    private Boolean dryRun;
+
+    @Schema(description = "是否已显式确认写入")
+    private Boolean confirmed;
+
+    @Schema(description = "已发布作品数量")
+    private Long assetCandidates;
+
+    @Schema(description = "本次重新匹配的作品数量")
+    private Integer assetsTagged;
+
+    @Schema(description = "本次写入的专题标签行数")
+    private Integer tagsCreated;
+
+    @Schema(description = "执行提示")
+    private String message;
+
+    @Schema(description = "检查时间")
+    private String checkedAt;
+}
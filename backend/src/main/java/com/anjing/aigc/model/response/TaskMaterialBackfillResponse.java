@@ -0,0 +1,35 @@
+package com.anjing.aigc.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 历史任务-素材关联回填结果。
+ */
+@Data
+@Builder
+@Schema(description = "历史任务-素材关联回填结果")
+public class TaskMaterialBackfillResponse {
+
+    @Schema(description = "是否仅预演")
+    private Boolean dryRun;
+
+    @Schema(description = "是否已显式确认写入")
+    private Boolean confirmed;
+
+    @Schema(description = "引用了素材的任务数量")
+    private Long taskCandidates;
+
+    @Schema(description = "本次补建关联的任务数量")
+    private Integer taskLinked;
+
+    @Schema(description = "本次写入的关联行数")
+    private Integer linksCreated;
+
+    @Schema(description = "执行提示")
+    private String message;
+
+    @Schema(description = "检查时间")
+    private String checkedAt;
+}
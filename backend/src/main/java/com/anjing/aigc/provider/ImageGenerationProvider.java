@@ -2,6 +2,7 @@ package com.anjing.aigc.provider;
 
 import com.anjing.aigc.model.dto.ImageGenerationRequest;
 import com.anjing.aigc.model.dto.ImageGenerationResult;
+import com.anjing.context.GlobalRequestContextHolder;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -43,6 +44,6 @@ public interface ImageGenerationProvider extends ContentProvider {
      * @return 生成结果的Future
      */
     default CompletableFuture<ImageGenerationResult> generateAsync(ImageGenerationRequest request) {
-        return CompletableFuture.supplyAsync(() -> generate(request));
+        return CompletableFuture.supplyAsync(GlobalRequestContextHolder.wrapSupplier(() -> generate(request)));
     }
 }
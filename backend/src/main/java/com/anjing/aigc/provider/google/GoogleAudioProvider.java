@@ -9,6 +9,7 @@ import com.anjing.aigc.provider.ContentProvider;
 import com.anjing.aigc.service.AigcProviderCredentialConfigService;
 import com.anjing.aigc.service.AigcProviderParamConfigService;
 import com.anjing.aigc.service.storage.AigcStorageService;
+import com.anjing.context.GlobalRequestContextHolder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -63,6 +64,7 @@ public class GoogleAudioProvider implements AudioGenerationProvider {
     private final AigcProviderCredentialConfigService credentialConfigService;
     private final AigcProviderParamConfigService paramConfigService;
     private final AigcStorageService aigcStorageService;
+    private final OkHttpClient outboundHttpClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
     private static final String GEMINI_API_BASE = "https://generativelanguage.googleapis.com/v1beta/models";
@@ -80,7 +82,7 @@ public class GoogleAudioProvider implements AudioGenerationProvider {
     
     @PostConstruct
     public void init() {
-        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+        OkHttpClient.Builder builder = outboundHttpClient.newBuilder()
                 .connectTimeout(60, TimeUnit.SECONDS)
                 .readTimeout(180, TimeUnit.SECONDS)  // 音频生成需要更长时间
                 .writeTimeout(60, TimeUnit.SECONDS);
@@ -356,7 +358,7 @@ public class GoogleAudioProvider implements AudioGenerationProvider {
     
     @Override
     public CompletableFuture<GenerationResult> generateAsync(AigcTask task) {
-        return CompletableFuture.supplyAsync(() -> generate(task));
+        return CompletableFuture.supplyAsync(GlobalRequestContextHolder.wrapSupplier(() -> generate(task)));
     }
     
     private String truncate(String str, int maxLength) {
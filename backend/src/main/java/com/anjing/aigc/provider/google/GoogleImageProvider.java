@@ -12,6 +12,7 @@ import com.anjing.aigc.service.AigcProviderCredentialConfigService;
 import com.anjing.aigc.service.AigcProviderParamConfigService;
 import com.anjing.aigc.service.storage.AigcStorageService;
 import com.anjing.model.errorcode.AigcErrorCode;
+import com.anjing.context.GlobalRequestContextHolder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -55,6 +56,7 @@ public class GoogleImageProvider implements ImageGenerationProvider {
     private final AigcProviderCredentialConfigService credentialConfigService;
     private final AigcProviderParamConfigService paramConfigService;
     private final AigcStorageService aigcStorageService;
+    private final OkHttpClient outboundHttpClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
     // API 端点会根据配置动态选择（直连 or 中转）
@@ -66,8 +68,8 @@ public class GoogleImageProvider implements ImageGenerationProvider {
     
     @PostConstruct
     public void init() {
-        // 初始化 HTTP 客户端
-        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+        // 从共享出站客户端派生，只覆盖超时和代理，连接池与调度器共用
+        OkHttpClient.Builder builder = outboundHttpClient.newBuilder()
                 .connectTimeout(30, TimeUnit.SECONDS)
                 .readTimeout(120, TimeUnit.SECONDS)
                 .writeTimeout(30, TimeUnit.SECONDS);
@@ -196,7 +198,7 @@ public class GoogleImageProvider implements ImageGenerationProvider {
     
     @Override
     public CompletableFuture<ImageGenerationResult> generateAsync(ImageGenerationRequest request) {
-        return CompletableFuture.supplyAsync(() -> generate(request));
+        return CompletableFuture.supplyAsync(GlobalRequestContextHolder.wrapSupplier(() -> generate(request)));
     }
     
     /**
@@ -310,7 +312,7 @@ public class GoogleImageProvider implements ImageGenerationProvider {
     
     @Override
     public CompletableFuture<GenerationResult> generateAsync(AigcTask task) {
-        return CompletableFuture.supplyAsync(() -> generate(task));
+        return CompletableFuture.supplyAsync(GlobalRequestContextHolder.wrapSupplier(() -> generate(task)));
     }
     
     /**
@@ -9,6 +9,7 @@ import com.anjing.aigc.provider.VideoGenerationProvider;
 import com.anjing.aigc.service.AigcProviderCredentialConfigService;
 import com.anjing.aigc.service.AigcProviderParamConfigService;
 import com.anjing.aigc.service.storage.AigcStorageService;
+import com.anjing.context.GlobalRequestContextHolder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -53,6 +54,7 @@ public class GoogleVideoProvider implements VideoGenerationProvider {
     private final AigcProviderCredentialConfigService credentialConfigService;
     private final AigcProviderParamConfigService paramConfigService;
     private final AigcStorageService aigcStorageService;
+    private final OkHttpClient outboundHttpClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
     private static final String GEMINI_API_BASE = "https://generativelanguage.googleapis.com/v1beta/models";
@@ -68,7 +70,7 @@ public class GoogleVideoProvider implements VideoGenerationProvider {
     
     @PostConstruct
     public void init() {
-        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+        OkHttpClient.Builder builder = outboundHttpClient.newBuilder()
                 .connectTimeout(60, TimeUnit.SECONDS)  // 增加连接超时
                 .readTimeout(600, TimeUnit.SECONDS)    // 视频生成需要更长时间，10分钟
                 .writeTimeout(60, TimeUnit.SECONDS);
@@ -215,7 +217,7 @@ public class GoogleVideoProvider implements VideoGenerationProvider {
     
     @Override
     public CompletableFuture<GenerationResult> generateAsync(AigcTask task) {
-        return CompletableFuture.supplyAsync(() -> generate(task));
+        return CompletableFuture.supplyAsync(GlobalRequestContextHolder.wrapSupplier(() -> generate(task)));
     }
     
     /**
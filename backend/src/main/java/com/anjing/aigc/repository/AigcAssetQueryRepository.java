@@ -0,0 +1,55 @@
+package com.anjing.aigc.repository;
+
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.projection.AigcAssetSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 资产列表的条件查询。
+ *
+ * <p>只为实际传入的筛选条件拼装谓词，避免 {@code :param is null or ...} 形式的可选参数让优化器放弃索引；
+ * 列表同时提供偏移分页和按 (createdAt, id) 的键集分页两种读法。</p>
+ */
+public interface AigcAssetQueryRepository {
+
+    /**
+     * 我的资产列表（偏移分页）
+     */
+    Page<AigcAssetSummary> findVisibleAssetSummaries(
+            String ownerId,
+            String tenantId,
+            ContentType contentType,
+            Pageable pageable);
+
+    /**
+     * 我的资产列表（键集分页），cursor 为空时从最新一条开始
+     */
+    List<AigcAssetSummary> findVisibleAssetSummariesAfter(
+            String ownerId,
+            String tenantId,
+            ContentType contentType,
+            AigcKeysetCursor cursor,
+            int limit);
+
+    /**
+     * 灵感广场已发布作品（偏移分页）
+     */
+    Page<AigcAssetSummary> searchPublishedSummaries(
+            ContentType contentType,
+            String model,
+            String keyword,
+            Pageable pageable);
+
+    /**
+     * 灵感广场已发布作品（键集分页），cursor 为空时从最新一条开始
+     */
+    List<AigcAssetSummary> searchPublishedSummariesAfter(
+            ContentType contentType,
+            String model,
+            String keyword,
+            AigcKeysetCursor cursor,
+            int limit);
+}
@@ -0,0 +1,181 @@
+package com.anjing.aigc.repository;
+
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.projection.AigcAssetSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link AigcAssetQueryRepository} 的 Criteria 实现。
+ *
+ * <p>谓词顺序与实体上的组合索引一致：可见性列表走 (tenant_id, owner_id, created_at)，
+ * 广场列表走 (is_published, content_type, created_at)。</p>
+ */
+class AigcAssetQueryRepositoryImpl implements AigcAssetQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<AigcAssetSummary> findVisibleAssetSummaries(String ownerId, String tenantId,
+            ContentType contentType, Pageable pageable) {
+        return findSummaryPage(
+                (criteriaBuilder, root) -> visiblePredicates(criteriaBuilder, root, ownerId, tenantId, contentType),
+                pageable);
+    }
+
+    @Override
+    public List<AigcAssetSummary> findVisibleAssetSummariesAfter(String ownerId, String tenantId,
+            ContentType contentType, AigcKeysetCursor cursor, int limit) {
+        return findSummariesAfter(
+                (criteriaBuilder, root) -> visiblePredicates(criteriaBuilder, root, ownerId, tenantId, contentType),
+                cursor,
+                limit);
+    }
+
+    @Override
+    public Page<AigcAssetSummary> searchPublishedSummaries(ContentType contentType, String model,
+            String keyword, Pageable pageable) {
+        return findSummaryPage(
+                (criteriaBuilder, root) -> publishedPredicates(criteriaBuilder, root, contentType, model, keyword),
+                pageable);
+    }
+
+    @Override
+    public List<AigcAssetSummary> searchPublishedSummariesAfter(ContentType contentType, String model,
+            String keyword, AigcKeysetCursor cursor, int limit) {
+        return findSummariesAfter(
+                (criteriaBuilder, root) -> publishedPredicates(criteriaBuilder, root, contentType, model, keyword),
+                cursor,
+                limit);
+    }
+
+    private Page<AigcAssetSummary> findSummaryPage(PredicateBuilder predicateBuilder, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AigcAssetSummary> query = criteriaBuilder.createQuery(AigcAssetSummary.class);
+        Root<AigcAsset> root = query.from(AigcAsset.class);
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        orders.add(criteriaBuilder.desc(root.get("id")));
+        query.select(summarySelection(criteriaBuilder, root))
+                .where(predicateBuilder.build(criteriaBuilder, root).toArray(Predicate[]::new))
+                .orderBy(orders);
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<AigcAssetSummary> content = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(predicateBuilder));
+    }
+
+    private List<AigcAssetSummary> findSummariesAfter(PredicateBuilder predicateBuilder,
+            AigcKeysetCursor cursor, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AigcAssetSummary> query = criteriaBuilder.createQuery(AigcAssetSummary.class);
+        Root<AigcAsset> root = query.from(AigcAsset.class);
+        List<Predicate> predicates = predicateBuilder.build(criteriaBuilder, root);
+        if (cursor != null) {
+            predicates.add(cursor.<AigcAsset>after().toPredicate(root, query, criteriaBuilder));
+        }
+        query.select(summarySelection(criteriaBuilder, root))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(QueryUtils.toOrders(AigcKeysetCursor.NEWEST_FIRST, root, criteriaBuilder));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private long count(PredicateBuilder predicateBuilder) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<AigcAsset> root = query.from(AigcAsset.class);
+        query.select(criteriaBuilder.count(root))
+                .where(predicateBuilder.build(criteriaBuilder, root).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private CompoundSelection<AigcAssetSummary> summarySelection(CriteriaBuilder criteriaBuilder,
+            Root<AigcAsset> root) {
+        Path<String> prompt = root.get("prompt");
+        return criteriaBuilder.construct(
+                AigcAssetSummary.class,
+                root.get("id"),
+                root.get("assetId"),
+                root.get("contentType"),
+                root.get("url"),
+                root.get("thumbnailUrl"),
+                criteriaBuilder.substring(prompt, 1, AigcAssetSummary.PROMPT_PREVIEW_LENGTH),
+                criteriaBuilder.length(prompt),
+                root.get("model"),
+                root.get("ownerId"),
+                root.get("isPublished"),
+                root.get("likeCount"),
+                root.get("favoriteCount"),
+                root.get("createdAt"));
+    }
+
+    private List<Predicate> visiblePredicates(CriteriaBuilder criteriaBuilder, Root<AigcAsset> root,
+            String ownerId, String tenantId, ContentType contentType) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (tenantId != null) {
+            predicates.add(nullOrEqual(criteriaBuilder, root.get("tenantId"), tenantId));
+        }
+        if (ownerId != null) {
+            predicates.add(nullOrEqual(criteriaBuilder, root.get("ownerId"), ownerId));
+        }
+        if (contentType != null) {
+            predicates.add(criteriaBuilder.equal(root.get("contentType"), contentType));
+        }
+        return predicates;
+    }
+
+    private List<Predicate> publishedPredicates(CriteriaBuilder criteriaBuilder, Root<AigcAsset> root,
+            ContentType contentType, String model, String keyword) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.isTrue(root.get("isPublished")));
+        if (contentType != null) {
+            predicates.add(criteriaBuilder.equal(root.get("contentType"), contentType));
+        }
+        if (model != null) {
+            predicates.add(containsIgnoreCase(criteriaBuilder, root.get("model"), model));
+        }
+        if (keyword != null) {
+            predicates.add(containsIgnoreCase(criteriaBuilder, root.get("prompt"), keyword));
+        }
+        return predicates;
+    }
+
+    /**
+     * 历史演示数据的归属列为空，对所有人可见；单列 "= ? or is null" 在 MySQL 中仍可走 ref_or_null 索引访问。
+     */
+    private Predicate nullOrEqual(CriteriaBuilder criteriaBuilder, Path<String> path, String value) {
+        return criteriaBuilder.or(criteriaBuilder.isNull(path), criteriaBuilder.equal(path, value));
+    }
+
+    private Predicate containsIgnoreCase(CriteriaBuilder criteriaBuilder, Path<String> path, String value) {
+        return criteriaBuilder.like(criteriaBuilder.lower(path), "%" + value.toLowerCase(Locale.ROOT) + "%");
+    }
+
+    @FunctionalInterface
+    private interface PredicateBuilder {
+
+        List<Predicate> build(CriteriaBuilder criteriaBuilder, Root<AigcAsset> root);
+    }
+}
@@ -2,6 +2,7 @@ package com.anjing.aigc.repository;
 
 import com.anjing.aigc.model.entity.AigcAsset;
 import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.projection.AigcAssetSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,7 +10,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +22,7 @@ import java.util.Optional;
  * @author AIGC Team
  */
 @Repository
-public interface AigcAssetRepository extends JpaRepository<AigcAsset, Long> {
+public interface AigcAssetRepository extends JpaRepository<AigcAsset, Long>, AigcAssetQueryRepository {
 
     /**
      * 根据资产ID查询
@@ -45,16 +48,19 @@ public interface AigcAssetRepository extends JpaRepository<AigcAsset, Long> {
     Page<AigcAsset> findByContentType(ContentType contentType, Pageable pageable);
 
     @Query("""
-            select a from AigcAsset a
-            where (:ownerId is null or a.ownerId is null or a.ownerId = :ownerId)
+            select new com.anjing.aigc.model.projection.AigcAssetSummary(
+                a.id, a.assetId, a.contentType, a.url, a.thumbnailUrl,
+                substring(a.prompt, 1, 200), length(a.prompt), a.model, a.ownerId,
+                a.isPublished, a.likeCount, a.favoriteCount, a.createdAt)
+            from AigcAsset a
+            where a.assetId in :assetIds
+              and (:ownerId is null or a.ownerId is null or a.ownerId = :ownerId)
               and (:tenantId is null or a.tenantId is null or a.tenantId = :tenantId)
-              and (:contentType is null or a.contentType = :contentType)
             """)
-    Page<AigcAsset> findVisibleAssets(
+    List<AigcAssetSummary> findVisibleAssetSummariesByAssetIdIn(
+            @Param("assetIds") Collection<String> assetIds,
             @Param("ownerId") String ownerId,
-            @Param("tenantId") String tenantId,
-            @Param("contentType") ContentType contentType,
-            Pageable pageable);
+            @Param("tenantId") String tenantId);
 
     @Query("""
             select a from AigcAsset a
@@ -67,6 +73,42 @@ public interface AigcAssetRepository extends JpaRepository<AigcAsset, Long> {
             @Param("ownerId") String ownerId,
             @Param("tenantId") String tenantId);
 
+    @Query("""
+            select count(a) from AigcAsset a
+            where a.url like 'data:%' or a.thumbnailUrl like 'data:%'
+            """)
+    long countDataUrlAssets();
+
+    @Query("""
+            select a from AigcAsset a
+            where a.id > :afterId
+              and (a.url like 'data:%' or a.thumbnailUrl like 'data:%')
+            order by a.id asc
+            """)
+    List<AigcAsset> findDataUrlAssetsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    long countByIsPublishedTrue();
+
+    @Query("""
+            select a from AigcAsset a
+            where a.id > :afterId
+              and a.isPublished = true
+            order by a.id asc
+            """)
+    List<AigcAsset> findPublishedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 统计除指定资产外仍引用同一存储对象的资产数量（生成结果缓存会让多个资产共享对象）
+     */
+    @Query("""
+            select count(a) from AigcAsset a
+            where a.assetId <> :assetId
+              and (a.url = :url or a.thumbnailUrl = :url)
+            """)
+    long countOtherAssetsReferencingUrl(
+            @Param("assetId") String assetId,
+            @Param("url") String url);
+
     @Query("""
             select count(a) from AigcAsset a
             where a.ownerId is null or a.ownerId = ''
@@ -90,6 +132,28 @@ public interface AigcAssetRepository extends JpaRepository<AigcAsset, Long> {
             """)
     int backfillMissingOwnership(@Param("ownerId") String ownerId, @Param("tenantId") String tenantId);
 
+    /**
+     * 在数据库中原子累加互动计数，不经过实体读改写；结果不低于 0
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update AigcAsset a
+            set a.likeCount = case
+                    when coalesce(a.likeCount, 0) + :likeDelta < 0 then 0
+                    else coalesce(a.likeCount, 0) + :likeDelta
+                end,
+                a.favoriteCount = case
+                    when coalesce(a.favoriteCount, 0) + :favoriteDelta < 0 then 0
+                    else coalesce(a.favoriteCount, 0) + :favoriteDelta
+                end
+            where a.assetId = :assetId
+            """)
+    int applyReactionCountDelta(
+            @Param("assetId") String assetId,
+            @Param("likeDelta") int likeDelta,
+            @Param("favoriteDelta") int favoriteDelta);
+
     @Query("""
             select a from AigcAsset a
             where a.isPublished = true
@@ -149,22 +213,20 @@ public interface AigcAssetRepository extends JpaRepository<AigcAsset, Long> {
             @Param("keyword") String keyword,
             Pageable pageable);
 
-    @Query("""
-            select a from AigcAsset a
+    @Query(value = """
+            select new com.anjing.aigc.model.projection.AigcAssetSummary(
+                a.id, a.assetId, a.contentType, a.url, a.thumbnailUrl,
+                substring(a.prompt, 1, 200), length(a.prompt), a.model, a.ownerId,
+                a.isPublished, a.likeCount, a.favoriteCount, a.createdAt)
+            from AigcAsset a
             where a.isPublished = true
               and (
                     (:anonymousOwner = true and (a.ownerId is null or a.ownerId = ''))
                     or (:anonymousOwner = false and a.ownerId = :ownerId)
                   )
               and (:contentType is null or a.contentType = :contentType)
-            """)
-    Page<AigcAsset> searchPublishedByOwner(
-            @Param("ownerId") String ownerId,
-            @Param("anonymousOwner") boolean anonymousOwner,
-            @Param("contentType") ContentType contentType,
-            Pageable pageable);
-
-    @Query("""
+            """,
+            countQuery = """
             select count(a) from AigcAsset a
             where a.isPublished = true
               and (
@@ -173,32 +235,29 @@ public interface AigcAssetRepository extends JpaRepository<AigcAsset, Long> {
                   )
               and (:contentType is null or a.contentType = :contentType)
             """)
-    long countPublishedByOwner(
+    Page<AigcAssetSummary> searchPublishedSummariesByOwner(
             @Param("ownerId") String ownerId,
             @Param("anonymousOwner") boolean anonymousOwner,
-            @Param("contentType") ContentType contentType);
-
-    @Query("""
-            select coalesce(sum(a.likeCount), 0) from AigcAsset a
-            where a.isPublished = true
-              and (
-                    (:anonymousOwner = true and (a.ownerId is null or a.ownerId = ''))
-                    or (:anonymousOwner = false and a.ownerId = :ownerId)
-                  )
-            """)
-    long sumPublishedLikeCountByOwner(
-            @Param("ownerId") String ownerId,
-            @Param("anonymousOwner") boolean anonymousOwner);
+            @Param("contentType") ContentType contentType,
+            Pageable pageable);
 
+    /**
+     * 按内容类型分组统计作者已发布作品的数量、点赞和收藏，一次查询得到主页所需的全部统计
+     */
     @Query("""
-            select coalesce(sum(a.favoriteCount), 0) from AigcAsset a
+            select a.contentType as contentType,
+                count(a) as publishedCount,
+                coalesce(sum(a.likeCount), 0) as totalLikeCount,
+                coalesce(sum(a.favoriteCount), 0) as totalFavoriteCount
+            from AigcAsset a
             where a.isPublished = true
               and (
                     (:anonymousOwner = true and (a.ownerId is null or a.ownerId = ''))
                     or (:anonymousOwner = false and a.ownerId = :ownerId)
                   )
+            group by a.contentType
             """)
-    long sumPublishedFavoriteCountByOwner(
+    List<PublishedContentTypeStatsProjection> aggregatePublishedStatsByOwner(
             @Param("ownerId") String ownerId,
             @Param("anonymousOwner") boolean anonymousOwner);
 
@@ -212,4 +271,15 @@ public interface AigcAssetRepository extends JpaRepository<AigcAsset, Long> {
 
         Long getTotalFavoriteCount();
     }
+
+    interface PublishedContentTypeStatsProjection {
+
+        ContentType getContentType();
+
+        Long getPublishedCount();
+
+        Long getTotalLikeCount();
+
+        Long getTotalFavoriteCount();
+    }
 }
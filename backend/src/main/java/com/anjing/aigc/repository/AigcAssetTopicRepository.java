@@ -0,0 +1,44 @@
+package com.anjing.aigc.repository;
+
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.entity.AigcAssetTopic;
+import com.anjing.aigc.model.enums.ContentType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 广场作品-专题标签Repository
+ */
+@Repository
+public interface AigcAssetTopicRepository extends JpaRepository<AigcAssetTopic, Long> {
+
+    /**
+     * 专题成员中的已发布作品，排序与广场热门榜一致
+     */
+    @Query("""
+            select a from AigcAssetTopic t, AigcAsset a
+            where t.topicId = :topicId
+              and a.assetId = t.assetId
+              and a.isPublished = true
+              and (:contentType is null or a.contentType = :contentType)
+              and (:keyword is null or lower(a.prompt) like lower(concat('%', :keyword, '%')))
+            order by (coalesce(a.likeCount, 0) + coalesce(a.favoriteCount, 0) * 2) desc,
+                     a.createdAt desc
+            """)
+    List<AigcAsset> findPublishedRankingByTopic(
+            @Param("topicId") String topicId,
+            @Param("contentType") ContentType contentType,
+            @Param("keyword") String keyword,
+            Pageable pageable);
+
+    @Modifying
+    @Query("delete from AigcAssetTopic t where t.assetId in :assetIds")
+    int deleteByAssetIdIn(@Param("assetIds") Collection<String> assetIds);
+}
@@ -14,35 +14,6 @@ import java.util.List;
 public interface AigcGalleryAuditLogRepository extends JpaRepository<AigcGalleryAuditLog, Long>,
         JpaSpecificationExecutor<AigcGalleryAuditLog> {
 
-    @Query("""
-            select count(log)
-            from AigcGalleryAuditLog log
-            where (:ownerId is null or log.operatorId is null or log.operatorId = :ownerId)
-              and (:tenantId is null or log.tenantId is null or log.tenantId = :tenantId)
-              and (:contentType is null or log.contentType = :contentType)
-              and (:startAt is null or log.createdAt >= :startAt)
-            """)
-    long countVisible(
-            @Param("ownerId") String ownerId,
-            @Param("tenantId") String tenantId,
-            @Param("contentType") ContentType contentType,
-            @Param("startAt") LocalDateTime startAt);
-
-    @Query("""
-            select count(log)
-            from AigcGalleryAuditLog log
-            where (:ownerId is null or log.operatorId is null or log.operatorId = :ownerId)
-              and (:tenantId is null or log.tenantId is null or log.tenantId = :tenantId)
-              and (:contentType is null or log.contentType = :contentType)
-              and (:startAt is null or log.createdAt >= :startAt)
-              and log.success = true
-            """)
-    long countVisibleSuccessful(
-            @Param("ownerId") String ownerId,
-            @Param("tenantId") String tenantId,
-            @Param("contentType") ContentType contentType,
-            @Param("startAt") LocalDateTime startAt);
-
     @Query("""
             select log.action as action,
                    count(log) as totalEvents,
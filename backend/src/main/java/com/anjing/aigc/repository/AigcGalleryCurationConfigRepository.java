@@ -2,6 +2,7 @@ package com.anjing.aigc.repository;
 
 import com.anjing.aigc.model.entity.AigcGalleryCurationConfig;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Collection;
 import java.util.List;
@@ -12,4 +13,20 @@ public interface AigcGalleryCurationConfigRepository extends JpaRepository<AigcG
     Optional<AigcGalleryCurationConfig> findByRuleId(String ruleId);
 
     List<AigcGalleryCurationConfig> findByRuleIdIn(Collection<String> ruleIds);
+
+    /**
+     * 配置表的整体修订标识：任何新增或保存都会改变行数或修订号之和
+     */
+    @Query("""
+            select count(c) as rowCount, coalesce(sum(c.revision), 0) as revisionSum
+            from AigcGalleryCurationConfig c
+            """)
+    RevisionProjection findRevision();
+
+    interface RevisionProjection {
+
+        Long getRowCount();
+
+        Long getRevisionSum();
+    }
 }
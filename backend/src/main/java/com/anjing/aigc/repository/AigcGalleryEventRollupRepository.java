@@ -0,0 +1,71 @@
+package com.anjing.aigc.repository;
+
+import com.anjing.aigc.model.entity.AigcGalleryEventRollup;
+import com.anjing.aigc.model.enums.ContentType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 广场公开访问事件分钟汇总Repository
+ *
+ * <p>写入由 {@code AigcGalleryAuditLogService} 用 JDBC 批量累加；这里只提供互动报表的汇总查询。
+ * 汇总行不记录访问者，可见范围按作品归属过滤。</p>
+ */
+@Repository
+public interface AigcGalleryEventRollupRepository extends JpaRepository<AigcGalleryEventRollup, Long> {
+
+    @Query("""
+            select rollup.action as action,
+                   coalesce(sum(rollup.eventCount), 0) as eventCount
+            from AigcGalleryEventRollup rollup
+            join AigcAsset asset on asset.assetId = rollup.assetId
+            where (:ownerId is null or asset.ownerId = :ownerId)
+              and (:tenantId is null or asset.tenantId is null or asset.tenantId = :tenantId)
+              and (:contentType is null or rollup.contentType = :contentType)
+              and rollup.bucketStart >= :startAt
+            group by rollup.action
+            """)
+    List<ActionCountProjection> summarizeActions(
+            @Param("ownerId") String ownerId,
+            @Param("tenantId") String tenantId,
+            @Param("contentType") ContentType contentType,
+            @Param("startAt") LocalDateTime startAt);
+
+    @Query("""
+            select rollup.action as action,
+                   cast(rollup.bucketStart as LocalDate) as bucketDate,
+                   coalesce(sum(rollup.eventCount), 0) as eventCount
+            from AigcGalleryEventRollup rollup
+            join AigcAsset asset on asset.assetId = rollup.assetId
+            where (:ownerId is null or asset.ownerId = :ownerId)
+              and (:tenantId is null or asset.tenantId is null or asset.tenantId = :tenantId)
+              and (:contentType is null or rollup.contentType = :contentType)
+              and rollup.bucketStart >= :startAt
+            group by rollup.action, cast(rollup.bucketStart as LocalDate)
+            """)
+    List<DailyActionCountProjection> summarizeDaily(
+            @Param("ownerId") String ownerId,
+            @Param("tenantId") String tenantId,
+            @Param("contentType") ContentType contentType,
+            @Param("startAt") LocalDateTime startAt);
+
+    interface ActionCountProjection {
+        String getAction();
+
+        Long getEventCount();
+    }
+
+    interface DailyActionCountProjection {
+        String getAction();
+
+        LocalDate getBucketDate();
+
+        Long getEventCount();
+    }
+}
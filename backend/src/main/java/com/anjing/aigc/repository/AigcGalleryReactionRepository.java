@@ -1,10 +1,16 @@
 package com.anjing.aigc.repository;
 
 import com.anjing.aigc.model.entity.AigcGalleryReaction;
+import com.anjing.aigc.model.projection.AigcAssetSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AigcGalleryReactionRepository extends JpaRepository<AigcGalleryReaction, Long> {
@@ -14,6 +20,102 @@ public interface AigcGalleryReactionRepository extends JpaRepository<AigcGallery
 
     long countByAssetIdAndReactionType(String assetId, String reactionType);
 
-    Page<AigcGalleryReaction> findByReactionTypeAndActorIdAndTenantKey(
-            String reactionType, String actorId, String tenantKey, Pageable pageable);
+    /**
+     * 访问者收藏的已发布作品，按收藏时间倒序；与资产表连接一次取回摘要，已下架的收藏不计入总数
+     */
+    @Query(value = """
+            select new com.anjing.aigc.model.projection.AigcAssetSummary(
+                a.id, a.assetId, a.contentType, a.url, a.thumbnailUrl,
+                substring(a.prompt, 1, 200), length(a.prompt), a.model, a.ownerId,
+                a.isPublished, a.likeCount, a.favoriteCount, a.createdAt)
+            from AigcGalleryReaction r, AigcAsset a
+            where r.reactionType = :reactionType
+              and r.actorId = :actorId
+              and r.tenantKey = :tenantKey
+              and a.assetId = r.assetId
+              and a.isPublished = true
+            order by r.createdAt desc, r.id desc
+            """, countQuery = """
+            select count(r)
+            from AigcGalleryReaction r, AigcAsset a
+            where r.reactionType = :reactionType
+              and r.actorId = :actorId
+              and r.tenantKey = :tenantKey
+              and a.assetId = r.assetId
+              and a.isPublished = true
+            """)
+    Page<AigcAssetSummary> findReactedPublishedAssetSummaries(
+            @Param("reactionType") String reactionType,
+            @Param("actorId") String actorId,
+            @Param("tenantKey") String tenantKey,
+            Pageable pageable);
+
+    /**
+     * 给定作品中访问者互动过的资产 ID，用于整页批量判断点赞/收藏状态
+     */
+    @Query("""
+            select r.assetId
+            from AigcGalleryReaction r
+            where r.reactionType = :reactionType
+              and r.actorId = :actorId
+              and r.tenantKey = :tenantKey
+              and r.assetId in :assetIds
+            """)
+    List<String> findActorAssetIds(
+            @Param("reactionType") String reactionType,
+            @Param("actorId") String actorId,
+            @Param("tenantKey") String tenantKey,
+            @Param("assetIds") Collection<String> assetIds);
+
+    /**
+     * 访问者的全部互动关系，只读取资产 ID 和互动类型
+     */
+    @Query("""
+            select r.assetId as assetId, r.reactionType as reactionType
+            from AigcGalleryReaction r
+            where r.actorId = :actorId
+              and r.tenantKey = :tenantKey
+            """)
+    List<ActorReactionProjection> findActorReactions(
+            @Param("actorId") String actorId,
+            @Param("tenantKey") String tenantKey);
+
+    /**
+     * 依赖 uk_aigc_gallery_reaction_actor 唯一约束单语句写入；已存在时影响行数为 0。
+     *
+     * <p>使用 INSERT IGNORE 而不是 ON DUPLICATE KEY UPDATE：后者在 MySQL 驱动默认的 found-rows 语义下
+     * 对已存在的行同样返回 1，无法区分新增。</p>
+     */
+    @Modifying
+    @Query(value = """
+            insert ignore into aigc_gallery_reaction
+                (asset_id, reaction_type, actor_id, actor_name, tenant_id, tenant_key,
+                 caller_id, client_ip, created_at)
+            values
+                (:#{#reaction.assetId}, :#{#reaction.reactionType}, :#{#reaction.actorId},
+                 :#{#reaction.actorName}, :#{#reaction.tenantId}, :#{#reaction.tenantKey},
+                 :#{#reaction.callerId}, :#{#reaction.clientIp}, :#{#reaction.createdAt})
+            """, nativeQuery = true)
+    int insertIgnoringDuplicate(@Param("reaction") AigcGalleryReaction reaction);
+
+    @Modifying
+    @Query("""
+            delete from AigcGalleryReaction r
+            where r.assetId = :assetId
+              and r.reactionType = :reactionType
+              and r.actorId = :actorId
+              and r.tenantKey = :tenantKey
+            """)
+    int deleteByActor(
+            @Param("assetId") String assetId,
+            @Param("reactionType") String reactionType,
+            @Param("actorId") String actorId,
+            @Param("tenantKey") String tenantKey);
+
+    interface ActorReactionProjection {
+
+        String getAssetId();
+
+        String getReactionType();
+    }
 }
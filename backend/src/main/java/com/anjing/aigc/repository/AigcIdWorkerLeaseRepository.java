@@ -0,0 +1,59 @@
+package com.anjing.aigc.repository;
+
+import com.anjing.aigc.model.entity.AigcIdWorkerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 雪花算法节点号租约Repository
+ */
+@Repository
+public interface AigcIdWorkerLeaseRepository extends JpaRepository<AigcIdWorkerLease, Integer> {
+
+    /**
+     * 单语句抢占或续约：节点号不存在时插入；已存在时只有租约已过期或本来就是自己持有才改写。
+     * 判断条件在每个赋值里重复且 lease_until 放在最后，无论数据库按旧值还是按已赋新值求值都得到同一结果；
+     * 受影响行数在 on duplicate key update 下不可靠，调用方需回读 owner_id 确认结果。
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into aigc_id_worker_lease
+                (worker_id, owner_id, lease_until, updated_at)
+            values
+                (:workerId, :ownerId, :leaseUntil, :now)
+            on duplicate key update
+                owner_id = case when lease_until < :now or owner_id = :ownerId then :ownerId else owner_id end,
+                updated_at = case when lease_until < :now or owner_id = :ownerId then :now else updated_at end,
+                lease_until = case when lease_until < :now or owner_id = :ownerId then :leaseUntil else lease_until end
+            """, nativeQuery = true)
+    int claim(
+            @Param("workerId") int workerId,
+            @Param("ownerId") String ownerId,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 回读节点号当前持有者
+     */
+    @Query("select l.ownerId from AigcIdWorkerLease l where l.workerId = :workerId")
+    String findOwnerId(@Param("workerId") int workerId);
+
+    /**
+     * 主动释放自己持有的租约，让重启后的实例或其他实例可以立即接管
+     */
+    @Transactional
+    @Modifying
+    @Query("update AigcIdWorkerLease l set l.leaseUntil = :now, l.updatedAt = :now "
+            + "where l.workerId = :workerId and l.ownerId = :ownerId")
+    int release(
+            @Param("workerId") int workerId,
+            @Param("ownerId") String ownerId,
+            @Param("now") LocalDateTime now);
+}
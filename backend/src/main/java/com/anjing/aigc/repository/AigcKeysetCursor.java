@@ -0,0 +1,64 @@
+package com.anjing.aigc.repository;
+
+import com.anjing.aigc.exception.AigcException;
+import com.anjing.model.errorcode.AigcErrorCode;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 按 (createdAt desc, id desc) 排序的键集分页游标。
+ *
+ * <p>游标对调用方是不透明字符串，内容为上一页最后一行的创建时间和主键；
+ * 下一页直接从该位置向后扫描索引，不再随页码增大而跳过越来越多的行。</p>
+ */
+public record AigcKeysetCursor(LocalDateTime createdAt, Long id) {
+
+    /**
+     * 与游标配套的排序，id 作为同一时间戳下的稳定次序。
+     */
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 位于游标之后（更早）的行。
+     */
+    public <T> Specification<T> after() {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.get("createdAt"), createdAt),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("createdAt"), createdAt),
+                        criteriaBuilder.lessThan(root.get("id"), id)));
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标；空值表示从第一页开始。
+     */
+    public static AigcKeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new AigcException(AigcErrorCode.CURSOR_INVALID);
+            }
+            return new AigcKeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new AigcException(AigcErrorCode.CURSOR_INVALID);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.anjing.aigc.repository;
+
+import com.anjing.aigc.model.entity.AigcTaskMaterial;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 任务-素材关联Repository
+ */
+@Repository
+public interface AigcTaskMaterialRepository extends JpaRepository<AigcTaskMaterial, Long> {
+
+    /**
+     * 按素材反查可见任务 ID，按任务创建时间倒序；列表字段再通过任务投影读取。
+     */
+    @Query(
+            value = """
+                    select tm.taskId from AigcTaskMaterial tm, AigcTask t
+                    where tm.materialId = :materialId
+                      and t.taskId = tm.taskId
+                      and (:ownerId is null or t.userId is null or t.userId = :ownerId)
+                      and (:tenantId is null or t.tenantId is null or t.tenantId = :tenantId)
+                    order by tm.taskCreatedAt desc, tm.id desc
+                    """,
+            countQuery = """
+                    select count(tm) from AigcTaskMaterial tm, AigcTask t
+                    where tm.materialId = :materialId
+                      and t.taskId = tm.taskId
+                      and (:ownerId is null or t.userId is null or t.userId = :ownerId)
+                      and (:tenantId is null or t.tenantId is null or t.tenantId = :tenantId)
+                    """
+    )
+    Page<String> findVisibleTaskIdsByMaterialId(
+            @Param("materialId") String materialId,
+            @Param("ownerId") String ownerId,
+            @Param("tenantId") String tenantId,
+            Pageable pageable);
+
+    /**
+     * 已建立关联的任务 ID，用于回填时跳过
+     */
+    @Query("select distinct tm.taskId from AigcTaskMaterial tm where tm.taskId in :taskIds")
+    List<String> findLinkedTaskIds(@Param("taskIds") Collection<String> taskIds);
+}
@@ -2,7 +2,7 @@ package com.anjing.aigc.repository;
 
 import com.anjing.aigc.model.enums.ContentType;
 import com.anjing.aigc.model.entity.AigcTask;
-import org.springframework.data.domain.Page;
+import com.anjing.aigc.model.projection.AigcTaskSummary;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,28 +56,17 @@ public interface AigcTaskRepository extends JpaRepository<AigcTask, Long> {
             @Param("tenantId") String tenantId);
 
     /**
-     * 按引用素材 ID 反查任务。
+     * 任务列表投影：不加载提示词、agentAnalysis 和参考列表等大字段
      */
-    @Query(
-            value = """
-                    select * from aigc_task
-                    where reference_material_ids like :materialIdPattern
-                      and (:ownerId is null or user_id is null or user_id = :ownerId)
-                      and (:tenantId is null or tenant_id is null or tenant_id = :tenantId)
-                    """,
-            countQuery = """
-                    select count(*) from aigc_task
-                    where reference_material_ids like :materialIdPattern
-                      and (:ownerId is null or user_id is null or user_id = :ownerId)
-                      and (:tenantId is null or tenant_id is null or tenant_id = :tenantId)
-                    """,
-            nativeQuery = true
-    )
-    Page<AigcTask> findVisibleByReferenceMaterialId(
-            @Param("materialIdPattern") String materialIdPattern,
-            @Param("ownerId") String ownerId,
-            @Param("tenantId") String tenantId,
-            Pageable pageable);
+    @Query("""
+            select new com.anjing.aigc.model.projection.AigcTaskSummary(
+                t.taskId, t.status, t.progress, t.contentType, t.intent, t.model,
+                t.providerName, t.providerType, t.assetId, t.errorMessage, t.errorCode,
+                t.durationMs, t.createdAt, t.updatedAt)
+            from AigcTask t
+            where t.taskId in :taskIds
+            """)
+    List<AigcTaskSummary> findSummariesByTaskIdIn(@Param("taskIds") Collection<String> taskIds);
 
     @Query("""
             select t from AigcTask t
@@ -92,6 +82,31 @@ public interface AigcTaskRepository extends JpaRepository<AigcTask, Long> {
             @Param("ownerId") String ownerId,
             @Param("tenantId") String tenantId);
 
+    @Query("""
+            select count(t) from AigcTask t
+            where t.resultUrl like 'data:%' or t.thumbnailUrl like 'data:%'
+            """)
+    long countDataUrlTasks();
+
+    @Query("""
+            select t from AigcTask t
+            where t.id > :afterId
+              and (t.resultUrl like 'data:%' or t.thumbnailUrl like 'data:%')
+            order by t.id asc
+            """)
+    List<AigcTask> findDataUrlTasksAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select count(t) from AigcTask t where t.referenceMaterialIds is not null")
+    long countWithReferenceMaterials();
+
+    @Query("""
+            select t from AigcTask t
+            where t.id > :afterId
+              and t.referenceMaterialIds is not null
+            order by t.id asc
+            """)
+    List<AigcTask> findWithReferenceMaterialsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     @Query("""
             select count(t) from AigcTask t
             where t.userId is null or t.userId = ''
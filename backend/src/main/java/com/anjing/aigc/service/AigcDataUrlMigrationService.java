@@ -0,0 +1,222 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.exception.AigcException;
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.entity.AigcTask;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.request.DataUrlMigrationRequest;
+import com.anjing.aigc.model.response.DataUrlMigrationResponse;
+import com.anjing.aigc.repository.AigcAssetRepository;
+import com.anjing.aigc.repository.AigcTaskRepository;
+import com.anjing.aigc.service.storage.AigcStorageService;
+import com.anjing.model.errorcode.AigcErrorCode;
+import com.anjing.util.DateUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Migrates legacy rows that still store generated output as inline data URLs.
+ *
+ * <p>Each data URL is written as a managed storage object whose key is the content hash, so rows
+ * sharing the same payload end up on the same object without an in-memory cache of the multi-KB
+ * source strings; rows keep only the short URL. Batches commit one by one, so a late failure leaves
+ * earlier batches consistent with the objects already written to storage.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AigcDataUrlMigrationService {
+
+    private static final String RESOURCE_KEY = "AIGC_DATA_URL";
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final AigcAssetRepository assetRepository;
+    private final AigcTaskRepository taskRepository;
+    private final AigcStorageService storageService;
+    private final AigcProviderManagementPermissionService permissionService;
+    private final AigcProviderAuditLogService auditLogService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    public DataUrlMigrationResponse migrate(DataUrlMigrationRequest request) {
+        permissionService.assertCanManageAigc(
+                AigcProviderAuditLogService.ACTION_DATA_URL_MIGRATION,
+                RESOURCE_KEY);
+
+        boolean dryRun = request == null || request.getDryRun() == null || request.getDryRun();
+        boolean confirmed = request != null && Boolean.TRUE.equals(request.getConfirmMigration());
+        if (!dryRun && !confirmed) {
+            throw new AigcException(
+                    AigcErrorCode.DATA_URL_MIGRATION_INVALID,
+                    "执行 data URL 迁移前必须设置 confirmMigration=true");
+        }
+
+        long assetCandidates = assetRepository.countDataUrlAssets();
+        long taskCandidates = taskRepository.countDataUrlTasks();
+
+        MigrationCounter counter = new MigrationCounter();
+        if (!dryRun) {
+            int batchSize = resolveBatchSize(request);
+            migrateAssets(batchSize, counter);
+            migrateTasks(batchSize, counter);
+            recordMigrationAudit(assetCandidates, taskCandidates, counter);
+        }
+
+        return DataUrlMigrationResponse.builder()
+                .dryRun(dryRun)
+                .confirmed(confirmed)
+                .assetCandidates(assetCandidates)
+                .taskCandidates(taskCandidates)
+                .assetMigrated(counter.assetMigrated)
+                .taskMigrated(counter.taskMigrated)
+                .failed(counter.failed)
+                .message(dryRun ? "dry-run only; no rows updated" : "data URL migration applied")
+                .checkedAt(DateUtils.nowIso())
+                .build();
+    }
+
+    private void migrateAssets(int batchSize, MigrationCounter counter) {
+        long afterId = 0L;
+        BatchProgress progress;
+        do {
+            long cursor = afterId;
+            progress = inOwnTransaction(() -> migrateAssetBatch(cursor, batchSize));
+            counter.assetMigrated += progress.migrated();
+            counter.failed += progress.failed();
+            afterId = progress.lastId();
+        } while (progress.size() == batchSize);
+    }
+
+    private void migrateTasks(int batchSize, MigrationCounter counter) {
+        long afterId = 0L;
+        BatchProgress progress;
+        do {
+            long cursor = afterId;
+            progress = inOwnTransaction(() -> migrateTaskBatch(cursor, batchSize));
+            counter.taskMigrated += progress.migrated();
+            counter.failed += progress.failed();
+            afterId = progress.lastId();
+        } while (progress.size() == batchSize);
+    }
+
+    /**
+     * 每批单独提交并清空持久化上下文：后面的批次失败不会回滚已经写入存储的前几批，内存也不随表增长。
+     */
+    private BatchProgress inOwnTransaction(Supplier<BatchProgress> batch) {
+        try {
+            return transactionTemplate.execute(status -> batch.get());
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private BatchProgress migrateAssetBatch(long afterId, int batchSize) {
+        List<AigcAsset> batch = assetRepository.findDataUrlAssetsAfter(afterId, PageRequest.of(0, batchSize));
+        List<AigcAsset> changed = new ArrayList<>(batch.size());
+        long lastId = afterId;
+        int failed = 0;
+        for (AigcAsset asset : batch) {
+            lastId = asset.getId();
+            try {
+                String url = offload(asset.getUrl(), asset.getContentType());
+                String thumbnailUrl = offloadThumbnail(asset.getThumbnailUrl(), asset.getUrl(), url,
+                        asset.getContentType());
+                asset.setUrl(url);
+                asset.setThumbnailUrl(thumbnailUrl);
+                changed.add(asset);
+            } catch (IOException | RuntimeException e) {
+                failed++;
+                log.warn("资产 data URL 迁移失败，保留原值: assetId={}", asset.getAssetId(), e);
+            }
+        }
+        assetRepository.saveAll(changed);
+        return new BatchProgress(batch.size(), lastId, changed.size(), failed);
+    }
+
+    private BatchProgress migrateTaskBatch(long afterId, int batchSize) {
+        List<AigcTask> batch = taskRepository.findDataUrlTasksAfter(afterId, PageRequest.of(0, batchSize));
+        List<AigcTask> changed = new ArrayList<>(batch.size());
+        long lastId = afterId;
+        int failed = 0;
+        for (AigcTask task : batch) {
+            lastId = task.getId();
+            try {
+                String resultUrl = offload(task.getResultUrl(), task.getContentType());
+                String thumbnailUrl = offloadThumbnail(task.getThumbnailUrl(), task.getResultUrl(), resultUrl,
+                        task.getContentType());
+                task.setResultUrl(resultUrl);
+                task.setThumbnailUrl(thumbnailUrl);
+                changed.add(task);
+            } catch (IOException | RuntimeException e) {
+                failed++;
+                log.warn("任务 data URL 迁移失败，保留原值: taskId={}", task.getTaskId(), e);
+            }
+        }
+        taskRepository.saveAll(changed);
+        return new BatchProgress(batch.size(), lastId, changed.size(), failed);
+    }
+
+    private String offload(String url, ContentType contentType) throws IOException {
+        if (!storageService.isDataUrl(url)) {
+            return url;
+        }
+        return storageService.offloadGeneratedDataUrl(url, contentType);
+    }
+
+    /**
+     * 缩略图与主图是同一个 data URL 时直接复用刚写入的对象 URL，不再解码和写一遍存储
+     */
+    private String offloadThumbnail(String thumbnailUrl, String originalUrl, String migratedUrl,
+            ContentType contentType) throws IOException {
+        if (thumbnailUrl != null && thumbnailUrl.equals(originalUrl)) {
+            return migratedUrl;
+        }
+        return offload(thumbnailUrl, contentType);
+    }
+
+    private int resolveBatchSize(DataUrlMigrationRequest request) {
+        Integer batchSize = request == null ? null : request.getBatchSize();
+        if (batchSize == null || batchSize <= 0) {
+            return DEFAULT_BATCH_SIZE;
+        }
+        return Math.min(batchSize, MAX_BATCH_SIZE);
+    }
+
+    private void recordMigrationAudit(long assetCandidates, long taskCandidates, MigrationCounter counter) {
+        auditLogService.record(
+                AigcProviderAuditLogService.ACTION_DATA_URL_MIGRATION,
+                ContentType.IMAGE,
+                RESOURCE_KEY,
+                "AIGC Data URL",
+                "governance",
+                Map.of(
+                        "assetCandidates", assetCandidates,
+                        "taskCandidates", taskCandidates
+                ),
+                Map.of(
+                        "assetMigrated", counter.assetMigrated,
+                        "taskMigrated", counter.taskMigrated,
+                        "failed", counter.failed
+                ));
+    }
+
+    private record BatchProgress(int size, long lastId, int migrated, int failed) {
+    }
+
+    private static final class MigrationCounter {
+        private int assetMigrated;
+        private int taskMigrated;
+        private int failed;
+    }
+}
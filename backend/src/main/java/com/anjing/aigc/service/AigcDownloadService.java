@@ -28,7 +28,7 @@ public class AigcDownloadService {
     private final AigcMaterialRepository materialRepository;
     private final AigcStorageService storageService;
     private final AigcOwnershipService ownershipService;
-    private final AigcGalleryAuditLogService galleryAuditLogService;
+    private final AigcGalleryEventRecorder galleryEventRecorder;
 
     public ResponseEntity<Resource> downloadAsset(String assetId) {
         AigcAsset asset = assetRepository.findVisibleByAssetId(
@@ -58,7 +58,7 @@ public class AigcDownloadService {
         AigcAsset asset = assetRepository.findByAssetIdAndIsPublishedTrue(assetId)
                 .orElseThrow(() -> new AigcException(AigcErrorCode.ASSET_NOT_FOUND));
         ResponseEntity<Resource> response = buildStorageResponse(asset.getUrl(), buildAssetFileName(asset), true);
-        galleryAuditLogService.recordSuccess(AigcGalleryAuditLogService.ACTION_PUBLIC_DOWNLOAD, asset);
+        galleryEventRecorder.record(AigcGalleryAuditLogService.ACTION_PUBLIC_DOWNLOAD, asset);
         return response;
     }
 
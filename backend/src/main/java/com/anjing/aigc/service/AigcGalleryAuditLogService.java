@@ -6,13 +6,16 @@ import com.anjing.aigc.model.enums.ContentType;
 import com.anjing.aigc.model.response.GalleryActionMetricResponse;
 import com.anjing.aigc.model.response.GalleryAssetComparisonResponse;
 import com.anjing.aigc.model.response.GalleryAssetMetricResponse;
+import com.anjing.aigc.model.response.CursorPageResponse;
 import com.anjing.aigc.model.response.GalleryAuditLogResponse;
 import com.anjing.aigc.model.response.GalleryContentTypeMetricResponse;
 import com.anjing.aigc.model.response.GalleryCreatorMetricResponse;
 import com.anjing.aigc.model.response.GalleryDailyMetricResponse;
 import com.anjing.aigc.model.response.GalleryInteractionReportResponse;
 import com.anjing.aigc.model.response.GalleryShareFunnelResponse;
+import com.anjing.aigc.repository.AigcKeysetCursor;
 import com.anjing.aigc.repository.AigcGalleryAuditLogRepository;
+import com.anjing.aigc.repository.AigcGalleryEventRollupRepository;
 import com.anjing.context.GlobalRequestContextHolder;
 import com.anjing.aigc.exception.AigcException;
 import com.anjing.model.errorcode.AigcErrorCode;
@@ -26,16 +29,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * AIGC gallery publication and interaction audit logs.
@@ -54,15 +61,33 @@ public class AigcGalleryAuditLogService {
     public static final String ACTION_PUBLIC_DOWNLOAD = "public-download";
     public static final String ACTION_SHARE_VIEW = "share-view";
     public static final String ACTION_PROMPT_REUSE = "prompt-reuse";
+    /**
+     * 由 {@link AigcGalleryEventRecorder} 按分钟合并写入的动作：审计表只保留每个分钟桶的样本，报表计数读分钟汇总表
+     */
+    private static final Set<String> EVENT_ACTIONS = Set.of(ACTION_PUBLIC_DOWNLOAD, ACTION_SHARE_VIEW, ACTION_PROMPT_REUSE);
     private static final int DEFAULT_REPORT_DAYS = 30;
     private static final int MAX_REPORT_DAYS = 365;
     private static final int TOP_ASSET_LIMIT = 10;
     private static final int TOP_CREATOR_LIMIT = 10;
     private static final String ANONYMOUS_AUTHOR_ID = "anonymous";
     private static final String ANONYMOUS_AUTHOR_NAME = "匿名创作者";
+    private static final String INSERT_EVENT_SQL = """
+            insert into aigc_gallery_audit_log
+                (action, asset_id, content_type, model, prompt_snapshot, success,
+                 message, request_id, trace_id, tenant_id, operator_id, operator_name, caller_id, client_ip, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String UPSERT_ROLLUP_SQL = """
+            insert into aigc_gallery_event_rollup
+                (asset_id, action, content_type, bucket_start, event_count, updated_at)
+            values (?, ?, ?, ?, ?, ?)
+            on duplicate key update event_count = event_count + ?, updated_at = ?
+            """;
 
     private final AigcGalleryAuditLogRepository auditLogRepository;
     private final AigcOwnershipService ownershipService;
+    private final AigcGalleryEventRollupRepository eventRollupRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordSuccess(String action, AigcAsset asset) {
@@ -74,6 +99,30 @@ public class AigcGalleryAuditLogService {
         record(action, asset, false, error == null ? null : error.getMessage());
     }
 
+    /**
+     * 在独立事务里写入一批按分钟合并的访问事件：每个分钟桶插入一条审计样本，并把事件数累加到分钟汇总表。
+     * 两张表都用 JDBC 批量语句写入，审计表主键是自增列，逐条 save 无法被 Hibernate 合并成批量语句
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordEventBatch(List<AigcGalleryEventRecorder.EventBucket> buckets) {
+        if (buckets == null || buckets.isEmpty()) {
+            return;
+        }
+        List<Object[]> auditRows = new ArrayList<>(buckets.size());
+        List<Object[]> rollupRows = new ArrayList<>(buckets.size());
+        Timestamp updatedAt = Timestamp.valueOf(DateUtils.nowLocalDateTime());
+        for (AigcGalleryEventRecorder.EventBucket bucket : buckets) {
+            auditRows.add(toInsertRow(bucket));
+            if (bucket.sample().assetId() != null) {
+                rollupRows.add(toRollupRow(bucket, updatedAt));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, auditRows);
+        if (!rollupRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_ROLLUP_SQL, rollupRows);
+        }
+    }
+
     public PageResult<GalleryAuditLogResponse> getAuditLogs(Integer current, Integer size,
             String action, String assetId, Boolean success) {
         int pageNumber = current != null && current > 0 ? current - 1 : 0;
@@ -91,6 +140,28 @@ public class AigcGalleryAuditLogService {
         );
     }
 
+    /**
+     * 审计日志键集分页：按 (createdAt, id) 从游标位置继续读取，不统计总数。
+     */
+    public CursorPageResponse<GalleryAuditLogResponse> getAuditLogFeed(String cursor, Integer size,
+            String action, String assetId, Boolean success) {
+        int pageSize = size != null && size > 0 ? Math.min(size, 100) : 10;
+        Specification<AigcGalleryAuditLog> specification = buildAuditSpecification(action, assetId, success);
+        AigcKeysetCursor keysetCursor = AigcKeysetCursor.decode(cursor);
+        if (keysetCursor != null) {
+            specification = specification.and(keysetCursor.after());
+        }
+        List<AigcGalleryAuditLog> rows = auditLogRepository.findBy(specification, query -> query
+                .sortBy(AigcKeysetCursor.NEWEST_FIRST)
+                .limit(pageSize + 1)
+                .all());
+        return CursorPageResponse.fromLookahead(
+                rows,
+                pageSize,
+                logEntry -> new AigcKeysetCursor(logEntry.getCreatedAt(), logEntry.getId()).encode(),
+                this::toResponse);
+    }
+
     @Transactional(readOnly = true)
     public GalleryInteractionReportResponse getInteractionReport(Integer days, String contentType) {
         int normalizedDays = normalizeReportDays(days);
@@ -101,13 +172,9 @@ public class AigcGalleryAuditLogService {
         String ownerId = ownershipService.currentOwnerId();
         String tenantId = ownershipService.currentTenantId();
 
-        long totalEvents = auditLogRepository.countVisible(ownerId, tenantId, parsedContentType, startAt);
-        long successfulEvents = auditLogRepository.countVisibleSuccessful(ownerId, tenantId, parsedContentType, startAt);
-        List<GalleryActionMetricResponse> actionMetrics = auditLogRepository
-                .summarizeActions(ownerId, tenantId, parsedContentType, startAt)
-                .stream()
-                .map(this::toActionMetric)
-                .toList();
+        List<GalleryActionMetricResponse> actionMetrics = buildActionMetrics(ownerId, tenantId, parsedContentType, startAt);
+        long totalEvents = actionMetrics.stream().mapToLong(metric -> coalesce(metric.getTotalEvents())).sum();
+        long successfulEvents = actionMetrics.stream().mapToLong(metric -> coalesce(metric.getSuccessfulEvents())).sum();
         List<GalleryContentTypeMetricResponse> contentTypeMetrics = auditLogRepository
                 .summarizeContentTypes(ownerId, tenantId, parsedContentType, startAt)
                 .stream()
@@ -146,6 +213,7 @@ public class AigcGalleryAuditLogService {
                 .toList();
         List<GalleryDailyMetricResponse> dailyMetrics = buildDailyMetrics(
                 auditLogRepository.findVisibleForReport(ownerId, tenantId, parsedContentType, startAt),
+                eventRollupRepository.summarizeDaily(ownerId, tenantId, parsedContentType, startAt),
                 startDate,
                 generatedAt.toLocalDate()
         );
@@ -199,6 +267,59 @@ public class AigcGalleryAuditLogService {
         }
     }
 
+    /**
+     * 操作类动作按审计行统计；按分钟合并的访问动作按汇总表计数，汇总行都是成功事件
+     */
+    private List<GalleryActionMetricResponse> buildActionMetrics(String ownerId, String tenantId,
+            ContentType contentType, LocalDateTime startAt) {
+        List<GalleryActionMetricResponse> metrics = new ArrayList<>();
+        auditLogRepository.summarizeActions(ownerId, tenantId, contentType, startAt).stream()
+                .filter(projection -> !EVENT_ACTIONS.contains(projection.getAction()))
+                .map(this::toActionMetric)
+                .forEach(metrics::add);
+        eventRollupRepository.summarizeActions(ownerId, tenantId, contentType, startAt).stream()
+                .map(this::toActionMetric)
+                .forEach(metrics::add);
+        metrics.sort(Comparator.comparing((GalleryActionMetricResponse metric) -> coalesce(metric.getTotalEvents()))
+                .reversed());
+        return metrics;
+    }
+
+    private Object[] toInsertRow(AigcGalleryEventRecorder.EventBucket bucket) {
+        AigcGalleryEventRecorder.GalleryEvent event = bucket.sample();
+        return new Object[]{
+                event.action(),
+                event.assetId(),
+                event.contentType() == null ? null : event.contentType().name(),
+                event.model(),
+                event.promptSnapshot(),
+                true,
+                bucket.count() > 1 ? "同一分钟内合并 " + bucket.count() + " 次访问" : null,
+                event.requestId(),
+                event.traceId(),
+                event.tenantId(),
+                event.operatorId(),
+                event.operatorName(),
+                event.callerId(),
+                event.clientIp(),
+                Timestamp.valueOf(event.occurredAt())
+        };
+    }
+
+    private Object[] toRollupRow(AigcGalleryEventRecorder.EventBucket bucket, Timestamp updatedAt) {
+        AigcGalleryEventRecorder.GalleryEvent event = bucket.sample();
+        return new Object[]{
+                event.assetId(),
+                event.action(),
+                event.contentType() == null ? null : event.contentType().name(),
+                Timestamp.valueOf(bucket.bucketStart()),
+                bucket.count(),
+                updatedAt,
+                bucket.count(),
+                updatedAt
+        };
+    }
+
     private Specification<AigcGalleryAuditLog> buildAuditSpecification(String action, String assetId,
             Boolean success) {
         return (root, query, criteriaBuilder) -> {
@@ -299,8 +420,9 @@ public class AigcGalleryAuditLogService {
         return Math.round((numerator * 10000D) / denominator) / 100D;
     }
 
-    private List<GalleryDailyMetricResponse> buildDailyMetrics(
-            List<AigcGalleryAuditLog> logs, LocalDate startDate, LocalDate endDate) {
+    private List<GalleryDailyMetricResponse> buildDailyMetrics(List<AigcGalleryAuditLog> logs,
+            List<AigcGalleryEventRollupRepository.DailyActionCountProjection> rollups,
+            LocalDate startDate, LocalDate endDate) {
         Map<LocalDate, GalleryDailyMetricResponse> metricsByDate = new LinkedHashMap<>();
         for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
             metricsByDate.put(date, GalleryDailyMetricResponse.builder()
@@ -316,7 +438,7 @@ public class AigcGalleryAuditLogService {
                     .build());
         }
         for (AigcGalleryAuditLog logEntry : logs) {
-            if (logEntry.getCreatedAt() == null) {
+            if (logEntry.getCreatedAt() == null || EVENT_ACTIONS.contains(logEntry.getAction())) {
                 continue;
             }
             GalleryDailyMetricResponse metric = metricsByDate.get(logEntry.getCreatedAt().toLocalDate());
@@ -326,20 +448,32 @@ public class AigcGalleryAuditLogService {
             metric.setTotalEvents(coalesce(metric.getTotalEvents()) + 1);
             if (Boolean.TRUE.equals(logEntry.getSuccess())) {
                 metric.setSuccessfulEvents(coalesce(metric.getSuccessfulEvents()) + 1);
-                incrementSuccessfulAction(metric, logEntry.getAction());
+                incrementSuccessfulAction(metric, logEntry.getAction(), 1L);
             }
         }
+        for (AigcGalleryEventRollupRepository.DailyActionCountProjection rollup : rollups) {
+            GalleryDailyMetricResponse metric = rollup.getBucketDate() == null
+                    ? null
+                    : metricsByDate.get(rollup.getBucketDate());
+            if (metric == null) {
+                continue;
+            }
+            long count = coalesce(rollup.getEventCount());
+            metric.setTotalEvents(coalesce(metric.getTotalEvents()) + count);
+            metric.setSuccessfulEvents(coalesce(metric.getSuccessfulEvents()) + count);
+            incrementSuccessfulAction(metric, rollup.getAction(), count);
+        }
         return new ArrayList<>(metricsByDate.values());
     }
 
-    private void incrementSuccessfulAction(GalleryDailyMetricResponse metric, String action) {
+    private void incrementSuccessfulAction(GalleryDailyMetricResponse metric, String action, long count) {
         switch (action) {
-            case ACTION_PUBLISH -> metric.setPublishCount(coalesce(metric.getPublishCount()) + 1);
-            case ACTION_LIKE -> metric.setLikeCount(coalesce(metric.getLikeCount()) + 1);
-            case ACTION_FAVORITE -> metric.setFavoriteCount(coalesce(metric.getFavoriteCount()) + 1);
-            case ACTION_PUBLIC_DOWNLOAD -> metric.setDownloadCount(coalesce(metric.getDownloadCount()) + 1);
-            case ACTION_SHARE_VIEW -> metric.setShareViewCount(coalesce(metric.getShareViewCount()) + 1);
-            case ACTION_PROMPT_REUSE -> metric.setPromptReuseCount(coalesce(metric.getPromptReuseCount()) + 1);
+            case ACTION_PUBLISH -> metric.setPublishCount(coalesce(metric.getPublishCount()) + count);
+            case ACTION_LIKE -> metric.setLikeCount(coalesce(metric.getLikeCount()) + count);
+            case ACTION_FAVORITE -> metric.setFavoriteCount(coalesce(metric.getFavoriteCount()) + count);
+            case ACTION_PUBLIC_DOWNLOAD -> metric.setDownloadCount(coalesce(metric.getDownloadCount()) + count);
+            case ACTION_SHARE_VIEW -> metric.setShareViewCount(coalesce(metric.getShareViewCount()) + count);
+            case ACTION_PROMPT_REUSE -> metric.setPromptReuseCount(coalesce(metric.getPromptReuseCount()) + count);
             default -> {
             }
         }
@@ -382,6 +516,16 @@ public class AigcGalleryAuditLogService {
                 .build();
     }
 
+    private GalleryActionMetricResponse toActionMetric(
+            AigcGalleryEventRollupRepository.ActionCountProjection projection) {
+        long count = coalesce(projection.getEventCount());
+        return GalleryActionMetricResponse.builder()
+                .action(projection.getAction())
+                .totalEvents(count)
+                .successfulEvents(count)
+                .build();
+    }
+
     private GalleryContentTypeMetricResponse toContentTypeMetric(
             AigcGalleryAuditLogRepository.ContentTypeMetricProjection projection) {
         return GalleryContentTypeMetricResponse.builder()
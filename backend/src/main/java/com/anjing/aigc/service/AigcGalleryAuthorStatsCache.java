@@ -0,0 +1,166 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.repository.AigcAssetRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 按作者缓存的广场作品统计。
+ *
+ * <p>作者主页和创作者榜不再为每位作者分别统计各内容类型的数量和点赞/收藏总数：首次访问时用一条分组查询加载，
+ * 之后的发布、下架和互动在事务提交后直接累加到缓存。分组查询在缓存锁外执行，不会阻塞其他作者的读取；
+ * 统计值不可变，修改时整体替换；
+ * 超出容量时淘汰最久未访问的作者，存活时间用于收敛其他节点写入和计数写回造成的差异。</p>
+ */
+@Component
+public class AigcGalleryAuthorStatsCache {
+
+    private final AigcProperties aigcProperties;
+    private final AigcAssetRepository assetRepository;
+    private final AigcLruCache<String, CachedStats> authors;
+
+    public AigcGalleryAuthorStatsCache(AigcProperties aigcProperties, AigcAssetRepository assetRepository) {
+        this.aigcProperties = aigcProperties;
+        this.assetRepository = assetRepository;
+        this.authors = new AigcLruCache<>(() -> aigcProperties.getAuthorStatsCache().getMaxAuthors());
+    }
+
+    public AuthorStats get(String authorId, boolean anonymousOwner) {
+        if (!aigcProperties.getAuthorStatsCache().isEnabled()) {
+            return load(authorId, anonymousOwner);
+        }
+        long now = System.currentTimeMillis();
+        return authors.getOrLoad(authorId,
+                cached -> !cached.isExpired(now, ttlMillis()),
+                () -> new CachedStats(load(authorId, anonymousOwner), now)).stats();
+    }
+
+    /**
+     * 作品发布或下架后调用，published 为 false 表示从广场移除（含删除已发布作品）
+     */
+    public void onPublishChanged(String authorId, ContentType contentType, Integer likeCount, Integer favoriteCount,
+            boolean published) {
+        int sign = published ? 1 : -1;
+        AuthorStats delta = AuthorStats.of(contentType, sign,
+                sign * safeCount(likeCount), sign * safeCount(favoriteCount));
+        applyAfterCommit(authorId, delta);
+    }
+
+    /**
+     * 作者的作品被点赞/收藏或取消后调用
+     */
+    public void onReactionChanged(String authorId, int likeDelta, int favoriteDelta) {
+        applyAfterCommit(authorId, AuthorStats.of(null, 0, likeDelta, favoriteDelta));
+    }
+
+    int size() {
+        return authors.size();
+    }
+
+    private void applyAfterCommit(String authorId, AuthorStats delta) {
+        if (!aigcProperties.getAuthorStatsCache().isEnabled() || authorId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(authorId, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(authorId, delta);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_UNKNOWN) {
+                    authors.remove(authorId);
+                }
+            }
+        });
+    }
+
+    private void apply(String authorId, AuthorStats delta) {
+        authors.update(authorId, current -> new CachedStats(current.stats().plus(delta), current.loadedAt()));
+    }
+
+    private AuthorStats load(String authorId, boolean anonymousOwner) {
+        AuthorStats stats = AuthorStats.EMPTY;
+        for (AigcAssetRepository.PublishedContentTypeStatsProjection row
+                : assetRepository.aggregatePublishedStatsByOwner(authorId, anonymousOwner)) {
+            stats = stats.plus(AuthorStats.of(
+                    row.getContentType(),
+                    safeLong(row.getPublishedCount()),
+                    safeLong(row.getTotalLikeCount()),
+                    safeLong(row.getTotalFavoriteCount())));
+        }
+        return stats;
+    }
+
+    private long ttlMillis() {
+        return Math.max(1L, aigcProperties.getAuthorStatsCache().getTtlSeconds()) * 1000L;
+    }
+
+    private int safeCount(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private long safeLong(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    private record CachedStats(AuthorStats stats, long loadedAt) {
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return now - loadedAt >= ttlMillis;
+        }
+    }
+
+    /**
+     * 单个作者已发布作品的统计
+     */
+    public record AuthorStats(Map<ContentType, Long> publishedCounts, long totalLikeCount, long totalFavoriteCount) {
+
+        public static final AuthorStats EMPTY = new AuthorStats(Map.of(), 0L, 0L);
+
+        public AuthorStats {
+            publishedCounts = publishedCounts.isEmpty()
+                    ? Map.of()
+                    : Collections.unmodifiableMap(new EnumMap<>(publishedCounts));
+        }
+
+        static AuthorStats of(ContentType contentType, long publishedCount, long likeCount, long favoriteCount) {
+            Map<ContentType, Long> counts = contentType == null || publishedCount == 0
+                    ? Map.of()
+                    : Map.of(contentType, publishedCount);
+            return new AuthorStats(counts, likeCount, favoriteCount);
+        }
+
+        public long publishedCount() {
+            return publishedCounts.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public long publishedCount(ContentType contentType) {
+            return publishedCounts.getOrDefault(contentType, 0L);
+        }
+
+        public AuthorStats plus(AuthorStats other) {
+            Map<ContentType, Long> counts = new EnumMap<>(ContentType.class);
+            counts.putAll(publishedCounts);
+            other.publishedCounts.forEach((type, count) ->
+                    counts.merge(type, Math.max(0L, count), (left, right) -> Math.max(0L, left + count)));
+            return new AuthorStats(
+                    counts,
+                    Math.max(0L, totalLikeCount + other.totalLikeCount),
+                    Math.max(0L, totalFavoriteCount + other.totalFavoriteCount));
+        }
+    }
+}
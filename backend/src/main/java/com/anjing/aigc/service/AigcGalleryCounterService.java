@@ -0,0 +1,138 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.repository.AigcAssetRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 广场点赞/收藏计数的合并写回。
+ *
+ * <p>互动只把增量合并进内存中按资产划分的槽位，定时任务用一条原子
+ * {@code like_count = like_count + ?} 写回，热门资产不再因读改写整行而丢失更新或串行争用同一行锁；
+ * 读取时把数据库值与尚未写回的增量相加。增量在事务提交后才计入，回滚的互动不会影响计数。</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AigcGalleryCounterService {
+
+    private final AigcProperties aigcProperties;
+    private final AigcAssetRepository assetRepository;
+    private final Map<String, CounterDelta> pendingDeltas = new ConcurrentHashMap<>();
+
+    public void recordLike(String assetId, int delta) {
+        record(assetId, new CounterDelta(delta, 0));
+    }
+
+    public void recordFavorite(String assetId, int delta) {
+        record(assetId, new CounterDelta(0, delta));
+    }
+
+    /**
+     * 数据库点赞数叠加待写回增量
+     */
+    public int mergedLikeCount(String assetId, Integer persistedCount) {
+        return Math.max(0, safeCount(persistedCount) + pendingDelta(assetId).likes());
+    }
+
+    /**
+     * 数据库收藏数叠加待写回增量
+     */
+    public int mergedFavoriteCount(String assetId, Integer persistedCount) {
+        return Math.max(0, safeCount(persistedCount) + pendingDelta(assetId).favorites());
+    }
+
+    public CounterDelta pendingDelta(String assetId) {
+        if (assetId == null) {
+            return CounterDelta.ZERO;
+        }
+        return pendingDeltas.getOrDefault(assetId, CounterDelta.ZERO);
+    }
+
+    /**
+     * 把待写回增量逐个资产原子写回，返回写回的资产数。增量在 UPDATE 之前就原子地从内存里取走，
+     * 已提交到数据库的部分不会再被"数据库值 + 增量"重复计入；代价是 UPDATE 执行期间读到的计数
+     * 暂时少了这部分增量。写回失败时把增量合并回去，留给下一轮
+     */
+    @Scheduled(fixedDelayString = "${aigc.gallery-counter.flush-interval-ms:1000}")
+    public int flush() {
+        int flushed = 0;
+        for (String assetId : new ArrayList<>(pendingDeltas.keySet())) {
+            CounterDelta delta = pendingDeltas.remove(assetId);
+            if (delta == null || delta.isZero()) {
+                continue;
+            }
+            try {
+                assetRepository.applyReactionCountDelta(assetId, delta.likes(), delta.favorites());
+            } catch (RuntimeException e) {
+                log.warn("广场互动计数写回失败，保留增量等待重试: assetId={}, delta={}", assetId, delta, e);
+                pendingDeltas.merge(assetId, delta, AigcGalleryCounterService::mergeBack);
+                continue;
+            }
+            flushed++;
+        }
+        return flushed;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void record(String assetId, CounterDelta delta) {
+        if (!aigcProperties.getGalleryCounter().isWriteBehindEnabled()) {
+            assetRepository.applyReactionCountDelta(assetId, delta.likes(), delta.favorites());
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingDeltas.merge(assetId, delta, CounterDelta::plus);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pendingDeltas.merge(assetId, delta, CounterDelta::plus);
+            }
+        });
+    }
+
+    private static CounterDelta mergeBack(CounterDelta current, CounterDelta delta) {
+        CounterDelta merged = current.plus(delta);
+        return merged.isZero() ? null : merged;
+    }
+
+    private int safeCount(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * 单个资产尚未写回的计数增量
+     */
+    public record CounterDelta(int likes, int favorites) {
+
+        public static final CounterDelta ZERO = new CounterDelta(0, 0);
+
+        public CounterDelta plus(CounterDelta other) {
+            return new CounterDelta(likes + other.likes, favorites + other.favorites);
+        }
+
+        public CounterDelta minus(CounterDelta other) {
+            return new CounterDelta(likes - other.likes, favorites - other.favorites);
+        }
+
+        public boolean isZero() {
+            return likes == 0 && favorites == 0;
+        }
+    }
+}
@@ -5,22 +5,34 @@ import com.anjing.aigc.model.response.GalleryCurationRuleResponse;
 import com.anjing.aigc.repository.AigcGalleryCurationConfigRepository;
 import com.anjing.context.GlobalRequestContextHolder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * 灵感广场运营规则配置来源。
  *
  * <p>V1 先把运营开关、数量和运营建议持久化；排序权重和专题算法后续再接入规则引擎。</p>
+ *
+ * <p>内置规则与数据库配置合并后保存为只读快照，广场请求直接读取快照，不再查询配置表。
+ * 本节点保存配置后在事务提交时递增版本号，下次读取即重建；其他节点的修改由定时任务比对配置表修订标识发现。</p>
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AigcGalleryCurationConfigService {
 
     public static final String CONFIG_SOURCE_BUILT_IN = "built-in";
@@ -29,8 +41,76 @@ public class AigcGalleryCurationConfigService {
     private static final String UPDATED_BY_RUNTIME_PAGE = "runtime-page";
 
     private final AigcGalleryCurationConfigRepository configRepository;
+    private final AigcGalleryFeedCache galleryFeedCache;
+    private final AtomicLong version = new AtomicLong();
+    private volatile RuleSnapshot snapshot;
+
+    /**
+     * 生效中的运营规则，按内置顺序排列；返回的集合只读
+     */
+    public List<GalleryCurationRuleResponse> effectiveRules(Supplier<List<GalleryCurationRuleResponse>> baseRules) {
+        return currentSnapshot(baseRules).rules();
+    }
+
+    public Map<String, GalleryCurationRuleResponse> effectiveRulesById(
+            Supplier<List<GalleryCurationRuleResponse>> baseRules) {
+        return currentSnapshot(baseRules).rulesById();
+    }
+
+    public long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * 比对配置表修订标识，其他节点改过配置时作废本节点快照和广场榜单缓存；返回是否发现修改
+     */
+    @Scheduled(fixedDelayString = "${aigc.curation-rules.refresh-interval-ms:5000}")
+    public boolean refreshIfChangedElsewhere() {
+        RuleSnapshot current = snapshot;
+        if (current == null) {
+            return false;
+        }
+        ConfigRevision latest = loadRevision();
+        if (latest.equals(current.revision())) {
+            return false;
+        }
+        version.incrementAndGet();
+        galleryFeedCache.invalidateAll();
+        log.info("运营规则配置已在其他节点修改，作废本地快照: revision={}", latest);
+        return true;
+    }
+
+    private RuleSnapshot currentSnapshot(Supplier<List<GalleryCurationRuleResponse>> baseRules) {
+        RuleSnapshot current = snapshot;
+        if (current != null && current.version() == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            long expectedVersion = version.get();
+            current = snapshot;
+            if (current != null && current.version() == expectedVersion) {
+                return current;
+            }
+            ConfigRevision revision = loadRevision();
+            List<GalleryCurationRuleResponse> rules = List.copyOf(applyConfigs(baseRules.get()));
+            Map<String, GalleryCurationRuleResponse> rulesById = new LinkedHashMap<>();
+            rules.forEach(rule -> rulesById.putIfAbsent(rule.getId(), rule));
+            RuleSnapshot next = new RuleSnapshot(
+                    expectedVersion, revision, rules, Collections.unmodifiableMap(rulesById));
+            snapshot = next;
+            return next;
+        }
+    }
 
-    public List<GalleryCurationRuleResponse> applyConfigs(List<GalleryCurationRuleResponse> baseRules) {
+    private ConfigRevision loadRevision() {
+        AigcGalleryCurationConfigRepository.RevisionProjection projection = configRepository.findRevision();
+        if (projection == null) {
+            return ConfigRevision.EMPTY;
+        }
+        return new ConfigRevision(safeLong(projection.getRowCount()), safeLong(projection.getRevisionSum()));
+    }
+
+    private List<GalleryCurationRuleResponse> applyConfigs(List<GalleryCurationRuleResponse> baseRules) {
         if (baseRules == null || baseRules.isEmpty()) {
             return List.of();
         }
@@ -54,7 +134,24 @@ public class AigcGalleryCurationConfigService {
         config.setMaxSize(maxSize);
         config.setOperationHint(normalizeHint(operationHint));
         config.setUpdatedBy(resolveUpdatedBy());
-        return configRepository.save(config);
+        config.setRevision(safeLong(config.getRevision()) + 1);
+        AigcGalleryCurationConfig saved = configRepository.save(config);
+        bumpVersionAfterCommit();
+        return saved;
+    }
+
+    private void bumpVersionAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+        });
     }
 
     private void applyConfig(GalleryCurationRuleResponse rule, AigcGalleryCurationConfig config) {
@@ -92,4 +189,17 @@ public class AigcGalleryCurationConfigService {
                 .filter(StringUtils::hasText)
                 .orElse(UPDATED_BY_RUNTIME_PAGE);
     }
+
+    private long safeLong(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    private record ConfigRevision(long rowCount, long revisionSum) {
+
+        private static final ConfigRevision EMPTY = new ConfigRevision(0L, 0L);
+    }
+
+    private record RuleSnapshot(long version, ConfigRevision revision, List<GalleryCurationRuleResponse> rules,
+            Map<String, GalleryCurationRuleResponse> rulesById) {
+    }
 }
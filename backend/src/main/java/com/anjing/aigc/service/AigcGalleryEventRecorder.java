@@ -0,0 +1,182 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.context.GlobalRequestContextHolder;
+import com.anjing.model.request.GlobalRequestContext;
+import com.anjing.util.DateUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 广场公开访问事件（分享浏览、公开下载、Prompt 复用）的异步批量记录。
+ *
+ * <p>请求线程只把资产和请求上下文的快照放进无锁环形缓冲区后立即返回，不开启事务也不等待数据库；
+ * 定时任务取出事件后先在内存中按作品、动作和分钟合并，每个分钟桶只写一条审计样本（保留第一次访问的请求上下文），
+ * 并把事件数累加到分钟汇总表，热门分享链接的突发访问每分钟只产生一条审计行和一次汇总更新。
+ * 每次调度最多取出一个缓冲区容量的事件，剩余事件留给下一次调度，不会长时间占住与其他定时任务共用的调度线程。
+ * 缓冲区写满时丢弃新事件并计数，公开接口的延迟不受审计写入影响。</p>
+ */
+@Service
+@Slf4j
+public class AigcGalleryEventRecorder {
+
+    private static final long DROP_WARN_INTERVAL = 1000L;
+
+    private final AigcProperties aigcProperties;
+    private final AigcGalleryAuditLogService auditLogService;
+    private final AigcEventRingBuffer<GalleryEvent> buffer;
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    public AigcGalleryEventRecorder(AigcProperties aigcProperties, AigcGalleryAuditLogService auditLogService) {
+        this.aigcProperties = aigcProperties;
+        this.auditLogService = auditLogService;
+        this.buffer = new AigcEventRingBuffer<>(aigcProperties.getGalleryEvents().getBufferCapacity());
+    }
+
+    public void record(String action, AigcAsset asset) {
+        if (!aigcProperties.getGalleryEvents().isAsyncEnabled()) {
+            try {
+                auditLogService.recordEventBatch(List.of(new EventBucket(GalleryEvent.capture(action, asset), 1L)));
+            } catch (RuntimeException e) {
+                log.warn("广场访问事件写入失败，主流程继续: action={}", action, e);
+            }
+            return;
+        }
+        if (!buffer.offer(GalleryEvent.capture(action, asset))) {
+            long dropped = droppedEvents.incrementAndGet();
+            if (dropped % DROP_WARN_INTERVAL == 1) {
+                log.warn("广场访问事件缓冲区已满，丢弃事件: action={}, dropped={}", action, dropped);
+            }
+        }
+    }
+
+    /**
+     * 合并并按批写回缓冲中的事件，返回写回的事件数；单次调度最多处理一个缓冲区容量的事件。
+     * 写回失败的批次记录日志后丢弃，与同步审计写入失败的处理一致
+     */
+    @Scheduled(fixedDelayString = "${aigc.gallery-events.flush-interval-ms:1000}")
+    public int flush() {
+        return flush(buffer.capacity());
+    }
+
+    /**
+     * 停机时不再有后续调度，写回全部剩余事件
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush(Integer.MAX_VALUE);
+    }
+
+    private int flush(int maxEvents) {
+        int batchSize = Math.max(1, aigcProperties.getGalleryEvents().getBatchSize());
+        List<EventBucket> buckets = drainBuckets(maxEvents);
+        int flushed = 0;
+        for (int from = 0; from < buckets.size(); from += batchSize) {
+            List<EventBucket> batch = buckets.subList(from, Math.min(buckets.size(), from + batchSize));
+            long events = batch.stream().mapToLong(EventBucket::count).sum();
+            try {
+                auditLogService.recordEventBatch(batch);
+                flushed += (int) events;
+            } catch (RuntimeException e) {
+                log.warn("广场访问事件批量写入失败，丢弃本批事件: buckets={}, events={}", batch.size(), events, e);
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * 取出最多 maxEvents 个事件并按 (作品, 动作, 分钟) 合并，保持首次出现的顺序
+     */
+    private List<EventBucket> drainBuckets(int maxEvents) {
+        Map<BucketKey, EventBucket> buckets = new LinkedHashMap<>();
+        List<GalleryEvent> drained = new ArrayList<>(Math.min(maxEvents, buffer.capacity()));
+        int total = 0;
+        while (total < maxEvents) {
+            drained.clear();
+            if (buffer.drainTo(drained, Math.min(buffer.capacity(), maxEvents - total)) == 0) {
+                break;
+            }
+            total += drained.size();
+            for (GalleryEvent event : drained) {
+                buckets.merge(BucketKey.of(event), new EventBucket(event, 1L),
+                        (current, added) -> new EventBucket(current.sample(), current.count() + 1));
+            }
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
+    public long droppedEvents() {
+        return droppedEvents.get();
+    }
+
+    int pendingEvents() {
+        return buffer.size();
+    }
+
+    /**
+     * 同一作品、动作和分钟内合并后的事件：sample 是该分钟桶中第一个事件，count 是合并的事件数
+     */
+    public record EventBucket(GalleryEvent sample, long count) {
+
+        public LocalDateTime bucketStart() {
+            return sample.occurredAt().truncatedTo(ChronoUnit.MINUTES);
+        }
+    }
+
+    private record BucketKey(String action, String assetId, ContentType contentType, LocalDateTime bucketStart) {
+
+        static BucketKey of(GalleryEvent event) {
+            return new BucketKey(event.action(), event.assetId(), event.contentType(),
+                    event.occurredAt().truncatedTo(ChronoUnit.MINUTES));
+        }
+    }
+
+    /**
+     * 单个访问事件；在请求线程中拷贝资产字段和请求上下文，写回线程不再依赖线程上下文
+     */
+    public record GalleryEvent(
+            String action,
+            String assetId,
+            ContentType contentType,
+            String model,
+            String promptSnapshot,
+            String requestId,
+            String traceId,
+            String tenantId,
+            String operatorId,
+            String operatorName,
+            String callerId,
+            String clientIp,
+            LocalDateTime occurredAt) {
+
+        static GalleryEvent capture(String action, AigcAsset asset) {
+            GlobalRequestContext context = GlobalRequestContextHolder.current().orElse(null);
+            return new GalleryEvent(
+                    action,
+                    asset == null ? null : asset.getAssetId(),
+                    asset == null ? null : asset.getContentType(),
+                    asset == null ? null : asset.getModel(),
+                    asset == null ? null : asset.getPrompt(),
+                    context == null ? null : context.getRequestId(),
+                    context == null ? null : context.getTraceId(),
+                    context == null ? null : context.getTenantId(),
+                    context == null ? null : context.getUserId(),
+                    context == null ? null : context.getUserName(),
+                    context == null ? null : context.getCallerId(),
+                    context == null ? null : context.getIp(),
+                    DateUtils.nowLocalDateTime());
+        }
+    }
+}
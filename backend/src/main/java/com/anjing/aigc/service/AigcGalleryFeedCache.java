@@ -0,0 +1,149 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.enums.ContentType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 灵感广场公共榜单（合集、专题、创作者榜）的响应缓存。
+ *
+ * <p>缓存只保存与访问者无关的共享部分，"我是否点赞/收藏"由调用方在命中后叠加。
+ * 过期后的一段时间内先返回旧值并在后台刷新；发布、下架、删除和运营规则变更会在事务提交后整体失效。
+ * 点赞/收藏不触发失效，榜单里的计数随新鲜期刷新收敛，否则热门时段缓存几乎总是空的。
+ * 失效前已开始的加载不会把旧结果写回缓存。</p>
+ */
+@Component
+@Slf4j
+public class AigcGalleryFeedCache {
+
+    public static final String FEED_COLLECTIONS = "collections";
+    public static final String FEED_TOPICS = "topics";
+    public static final String FEED_CREATOR_RANKING = "creator-ranking";
+
+    private final AigcProperties aigcProperties;
+    private final Executor refreshExecutor;
+    private final Map<FeedKey, CachedFeed> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public AigcGalleryFeedCache(AigcProperties aigcProperties,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor refreshExecutor) {
+        this.aigcProperties = aigcProperties;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String feed, ContentType contentType, String keyword, Integer size, Supplier<T> loader) {
+        AigcProperties.GalleryFeedCacheConfig config = aigcProperties.getGalleryFeedCache();
+        if (!config.isEnabled()) {
+            return loader.get();
+        }
+        FeedKey key = new FeedKey(feed, contentType, keyword, size);
+        long now = System.currentTimeMillis();
+        CachedFeed cached = entries.get(key);
+        if (cached != null) {
+            long age = now - cached.loadedAt();
+            if (age < config.getTtlSeconds() * 1000L) {
+                return (T) cached.value();
+            }
+            if (age < (config.getTtlSeconds() + config.getStaleSeconds()) * 1000L) {
+                refreshInBackground(key, cached, loader);
+                return (T) cached.value();
+            }
+        }
+        return load(key, loader);
+    }
+
+    /**
+     * 广场内容变化后整体失效；在事务中调用时等提交后再失效，避免并发请求把提交前的数据重新缓存
+     */
+    public void invalidateAll() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clear();
+            }
+        });
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private <T> T load(FeedKey key, Supplier<T> loader) {
+        long loadGeneration = generation.get();
+        T value = loader.get();
+        store(key, value, loadGeneration);
+        return value;
+    }
+
+    private <T> void refreshInBackground(FeedKey key, CachedFeed cached, Supplier<T> loader) {
+        if (!cached.refreshing().compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, loader);
+                } catch (RuntimeException e) {
+                    log.warn("广场榜单后台刷新失败，继续返回旧值: feed={}", key.feed(), e);
+                } finally {
+                    cached.refreshing().set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            cached.refreshing().set(false);
+            log.debug("广场榜单后台刷新被拒绝，等待下次请求: feed={}", key.feed());
+        }
+    }
+
+    private void store(FeedKey key, Object value, long loadGeneration) {
+        entries.compute(key, (ignored, current) -> generation.get() == loadGeneration
+                ? new CachedFeed(value, System.currentTimeMillis(), new AtomicBoolean(false))
+                : current);
+        evictIfNeeded();
+    }
+
+    private void evictIfNeeded() {
+        int maxEntries = Math.max(1, aigcProperties.getGalleryFeedCache().getMaxEntries());
+        int overflow = entries.size() - maxEntries;
+        if (overflow <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAt()))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+    }
+
+    private record FeedKey(String feed, ContentType contentType, String keyword, Integer size) {
+    }
+
+    private record CachedFeed(Object value, long loadedAt, AtomicBoolean refreshing) {
+    }
+}
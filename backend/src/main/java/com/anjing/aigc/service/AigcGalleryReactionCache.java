@@ -0,0 +1,145 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.repository.AigcGalleryReactionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按访问者缓存的点赞/收藏关系。
+ *
+ * <p>列表页为每个资产判断"我是否点赞/收藏"时不再逐条查询互动关系表：访问者第一次判断时整体加载一次，
+ * 之后的新增和取消在事务提交后直接修改缓存。加载在锁外执行，加载期间该访问者有修改时加载结果不入缓存，
+ * 提交后的修改不会被并发加载的旧结果覆盖。超出容量时淘汰最久未访问的访问者，
+ * 存活时间用于收敛其他节点写入造成的差异。</p>
+ */
+@Component
+public class AigcGalleryReactionCache {
+
+    private final AigcProperties aigcProperties;
+    private final AigcGalleryReactionRepository reactionRepository;
+    private final AigcLruCache<ActorKey, ActorReactions> actors;
+
+    public AigcGalleryReactionCache(AigcProperties aigcProperties, AigcGalleryReactionRepository reactionRepository) {
+        this.aigcProperties = aigcProperties;
+        this.reactionRepository = reactionRepository;
+        this.actors = new AigcLruCache<>(() -> aigcProperties.getReactionCache().getMaxActors());
+    }
+
+    public boolean isEnabled() {
+        return aigcProperties.getReactionCache().isEnabled();
+    }
+
+    public boolean contains(String actorId, String tenantKey, String reactionType, String assetId) {
+        ActorKey key = new ActorKey(actorId, tenantKey);
+        long now = System.currentTimeMillis();
+        ActorReactions reactions = actors.getOrLoad(key,
+                current -> !current.isExpired(now, ttlMillis()),
+                () -> load(key, now));
+        return reactions.contains(reactionType, assetId);
+    }
+
+    /**
+     * 新增或取消成功后调用；在事务提交后才修改缓存，回滚的互动不会进入缓存
+     */
+    public void onReactionChanged(String actorId, String tenantKey, String reactionType, String assetId,
+            boolean added) {
+        if (!isEnabled()) {
+            return;
+        }
+        ActorKey key = new ActorKey(actorId, tenantKey);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(key, reactionType, assetId, added);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(key, reactionType, assetId, added);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_UNKNOWN) {
+                    actors.remove(key);
+                }
+            }
+        });
+    }
+
+    int size() {
+        return actors.size();
+    }
+
+    private void apply(ActorKey key, String reactionType, String assetId, boolean added) {
+        actors.update(key, current -> {
+            current.update(reactionType, assetId, added);
+            return current;
+        });
+    }
+
+    private ActorReactions load(ActorKey key, long now) {
+        ActorReactions reactions = new ActorReactions(now);
+        List<AigcGalleryReactionRepository.ActorReactionProjection> rows =
+                reactionRepository.findActorReactions(key.actorId(), key.tenantKey());
+        for (AigcGalleryReactionRepository.ActorReactionProjection row : rows) {
+            reactions.update(row.getReactionType(), row.getAssetId(), true);
+        }
+        return reactions;
+    }
+
+    private long ttlMillis() {
+        return Math.max(1L, aigcProperties.getReactionCache().getTtlSeconds()) * 1000L;
+    }
+
+    private record ActorKey(String actorId, String tenantKey) {
+    }
+
+    private static final class ActorReactions {
+
+        private final long loadedAt;
+        private final Set<String> likedAssetIds = ConcurrentHashMap.newKeySet();
+        private final Set<String> favoritedAssetIds = ConcurrentHashMap.newKeySet();
+
+        private ActorReactions(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return now - loadedAt >= ttlMillis;
+        }
+
+        private boolean contains(String reactionType, String assetId) {
+            Set<String> assetIds = assetIds(reactionType);
+            return assetIds != null && assetId != null && assetIds.contains(assetId);
+        }
+
+        private void update(String reactionType, String assetId, boolean added) {
+            Set<String> assetIds = assetIds(reactionType);
+            if (assetIds == null || assetId == null) {
+                return;
+            }
+            if (added) {
+                assetIds.add(assetId);
+            } else {
+                assetIds.remove(assetId);
+            }
+        }
+
+        private Set<String> assetIds(String reactionType) {
+            if (AigcGalleryReactionService.REACTION_LIKE.equals(reactionType)) {
+                return likedAssetIds;
+            }
+            if (AigcGalleryReactionService.REACTION_FAVORITE.equals(reactionType)) {
+                return favoritedAssetIds;
+            }
+            return null;
+        }
+    }
+}
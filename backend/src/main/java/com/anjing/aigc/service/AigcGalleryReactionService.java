@@ -1,15 +1,21 @@
 package com.anjing.aigc.service;
 
 import com.anjing.aigc.model.entity.AigcGalleryReaction;
+import com.anjing.aigc.model.projection.AigcAssetSummary;
 import com.anjing.aigc.repository.AigcGalleryReactionRepository;
 import com.anjing.context.GlobalRequestContextHolder;
 import com.anjing.model.request.GlobalRequestContext;
+import com.anjing.util.DateUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * User/session reactions for published gallery assets.
@@ -26,16 +32,14 @@ public class AigcGalleryReactionService {
 
     private final AigcGalleryReactionRepository reactionRepository;
     private final AigcOwnershipService ownershipService;
+    private final AigcGalleryReactionCache reactionCache;
 
+    /**
+     * 单条语句写入互动关系，返回是否为新增；并发重复点击由唯一约束去重
+     */
+    @Transactional
     public boolean addReaction(String reactionType, String assetId) {
         ReactionActor actor = currentActor();
-        Optional<AigcGalleryReaction> existing = reactionRepository
-                .findByAssetIdAndReactionTypeAndActorIdAndTenantKey(
-                        assetId, reactionType, actor.actorId(), actor.tenantKey());
-        if (existing.isPresent()) {
-            return false;
-        }
-
         AigcGalleryReaction reaction = new AigcGalleryReaction();
         reaction.setAssetId(assetId);
         reaction.setReactionType(reactionType);
@@ -45,24 +49,33 @@ public class AigcGalleryReactionService {
         reaction.setTenantKey(actor.tenantKey());
         reaction.setCallerId(actor.callerId());
         reaction.setClientIp(actor.clientIp());
-        reactionRepository.save(reaction);
-        return true;
+        reaction.setCreatedAt(DateUtils.nowLocalDateTime());
+        boolean added = reactionRepository.insertIgnoringDuplicate(reaction) > 0;
+        if (added) {
+            reactionCache.onReactionChanged(actor.actorId(), actor.tenantKey(), reactionType, assetId, true);
+        }
+        return added;
     }
 
+    /**
+     * 单条语句删除互动关系，返回是否确实删除了一行
+     */
+    @Transactional
     public boolean removeReaction(String reactionType, String assetId) {
         ReactionActor actor = currentActor();
-        Optional<AigcGalleryReaction> existing = reactionRepository
-                .findByAssetIdAndReactionTypeAndActorIdAndTenantKey(
-                        assetId, reactionType, actor.actorId(), actor.tenantKey());
-        if (existing.isEmpty()) {
-            return false;
+        boolean removed = reactionRepository.deleteByActor(
+                assetId, reactionType, actor.actorId(), actor.tenantKey()) > 0;
+        if (removed) {
+            reactionCache.onReactionChanged(actor.actorId(), actor.tenantKey(), reactionType, assetId, false);
         }
-        reactionRepository.delete(existing.get());
-        return true;
+        return removed;
     }
 
     public boolean hasReaction(String reactionType, String assetId) {
         ReactionActor actor = currentActor();
+        if (reactionCache.isEnabled()) {
+            return reactionCache.contains(actor.actorId(), actor.tenantKey(), reactionType, assetId);
+        }
         return reactionRepository.findByAssetIdAndReactionTypeAndActorIdAndTenantKey(
                 assetId, reactionType, actor.actorId(), actor.tenantKey()).isPresent();
     }
@@ -71,12 +84,32 @@ public class AigcGalleryReactionService {
         return reactionRepository.countByAssetIdAndReactionType(assetId, reactionType);
     }
 
-    public Page<AigcGalleryReaction> getMyFavoriteReactions(Pageable pageable) {
+    /**
+     * 当前访问者收藏的已发布作品摘要，按收藏时间倒序
+     */
+    public Page<AigcAssetSummary> getMyFavoriteAssets(Pageable pageable) {
         ReactionActor actor = currentActor();
-        return reactionRepository.findByReactionTypeAndActorIdAndTenantKey(
+        return reactionRepository.findReactedPublishedAssetSummaries(
                 REACTION_FAVORITE, actor.actorId(), actor.tenantKey(), pageable);
     }
 
+    /**
+     * 批量判断当前访问者互动过哪些作品；开启缓存时不查库，否则整批一条查询
+     */
+    public Set<String> findReactedAssetIds(String reactionType, Collection<String> assetIds) {
+        if (assetIds == null || assetIds.isEmpty()) {
+            return Set.of();
+        }
+        ReactionActor actor = currentActor();
+        if (reactionCache.isEnabled()) {
+            return assetIds.stream()
+                    .filter(assetId -> reactionCache.contains(actor.actorId(), actor.tenantKey(), reactionType, assetId))
+                    .collect(Collectors.toSet());
+        }
+        return new HashSet<>(reactionRepository.findActorAssetIds(
+                reactionType, actor.actorId(), actor.tenantKey(), assetIds));
+    }
+
     ReactionActor currentActor() {
         GlobalRequestContext context = GlobalRequestContextHolder.current().orElse(null);
         String ownerId = ownershipService.currentOwnerId();
@@ -0,0 +1,112 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.enums.ContentType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * 公开分享页文案（SEO 标题、描述、关键词和海报文字）的预计算缓存。
+ *
+ * <p>作品发布时生成一次并按资产缓存，之后的分享访问直接复用；缓存项记录生成时的内容类型、模型、作者和 Prompt 指纹，
+ * 命中时发现任一来源变化（例如归属回填改了作者）就重新生成。文案的摘要同时作为分享页 ETag 的一部分。</p>
+ */
+@Component
+public class AigcGallerySharePayloadCache {
+
+    private final AigcProperties aigcProperties;
+    private final AigcLruCache<String, CachedPayload> payloads;
+
+    public AigcGallerySharePayloadCache(AigcProperties aigcProperties) {
+        this.aigcProperties = aigcProperties;
+        this.payloads = new AigcLruCache<>(() -> aigcProperties.getSharePayloadCache().getMaxEntries());
+    }
+
+    public SharePayload get(AigcAsset asset, Function<AigcAsset, SharePayload> builder) {
+        if (!aigcProperties.getSharePayloadCache().isEnabled()) {
+            return builder.apply(asset);
+        }
+        SourceFingerprint source = SourceFingerprint.of(asset);
+        CachedPayload cached = payloads.get(asset.getAssetId());
+        if (cached != null && cached.source().equals(source)) {
+            return cached.payload();
+        }
+        return store(asset, source, builder);
+    }
+
+    /**
+     * 作品发布后预先生成，首个分享访问不再现算
+     */
+    public void refresh(AigcAsset asset, Function<AigcAsset, SharePayload> builder) {
+        if (aigcProperties.getSharePayloadCache().isEnabled()) {
+            store(asset, SourceFingerprint.of(asset), builder);
+        }
+    }
+
+    /**
+     * 作品下架或删除后移除
+     */
+    public void evict(String assetId) {
+        if (assetId != null) {
+            payloads.remove(assetId);
+        }
+    }
+
+    int size() {
+        return payloads.size();
+    }
+
+    private SharePayload store(AigcAsset asset, SourceFingerprint source,
+            Function<AigcAsset, SharePayload> builder) {
+        SharePayload payload = builder.apply(asset);
+        payloads.put(asset.getAssetId(), new CachedPayload(source, payload));
+        return payload;
+    }
+
+    /**
+     * 与访问者和互动计数无关的分享页文案；digest 为全部文案的摘要，生成时计算一次
+     */
+    public record SharePayload(
+            String sharePath,
+            String previewUrl,
+            String downloadUrl,
+            String seoTitle,
+            String seoDescription,
+            String seoKeywords,
+            String posterTitle,
+            String posterSubtitle,
+            String posterFooter,
+            String digest) {
+
+        public static SharePayload of(String sharePath, String previewUrl, String downloadUrl, String seoTitle,
+                String seoDescription, String seoKeywords, String posterTitle, String posterSubtitle,
+                String posterFooter) {
+            String source = String.join("\n", sharePath, previewUrl, downloadUrl, seoTitle, seoDescription,
+                    seoKeywords, posterTitle, posterSubtitle, posterFooter);
+            return new SharePayload(sharePath, previewUrl, downloadUrl, seoTitle, seoDescription, seoKeywords,
+                    posterTitle, posterSubtitle, posterFooter,
+                    DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    private record SourceFingerprint(ContentType contentType, String model, String ownerId, int promptLength,
+            int promptHash) {
+
+        private static SourceFingerprint of(AigcAsset asset) {
+            String prompt = asset.getPrompt();
+            return new SourceFingerprint(
+                    asset.getContentType(),
+                    asset.getModel(),
+                    asset.getOwnerId(),
+                    prompt == null ? -1 : prompt.length(),
+                    prompt == null ? 0 : prompt.hashCode());
+        }
+    }
+
+    private record CachedPayload(SourceFingerprint source, SharePayload payload) {
+    }
+}
@@ -0,0 +1,276 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.exception.AigcException;
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.entity.AigcAssetTopic;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.request.GalleryTopicBackfillRequest;
+import com.anjing.aigc.model.response.GalleryTopicBackfillResponse;
+import com.anjing.aigc.repository.AigcAssetRepository;
+import com.anjing.aigc.repository.AigcAssetTopicRepository;
+import com.anjing.model.errorcode.AigcErrorCode;
+import com.anjing.util.DateUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Owns the gallery topic definitions and the asset-topic tags behind topic pages.
+ *
+ * <p>Assets are matched against every topic's prompt tokens once, when they are published;
+ * {@link #backfill} re-tags assets published before the table existed or before the token lists changed.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AigcGalleryTopicService {
+
+    private static final String RESOURCE_KEY = "AIGC_GALLERY_TOPIC";
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private static final List<GalleryTopicDefinition> TOPIC_DEFINITIONS = List.of(
+            new GalleryTopicDefinition(
+                    "course-cover",
+                    "课程封面专题",
+                    "适合课程首屏、封面海报和教学物料的图片作品",
+                    "教学增长",
+                    "manual-topic:content-type=image,prompt=course|workshop|cover",
+                    ContentType.IMAGE,
+                    List.of("course", "workshop", "cover", "poster", "课程", "课堂", "封面", "海报", "教学"),
+                    "优先放在课程详情页、训练营海报和知识库封面"
+            ),
+            new GalleryTopicDefinition(
+                    "video-storyboard",
+                    "短视频样片专题",
+                    "适合短视频开场、分镜脚本和产品介绍的公开视频作品",
+                    "内容传播",
+                    "manual-topic:content-type=video,prompt=storyboard|trailer|short-video",
+                    ContentType.VIDEO,
+                    List.of("video", "storyboard", "trailer", "scene", "短视频", "视频", "分镜", "片头", "预告"),
+                    "适合作为运营活动页、短视频脚本和产品发布素材"
+            ),
+            new GalleryTopicDefinition(
+                    "audio-narration",
+                    "音频旁白专题",
+                    "适合播客、课程旁白和品牌声音记忆点的公开音频作品",
+                    "声音资产",
+                    "manual-topic:content-type=audio,prompt=voice|podcast|narration",
+                    ContentType.AUDIO,
+                    List.of("audio", "voice", "podcast", "narration", "音频", "声音", "播客", "旁白", "配音"),
+                    "适合沉淀为课程开场、作品介绍和品牌音色参考"
+            ),
+            new GalleryTopicDefinition(
+                    "share-ready",
+                    "高复用传播位",
+                    "按公开互动热度挑出的可分享、可下载、可复用 Prompt 作品",
+                    "分享转化",
+                    "manual-topic:ranking=likes+favorites*2",
+                    null,
+                    List.of(),
+                    "优先用于广场首屏、社群分享和 Prompt 复用教学"
+            )
+    );
+
+    private static final Map<String, GalleryTopicDefinition> TOPICS_BY_ID = indexById(TOPIC_DEFINITIONS);
+    private static final AigcPromptTokenMatcher TOPIC_MATCHER =
+            new AigcPromptTokenMatcher(tokensById(TOPIC_DEFINITIONS));
+
+    private final AigcAssetRepository assetRepository;
+    private final AigcAssetTopicRepository assetTopicRepository;
+    private final AigcProviderManagementPermissionService permissionService;
+    private final AigcProviderAuditLogService auditLogService;
+    private final AigcGalleryFeedCache galleryFeedCache;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    public List<GalleryTopicDefinition> topicDefinitions() {
+        return TOPIC_DEFINITIONS;
+    }
+
+    /**
+     * 作品命中的专题：Prompt 含任一专题关键词，且内容类型符合专题限定
+     */
+    public List<String> matchTopicIds(AigcAsset asset) {
+        if (asset == null) {
+            return List.of();
+        }
+        Set<String> matched = TOPIC_MATCHER.match(asset.getPrompt());
+        return matched.stream()
+                .filter(topicId -> {
+                    ContentType topicContentType = TOPICS_BY_ID.get(topicId).contentType();
+                    return topicContentType == null || topicContentType == asset.getContentType();
+                })
+                .toList();
+    }
+
+    /**
+     * 重新计算作品的专题标签，返回写入行数
+     */
+    @Transactional
+    public int tagAsset(AigcAsset asset) {
+        assetTopicRepository.deleteByAssetIdIn(List.of(asset.getAssetId()));
+        List<AigcAssetTopic> tags = toTags(asset);
+        if (!tags.isEmpty()) {
+            assetTopicRepository.saveAll(tags);
+        }
+        return tags.size();
+    }
+
+    @Transactional
+    public void untagAsset(String assetId) {
+        assetTopicRepository.deleteByAssetIdIn(List.of(assetId));
+    }
+
+    /**
+     * 专题成员中的已发布作品，按广场热度排序
+     */
+    public List<AigcAsset> findTopicAssets(String topicId, ContentType contentType, String keyword, int size) {
+        return assetTopicRepository.findPublishedRankingByTopic(topicId, contentType, keyword, PageRequest.of(0, size));
+    }
+
+    public GalleryTopicBackfillResponse backfill(GalleryTopicBackfillRequest request) {
+        permissionService.assertCanManageAigc(
+                AigcProviderAuditLogService.ACTION_GALLERY_TOPIC_BACKFILL,
+                RESOURCE_KEY);
+
+        boolean dryRun = request == null || request.getDryRun() == null || request.getDryRun();
+        boolean confirmed = request != null && Boolean.TRUE.equals(request.getConfirmBackfill());
+        if (!dryRun && !confirmed) {
+            throw new AigcException(
+                    AigcErrorCode.GALLERY_TOPIC_BACKFILL_INVALID,
+                    "执行广场专题标签回填前必须设置 confirmBackfill=true");
+        }
+
+        long assetCandidates = assetRepository.countByIsPublishedTrue();
+        int assetsTagged = 0;
+        int tagsCreated = 0;
+        if (!dryRun) {
+            int batchSize = resolveBatchSize(request);
+            long afterId = 0L;
+            BatchProgress progress;
+            do {
+                long cursor = afterId;
+                progress = inOwnTransaction(() -> retagBatch(cursor, batchSize));
+                assetsTagged += progress.size();
+                tagsCreated += progress.tagsCreated();
+                afterId = progress.lastId();
+            } while (progress.size() == batchSize);
+            galleryFeedCache.invalidateAll();
+            recordBackfillAudit(assetCandidates, assetsTagged, tagsCreated);
+        }
+
+        return GalleryTopicBackfillResponse.builder()
+                .dryRun(dryRun)
+                .confirmed(confirmed)
+                .assetCandidates(assetCandidates)
+                .assetsTagged(assetsTagged)
+                .tagsCreated(tagsCreated)
+                .message(dryRun ? "dry-run only; no rows updated" : "gallery topic tags backfilled")
+                .checkedAt(DateUtils.nowIso())
+                .build();
+    }
+
+    /**
+     * 每批单独提交并清空持久化上下文：全表回填不会占着一个长事务，内存也不随已发布作品数增长。
+     */
+    private BatchProgress inOwnTransaction(Supplier<BatchProgress> batch) {
+        try {
+            return transactionTemplate.execute(status -> batch.get());
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private BatchProgress retagBatch(long afterId, int batchSize) {
+        List<AigcAsset> batch = assetRepository.findPublishedAfter(afterId, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return new BatchProgress(0, afterId, 0);
+        }
+        assetTopicRepository.deleteByAssetIdIn(batch.stream().map(AigcAsset::getAssetId).toList());
+        List<AigcAssetTopic> tags = new ArrayList<>();
+        for (AigcAsset asset : batch) {
+            tags.addAll(toTags(asset));
+        }
+        assetTopicRepository.saveAll(tags);
+        return new BatchProgress(batch.size(), batch.get(batch.size() - 1).getId(), tags.size());
+    }
+
+    private List<AigcAssetTopic> toTags(AigcAsset asset) {
+        List<String> topicIds = matchTopicIds(asset);
+        List<AigcAssetTopic> tags = new ArrayList<>(topicIds.size());
+        for (String topicId : topicIds) {
+            AigcAssetTopic tag = new AigcAssetTopic();
+            tag.setTopicId(topicId);
+            tag.setAssetId(asset.getAssetId());
+            tags.add(tag);
+        }
+        return tags;
+    }
+
+    private int resolveBatchSize(GalleryTopicBackfillRequest request) {
+        Integer batchSize = request == null ? null : request.getBatchSize();
+        if (batchSize == null || batchSize <= 0) {
+            return DEFAULT_BATCH_SIZE;
+        }
+        return Math.min(batchSize, MAX_BATCH_SIZE);
+    }
+
+    private void recordBackfillAudit(long assetCandidates, int assetsTagged, int tagsCreated) {
+        auditLogService.record(
+                AigcProviderAuditLogService.ACTION_GALLERY_TOPIC_BACKFILL,
+                ContentType.IMAGE,
+                RESOURCE_KEY,
+                "AIGC Gallery Topic",
+                "governance",
+                Map.of("assetCandidates", assetCandidates),
+                Map.of(
+                        "assetsTagged", assetsTagged,
+                        "tagsCreated", tagsCreated
+                ));
+    }
+
+    private static Map<String, GalleryTopicDefinition> indexById(List<GalleryTopicDefinition> definitions) {
+        Map<String, GalleryTopicDefinition> byId = new LinkedHashMap<>();
+        definitions.forEach(definition -> byId.put(definition.id(), definition));
+        return Map.copyOf(byId);
+    }
+
+    private static Map<String, List<String>> tokensById(List<GalleryTopicDefinition> definitions) {
+        Map<String, List<String>> tokens = new LinkedHashMap<>();
+        definitions.stream()
+                .filter(GalleryTopicDefinition::tagged)
+                .forEach(definition -> tokens.put(definition.id(), definition.promptTokens()));
+        return tokens;
+    }
+
+    private record BatchProgress(int size, long lastId, int tagsCreated) {
+    }
+
+    /**
+     * 运营专题定义；没有关键词的专题不打标签，直接按广场热度取作品
+     */
+    public record GalleryTopicDefinition(
+            String id,
+            String title,
+            String description,
+            String scenario,
+            String curationRule,
+            ContentType contentType,
+            List<String> promptTokens,
+            String operationHint) {
+
+        public boolean tagged() {
+            return promptTokens != null && !promptTokens.isEmpty();
+        }
+    }
+}
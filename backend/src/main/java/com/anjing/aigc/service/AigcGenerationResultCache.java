@@ -0,0 +1,180 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.entity.AigcTask;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.response.GenerationResult;
+import com.anjing.aigc.provider.ContentProvider;
+import com.anjing.aigc.service.storage.AigcStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 生成结果缓存。
+ *
+ * <p>同一 Provider、模型、优化后提示词和参数的请求命中时直接复用已存储对象的 URL，
+ * 不再调用 Provider；默认关闭，只对确定性 Provider（Mock）开放，可按内容类型开关。
+ * 缓存只在本节点内存里，别的节点删除资产时本节点收不到 {@link #evictByUrl}，
+ * 所以命中时先确认存储对象仍存在，不存在就丢弃条目并按未命中处理。</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AigcGenerationResultCache {
+
+    private final AigcProperties aigcProperties;
+    private final AigcProviderParamConfigService paramConfigService;
+    private final AigcStorageService aigcStorageService;
+    private final Map<String, CachedGeneration> entries = new ConcurrentHashMap<>();
+
+    public Optional<GenerationResult> lookup(AigcTask task, ContentProvider provider) {
+        if (!isCacheable(task, provider)) {
+            return Optional.empty();
+        }
+        String key = cacheKey(task, provider);
+        CachedGeneration cached = entries.get(key);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, cached);
+            return Optional.empty();
+        }
+        if (!storedObjectsExist(cached)) {
+            entries.remove(key, cached);
+            log.info("生成结果缓存指向的存储对象已不存在，丢弃条目: taskId={}, url={}",
+                    task.getTaskId(), cached.url());
+            return Optional.empty();
+        }
+        log.info("命中生成结果缓存: taskId={}, provider={}, model={}",
+                task.getTaskId(), provider.getProviderName(), cached.model());
+        return Optional.of(GenerationResult.builder()
+                .success(true)
+                .taskId(task.getTaskId())
+                .contentType(task.getContentType())
+                .url(cached.url())
+                .thumbnailUrl(cached.thumbnailUrl())
+                .prompt(task.getOptimizedPrompt())
+                .model(cached.model())
+                .processingTimeMs(0L)
+                .build());
+    }
+
+    public void store(AigcTask task, ContentProvider provider, GenerationResult result) {
+        if (result == null || !result.isSuccess() || result.getUrl() == null || !isCacheable(task, provider)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long ttlMillis = Math.max(1L, config().getTtlSeconds()) * 1000L;
+        entries.put(cacheKey(task, provider), new CachedGeneration(
+                result.getUrl(),
+                result.getThumbnailUrl(),
+                result.getModel() != null ? result.getModel() : task.getModel(),
+                now + ttlMillis
+        ));
+        trim(now);
+    }
+
+    /**
+     * 存储对象被删除后，移除所有指向它的缓存条目，避免新资产引用到已失效的 URL。
+     */
+    public void evictByUrl(String url) {
+        if (url == null) {
+            return;
+        }
+        entries.values().removeIf(cached -> url.equals(cached.url()) || url.equals(cached.thumbnailUrl()));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean storedObjectsExist(CachedGeneration cached) {
+        try {
+            return aigcStorageService.exists(cached.url())
+                    && (cached.thumbnailUrl() == null
+                    || cached.thumbnailUrl().equals(cached.url())
+                    || aigcStorageService.exists(cached.thumbnailUrl()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("生成结果缓存校验存储对象失败，按未命中处理: url={}", cached.url(), e);
+            return false;
+        }
+    }
+
+    private boolean isCacheable(AigcTask task, ContentProvider provider) {
+        AigcProperties.ResultCacheConfig config = config();
+        if (!config.isEnabled() || task == null || provider == null || task.getContentType() == null) {
+            return false;
+        }
+        List<ContentType> contentTypes = config.getContentTypes();
+        List<String> providerTypes = config.getProviderTypes();
+        return contentTypes != null && contentTypes.contains(task.getContentType())
+                && providerTypes != null && providerTypes.contains(provider.getProviderType().name());
+    }
+
+    private String cacheKey(AigcTask task, ContentProvider provider) {
+        Map<String, Object> params = paramConfigService.getDefaultParams(provider, task.getContentType());
+        String raw = String.join("\n",
+                provider.getProviderName(),
+                provider.getProviderType().name(),
+                task.getContentType().name(),
+                String.valueOf(task.getModel()),
+                String.valueOf(task.getOptimizedPrompt()),
+                String.valueOf(task.getReferenceImages()),
+                String.valueOf(task.getReferenceMaterialIds()),
+                String.valueOf(params == null ? Map.of() : new TreeMap<>(params))
+        );
+        return sha256Hex(raw);
+    }
+
+    private void trim(long now) {
+        int maxEntries = Math.max(1, config().getMaxEntries());
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        entries.values().removeIf(cached -> cached.isExpired(now));
+        while (entries.size() > maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().expiresAtMillis()))
+                    .ifPresent(entry -> entries.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private AigcProperties.ResultCacheConfig config() {
+        return aigcProperties.getResultCache();
+    }
+
+    private String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedGeneration(String url, String thumbnailUrl, String model, long expiresAtMillis) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.repository.AigcIdWorkerLeaseRepository;
+import com.anjing.util.DateUtils;
+import com.anjing.util.IdUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 业务主键策略初始化与雪花算法节点号租约。
+ *
+ * <p>启动时把 {@code aigc.ids.strategy} 装配到 {@link IdUtils}，并在数据库租约表中抢占一个空闲节点号，
+ * 之后在专用线程上定期续约，不与其他定时任务共用 Spring 的单线程调度器，避免被长任务拖过租约期。
+ * 租约表放在业务库而不是 Redis，是因为 Redis 在本项目中是可选组件，而数据库总是存在。</p>
+ *
+ * <p>{@link IdUtils} 只在租约到期前减去安全余量的时间内使用节点号：续约持续失败时本进程先停止发号，
+ * 其他实例才可能接管，两个实例不会用同一节点号发出重复ID。未持有租约期间雪花算法策略临时降级为 UUIDv7，
+ * 重新获取租约后自动恢复。</p>
+ */
+@Service
+@Slf4j
+public class AigcIdWorkerLeaseService {
+
+    private final AigcProperties aigcProperties;
+    private final AigcIdWorkerLeaseRepository leaseRepository;
+    private final String ownerId;
+
+    private volatile Integer workerId;
+    private volatile LocalDateTime leaseUntil;
+    private volatile long usableUntilMillis;
+    private volatile ScheduledExecutorService renewExecutor;
+
+    public AigcIdWorkerLeaseService(AigcProperties aigcProperties, AigcIdWorkerLeaseRepository leaseRepository) {
+        this(aigcProperties, leaseRepository, defaultOwnerId());
+    }
+
+    AigcIdWorkerLeaseService(AigcProperties aigcProperties, AigcIdWorkerLeaseRepository leaseRepository, String ownerId) {
+        this.aigcProperties = aigcProperties;
+        this.leaseRepository = leaseRepository;
+        this.ownerId = ownerId;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        AigcProperties.IdsConfig config = aigcProperties.getIds();
+        IdUtils.configureBusinessIdStrategy(config.getStrategy());
+        if (config.getNodeId() >= 0) {
+            IdUtils.configureSnowflakeNode(config.getNodeId());
+            IdUtils.configureSnowflakeLease(Long.MAX_VALUE);
+            log.info("雪花算法使用固定节点号: nodeId={}", config.getNodeId());
+            return;
+        }
+        if (!config.isWorkerLeaseEnabled()) {
+            return;
+        }
+        IdUtils.configureSnowflakeLease(0L);
+        if (!acquire()) {
+            logDegraded();
+        }
+        long interval = Math.max(1L, config.getRenewIntervalMs());
+        renewExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "aigc-id-lease-renew");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renewExecutor.scheduleWithFixedDelay(this::renewQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 续约当前节点号；续约失败且本地记录的租约已到期时视为丢失，重新抢占。未持有租约时重新尝试获取
+     */
+    public void renew() {
+        Integer current = workerId;
+        if (current == null) {
+            if (acquire()) {
+                log.info("重新持有雪花算法节点号租约，业务主键恢复雪花算法: workerId={}", workerId);
+            }
+            return;
+        }
+        try {
+            if (tryClaim(current)) {
+                IdUtils.configureSnowflakeLease(usableUntilMillis);
+                return;
+            }
+            log.error("雪花算法节点号租约已被其他实例接管: workerId={}, ownerId={}", current, ownerId);
+        } catch (RuntimeException e) {
+            LocalDateTime until = leaseUntil;
+            if (until != null && DateUtils.nowLocalDateTime().isBefore(until)) {
+                log.warn("雪花算法节点号续约失败，租约未到期，等待下次续约: workerId={}", current, e);
+                return;
+            }
+            log.error("雪花算法节点号续约失败且租约已到期: workerId={}", current, e);
+        }
+        IdUtils.configureSnowflakeLease(0L);
+        workerId = null;
+        leaseUntil = null;
+        if (!acquire()) {
+            logDegraded();
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        ScheduledExecutorService executor = renewExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+            renewExecutor = null;
+        }
+        Integer current = workerId;
+        if (current == null) {
+            return;
+        }
+        IdUtils.configureSnowflakeLease(0L);
+        try {
+            leaseRepository.release(current, ownerId, DateUtils.nowLocalDateTime());
+        } catch (RuntimeException e) {
+            log.warn("释放雪花算法节点号租约失败，等待租约自然过期: workerId={}", current, e);
+        }
+        workerId = null;
+        leaseUntil = null;
+    }
+
+    public Integer getWorkerId() {
+        return workerId;
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    /**
+     * 从 ownerId 散列出的位置开始依次尝试，多个实例同时启动时尽量不在同一个节点号上竞争
+     */
+    boolean acquire() {
+        int nodeCount = (int) IdUtils.MAX_NODE_ID + 1;
+        int start = Math.floorMod(ownerId.hashCode(), nodeCount);
+        try {
+            for (int i = 0; i < nodeCount; i++) {
+                int candidate = (start + i) % nodeCount;
+                if (tryClaim(candidate)) {
+                    workerId = candidate;
+                    IdUtils.configureSnowflakeNode(candidate);
+                    IdUtils.configureSnowflakeLease(usableUntilMillis);
+                    log.info("已获取雪花算法节点号租约: workerId={}, ownerId={}", candidate, ownerId);
+                    return true;
+                }
+            }
+            log.error("没有空闲的雪花算法节点号: ownerId={}", ownerId);
+        } catch (RuntimeException e) {
+            log.error("获取雪花算法节点号租约失败: ownerId={}", ownerId, e);
+        }
+        return false;
+    }
+
+    /**
+     * 可发号截止时间从发起抢占前的本地时间起算，数据库往返耗时只会让本进程更早停用节点号
+     */
+    private boolean tryClaim(int candidate) {
+        AigcProperties.IdsConfig config = aigcProperties.getIds();
+        long claimedAtMillis = System.currentTimeMillis();
+        LocalDateTime now = DateUtils.nowLocalDateTime();
+        LocalDateTime until = now.plusSeconds(config.getLeaseSeconds());
+        leaseRepository.claim(candidate, ownerId, until, now);
+        if (!ownerId.equals(leaseRepository.findOwnerId(candidate))) {
+            return false;
+        }
+        leaseUntil = until;
+        usableUntilMillis = claimedAtMillis + config.getLeaseSeconds() * 1000L - config.getLeaseSafetyMarginMs();
+        return true;
+    }
+
+    private void renewQuietly() {
+        try {
+            renew();
+        } catch (RuntimeException e) {
+            log.error("雪花算法节点号续约任务异常: workerId={}", workerId, e);
+        }
+    }
+
+    private void logDegraded() {
+        if (IdUtils.businessIdStrategy() == IdUtils.BusinessIdStrategy.SNOWFLAKE) {
+            log.warn("未持有雪花算法节点号租约，业务主键临时降级为 UUIDv7，等待下次续约时重新获取");
+        }
+    }
+
+    private static String defaultOwnerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        String owner = host + ":" + ManagementFactory.getRuntimeMXBean().getName() + ":" + IdUtils.randomAlphanumeric(8);
+        return owner.length() > 128 ? owner.substring(owner.length() - 128) : owner;
+    }
+}
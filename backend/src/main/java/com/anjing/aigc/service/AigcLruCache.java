@@ -0,0 +1,98 @@
+package com.anjing.aigc.service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 广场内存缓存共用的容量受限 LRU 映射。
+ *
+ * <p>按访问顺序排列的 {@link LinkedHashMap} 加一把锁，命中、写入和淘汰都是 O(1)，超出容量时从最久未访问的一端逐个移除。
+ * 加载在锁外执行；加载期间同一个键被修改、写入或移除时，加载结果只返回给调用方而不进入缓存，
+ * 避免较早读到的旧数据覆盖提交后的修改。</p>
+ */
+final class AigcLruCache<K, V> {
+
+    private final IntSupplier maxEntries;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, Object> pendingLoads = new HashMap<>();
+
+    AigcLruCache(IntSupplier maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 缓存值满足 fresh 时直接返回，否则在锁外调用 loader 加载
+     */
+    V getOrLoad(K key, Predicate<V> fresh, Supplier<V> loader) {
+        Object token = new Object();
+        synchronized (this) {
+            V current = entries.get(key);
+            if (current != null && fresh.test(current)) {
+                return current;
+            }
+            pendingLoads.put(key, token);
+        }
+
+        V loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingLoads.remove(key, token);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            if (pendingLoads.remove(key, token)) {
+                putEntry(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    synchronized void put(K key, V value) {
+        pendingLoads.remove(key);
+        putEntry(key, value);
+    }
+
+    /**
+     * 只修改已缓存的值；未缓存的键留给下一次加载
+     */
+    synchronized void update(K key, UnaryOperator<V> change) {
+        pendingLoads.remove(key);
+        V current = entries.get(key);
+        if (current != null) {
+            entries.put(key, change.apply(current));
+        }
+    }
+
+    synchronized void remove(K key) {
+        pendingLoads.remove(key);
+        entries.remove(key);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void putEntry(K key, V value) {
+        entries.put(key, value);
+        int limit = Math.max(1, maxEntries.getAsInt());
+        Iterator<K> eldest = entries.keySet().iterator();
+        while (entries.size() > limit && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+}
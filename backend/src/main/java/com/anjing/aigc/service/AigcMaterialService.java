@@ -105,7 +105,7 @@ public class AigcMaterialService {
         try {
             String url = aigcStorageService.saveBytes("materials", fileName, file.getBytes());
             AigcMaterial material = new AigcMaterial();
-            material.setMaterialId(IdUtils.uuid());
+            material.setMaterialId(IdUtils.businessId());
             material.setFileName(fileName);
             material.setOriginalFileName(file.getOriginalFilename());
             material.setContentType(contentType);
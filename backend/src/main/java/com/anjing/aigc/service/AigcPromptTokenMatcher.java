@@ -0,0 +1,107 @@
+package com.anjing.aigc.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * 多专题关键词的一次扫描匹配（Aho-Corasick）。
+ *
+ * <p>构建时把所有专题的关键词统一转小写放进同一棵字典树并补齐失配跳转，匹配时 Prompt 只转一次小写、
+ * 逐字符扫描一遍即可得到命中的全部专题，耗时与专题和关键词数量无关。构建完成后只读，可并发使用。</p>
+ */
+final class AigcPromptTokenMatcher {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failures = new ArrayList<>();
+    private final List<Set<String>> outputs = new ArrayList<>();
+
+    /**
+     * @param tokensByKey 匹配结果标识（专题 ID）到关键词列表
+     */
+    AigcPromptTokenMatcher(Map<String, List<String>> tokensByKey) {
+        newNode();
+        tokensByKey.forEach((key, tokens) -> {
+            for (String token : tokens) {
+                if (token != null && !token.isBlank()) {
+                    insert(token.toLowerCase(Locale.ROOT), key);
+                }
+            }
+        });
+        buildFailureLinks();
+    }
+
+    /**
+     * 返回文本中出现过任一关键词的标识，按首次命中顺序排列
+     */
+    Set<String> match(String text) {
+        if (text == null || text.isEmpty()) {
+            return Set.of();
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        Set<String> matched = new LinkedHashSet<>();
+        int state = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failures.get(state);
+            }
+            state = transitions.get(state).getOrDefault(c, 0);
+            matched.addAll(outputs.get(state));
+        }
+        return matched;
+    }
+
+    private void insert(String token, String key) {
+        int state = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = newNode();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        outputs.get(state).add(key);
+    }
+
+    private void buildFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(0).values()) {
+            failures.set(child, 0);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failures.get(state);
+                while (fallback != 0 && !transitions.get(fallback).containsKey(edge.getKey())) {
+                    fallback = failures.get(fallback);
+                }
+                int failure = transitions.get(fallback).getOrDefault(edge.getKey(), 0);
+                failures.set(child, failure);
+                outputs.get(child).addAll(outputs.get(failure));
+                queue.add(child);
+            }
+        }
+        for (int i = 0; i < outputs.size(); i++) {
+            outputs.set(i, Collections.unmodifiableSet(outputs.get(i)));
+        }
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>());
+        failures.add(0);
+        outputs.add(new LinkedHashSet<>());
+        return transitions.size() - 1;
+    }
+}
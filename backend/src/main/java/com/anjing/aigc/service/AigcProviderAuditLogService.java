@@ -31,7 +31,11 @@ public class AigcProviderAuditLogService {
     public static final String ACTION_SMOKE_TEST = "smoke-test";
     public static final String ACTION_PERMISSION_DENIED = "permission-denied";
     public static final String ACTION_OWNERSHIP_BACKFILL = "ownership-backfill";
+    public static final String ACTION_DATA_URL_MIGRATION = "data-url-migration";
+    public static final String ACTION_TASK_MATERIAL_BACKFILL = "task-material-backfill";
+    public static final String ACTION_GALLERY_TOPIC_BACKFILL = "gallery-topic-backfill";
     public static final String ACTION_GALLERY_CURATION_RULE = "gallery-curation-rule";
+    public static final String ACTION_OPS_STATS = "ops-stats";
 
     private final AigcProviderAuditLogRepository auditLogRepository;
 
@@ -9,6 +9,7 @@ import com.anjing.aigc.model.request.ProviderParamUpdateRequest;
 import com.anjing.aigc.model.request.ProviderProbeRequest;
 import com.anjing.aigc.model.request.ProviderRouteUpdateRequest;
 import com.anjing.aigc.model.request.ProviderSmokeTestRequest;
+import com.anjing.aigc.model.response.CursorPageResponse;
 import com.anjing.aigc.model.response.AssetDetailResponse;
 import com.anjing.aigc.model.response.GalleryAuthorProfileResponse;
 import com.anjing.aigc.model.response.GalleryCollectionsResponse;
@@ -28,6 +29,8 @@ import com.anjing.aigc.model.response.ProviderSmokeTestResponse;
 import com.anjing.aigc.model.response.TaskStatusResponse;
 import com.anjing.model.response.PageResult;
 
+import java.util.function.Predicate;
+
 /**
  * AIGC 服务接口
  * 
@@ -151,6 +154,19 @@ public interface AigcService {
      */
     PageResult<GalleryDTO> getGalleryList(Integer current, Integer size, String contentType, String model, String keyword);
 
+    /**
+     * 按游标读取灵感广场作品流（键集分页，翻页深度不影响查询代价）
+     *
+     * @param cursor 上一页返回的游标，首屏为空
+     * @param size 每页大小
+     * @param contentType 内容类型
+     * @param model 模型
+     * @param keyword 关键词
+     * @return 游标分页结果
+     */
+    CursorPageResponse<GalleryDTO> getGalleryFeed(String cursor, Integer size, String contentType, String model,
+            String keyword);
+
     /**
      * 获取灵感广场全局热门榜单。
      *
@@ -219,12 +235,23 @@ public interface AigcService {
     PageResult<GalleryDTO> getMyFavoriteGalleryList(Integer current, Integer size);
 
     /**
-     * 获取公开分享页所需的已发布作品信息。
+     * 获取已发布作品详情（完整提示词）。
      *
      * @param assetId 资产ID
-     * @return 分享页响应
+     * @return 作品详情
+     */
+    GalleryDTO getGalleryDetail(String assetId);
+
+    /**
+     * 获取公开分享页所需的已发布作品信息。
+     *
+     * <p>先由作品、计数和访问者状态算出 ETag；notModified 接受该 ETag 时不再组装响应，直接返回 null。</p>
+     *
+     * @param assetId     资产ID
+     * @param notModified 判断客户端缓存是否仍然有效
+     * @return 分享页响应；客户端缓存有效时为 null
      */
-    GalleryShareResponse getGalleryShare(String assetId);
+    GalleryShareResponse getGalleryShare(String assetId, Predicate<String> notModified);
 
     /**
      * 记录公开分享页 Prompt 复用行为。
@@ -301,6 +328,16 @@ public interface AigcService {
      */
     PageResult<AssetDTO> getAssetList(Integer current, Integer size, String contentType);
 
+    /**
+     * 按游标读取我的资产流（键集分页）
+     *
+     * @param cursor 上一页返回的游标，首屏为空
+     * @param size 每页大小
+     * @param contentType 内容类型
+     * @return 游标分页结果
+     */
+    CursorPageResponse<AssetDTO> getAssetFeed(String cursor, Integer size, String contentType);
+
     /**
      * 获取资产详情及来源任务
      *
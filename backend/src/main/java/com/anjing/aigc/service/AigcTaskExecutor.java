@@ -11,6 +11,7 @@ import com.anjing.aigc.provider.ContentProvider;
 import com.anjing.aigc.provider.ProviderRouter;
 import com.anjing.aigc.repository.AigcAssetRepository;
 import com.anjing.aigc.repository.AigcTaskRepository;
+import com.anjing.aigc.service.storage.AigcStorageService;
 import com.anjing.model.errorcode.AigcErrorCode;
 import com.anjing.model.exception.BizException;
 import com.anjing.util.DateUtils;
@@ -21,6 +22,8 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -31,6 +34,8 @@ public class AigcTaskExecutor {
     private final AigcTaskRepository taskRepository;
     private final AigcAssetRepository assetRepository;
     private final AigcProviderCostEstimator costEstimator;
+    private final AigcGenerationResultCache resultCache;
+    private final AigcStorageService storageService;
 
     @Async
     @Transactional
@@ -42,11 +47,16 @@ public class AigcTaskExecutor {
 
             task.setStatus(TaskStatus.PROCESSING);
             task.setProgress(10);
-            recordProviderExecutionStart(task);
+            ContentProvider provider = recordProviderExecutionStart(task);
             task.setUpdatedAt(DateUtils.nowLocalDateTime());
             taskRepository.save(task);
 
-            GenerationResult result = routingAgent.executeGeneration(task);
+            Optional<GenerationResult> cached = resultCache.lookup(task, provider);
+            GenerationResult result = cached.orElseGet(() -> routingAgent.executeGeneration(task));
+            if (cached.isEmpty()) {
+                storageService.offloadGeneratedDataUrls(result);
+                resultCache.store(task, provider, result);
+            }
             long durationMs = System.currentTimeMillis() - startTime;
 
             if (!result.isSuccess()) {
@@ -63,7 +73,7 @@ public class AigcTaskExecutor {
             }
 
             AigcAsset asset = new AigcAsset();
-            asset.setAssetId(IdUtils.uuid());
+            asset.setAssetId(IdUtils.businessId());
             asset.setContentType(task.getContentType());
             asset.setUrl(result.getUrl());
             asset.setThumbnailUrl(result.getThumbnailUrl());
@@ -107,7 +117,7 @@ public class AigcTaskExecutor {
         return AigcErrorCode.PROVIDER_CALL_FAILED.getCode();
     }
 
-    private void recordProviderExecutionStart(AigcTask task) {
+    private ContentProvider recordProviderExecutionStart(AigcTask task) {
         ContentProvider provider = providerRouter.getProvider(task.getContentType());
         task.setProviderName(provider.getProviderName());
         task.setProviderType(provider.getProviderType().name());
@@ -116,6 +126,7 @@ public class AigcTaskExecutor {
         task.setEstimatedCostCurrency(null);
         task.setCostUnit(null);
         task.setCostDescription(null);
+        return provider;
     }
 
     private void applyCostEstimate(AigcTask task) {
@@ -0,0 +1,186 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.exception.AigcException;
+import com.anjing.aigc.model.entity.AigcTask;
+import com.anjing.aigc.model.entity.AigcTaskMaterial;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.request.TaskMaterialBackfillRequest;
+import com.anjing.aigc.model.response.TaskMaterialBackfillResponse;
+import com.anjing.aigc.repository.AigcTaskMaterialRepository;
+import com.anjing.aigc.repository.AigcTaskRepository;
+import com.anjing.model.errorcode.AigcErrorCode;
+import com.anjing.util.DateUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Maintains the task-material association used by "tasks using this material".
+ *
+ * <p>New tasks are linked when they are created; {@link #backfill} covers tasks created before the table existed.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AigcTaskMaterialService {
+
+    private static final String RESOURCE_KEY = "AIGC_TASK_MATERIAL";
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final AigcTaskRepository taskRepository;
+    private final AigcTaskMaterialRepository taskMaterialRepository;
+    private final AigcProviderManagementPermissionService permissionService;
+    private final AigcProviderAuditLogService auditLogService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 为任务引用的每个素材写入一条关联，返回写入行数
+     */
+    @Transactional
+    public int linkTask(AigcTask task) {
+        List<AigcTaskMaterial> links = toLinks(task);
+        if (!links.isEmpty()) {
+            taskMaterialRepository.saveAll(links);
+        }
+        return links.size();
+    }
+
+    public Page<String> findVisibleTaskIds(String materialId, String ownerId, String tenantId, PageRequest pageRequest) {
+        return taskMaterialRepository.findVisibleTaskIdsByMaterialId(materialId, ownerId, tenantId, pageRequest);
+    }
+
+    public TaskMaterialBackfillResponse backfill(TaskMaterialBackfillRequest request) {
+        permissionService.assertCanManageAigc(
+                AigcProviderAuditLogService.ACTION_TASK_MATERIAL_BACKFILL,
+                RESOURCE_KEY);
+
+        boolean dryRun = request == null || request.getDryRun() == null || request.getDryRun();
+        boolean confirmed = request != null && Boolean.TRUE.equals(request.getConfirmBackfill());
+        if (!dryRun && !confirmed) {
+            throw new AigcException(
+                    AigcErrorCode.TASK_MATERIAL_BACKFILL_INVALID,
+                    "执行任务素材关联回填前必须设置 confirmBackfill=true");
+        }
+
+        long taskCandidates = taskRepository.countWithReferenceMaterials();
+        int taskLinked = 0;
+        int linksCreated = 0;
+        if (!dryRun) {
+            int batchSize = resolveBatchSize(request);
+            long afterId = 0L;
+            BatchProgress progress;
+            do {
+                long cursor = afterId;
+                progress = inOwnTransaction(() -> linkBatch(cursor, batchSize));
+                taskLinked += progress.tasksLinked();
+                linksCreated += progress.linksCreated();
+                afterId = progress.lastId();
+            } while (progress.size() == batchSize);
+            recordBackfillAudit(taskCandidates, taskLinked, linksCreated);
+        }
+
+        return TaskMaterialBackfillResponse.builder()
+                .dryRun(dryRun)
+                .confirmed(confirmed)
+                .taskCandidates(taskCandidates)
+                .taskLinked(taskLinked)
+                .linksCreated(linksCreated)
+                .message(dryRun ? "dry-run only; no rows updated" : "task material links backfilled")
+                .checkedAt(DateUtils.nowIso())
+                .build();
+    }
+
+    /**
+     * 每批单独提交并清空持久化上下文：中途失败只回滚当前批，已写入的关联保留，内存也不随任务数增长。
+     */
+    private BatchProgress inOwnTransaction(Supplier<BatchProgress> batch) {
+        try {
+            return transactionTemplate.execute(status -> batch.get());
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private BatchProgress linkBatch(long afterId, int batchSize) {
+        List<AigcTask> batch = taskRepository.findWithReferenceMaterialsAfter(afterId, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return new BatchProgress(0, afterId, 0, 0);
+        }
+        Set<String> linkedTaskIds = new HashSet<>(taskMaterialRepository.findLinkedTaskIds(
+                batch.stream().map(AigcTask::getTaskId).toList()));
+        List<AigcTaskMaterial> links = new ArrayList<>();
+        int tasksLinked = 0;
+        for (AigcTask task : batch) {
+            if (linkedTaskIds.contains(task.getTaskId())) {
+                continue;
+            }
+            List<AigcTaskMaterial> taskLinks = toLinks(task);
+            if (!taskLinks.isEmpty()) {
+                links.addAll(taskLinks);
+                tasksLinked++;
+            }
+        }
+        taskMaterialRepository.saveAll(links);
+        return new BatchProgress(batch.size(), batch.get(batch.size() - 1).getId(), tasksLinked, links.size());
+    }
+
+    private List<AigcTaskMaterial> toLinks(AigcTask task) {
+        if (task == null || task.getReferenceMaterialIds() == null) {
+            return List.of();
+        }
+        Set<String> materialIds = new LinkedHashSet<>();
+        for (String materialId : task.getReferenceMaterialIds()) {
+            if (StringUtils.hasText(materialId)) {
+                materialIds.add(materialId.trim());
+            }
+        }
+        List<AigcTaskMaterial> links = new ArrayList<>(materialIds.size());
+        for (String materialId : materialIds) {
+            AigcTaskMaterial link = new AigcTaskMaterial();
+            link.setTaskId(task.getTaskId());
+            link.setMaterialId(materialId);
+            link.setTaskCreatedAt(task.getCreatedAt());
+            links.add(link);
+        }
+        return links;
+    }
+
+    private int resolveBatchSize(TaskMaterialBackfillRequest request) {
+        Integer batchSize = request == null ? null : request.getBatchSize();
+        if (batchSize == null || batchSize <= 0) {
+            return DEFAULT_BATCH_SIZE;
+        }
+        return Math.min(batchSize, MAX_BATCH_SIZE);
+    }
+
+    private void recordBackfillAudit(long taskCandidates, int taskLinked, int linksCreated) {
+        auditLogService.record(
+                AigcProviderAuditLogService.ACTION_TASK_MATERIAL_BACKFILL,
+                ContentType.IMAGE,
+                RESOURCE_KEY,
+                "AIGC Task Material",
+                "governance",
+                Map.of("taskCandidates", taskCandidates),
+                Map.of(
+                        "taskLinked", taskLinked,
+                        "linksCreated", linksCreated
+                ));
+    }
+
+    private record BatchProgress(int size, long lastId, int tasksLinked, int linksCreated) {
+    }
+}
@@ -7,11 +7,12 @@ import com.anjing.aigc.model.dto.GalleryDTO;
 import com.anjing.aigc.model.dto.MaterialDTO;
 import com.anjing.aigc.model.dto.ModelInfo;
 import com.anjing.aigc.model.entity.AigcAsset;
-import com.anjing.aigc.model.entity.AigcGalleryReaction;
 import com.anjing.aigc.model.entity.AigcMaterial;
 import com.anjing.aigc.model.entity.AigcTask;
 import com.anjing.aigc.model.enums.ContentType;
 import com.anjing.aigc.model.enums.TaskStatus;
+import com.anjing.aigc.model.projection.AigcAssetSummary;
+import com.anjing.aigc.model.projection.AigcTaskSummary;
 import com.anjing.aigc.model.request.GalleryCurationRuleUpdateRequest;
 import com.anjing.aigc.model.request.GenerateRequest;
 import com.anjing.aigc.model.request.ProviderCredentialUpdateRequest;
@@ -20,6 +21,7 @@ import com.anjing.aigc.model.request.ProviderProbeRequest;
 import com.anjing.aigc.model.request.ProviderRouteUpdateRequest;
 import com.anjing.aigc.model.request.ProviderSmokeTestRequest;
 import com.anjing.aigc.model.response.AgentAnalysis;
+import com.anjing.aigc.model.response.CursorPageResponse;
 import com.anjing.aigc.model.response.AssetDetailResponse;
 import com.anjing.aigc.model.response.GalleryAuthorProfileResponse;
 import com.anjing.aigc.model.response.GalleryCollectionResponse;
@@ -50,11 +52,22 @@ import com.anjing.aigc.provider.ContentProvider;
 import com.anjing.aigc.provider.ImageGenerationProvider;
 import com.anjing.aigc.provider.ProviderRouter;
 import com.anjing.aigc.repository.AigcAssetRepository;
+import com.anjing.aigc.repository.AigcKeysetCursor;
 import com.anjing.aigc.repository.AigcMaterialRepository;
 import com.anjing.aigc.repository.AigcTaskRepository;
+import com.anjing.aigc.service.AigcGenerationResultCache;
+import com.anjing.aigc.service.AigcTaskMaterialService;
+import com.anjing.aigc.service.AigcGalleryCounterService;
+import com.anjing.aigc.service.AigcGalleryAuthorStatsCache;
+import com.anjing.aigc.service.AigcGalleryFeedCache;
+import com.anjing.aigc.service.AigcGalleryTopicService;
+import com.anjing.aigc.service.AigcGalleryTopicService.GalleryTopicDefinition;
 import com.anjing.aigc.service.AigcGalleryCurationConfigService;
 import com.anjing.aigc.service.AigcProviderCredentialConfigService;
 import com.anjing.aigc.service.AigcGalleryAuditLogService;
+import com.anjing.aigc.service.AigcGalleryEventRecorder;
+import com.anjing.aigc.service.AigcGallerySharePayloadCache;
+import com.anjing.aigc.service.AigcGallerySharePayloadCache.SharePayload;
 import com.anjing.aigc.service.AigcGalleryReactionService;
 import com.anjing.aigc.service.AigcProviderAuditLogService;
 import com.anjing.aigc.service.AigcProviderCostEstimator;
@@ -81,8 +94,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
@@ -92,9 +107,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -115,10 +132,11 @@ public class AigcServiceImpl implements AigcService {
     private static final int AUTHOR_TOP_ASSET_LIMIT = 5;
     private static final int GALLERY_COLLECTION_DEFAULT_SIZE = 4;
     private static final int GALLERY_COLLECTION_MAX_SIZE = 8;
-    private static final int GALLERY_TOPIC_CANDIDATE_MULTIPLIER = 4;
     private static final int GALLERY_CREATOR_RANKING_DEFAULT_SIZE = 5;
     private static final int GALLERY_CREATOR_RANKING_MAX_SIZE = 20;
     private static final String GALLERY_CURATION_RULE_VERSION = "v1";
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 100;
 
     private final RoutingAgent routingAgent;
     private final AigcTaskExecutor taskExecutor;
@@ -139,6 +157,14 @@ public class AigcServiceImpl implements AigcService {
     private final AigcReferenceMaterialPolicy referenceMaterialPolicy;
     private final AigcStorageService aigcStorageService;
     private final AigcOwnershipService ownershipService;
+    private final AigcGenerationResultCache generationResultCache;
+    private final AigcTaskMaterialService taskMaterialService;
+    private final AigcGalleryCounterService galleryCounterService;
+    private final AigcGalleryFeedCache galleryFeedCache;
+    private final AigcGalleryAuthorStatsCache authorStatsCache;
+    private final AigcGalleryTopicService galleryTopicService;
+    private final AigcGalleryEventRecorder galleryEventRecorder;
+    private final AigcGallerySharePayloadCache sharePayloadCache;
 
     @Override
     @Transactional
@@ -152,7 +178,7 @@ public class AigcServiceImpl implements AigcService {
 
         // 2. 创建任务记录
         AigcTask task = new AigcTask();
-        task.setTaskId(IdUtils.uuid());
+        task.setTaskId(IdUtils.businessId());
         task.setPrompt(request.getPrompt());
         task.setOptimizedPrompt(analysis.getOptimizedPrompt());
         task.setReferenceImages(resolveReferenceImages(request, referenceMaterials));
@@ -167,6 +193,7 @@ public class AigcServiceImpl implements AigcService {
         task.setUpdatedAt(DateUtils.nowLocalDateTime());
         ownershipService.applyOwnership(task);
         taskRepository.save(task);
+        taskMaterialService.linkTask(task);
 
         // 3. 异步执行生成任务
         dispatchGenerationAfterCommit(task.getTaskId());
@@ -212,22 +239,85 @@ public class AigcServiceImpl implements AigcService {
 
         int pageNumber = current != null && current > 0 ? current - 1 : 0;
         int pageSize = size != null && size > 0 ? Math.min(size, 100) : 20;
-        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<AigcTask> page = taskRepository.findVisibleByReferenceMaterialId(
-                toMaterialIdPattern(materialId),
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize);
+        Page<String> page = taskMaterialService.findVisibleTaskIds(
+                materialId,
                 ownershipService.currentOwnerId(),
                 ownershipService.currentTenantId(),
                 pageRequest
         );
 
         return PageResult.of(
-                page.getContent().stream().map(this::toTaskStatusResponse).toList(),
+                toTaskListItems(page.getContent()),
                 page.getTotalElements(),
                 current != null && current > 0 ? current : 1,
                 pageSize
         );
     }
 
+    /**
+     * 任务列表只读投影列，完成任务的结果资产一次批量查询，避免逐条加载。
+     */
+    private List<TaskStatusResponse> toTaskListItems(List<String> taskIds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, AigcTaskSummary> tasksById = taskRepository.findSummariesByTaskIdIn(taskIds).stream()
+                .collect(Collectors.toMap(AigcTaskSummary::taskId, task -> task, (left, right) -> left));
+        Set<String> assetIds = tasksById.values().stream()
+                .filter(task -> task.status() == TaskStatus.COMPLETED && task.assetId() != null)
+                .map(AigcTaskSummary::assetId)
+                .collect(Collectors.toSet());
+        Map<String, AigcAssetSummary> assetsById = assetIds.isEmpty()
+                ? Map.of()
+                : assetRepository.findVisibleAssetSummariesByAssetIdIn(
+                                assetIds,
+                                ownershipService.currentOwnerId(),
+                                ownershipService.currentTenantId()).stream()
+                        .collect(Collectors.toMap(AigcAssetSummary::assetId, asset -> asset, (left, right) -> left));
+        return taskIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .map(task -> toTaskListItem(task, assetsById.get(task.assetId())))
+                .toList();
+    }
+
+    private TaskStatusResponse toTaskListItem(AigcTaskSummary task, AigcAssetSummary asset) {
+        TaskStatusResponse response = TaskStatusResponse.builder()
+                .taskId(task.taskId())
+                .status(task.status())
+                .progress(task.progress())
+                .agentAnalysis(task.intent() == null ? null : AgentAnalysis.builder()
+                        .intent(task.intent())
+                        .contentType(task.contentType())
+                        .selectedModel(task.model())
+                        .build())
+                .providerExecution(task.providerName() == null && task.providerType() == null ? null
+                        : ProviderExecutionSummary.builder()
+                                .providerName(task.providerName())
+                                .providerType(task.providerType())
+                                .model(task.model())
+                                .durationMs(task.durationMs())
+                                .build())
+                .errorMessage(task.errorMessage())
+                .errorCode(task.errorCode())
+                .createdAt(task.createdAt())
+                .updatedAt(task.updatedAt())
+                .build();
+        if (asset != null) {
+            response.setResult(GenerationResult.builder()
+                    .success(true)
+                    .assetId(asset.assetId())
+                    .contentType(asset.contentType())
+                    .url(asset.url())
+                    .thumbnailUrl(asset.thumbnailUrl())
+                    .prompt(asset.promptPreview())
+                    .model(asset.model())
+                    .build());
+        }
+        return response;
+    }
+
     private TaskStatusResponse toTaskStatusResponse(AigcTask task) {
         TaskStatusResponse response = TaskStatusResponse.builder()
                 .taskId(task.getTaskId())
@@ -535,9 +625,10 @@ public class AigcServiceImpl implements AigcService {
         AigcTask task = createSmokeTestTask(request, provider);
         taskRepository.save(task);
 
+        Optional<GenerationResult> cached = generationResultCache.lookup(task, provider);
         GenerationResult result;
         try {
-            result = provider.generate(task);
+            result = cached.isPresent() ? cached.get() : provider.generate(task);
         } catch (Exception e) {
             result = GenerationResult.failure(
                     task.getTaskId(),
@@ -545,6 +636,10 @@ public class AigcServiceImpl implements AigcService {
                     e.getMessage()
             );
         }
+        if (cached.isEmpty()) {
+            aigcStorageService.offloadGeneratedDataUrls(result);
+            generationResultCache.store(task, provider, result);
+        }
 
         long durationMs = System.currentTimeMillis() - startTime;
         if (result != null && result.isSuccess()) {
@@ -569,7 +664,8 @@ public class AigcServiceImpl implements AigcService {
                             "taskId", task.getTaskId(),
                             "assetId", asset.getAssetId(),
                             "model", task.getModel(),
-                            "durationMs", durationMs
+                            "durationMs", durationMs,
+                            "cacheHit", cached.isPresent()
                     ));
 
             return ProviderSmokeTestResponse.builder()
@@ -586,7 +682,9 @@ public class AigcServiceImpl implements AigcService {
                     .thumbnailUrl(result.getThumbnailUrl())
                     .durationMs(durationMs)
                     .providerExecution(resolveProviderExecution(task))
-                    .message("Smoke test 通过，已保存测试资产")
+                    .message(cached.isPresent()
+                            ? "Smoke test 命中生成结果缓存，已复用存储对象保存测试资产"
+                            : "Smoke test 通过，已保存测试资产")
                     .checkedAt(DateUtils.nowIso())
                     .build();
         }
@@ -808,7 +906,7 @@ public class AigcServiceImpl implements AigcService {
         String prompt = normalizeSmokeTestPrompt(request.getPrompt());
         String model = resolveConfiguredModel(provider, request.getContentType());
         AigcTask task = new AigcTask();
-        task.setTaskId(IdUtils.uuid());
+        task.setTaskId(IdUtils.businessId());
         task.setPrompt(prompt);
         task.setOptimizedPrompt(prompt);
         task.setContentType(request.getContentType());
@@ -836,7 +934,7 @@ public class AigcServiceImpl implements AigcService {
 
     private AigcAsset createAssetFromSmokeTest(AigcTask task, GenerationResult result) {
         AigcAsset asset = new AigcAsset();
-        asset.setAssetId(IdUtils.uuid());
+        asset.setAssetId(IdUtils.businessId());
         asset.setContentType(ContentType.IMAGE);
         asset.setUrl(result.getUrl());
         asset.setThumbnailUrl(result.getThumbnailUrl());
@@ -1222,7 +1320,7 @@ public class AigcServiceImpl implements AigcService {
     public PageResult<GalleryDTO> getGalleryList(Integer current, Integer size, String contentType, String model, String keyword) {
         PageRequest pageRequest = PageRequest.of(current - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        Page<AigcAsset> page = assetRepository.searchPublished(
+        Page<AigcAssetSummary> page = assetRepository.searchPublishedSummaries(
                 parseContentType(contentType),
                 normalizeFilter(model),
                 normalizeFilter(keyword),
@@ -1235,6 +1333,19 @@ public class AigcServiceImpl implements AigcService {
         return PageResult.of(records, page.getTotalElements(), current, size);
     }
 
+    @Override
+    public CursorPageResponse<GalleryDTO> getGalleryFeed(String cursor, Integer size, String contentType,
+            String model, String keyword) {
+        int pageSize = normalizeFeedSize(size);
+        List<AigcAssetSummary> rows = assetRepository.searchPublishedSummariesAfter(
+                parseContentType(contentType),
+                normalizeFilter(model),
+                normalizeFilter(keyword),
+                AigcKeysetCursor.decode(cursor),
+                pageSize + 1);
+        return CursorPageResponse.fromLookahead(rows, pageSize, this::toKeysetCursor, this::toGalleryDTO);
+    }
+
     @Override
     public PageResult<GalleryDTO> getGalleryRanking(
             Integer current, Integer size, String contentType, String model, String keyword) {
@@ -1267,6 +1378,25 @@ public class AigcServiceImpl implements AigcService {
     public GalleryCollectionsResponse getGalleryCollections(String contentType, String keyword, Integer size) {
         ContentType parsedContentType = parseContentType(contentType);
         String normalizedKeyword = normalizeFilter(keyword);
+        GalleryCollectionsResponse shared = galleryFeedCache.get(
+                AigcGalleryFeedCache.FEED_COLLECTIONS,
+                parsedContentType,
+                normalizedKeyword,
+                size,
+                () -> buildGalleryCollections(parsedContentType, normalizedKeyword, size)
+        );
+        return shared.toBuilder()
+                .collections(shared.getCollections().stream()
+                        .map(collection -> collection.toBuilder()
+                                .coverAsset(withViewerFlags(collection.getCoverAsset()))
+                                .assets(withViewerFlags(collection.getAssets()))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private GalleryCollectionsResponse buildGalleryCollections(ContentType parsedContentType, String normalizedKeyword,
+            Integer size) {
         Map<String, GalleryCurationRuleResponse> curationRules = effectiveCurationRulesById();
         int collectionSize = resolveLargestCurationSize(
                 curationRules,
@@ -1345,8 +1475,27 @@ public class AigcServiceImpl implements AigcService {
     public GalleryTopicsResponse getGalleryTopics(String contentType, String keyword, Integer size) {
         ContentType parsedContentType = parseContentType(contentType);
         String normalizedKeyword = normalizeFilter(keyword);
+        GalleryTopicsResponse shared = galleryFeedCache.get(
+                AigcGalleryFeedCache.FEED_TOPICS,
+                parsedContentType,
+                normalizedKeyword,
+                size,
+                () -> buildGalleryTopics(parsedContentType, normalizedKeyword, size)
+        );
+        return shared.toBuilder()
+                .topics(shared.getTopics().stream()
+                        .map(topic -> topic.toBuilder()
+                                .coverAsset(withViewerFlags(topic.getCoverAsset()))
+                                .assets(withViewerFlags(topic.getAssets()))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private GalleryTopicsResponse buildGalleryTopics(ContentType parsedContentType, String normalizedKeyword,
+            Integer size) {
         Map<String, GalleryCurationRuleResponse> curationRules = effectiveCurationRulesById();
-        List<GalleryTopicDefinition> topicDefinitions = galleryTopicDefinitions();
+        List<GalleryTopicDefinition> topicDefinitions = galleryTopicService.topicDefinitions();
         List<GalleryTopicDefinition> scopedTopicDefinitions = topicDefinitions.stream()
                 .filter(definition -> parsedContentType == null
                         || definition.contentType() == null
@@ -1368,17 +1517,12 @@ public class AigcServiceImpl implements AigcService {
             }
 
             int ruleSize = resolveCurationSize(rule, size, GALLERY_COLLECTION_DEFAULT_SIZE, GALLERY_COLLECTION_MAX_SIZE);
-            int ruleCandidateLimit = resolveCurationMaxSize(rule, GALLERY_COLLECTION_MAX_SIZE)
-                    * GALLERY_TOPIC_CANDIDATE_MULTIPLIER;
             ContentType topicContentType = definition.contentType() != null
                     ? definition.contentType()
                     : parsedContentType;
-            List<AigcAsset> candidates = loadGalleryRankingAssets(
-                    topicContentType,
-                    normalizedKeyword,
-                    Math.min(ruleSize * GALLERY_TOPIC_CANDIDATE_MULTIPLIER, ruleCandidateLimit)
-            );
-            List<AigcAsset> assets = selectTopicAssets(candidates, definition.promptTokens(), ruleSize);
+            List<AigcAsset> assets = definition.tagged()
+                    ? galleryTopicService.findTopicAssets(definition.id(), topicContentType, normalizedKeyword, ruleSize)
+                    : loadGalleryRankingAssets(topicContentType, normalizedKeyword, ruleSize);
             addGalleryTopic(topics, definition, topicContentType, assets,
                     resolveCurationOperationHint(rule, definition.operationHint()));
         }
@@ -1396,6 +1540,24 @@ public class AigcServiceImpl implements AigcService {
     public GalleryCreatorRankingResponse getGalleryCreatorRanking(String contentType, String keyword, Integer size) {
         ContentType parsedContentType = parseContentType(contentType);
         String normalizedKeyword = normalizeFilter(keyword);
+        GalleryCreatorRankingResponse shared = galleryFeedCache.get(
+                AigcGalleryFeedCache.FEED_CREATOR_RANKING,
+                parsedContentType,
+                normalizedKeyword,
+                size,
+                () -> buildGalleryCreatorRanking(parsedContentType, normalizedKeyword, size)
+        );
+        return shared.toBuilder()
+                .creators(shared.getCreators().stream()
+                        .map(creator -> creator.toBuilder()
+                                .topAsset(withViewerFlags(creator.getTopAsset()))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private GalleryCreatorRankingResponse buildGalleryCreatorRanking(ContentType parsedContentType,
+            String normalizedKeyword, Integer size) {
         GalleryCurationRuleResponse creatorRankingRule = effectiveCurationRulesById().get("creator-ranking");
         if (!isCurationRuleEnabled(creatorRankingRule)) {
             return GalleryCreatorRankingResponse.builder()
@@ -1432,7 +1594,8 @@ public class AigcServiceImpl implements AigcService {
 
     @Override
     public GalleryCurationRulesResponse getGalleryCurationRules() {
-        List<GalleryCurationRuleResponse> rules = galleryCurationConfigService.applyConfigs(baseGalleryCurationRules());
+        List<GalleryCurationRuleResponse> rules =
+                galleryCurationConfigService.effectiveRules(this::baseGalleryCurationRules);
         return toGalleryCurationRulesResponse(rules);
     }
 
@@ -1446,7 +1609,7 @@ public class AigcServiceImpl implements AigcService {
 
         assertAigcManagementPermission(AigcProviderAuditLogService.ACTION_GALLERY_CURATION_RULE, ruleId);
         GalleryCurationRuleResponse beforeRule = findCurationRule(
-                galleryCurationConfigService.applyConfigs(baseGalleryCurationRules()), ruleId)
+                galleryCurationConfigService.effectiveRules(this::baseGalleryCurationRules), ruleId)
                 .orElse(baseRule);
 
         galleryCurationConfigService.saveConfig(
@@ -1456,9 +1619,10 @@ public class AigcServiceImpl implements AigcService {
                 request.getMaxSize(),
                 request.getOperationHint()
         );
+        galleryFeedCache.invalidateAll();
 
         List<GalleryCurationRuleResponse> updatedRules =
-                galleryCurationConfigService.applyConfigs(baseGalleryCurationRules());
+                galleryCurationConfigService.effectiveRules(this::baseGalleryCurationRules);
         GalleryCurationRuleResponse afterRule = findCurationRule(updatedRules, ruleId).orElse(baseRule);
         recordAigcManagementAudit(
                 AigcProviderAuditLogService.ACTION_GALLERY_CURATION_RULE,
@@ -1554,7 +1718,7 @@ public class AigcServiceImpl implements AigcService {
                 GALLERY_CREATOR_RANKING_DEFAULT_SIZE,
                 GALLERY_CREATOR_RANKING_MAX_SIZE
         ));
-        galleryTopicDefinitions().stream()
+        galleryTopicService.topicDefinitions().stream()
                 .map(this::toGalleryTopicCurationRule)
                 .forEach(rules::add);
         return rules;
@@ -1613,13 +1777,7 @@ public class AigcServiceImpl implements AigcService {
     }
 
     private Map<String, GalleryCurationRuleResponse> effectiveCurationRulesById() {
-        return galleryCurationConfigService.applyConfigs(baseGalleryCurationRules()).stream()
-                .collect(Collectors.toMap(
-                        GalleryCurationRuleResponse::getId,
-                        Function.identity(),
-                        (first, ignored) -> first,
-                        LinkedHashMap::new
-                ));
+        return galleryCurationConfigService.effectiveRulesById(this::baseGalleryCurationRules);
     }
 
     private int resolveLargestCurationSize(Map<String, GalleryCurationRuleResponse> rulesById, List<String> ruleIds,
@@ -1666,16 +1824,18 @@ public class AigcServiceImpl implements AigcService {
     public PageResult<GalleryDTO> getMyFavoriteGalleryList(Integer current, Integer size) {
         PageRequest pageRequest = PageRequest.of(
                 current != null && current > 0 ? current - 1 : 0,
-                size != null && size > 0 ? Math.min(size, 100) : 20,
-                Sort.by(Sort.Direction.DESC, "createdAt")
+                size != null && size > 0 ? Math.min(size, 100) : 20
         );
 
-        Page<AigcGalleryReaction> page = galleryReactionService.getMyFavoriteReactions(pageRequest);
+        Page<AigcAssetSummary> page = galleryReactionService.getMyFavoriteAssets(pageRequest);
+        List<String> assetIds = page.getContent().stream().map(AigcAssetSummary::assetId).toList();
+        Set<String> likedAssetIds = galleryReactionService.findReactedAssetIds(
+                AigcGalleryReactionService.REACTION_LIKE, assetIds);
         List<GalleryDTO> records = page.getContent().stream()
-                .map(AigcGalleryReaction::getAssetId)
-                .map(assetRepository::findByAssetIdAndIsPublishedTrue)
-                .flatMap(Optional::stream)
-                .map(this::toGalleryDTO)
+                .map(asset -> toSharedGalleryDTO(asset).toBuilder()
+                        .likedByCurrentUser(likedAssetIds.contains(asset.assetId()))
+                        .favoritedByCurrentUser(true)
+                        .build())
                 .collect(Collectors.toList());
 
         return PageResult.of(records, page.getTotalElements(), current != null && current > 0 ? current : 1,
@@ -1683,33 +1843,88 @@ public class AigcServiceImpl implements AigcService {
     }
 
     @Override
-    public GalleryShareResponse getGalleryShare(String assetId) {
+    public GalleryDTO getGalleryDetail(String assetId) {
+        return toGalleryDTO(findPublishedAsset(assetId));
+    }
+
+    @Override
+    public GalleryShareResponse getGalleryShare(String assetId, Predicate<String> notModified) {
         AigcAsset asset = findPublishedAsset(assetId);
-        galleryAuditLogService.recordSuccess(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset);
-        String previewUrl = buildGalleryPreviewUrl(asset);
-        String downloadUrl = buildGalleryDownloadUrl(asset);
+        galleryEventRecorder.record(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset);
+        SharePayload payload = sharePayloadCache.get(asset, this::buildSharePayload);
+        AigcAssetSummary summary = AigcAssetSummary.from(asset);
+        int likeCount = resolveLikeCount(asset);
+        int favoriteCount = resolveFavoriteCount(asset);
+        boolean liked = galleryReactionService.hasReaction(AigcGalleryReactionService.REACTION_LIKE, assetId);
+        boolean favorited = galleryReactionService.hasReaction(AigcGalleryReactionService.REACTION_FAVORITE, assetId);
+        String etag = buildShareEtag(payload, summary, likeCount, favoriteCount, liked, favorited);
+        if (notModified.test(etag)) {
+            return null;
+        }
+        GalleryDTO galleryAsset = toSharedGalleryDTO(summary).toBuilder()
+                .likeCount(likeCount)
+                .favoriteCount(favoriteCount)
+                .likedByCurrentUser(liked)
+                .favoritedByCurrentUser(favorited)
+                .build();
+        return GalleryShareResponse.builder()
+                .asset(galleryAsset)
+                .sharePath(payload.sharePath())
+                .previewUrl(payload.previewUrl())
+                .downloadUrl(payload.downloadUrl())
+                .seoTitle(payload.seoTitle())
+                .seoDescription(payload.seoDescription())
+                .seoKeywords(payload.seoKeywords())
+                .posterTitle(payload.posterTitle())
+                .posterSubtitle(payload.posterSubtitle())
+                .posterFooter(payload.posterFooter())
+                .etag(etag)
+                .build();
+    }
+
+    private SharePayload buildSharePayload(AigcAsset asset) {
         String shareTitle = buildShareTitle(asset);
         String contentTypeLabel = contentTypeLabel(asset.getContentType());
         String authorName = resolveAuthorName(asset);
         String modelName = displayValue(asset.getModel(), "未知模型");
-        return GalleryShareResponse.builder()
-                .asset(toGalleryDTO(asset))
-                .sharePath("/share/gallery/" + asset.getAssetId())
-                .previewUrl(previewUrl)
-                .downloadUrl(downloadUrl)
-                .seoTitle(shareTitle + " | agent-aigc")
-                .seoDescription(buildShareDescription(asset, contentTypeLabel, authorName, modelName))
-                .seoKeywords(String.join(",", "AIGC", contentTypeLabel, "Prompt", modelName))
-                .posterTitle(shareTitle)
-                .posterSubtitle(contentTypeLabel + " · " + authorName + " · " + modelName)
-                .posterFooter("agent-aigc · /share/gallery/" + asset.getAssetId())
-                .build();
+        return SharePayload.of(
+                "/share/gallery/" + asset.getAssetId(),
+                buildGalleryPreviewUrl(asset),
+                buildGalleryDownloadUrl(asset),
+                shareTitle + " | agent-aigc",
+                buildShareDescription(asset, contentTypeLabel, authorName, modelName),
+                String.join(",", "AIGC", contentTypeLabel, "Prompt", modelName),
+                shareTitle,
+                contentTypeLabel + " · " + authorName + " · " + modelName,
+                "agent-aigc · /share/gallery/" + asset.getAssetId());
+    }
+
+    /**
+     * 由组装分享页响应的全部输入计算 ETag：文案摘要、作品展示字段、合并后的计数和访问者状态，
+     * 任一变化都会换新 ETag；命中时无需组装响应即可返回 304
+     */
+    private String buildShareEtag(SharePayload payload, AigcAssetSummary summary, int likeCount, int favoriteCount,
+            boolean liked, boolean favorited) {
+        String source = String.join("\n",
+                payload.digest(),
+                summary.assetId(),
+                String.valueOf(summary.contentType()),
+                String.valueOf(summary.url()),
+                String.valueOf(summary.thumbnailUrl()),
+                String.valueOf(summary.promptPreview()),
+                String.valueOf(summary.model()),
+                String.valueOf(summary.ownerId()),
+                String.valueOf(summary.isPublished()),
+                String.valueOf(summary.createdAt()),
+                likeCount + "-" + favoriteCount,
+                (liked ? "1" : "0") + (favorited ? "1" : "0"));
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
     public void recordGallerySharePromptReuse(String assetId) {
         AigcAsset asset = findPublishedAsset(assetId);
-        galleryAuditLogService.recordSuccess(AigcGalleryAuditLogService.ACTION_PROMPT_REUSE, asset);
+        galleryEventRecorder.record(AigcGalleryAuditLogService.ACTION_PROMPT_REUSE, asset);
     }
 
     @Override
@@ -1726,7 +1941,7 @@ public class AigcServiceImpl implements AigcService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        Page<AigcAsset> page = assetRepository.searchPublishedByOwner(
+        Page<AigcAssetSummary> page = assetRepository.searchPublishedSummariesByOwner(
                 normalizedAuthorId,
                 anonymousOwner,
                 parsedContentType,
@@ -1736,13 +1951,14 @@ public class AigcServiceImpl implements AigcService {
                 .map(this::toGalleryDTO)
                 .collect(Collectors.toList());
 
-        long publishedCount = assetRepository.countPublishedByOwner(normalizedAuthorId, anonymousOwner, null);
-        long imageCount = assetRepository.countPublishedByOwner(normalizedAuthorId, anonymousOwner, ContentType.IMAGE);
-        long videoCount = assetRepository.countPublishedByOwner(normalizedAuthorId, anonymousOwner, ContentType.VIDEO);
-        long audioCount = assetRepository.countPublishedByOwner(normalizedAuthorId, anonymousOwner, ContentType.AUDIO);
-        long totalLikeCount = assetRepository.sumPublishedLikeCountByOwner(normalizedAuthorId, anonymousOwner);
-        long totalFavoriteCount = assetRepository.sumPublishedFavoriteCountByOwner(normalizedAuthorId, anonymousOwner);
-        List<GalleryDTO> topAssets = resolveTopAuthorAssets(normalizedAuthorId, anonymousOwner);
+        AigcGalleryAuthorStatsCache.AuthorStats stats = authorStatsCache.get(normalizedAuthorId, anonymousOwner);
+        long publishedCount = stats.publishedCount();
+        long imageCount = stats.publishedCount(ContentType.IMAGE);
+        long videoCount = stats.publishedCount(ContentType.VIDEO);
+        long audioCount = stats.publishedCount(ContentType.AUDIO);
+        long totalLikeCount = stats.totalLikeCount();
+        long totalFavoriteCount = stats.totalFavoriteCount();
+        List<GalleryDTO> topAssets = withViewerFlags(resolveTopAuthorAssets(normalizedAuthorId, anonymousOwner));
 
         return GalleryAuthorProfileResponse.builder()
                 .authorId(normalizedAuthorId)
@@ -1765,9 +1981,16 @@ public class AigcServiceImpl implements AigcService {
     public void saveToGallery(String assetId) {
         AigcAsset asset = findVisibleAsset(assetId)
                 .orElseThrow(() -> new AigcException(AigcErrorCode.ASSET_NOT_FOUND));
+        boolean wasPublished = Boolean.TRUE.equals(asset.getIsPublished());
         
         asset.setIsPublished(true);
         AigcAsset savedAsset = assetRepository.save(asset);
+        galleryTopicService.tagAsset(savedAsset);
+        sharePayloadCache.refresh(savedAsset, this::buildSharePayload);
+        galleryFeedCache.invalidateAll();
+        if (!wasPublished) {
+            notifyAuthorStatsPublishChanged(savedAsset, true);
+        }
         galleryAuditLogService.recordSuccess(AigcGalleryAuditLogService.ACTION_PUBLISH, savedAsset);
     }
 
@@ -1776,9 +1999,15 @@ public class AigcServiceImpl implements AigcService {
     public void removeFromGallery(String assetId) {
         AigcAsset asset = findVisibleAsset(assetId)
                 .orElseThrow(() -> new AigcException(AigcErrorCode.ASSET_NOT_FOUND));
+        boolean wasPublished = Boolean.TRUE.equals(asset.getIsPublished());
 
         asset.setIsPublished(false);
         AigcAsset savedAsset = assetRepository.save(asset);
+        sharePayloadCache.evict(savedAsset.getAssetId());
+        galleryFeedCache.invalidateAll();
+        if (wasPublished) {
+            notifyAuthorStatsPublishChanged(savedAsset, false);
+        }
         galleryAuditLogService.recordSuccess(AigcGalleryAuditLogService.ACTION_UNPUBLISH, savedAsset);
     }
 
@@ -1787,10 +2016,7 @@ public class AigcServiceImpl implements AigcService {
     public GalleryDTO likeGalleryAsset(String assetId) {
         AigcAsset asset = findPublishedAsset(assetId);
         if (galleryReactionService.addReaction(AigcGalleryReactionService.REACTION_LIKE, asset.getAssetId())) {
-            asset.setLikeCount(resolveLikeCount(asset) + 1);
-            AigcAsset savedAsset = assetRepository.save(asset);
-            galleryAuditLogService.recordSuccess(AigcGalleryAuditLogService.ACTION_LIKE, savedAsset);
-            return toGalleryDTO(savedAsset);
+            return applyReactionCount(asset, AigcGalleryAuditLogService.ACTION_LIKE, 1, 0);
         }
         return toGalleryDTO(asset);
     }
@@ -1800,10 +2026,7 @@ public class AigcServiceImpl implements AigcService {
     public GalleryDTO unlikeGalleryAsset(String assetId) {
         AigcAsset asset = findPublishedAsset(assetId);
         if (galleryReactionService.removeReaction(AigcGalleryReactionService.REACTION_LIKE, asset.getAssetId())) {
-            asset.setLikeCount(Math.max(0, resolveLikeCount(asset) - 1));
-            AigcAsset savedAsset = assetRepository.save(asset);
-            galleryAuditLogService.recordSuccess(AigcGalleryAuditLogService.ACTION_UNLIKE, savedAsset);
-            return toGalleryDTO(savedAsset);
+            return applyReactionCount(asset, AigcGalleryAuditLogService.ACTION_UNLIKE, -1, 0);
         }
         return toGalleryDTO(asset);
     }
@@ -1813,10 +2036,7 @@ public class AigcServiceImpl implements AigcService {
     public GalleryDTO favoriteGalleryAsset(String assetId) {
         AigcAsset asset = findPublishedAsset(assetId);
         if (galleryReactionService.addReaction(AigcGalleryReactionService.REACTION_FAVORITE, asset.getAssetId())) {
-            asset.setFavoriteCount(resolveFavoriteCount(asset) + 1);
-            AigcAsset savedAsset = assetRepository.save(asset);
-            galleryAuditLogService.recordSuccess(AigcGalleryAuditLogService.ACTION_FAVORITE, savedAsset);
-            return toGalleryDTO(savedAsset);
+            return applyReactionCount(asset, AigcGalleryAuditLogService.ACTION_FAVORITE, 0, 1);
         }
         return toGalleryDTO(asset);
     }
@@ -1826,19 +2046,48 @@ public class AigcServiceImpl implements AigcService {
     public GalleryDTO unfavoriteGalleryAsset(String assetId) {
         AigcAsset asset = findPublishedAsset(assetId);
         if (galleryReactionService.removeReaction(AigcGalleryReactionService.REACTION_FAVORITE, asset.getAssetId())) {
-            asset.setFavoriteCount(Math.max(0, resolveFavoriteCount(asset) - 1));
-            AigcAsset savedAsset = assetRepository.save(asset);
-            galleryAuditLogService.recordSuccess(AigcGalleryAuditLogService.ACTION_UNFAVORITE, savedAsset);
-            return toGalleryDTO(savedAsset);
+            return applyReactionCount(asset, AigcGalleryAuditLogService.ACTION_UNFAVORITE, 0, -1);
         }
         return toGalleryDTO(asset);
     }
 
+    /**
+     * 互动计数交给写回计数器原子累加，不再读改写资产整行；
+     * 响应先按当前可见计数构造，再叠加本次增量，避免与提交后才计入的增量重复。
+     */
+    private GalleryDTO applyReactionCount(AigcAsset asset, String action, int likeDelta, int favoriteDelta) {
+        GalleryDTO response = toGalleryDTO(asset);
+        if (likeDelta != 0) {
+            galleryCounterService.recordLike(asset.getAssetId(), likeDelta);
+        }
+        if (favoriteDelta != 0) {
+            galleryCounterService.recordFavorite(asset.getAssetId(), favoriteDelta);
+        }
+        authorStatsCache.onReactionChanged(resolveAuthorId(asset), likeDelta, favoriteDelta);
+        galleryAuditLogService.recordSuccess(action, asset);
+        response.setLikeCount(Math.max(0, response.getLikeCount() + likeDelta));
+        response.setFavoriteCount(Math.max(0, response.getFavoriteCount() + favoriteDelta));
+        return response;
+    }
+
+    /**
+     * 作品进出广场时把它的数量和当前可见计数累加到作者统计
+     */
+    private void notifyAuthorStatsPublishChanged(AigcAsset asset, boolean published) {
+        authorStatsCache.onPublishChanged(
+                resolveAuthorId(asset),
+                asset.getContentType(),
+                resolveLikeCount(asset),
+                resolveFavoriteCount(asset),
+                published
+        );
+    }
+
     @Override
     public PageResult<AssetDTO> getAssetList(Integer current, Integer size, String contentType) {
         PageRequest pageRequest = PageRequest.of(current - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         
-        Page<AigcAsset> page = assetRepository.findVisibleAssets(
+        Page<AigcAssetSummary> page = assetRepository.findVisibleAssetSummaries(
                 ownershipService.currentOwnerId(),
                 ownershipService.currentTenantId(),
                 parseContentType(contentType),
@@ -1852,6 +2101,26 @@ public class AigcServiceImpl implements AigcService {
         return PageResult.of(records, page.getTotalElements(), current, size);
     }
 
+    @Override
+    public CursorPageResponse<AssetDTO> getAssetFeed(String cursor, Integer size, String contentType) {
+        int pageSize = normalizeFeedSize(size);
+        List<AigcAssetSummary> rows = assetRepository.findVisibleAssetSummariesAfter(
+                ownershipService.currentOwnerId(),
+                ownershipService.currentTenantId(),
+                parseContentType(contentType),
+                AigcKeysetCursor.decode(cursor),
+                pageSize + 1);
+        return CursorPageResponse.fromLookahead(rows, pageSize, this::toKeysetCursor, this::toAssetDTO);
+    }
+
+    private int normalizeFeedSize(Integer size) {
+        return size != null && size > 0 ? Math.min(size, MAX_FEED_SIZE) : DEFAULT_FEED_SIZE;
+    }
+
+    private String toKeysetCursor(AigcAssetSummary asset) {
+        return new AigcKeysetCursor(asset.createdAt(), asset.id()).encode();
+    }
+
     @Override
     public AssetDetailResponse getAssetDetail(String assetId) {
         AigcAsset asset = findVisibleAsset(assetId)
@@ -1875,6 +2144,12 @@ public class AigcServiceImpl implements AigcService {
                 .orElseThrow(() -> new AigcException(AigcErrorCode.ASSET_NOT_FOUND));
         deleteAssetFiles(asset);
         assetRepository.deleteByAssetId(asset.getAssetId());
+        galleryTopicService.untagAsset(asset.getAssetId());
+        sharePayloadCache.evict(asset.getAssetId());
+        if (Boolean.TRUE.equals(asset.getIsPublished())) {
+            galleryFeedCache.invalidateAll();
+            notifyAuthorStatsPublishChanged(asset, false);
+        }
     }
 
     /**
@@ -1929,7 +2204,7 @@ public class AigcServiceImpl implements AigcService {
             return;
         }
         List<GalleryDTO> items = assets.stream()
-                .map(this::toGalleryDTO)
+                .map(this::toSharedGalleryDTO)
                 .toList();
         long totalLikeCount = assets.stream().mapToLong(this::resolveLikeCount).sum();
         long totalFavoriteCount = assets.stream().mapToLong(this::resolveFavoriteCount).sum();
@@ -1948,51 +2223,6 @@ public class AigcServiceImpl implements AigcService {
                 .build());
     }
 
-    private List<GalleryTopicDefinition> galleryTopicDefinitions() {
-        return List.of(
-                new GalleryTopicDefinition(
-                        "course-cover",
-                        "课程封面专题",
-                        "适合课程首屏、封面海报和教学物料的图片作品",
-                        "教学增长",
-                        "manual-topic:content-type=image,prompt=course|workshop|cover",
-                        ContentType.IMAGE,
-                        List.of("course", "workshop", "cover", "poster", "课程", "课堂", "封面", "海报", "教学"),
-                        "优先放在课程详情页、训练营海报和知识库封面"
-                ),
-                new GalleryTopicDefinition(
-                        "video-storyboard",
-                        "短视频样片专题",
-                        "适合短视频开场、分镜脚本和产品介绍的公开视频作品",
-                        "内容传播",
-                        "manual-topic:content-type=video,prompt=storyboard|trailer|short-video",
-                        ContentType.VIDEO,
-                        List.of("video", "storyboard", "trailer", "scene", "短视频", "视频", "分镜", "片头", "预告"),
-                        "适合作为运营活动页、短视频脚本和产品发布素材"
-                ),
-                new GalleryTopicDefinition(
-                        "audio-narration",
-                        "音频旁白专题",
-                        "适合播客、课程旁白和品牌声音记忆点的公开音频作品",
-                        "声音资产",
-                        "manual-topic:content-type=audio,prompt=voice|podcast|narration",
-                        ContentType.AUDIO,
-                        List.of("audio", "voice", "podcast", "narration", "音频", "声音", "播客", "旁白", "配音"),
-                        "适合沉淀为课程开场、作品介绍和品牌音色参考"
-                ),
-                new GalleryTopicDefinition(
-                        "share-ready",
-                        "高复用传播位",
-                        "按公开互动热度挑出的可分享、可下载、可复用 Prompt 作品",
-                        "分享转化",
-                        "manual-topic:ranking=likes+favorites*2",
-                        null,
-                        List.of(),
-                        "优先用于广场首屏、社群分享和 Prompt 复用教学"
-                )
-        );
-    }
-
     private GalleryCurationRuleResponse toGalleryTopicCurationRule(GalleryTopicDefinition definition) {
         return galleryCurationRule(
                 definition.id(),
@@ -2031,43 +2261,13 @@ public class AigcServiceImpl implements AigcService {
                 .build();
     }
 
-    private List<AigcAsset> selectTopicAssets(List<AigcAsset> candidates, List<String> promptTokens, int topicSize) {
-        if (candidates == null || candidates.isEmpty()) {
-            return List.of();
-        }
-        List<AigcAsset> matched = candidates.stream()
-                .filter(asset -> matchesPromptTokens(asset, promptTokens))
-                .limit(topicSize)
-                .toList();
-        if (!matched.isEmpty()) {
-            return matched;
-        }
-        return candidates.stream()
-                .limit(topicSize)
-                .toList();
-    }
-
-    private boolean matchesPromptTokens(AigcAsset asset, List<String> promptTokens) {
-        if (promptTokens == null || promptTokens.isEmpty()) {
-            return true;
-        }
-        String prompt = asset.getPrompt();
-        if (prompt == null || prompt.isBlank()) {
-            return false;
-        }
-        String normalizedPrompt = prompt.toLowerCase(Locale.ROOT);
-        return promptTokens.stream()
-                .map(token -> token.toLowerCase(Locale.ROOT))
-                .anyMatch(normalizedPrompt::contains);
-    }
-
     private void addGalleryTopic(List<GalleryTopicResponse> topics, GalleryTopicDefinition definition,
             ContentType contentType, List<AigcAsset> assets, String operationHint) {
         if (assets == null || assets.isEmpty()) {
             return;
         }
         List<GalleryDTO> items = assets.stream()
-                .map(this::toGalleryDTO)
+                .map(this::toSharedGalleryDTO)
                 .toList();
         long totalLikeCount = assets.stream().mapToLong(this::resolveLikeCount).sum();
         long totalFavoriteCount = assets.stream().mapToLong(this::resolveFavoriteCount).sum();
@@ -2088,17 +2288,6 @@ public class AigcServiceImpl implements AigcService {
                 .build());
     }
 
-    private record GalleryTopicDefinition(
-            String id,
-            String title,
-            String description,
-            String scenario,
-            String curationRule,
-            ContentType contentType,
-            List<String> promptTokens,
-            String operationHint) {
-    }
-
     private void deleteAssetFiles(AigcAsset asset) {
         deleteAssetFile(asset.getUrl(), asset.getAssetId(), "url");
         if (asset.getThumbnailUrl() != null && !asset.getThumbnailUrl().equals(asset.getUrl())) {
@@ -2107,6 +2296,11 @@ public class AigcServiceImpl implements AigcService {
     }
 
     private void deleteAssetFile(String url, String assetId, String fieldName) {
+        if (url != null && assetRepository.countOtherAssetsReferencingUrl(assetId, url) > 0) {
+            log.info("存储对象仍被其他资产引用，仅删除资产记录: assetId={}, field={}", assetId, fieldName);
+            return;
+        }
+        generationResultCache.evictByUrl(url);
         try {
             aigcStorageService.deleteByUrl(url);
         } catch (IOException e) {
@@ -2241,10 +2435,6 @@ public class AigcServiceImpl implements AigcService {
         return request.getReferenceMaterialIds();
     }
 
-    private String toMaterialIdPattern(String materialId) {
-        return "%\"" + materialId + "\"%";
-    }
-
     private MaterialDTO toMaterialDTO(AigcMaterial material) {
         return MaterialDTO.builder()
                 .id(material.getMaterialId())
@@ -2275,35 +2465,70 @@ public class AigcServiceImpl implements AigcService {
      * 转换为GalleryDTO
      */
     private GalleryDTO toGalleryDTO(AigcAsset asset) {
-        String previewUrl = buildGalleryPreviewUrl(asset);
+        return toGalleryDTO(AigcAssetSummary.from(asset));
+    }
+
+    private GalleryDTO toSharedGalleryDTO(AigcAsset asset) {
+        return toSharedGalleryDTO(AigcAssetSummary.from(asset));
+    }
+
+    private GalleryDTO toGalleryDTO(AigcAssetSummary asset) {
+        return withViewerFlags(toSharedGalleryDTO(asset));
+    }
+
+    /**
+     * 与访问者无关的广场作品视图，可放入公共榜单缓存
+     */
+    private GalleryDTO toSharedGalleryDTO(AigcAssetSummary asset) {
+        String previewUrl = ApiConstants.Aigc.GALLERY_ASSET_PREVIEW_FULL.replace("{assetId}", asset.assetId());
+        String authorId = normalizeAuthorId(asset.ownerId());
         return GalleryDTO.builder()
-                .id(asset.getAssetId())
-                .contentType(asset.getContentType())
+                .id(asset.assetId())
+                .contentType(asset.contentType())
                 .url(previewUrl)
-                .thumbnailUrl(asset.getContentType() == ContentType.IMAGE ? previewUrl : null)
+                .thumbnailUrl(asset.contentType() == ContentType.IMAGE ? previewUrl : null)
                 .previewUrl(previewUrl)
                 .publicAccessMode("published-preview")
-                .prompt(asset.getPrompt())
-                .model(asset.getModel())
-                .isPublished(asset.getIsPublished())
-                .createdAt(asset.getCreatedAt())
-                .authorId(resolveAuthorId(asset))
-                .authorName(resolveAuthorName(asset))
-                .likeCount(resolveLikeCount(asset))
+                .prompt(asset.promptPreview())
+                .promptTruncated(asset.promptTruncated())
+                .model(asset.model())
+                .isPublished(asset.isPublished())
+                .createdAt(asset.createdAt())
+                .authorId(authorId)
+                .authorName(resolveAuthorName(authorId))
+                .likeCount(galleryCounterService.mergedLikeCount(asset.assetId(), asset.likeCount()))
+                .favoriteCount(galleryCounterService.mergedFavoriteCount(asset.assetId(), asset.favoriteCount()))
+                .build();
+    }
+
+    /**
+     * 在共享视图的副本上叠加当前访问者的点赞/收藏状态，不修改缓存中的对象
+     */
+    private GalleryDTO withViewerFlags(GalleryDTO shared) {
+        if (shared == null) {
+            return null;
+        }
+        return shared.toBuilder()
                 .likedByCurrentUser(galleryReactionService.hasReaction(
-                        AigcGalleryReactionService.REACTION_LIKE, asset.getAssetId()))
-                .favoriteCount(resolveFavoriteCount(asset))
+                        AigcGalleryReactionService.REACTION_LIKE, shared.getId()))
                 .favoritedByCurrentUser(galleryReactionService.hasReaction(
-                        AigcGalleryReactionService.REACTION_FAVORITE, asset.getAssetId()))
+                        AigcGalleryReactionService.REACTION_FAVORITE, shared.getId()))
                 .build();
     }
 
+    private List<GalleryDTO> withViewerFlags(List<GalleryDTO> shared) {
+        if (shared == null) {
+            return null;
+        }
+        return shared.stream().map(this::withViewerFlags).toList();
+    }
+
     private int resolveLikeCount(AigcAsset asset) {
-        return asset.getLikeCount() == null ? 0 : asset.getLikeCount();
+        return galleryCounterService.mergedLikeCount(asset.getAssetId(), asset.getLikeCount());
     }
 
     private int resolveFavoriteCount(AigcAsset asset) {
-        return asset.getFavoriteCount() == null ? 0 : asset.getFavoriteCount();
+        return galleryCounterService.mergedFavoriteCount(asset.getAssetId(), asset.getFavoriteCount());
     }
 
     private List<GalleryDTO> resolveTopAuthorAssets(String authorId, boolean anonymousOwner) {
@@ -2312,12 +2537,12 @@ public class AigcServiceImpl implements AigcService {
                 AUTHOR_TOP_ASSET_CANDIDATE_SIZE,
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
-        return assetRepository.searchPublishedByOwner(authorId, anonymousOwner, null, topCandidateRequest)
+        return assetRepository.searchPublishedSummariesByOwner(authorId, anonymousOwner, null, topCandidateRequest)
                 .getContent()
                 .stream()
                 .sorted(this::compareAuthorAssetInteraction)
                 .limit(AUTHOR_TOP_ASSET_LIMIT)
-                .map(this::toGalleryDTO)
+                .map(this::toSharedGalleryDTO)
                 .collect(Collectors.toList());
     }
 
@@ -2325,9 +2550,10 @@ public class AigcServiceImpl implements AigcService {
             AigcAssetRepository.PublishedAuthorRankingProjection projection) {
         String authorId = normalizeAuthorId(projection.getAuthorId());
         boolean anonymousOwner = ANONYMOUS_AUTHOR_ID.equals(authorId);
-        long imageCount = assetRepository.countPublishedByOwner(authorId, anonymousOwner, ContentType.IMAGE);
-        long videoCount = assetRepository.countPublishedByOwner(authorId, anonymousOwner, ContentType.VIDEO);
-        long audioCount = assetRepository.countPublishedByOwner(authorId, anonymousOwner, ContentType.AUDIO);
+        AigcGalleryAuthorStatsCache.AuthorStats stats = authorStatsCache.get(authorId, anonymousOwner);
+        long imageCount = stats.publishedCount(ContentType.IMAGE);
+        long videoCount = stats.publishedCount(ContentType.VIDEO);
+        long audioCount = stats.publishedCount(ContentType.AUDIO);
         long totalLikeCount = safeLong(projection.getTotalLikeCount());
         long totalFavoriteCount = safeLong(projection.getTotalFavoriteCount());
 
@@ -2346,13 +2572,13 @@ public class AigcServiceImpl implements AigcService {
                 .build();
     }
 
-    private int compareAuthorAssetInteraction(AigcAsset left, AigcAsset right) {
+    private int compareAuthorAssetInteraction(AigcAssetSummary left, AigcAssetSummary right) {
         int scoreCompare = Integer.compare(authorAssetInteractionScore(right), authorAssetInteractionScore(left));
         if (scoreCompare != 0) {
             return scoreCompare;
         }
-        LocalDateTime leftCreatedAt = left.getCreatedAt();
-        LocalDateTime rightCreatedAt = right.getCreatedAt();
+        LocalDateTime leftCreatedAt = left.createdAt();
+        LocalDateTime rightCreatedAt = right.createdAt();
         if (leftCreatedAt == null && rightCreatedAt == null) {
             return 0;
         }
@@ -2365,8 +2591,9 @@ public class AigcServiceImpl implements AigcService {
         return rightCreatedAt.compareTo(leftCreatedAt);
     }
 
-    private int authorAssetInteractionScore(AigcAsset asset) {
-        return resolveLikeCount(asset) + resolveFavoriteCount(asset);
+    private int authorAssetInteractionScore(AigcAssetSummary asset) {
+        return galleryCounterService.mergedLikeCount(asset.assetId(), asset.likeCount())
+                + galleryCounterService.mergedFavoriteCount(asset.assetId(), asset.favoriteCount());
     }
 
     private long heatScore(long likeCount, long favoriteCount) {
@@ -2463,15 +2690,20 @@ public class AigcServiceImpl implements AigcService {
      * 转换为AssetDTO
      */
     private AssetDTO toAssetDTO(AigcAsset asset) {
+        return toAssetDTO(AigcAssetSummary.from(asset));
+    }
+
+    private AssetDTO toAssetDTO(AigcAssetSummary asset) {
         return AssetDTO.builder()
-                .id(asset.getAssetId())
-                .contentType(asset.getContentType())
-                .url(asset.getUrl())
-                .thumbnailUrl(asset.getThumbnailUrl())
-                .prompt(asset.getPrompt())
-                .model(asset.getModel())
-                .isPublished(asset.getIsPublished())
-                .createdAt(asset.getCreatedAt())
+                .id(asset.assetId())
+                .contentType(asset.contentType())
+                .url(asset.url())
+                .thumbnailUrl(asset.thumbnailUrl())
+                .prompt(asset.promptPreview())
+                .promptTruncated(asset.promptTruncated())
+                .model(asset.model())
+                .isPublished(asset.isPublished())
+                .createdAt(asset.createdAt())
                 .build();
     }
 }
@@ -2,7 +2,9 @@ package com.anjing.aigc.service.storage;
 
 import com.anjing.aigc.config.AigcProperties;
 import com.anjing.aigc.model.entity.AigcStorageAuditLog;
+import com.anjing.aigc.model.response.CursorPageResponse;
 import com.anjing.aigc.model.response.StorageAuditLogResponse;
+import com.anjing.aigc.repository.AigcKeysetCursor;
 import com.anjing.aigc.repository.AigcStorageAuditLogRepository;
 import com.anjing.aigc.service.AigcOwnershipService;
 import com.anjing.context.GlobalRequestContextHolder;
@@ -64,6 +66,28 @@ public class AigcStorageAuditLogService {
         );
     }
 
+    /**
+     * 审计日志键集分页：按 (createdAt, id) 从游标位置继续读取，不统计总数。
+     */
+    public CursorPageResponse<StorageAuditLogResponse> getAuditLogFeed(String cursor, Integer size,
+            String action, String backend, Boolean success) {
+        int pageSize = size != null && size > 0 ? Math.min(size, 100) : 10;
+        Specification<AigcStorageAuditLog> specification = buildAuditSpecification(action, backend, success);
+        AigcKeysetCursor keysetCursor = AigcKeysetCursor.decode(cursor);
+        if (keysetCursor != null) {
+            specification = specification.and(keysetCursor.after());
+        }
+        List<AigcStorageAuditLog> rows = auditLogRepository.findBy(specification, query -> query
+                .sortBy(AigcKeysetCursor.NEWEST_FIRST)
+                .limit(pageSize + 1)
+                .all());
+        return CursorPageResponse.fromLookahead(
+                rows,
+                pageSize,
+                logEntry -> new AigcKeysetCursor(logEntry.getCreatedAt(), logEntry.getId()).encode(),
+                this::toResponse);
+    }
+
     private void record(String action, String backend, String directory, String fileName,
             String url, Long sizeBytes, boolean success, Exception error) {
         if (!aigcProperties.getStorage().getOss().isCleanupAuditEnabled()) {
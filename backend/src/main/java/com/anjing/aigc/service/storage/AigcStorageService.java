@@ -1,11 +1,14 @@
 package com.anjing.aigc.service.storage;
 
 import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.enums.ContentType;
 import com.anjing.aigc.model.response.AigcStorageDownloadResource;
+import com.anjing.aigc.model.response.GenerationResult;
 import com.anjing.aigc.model.response.StorageBackendStatusResponse;
 import com.anjing.aigc.model.response.StorageStatusResponse;
 import com.anjing.util.DateUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
@@ -16,15 +19,20 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.HexFormat;
 import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AigcStorageService {
 
     private static final String MODE_LOCAL = "LOCAL";
     private static final String MODE_OSS = "OSS";
+    private static final String GENERATED_DIRECTORY = "generated";
 
     private final AigcProperties aigcProperties;
     private final LocalAigcStorageService localAigcStorageService;
@@ -126,6 +134,71 @@ public class AigcStorageService {
         }
     }
 
+    /**
+     * 受管存储对象是否仍存在；外部 URL 和 data URL 无法校验，按存在处理。
+     */
+    public boolean exists(String url) throws IOException {
+        if (url == null || url.isBlank()) {
+            return false;
+        }
+        if (isDataUrl(url)) {
+            return true;
+        }
+        Boolean inOss = ossAigcStorageService.exists(url);
+        if (inOss != null) {
+            return inOss;
+        }
+        Boolean inLocal = localAigcStorageService.exists(url);
+        return inLocal == null || inLocal;
+    }
+
+    /**
+     * 把 data URL 落成受管存储对象并返回短 URL；非 data URL 原样返回。
+     *
+     * <p>文件名取内容摘要，同样的 Mock 输出只会保存一份对象。</p>
+     */
+    public String offloadDataUrl(String url, String directory) throws IOException {
+        if (!isDataUrl(url)) {
+            return url;
+        }
+        DecodedDataUrl decoded = decodeDataUrl(url);
+        String fileName = sha256Hex(decoded.bytes()).substring(0, 32) + resolveDataUrlExtension(decoded.contentType());
+        return saveBytes(directory, fileName, decoded.bytes());
+    }
+
+    /**
+     * 按内容类型把生成产物的 data URL 落到 generated/{type} 目录。
+     */
+    public String offloadGeneratedDataUrl(String url, ContentType contentType) throws IOException {
+        String directory = contentType == null
+                ? GENERATED_DIRECTORY
+                : GENERATED_DIRECTORY + "/" + contentType.name().toLowerCase(Locale.ROOT);
+        return offloadDataUrl(url, directory);
+    }
+
+    /**
+     * 生成结果持久化前调用：把 Provider 返回的 data URL 改写为受管存储 URL。
+     *
+     * <p>落盘失败时保留原始 data URL，不影响生成任务完成。</p>
+     */
+    public void offloadGeneratedDataUrls(GenerationResult result) {
+        if (result == null || !result.isSuccess()
+                || (!isDataUrl(result.getUrl()) && !isDataUrl(result.getThumbnailUrl()))) {
+            return;
+        }
+        try {
+            String originalUrl = result.getUrl();
+            String url = offloadGeneratedDataUrl(originalUrl, result.getContentType());
+            String thumbnailUrl = result.getThumbnailUrl() != null && result.getThumbnailUrl().equals(originalUrl)
+                    ? url
+                    : offloadGeneratedDataUrl(result.getThumbnailUrl(), result.getContentType());
+            result.setUrl(url);
+            result.setThumbnailUrl(thumbnailUrl);
+        } catch (IOException | RuntimeException e) {
+            log.warn("生成结果 data URL 落盘失败，保留原始 URL: taskId={}", result.getTaskId(), e);
+        }
+    }
+
     public AigcStorageDownloadResource resolveDownload(String url, String fileName) throws IOException {
         if (isDataUrl(url)) {
             return resolveDataUrlDownload(url, fileName);
@@ -156,6 +229,16 @@ public class AigcStorageService {
     }
 
     private AigcStorageDownloadResource resolveDataUrlDownload(String url, String fileName) throws IOException {
+        DecodedDataUrl decoded = decodeDataUrl(url);
+        return AigcStorageDownloadResource.builder()
+                .resource(new ByteArrayResource(decoded.bytes()))
+                .fileName(resolveDownloadFileName(fileName, url))
+                .contentType(decoded.contentType())
+                .contentLength((long) decoded.bytes().length)
+                .build();
+    }
+
+    private DecodedDataUrl decodeDataUrl(String url) throws IOException {
         int commaIndex = url.indexOf(',');
         if (commaIndex <= "data:".length()) {
             throw new IOException("无效 data URL");
@@ -171,12 +254,31 @@ public class AigcStorageService {
         } catch (IllegalArgumentException e) {
             throw new IOException("无效 data URL 内容", e);
         }
-        return AigcStorageDownloadResource.builder()
-                .resource(new ByteArrayResource(bytes))
-                .fileName(resolveDownloadFileName(fileName, url))
-                .contentType(contentType)
-                .contentLength((long) bytes.length)
-                .build();
+        return new DecodedDataUrl(contentType, bytes);
+    }
+
+    private String resolveDataUrlExtension(String contentType) {
+        return switch (contentType.toLowerCase(Locale.ROOT)) {
+            case "image/svg+xml" -> ".svg";
+            case "image/png" -> ".png";
+            case "image/jpeg" -> ".jpg";
+            case "image/webp" -> ".webp";
+            case "image/gif" -> ".gif";
+            case "video/mp4" -> ".mp4";
+            case "video/webm" -> ".webm";
+            case "audio/mpeg" -> ".mp3";
+            case "audio/wav" -> ".wav";
+            case "audio/ogg" -> ".ogg";
+            default -> ".bin";
+        };
+    }
+
+    private String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     private String resolveDataUrlContentType(String metadata) {
@@ -319,7 +421,7 @@ public class AigcStorageService {
         return value != null && !value.isBlank() && !value.startsWith("<");
     }
 
-    private boolean isDataUrl(String url) {
+    public boolean isDataUrl(String url) {
         return url != null && url.startsWith("data:");
     }
 
@@ -343,6 +445,7 @@ public class AigcStorageService {
         if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) return "image/jpeg";
         if (lower.endsWith(".webp")) return "image/webp";
         if (lower.endsWith(".gif")) return "image/gif";
+        if (lower.endsWith(".svg")) return "image/svg+xml";
         if (lower.endsWith(".mp4")) return "video/mp4";
         if (lower.endsWith(".mov")) return "video/quicktime";
         if (lower.endsWith(".webm")) return "video/webm";
@@ -351,4 +454,7 @@ public class AigcStorageService {
         if (lower.endsWith(".ogg")) return "audio/ogg";
         return "application/octet-stream";
     }
+
+    private record DecodedDataUrl(String contentType, byte[] bytes) {
+    }
 }
@@ -72,6 +72,14 @@ public class LocalAigcStorageService {
         return deleted;
     }
 
+    /**
+     * 本地文件是否存在；URL 不在本地前缀下时返回 null，表示不由本地存储管理。
+     */
+    public Boolean exists(String url) throws IOException {
+        Path path = resolvePathByUrl(url);
+        return path == null ? null : Files.isRegularFile(path);
+    }
+
     public Resource getResourceByUrl(String url) throws IOException {
         Path path = resolvePathByUrl(url);
         if (path == null || !Files.isRegularFile(path)) {
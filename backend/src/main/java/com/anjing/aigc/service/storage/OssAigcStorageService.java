@@ -12,8 +12,11 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
@@ -84,6 +87,34 @@ public class OssAigcStorageService {
         return deleteObject(objectKey);
     }
 
+    /**
+     * OSS 对象是否存在；URL 无法解析成本 bucket 的对象时返回 null，表示不由 OSS 管理。
+     */
+    public Boolean exists(String url) throws IOException {
+        if (url == null || url.isBlank() || !isConfigured()) {
+            return null;
+        }
+        String objectKey = resolveObjectKeyFromUrl(url);
+        if (!hasText(objectKey)) {
+            return null;
+        }
+        HeadObjectRequest request = HeadObjectRequest.builder()
+                .bucket(config().getBucketName())
+                .key(objectKey)
+                .build();
+        try {
+            client().headObject(request);
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw new IOException("OSS 对象检查失败: " + objectKey, e);
+        }
+    }
+
     public String buildAuthorizedDownloadUrl(String url) throws IOException {
         ensureConfigured();
         String objectKey = resolveObjectKeyFromUrl(url);
@@ -1,28 +1,28 @@
 package com.anjing.aspect;
 
+import com.anjing.config.properties.RequestLogProperties;
 import com.anjing.context.GlobalRequestContextHolder;
 import com.anjing.model.errorcode.ErrorCode;
 import com.anjing.model.exception.BizException;
 import com.anjing.model.exception.SystemException;
 import com.anjing.model.response.APIResponse;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 统一日志处理切面
@@ -34,6 +34,9 @@ import java.util.Set;
  * 4. 异常日志处理
  * 
  * 通过AOP面向切面编程，零侵入完成对接口信息的监控
+ *
+ * 入参/出参按字符预算流式序列化并脱敏（见 LogPayloadWriter），可按路由抽样；
+ * INFO 关闭时不做任何序列化。输出经 logback 异步 appender 写出。
  * 
  * @author Backend Template
  * @since 2025-01-20
@@ -41,12 +44,13 @@ import java.util.Set;
 @Aspect
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class ControllerLogAspect
 {
 
-    private static final String FILTERED_VALUE = "***FILTERED***";
-    private static final Set<String> SENSITIVE_FIELD_NAMES = Set.of(
+    private static final String FILTERED_VALUE = LogPayloadWriter.FILTERED_VALUE;
+    private static final String SAMPLED_OUT = "-";
+    private static final AntPathMatcher ROUTE_MATCHER = new AntPathMatcher();
+    static final Set<String> SENSITIVE_FIELD_NAMES = Set.of(
             "password",
             "credential",
             "apiKey",
@@ -58,13 +62,24 @@ public class ControllerLogAspect
             "authorization"
     );
 
-    private final ObjectMapper objectMapper;
+    private final RequestLogProperties requestLogProperties;
+    private final LogPayloadWriter payloadWriter;
+
+    /**
+     * 路由模式到入参/出参抽样率的解析结果
+     */
+    private final Map<String, Double> routeSampleRates = new ConcurrentHashMap<>();
 
     /**
      * 线程本地变量存储请求上下文
      */
     private final ThreadLocal<RequestContext> requestContextHolder = new ThreadLocal<>();
 
+    public ControllerLogAspect(ObjectMapper objectMapper, RequestLogProperties requestLogProperties) {
+        this.requestLogProperties = requestLogProperties;
+        this.payloadWriter = new LogPayloadWriter(objectMapper, SENSITIVE_FIELD_NAMES);
+    }
+
     /**
      * 定义切点：Controller包下的所有方法
      */
@@ -77,16 +92,26 @@ public class ControllerLogAspect
     @Around("controllerMethod()")
     public Object aroundMethod(ProceedingJoinPoint joinPoint) throws Throwable
     {
+        if (!log.isErrorEnabled()) {
+            return joinPoint.proceed();
+        }
         RequestContext context = createRequestContext(joinPoint);
         if (context == null) {
             return joinPoint.proceed();
         }
 
+        boolean infoEnabled = log.isInfoEnabled();
+        context.setPayloadSampled(infoEnabled && samplePayload(context.getRoute()));
         requestContextHolder.set(context);
-        logRequestStart(context);
+        if (infoEnabled) {
+            logRequestStart(context);
+        }
 
         try {
             Object result = joinPoint.proceed();
+            if (!infoEnabled) {
+                return result;
+            }
             long executionTime = System.currentTimeMillis() - context.getStartTime();
 
             log.info("API_REQUEST_END | requestId={} | path={} | httpMethod={} | controller={} | action={} | durationMs={} | errorCode={} | result={}",
@@ -97,7 +122,7 @@ public class ControllerLogAspect
                     context.getMethodName(),
                     executionTime,
                     resolveResultCode(result),
-                    formatResult(result));
+                    context.isPayloadSampled() ? formatResult(result) : SAMPLED_OUT);
 
             return result;
         } catch (Throwable e) {
@@ -131,6 +156,7 @@ public class ControllerLogAspect
             context.setStartTime(System.currentTimeMillis());
             context.setRequestId(resolveRequestId());
             context.setPath(request.getRequestURI());
+            context.setRoute(resolveRoute(request));
             context.setUrl(request.getRequestURL().toString());
             context.setMethod(request.getMethod());
             context.setIp(getClientIp(request));
@@ -153,7 +179,37 @@ public class ControllerLogAspect
                 getSimpleClassName(context.getClassName()),
                 context.getMethodName(),
                 context.getIp(),
-                formatArgs(context.getArgs()));
+                context.isPayloadSampled() ? formatArgs(context.getArgs()) : SAMPLED_OUT);
+    }
+
+    /**
+     * 优先使用匹配到的路由模式，同一接口的不同路径参数共用一个抽样率
+     */
+    private String resolveRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String route ? route : null;
+    }
+
+    private boolean samplePayload(String route) {
+        double rate = route == null
+                ? requestLogProperties.getPayloadSampleRate()
+                : routeSampleRates.computeIfAbsent(route, this::resolveSampleRate);
+        if (rate >= 1.0) {
+            return true;
+        }
+        if (rate <= 0.0) {
+            return false;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private double resolveSampleRate(String route) {
+        for (Map.Entry<String, Double> entry : requestLogProperties.getRoutePayloadSampleRates().entrySet()) {
+            if (entry.getValue() != null && ROUTE_MATCHER.match(entry.getKey(), route)) {
+                return entry.getValue();
+            }
+        }
+        return requestLogProperties.getPayloadSampleRate();
     }
 
     /**
@@ -236,21 +292,9 @@ public class ControllerLogAspect
         if (args == null || args.length == 0) {
             return "[]";
         }
-        
+
         try {
-            // 过滤敏感信息
-            Object[] filteredArgs = Arrays.stream(args)
-                    .map(this::sanitizeForLog)
-                    .toArray();
-            
-            String jsonArgs = objectMapper.writeValueAsString(filteredArgs);
-            
-            // 限制日志长度
-            if (jsonArgs.length() > 1000) {
-                return jsonArgs.substring(0, 1000) + "...";
-            }
-            return jsonArgs;
-            
+            return payloadWriter.writeArgs(args, requestLogProperties.getPayloadMaxChars());
         } catch (Exception e) {
             return maskSensitiveText(Arrays.toString(args));
         }
@@ -263,69 +307,12 @@ public class ControllerLogAspect
         if (result == null) {
             return "null";
         }
-        
-        try {
-            String jsonResult = objectMapper.writeValueAsString(sanitizeForLog(result));
-            
-            // 限制日志长度
-            if (jsonResult.length() > 1000) {
-                return jsonResult.substring(0, 1000) + "...";
-            }
-            return jsonResult;
-            
-        } catch (Exception e) {
-            return maskSensitiveText(result.toString());
-        }
-    }
-
-    /**
-     * 过滤敏感数据
-     */
-    private Object sanitizeForLog(Object value) {
-        if (value == null) {
-            return null;
-        }
 
         try {
-            JsonNode node = objectMapper.valueToTree(value);
-            redactJsonNode(node);
-            return node;
+            return payloadWriter.write(result, requestLogProperties.getPayloadMaxChars());
         } catch (Exception e) {
-            return maskSensitiveText(value.toString());
-        }
-    }
-
-    private void redactJsonNode(JsonNode node) {
-        if (node == null) {
-            return;
-        }
-        if (node.isObject()) {
-            ObjectNode objectNode = (ObjectNode) node;
-            Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields();
-            while (fields.hasNext()) {
-                Map.Entry<String, JsonNode> field = fields.next();
-                if (isSensitiveField(field.getKey())) {
-                    objectNode.put(field.getKey(), FILTERED_VALUE);
-                } else {
-                    redactJsonNode(field.getValue());
-                }
-            }
-            return;
-        }
-        if (node.isArray()) {
-            ArrayNode arrayNode = (ArrayNode) node;
-            for (JsonNode item : arrayNode) {
-                redactJsonNode(item);
-            }
-        }
-    }
-
-    private boolean isSensitiveField(String fieldName) {
-        if (fieldName == null) {
-            return false;
+            return maskSensitiveText(result.toString());
         }
-        return SENSITIVE_FIELD_NAMES.stream()
-                .anyMatch(sensitiveField -> sensitiveField.equalsIgnoreCase(fieldName));
     }
 
     private String maskSensitiveText(String text) {
@@ -349,6 +336,7 @@ public class ControllerLogAspect
         private long startTime;
         private String requestId;
         private String path;
+        private String route;
         private String url;
         private String method;
         private String ip;
@@ -356,6 +344,7 @@ public class ControllerLogAspect
         private String className;
         private String methodName;
         private Object[] args;
+        private boolean payloadSampled;
 
         // getters and setters
         public long getStartTime() { return startTime; }
@@ -367,6 +356,9 @@ public class ControllerLogAspect
         public String getPath() { return path; }
         public void setPath(String path) { this.path = path; }
         
+        public String getRoute() { return route; }
+        public void setRoute(String route) { this.route = route; }
+
         public String getUrl() { return url; }
         public void setUrl(String url) { this.url = url; }
         
@@ -387,5 +379,8 @@ public class ControllerLogAspect
         
         public Object[] getArgs() { return args; }
         public void setArgs(Object[] args) { this.args = args; }
+
+        public boolean isPayloadSampled() { return payloadSampled; }
+        public void setPayloadSampled(boolean payloadSampled) { this.payloadSampled = payloadSampled; }
     }
 }
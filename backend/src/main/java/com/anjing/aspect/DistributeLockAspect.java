@@ -17,15 +17,20 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.core.StandardReflectionParameterNameDiscoverer;
 import org.springframework.core.annotation.Order;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -152,10 +157,25 @@ import java.util.concurrent.TimeUnit;
 public class DistributeLockAspect
 {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DistributeLockAspect.class);
+
+    /**
+     * MIXED：表达式解释执行若干次后编译为字节码，之后加锁直接走编译结果。编译结果按第一次见到的参数类型生成，
+     * 参数换成其他实现类或变成 null 导致编译代码失败时回退到解释执行，而不是像 IMMEDIATE 那样把异常抛给加锁调用
+     */
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, DistributeLockAspect.class.getClassLoader()));
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new StandardReflectionParameterNameDiscoverer();
+
     private final RedissonClient redissonClient;
     private final LocalLockManager localLockManager;
     private final String lockProvider;
 
+    /**
+     * 每个加锁方法解析一次的锁 key 模板：场景前缀、已解析的 SpEL 表达式和参数名
+     */
+    private final Map<Method, LockKeyTemplate> lockKeyTemplates = new ConcurrentHashMap<>();
+
     public DistributeLockAspect(
             ObjectProvider<RedissonClient> redissonClientProvider,
             ObjectProvider<LocalLockManager> localLockManagerProvider,
@@ -166,49 +186,12 @@ public class DistributeLockAspect
         this.lockProvider = lockProvider;
     }
 
-    private static final Logger LOG = LoggerFactory.getLogger(DistributeLockAspect.class);
-
     @Around("@annotation(com.anjing.annotation.DistributeLock)")
     public Object process(ProceedingJoinPoint pjp) throws Exception {
         Method method = ((MethodSignature) pjp.getSignature()).getMethod();
         DistributeLock distributeLock = method.getAnnotation(DistributeLock.class);
 
-        String key = distributeLock.key();
-        if (DistributeLockConstant.NONE_KEY.equals(key)) {
-            if (DistributeLockConstant.NONE_KEY.equals(distributeLock.keyExpression())) {
-                throw new SystemException(LockErrorCode.LOCK_KEY_MISSING);
-            }
-            try {
-                SpelExpressionParser parser = new SpelExpressionParser();
-                Expression expression = parser.parseExpression(distributeLock.keyExpression());
-
-                EvaluationContext context = new StandardEvaluationContext();
-                // 获取参数值
-                Object[] args = pjp.getArgs();
-
-                // 获取运行时参数的名称
-                StandardReflectionParameterNameDiscoverer discoverer
-                        = new StandardReflectionParameterNameDiscoverer();
-                String[] parameterNames = discoverer.getParameterNames(method);
-
-                // 将参数绑定到context中
-                if (parameterNames != null) {
-                    for (int i = 0; i < parameterNames.length; i++) {
-                        context.setVariable(parameterNames[i], args[i]);
-                    }
-                }
-
-                // 解析表达式，获取结果
-                key = String.valueOf(expression.getValue(context));
-            } catch (Exception e) {
-                LOG.error("SpEL expression parse error: {}", distributeLock.keyExpression(), e);
-                throw new SystemException(LockErrorCode.LOCK_EXPRESSION_ERROR);
-            }
-        }
-
-        String scene = distributeLock.scene();
-
-        String lockKey = scene + "#" + key;
+        String lockKey = resolveLockKey(method, distributeLock, pjp.getArgs());
 
         long expireTime = distributeLock.expireTime();
         long waitTime = distributeLock.waitTime();
@@ -224,6 +207,27 @@ public class DistributeLockAspect
         throw new SystemException(LockErrorCode.LOCK_CONFIG_ERROR);
     }
 
+    String resolveLockKey(Method method, DistributeLock distributeLock, Object[] args) {
+        LockKeyTemplate template = lockKeyTemplates.computeIfAbsent(method, m -> LockKeyTemplate.of(m, distributeLock));
+        if (template.expression() == null) {
+            return template.prefix() + template.fixedKey();
+        }
+        try {
+            EvaluationContext context = new StandardEvaluationContext();
+            // 将参数绑定到context中
+            String[] parameterNames = template.parameterNames();
+            if (parameterNames != null) {
+                for (int i = 0; i < parameterNames.length && i < args.length; i++) {
+                    context.setVariable(parameterNames[i], args[i]);
+                }
+            }
+            return template.prefix() + template.expression().getValue(context);
+        } catch (Exception e) {
+            LOG.error("SpEL expression parse error: {}", distributeLock.keyExpression(), e);
+            throw new SystemException(LockErrorCode.LOCK_EXPRESSION_ERROR);
+        }
+    }
+
     private Object processWithRedissonLock(
             ProceedingJoinPoint pjp,
             String lockKey,
@@ -242,19 +246,21 @@ public class DistributeLockAspect
         try {
             if (waitTime == DistributeLockConstant.DEFAULT_WAIT_TIME) {
                 if (expireTime == DistributeLockConstant.DEFAULT_EXPIRE_TIME) {
-                    LOG.info(String.format("lock for key : %s", lockKey));
+                    LOG.debug("lock for key : {}", lockKey);
                     rLock.lock();
                 } else {
-                    LOG.info(String.format("lock for key : %s , expire : %s", lockKey, expireTime));
+                    LOG.debug("lock for key : {} , expire : {}", lockKey, expireTime);
                     rLock.lock(expireTime, TimeUnit.SECONDS);
                 }
                 lockResult = true;
             } else {
                 if (expireTime == DistributeLockConstant.DEFAULT_EXPIRE_TIME) {
-                    LOG.info(String.format("try lock for key : %s , wait : %s", lockKey, waitTime));
+                    LOG.debug("try lock for key : {} , wait : {}", lockKey, waitTime);
                     lockResult = rLock.tryLock(waitTime, TimeUnit.SECONDS);
                 } else {
-                    LOG.info(String.format("try lock for key : %s , expire : %s , wait : %s", lockKey, expireTime, waitTime));
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("try lock for key : {} , expire : {} , wait : {}", lockKey, expireTime, waitTime);
+                    }
                     lockResult = rLock.tryLock(waitTime, expireTime, TimeUnit.SECONDS);
                 }
             }
@@ -268,12 +274,12 @@ public class DistributeLockAspect
         }
 
         if (!lockResult) {
-            LOG.warn(String.format("lock failed for key : %s , expire : %s", lockKey, expireTime));
+            LOG.warn("lock failed for key : {} , expire : {}", lockKey, expireTime);
             throw new SystemException(LockErrorCode.LOCK_ACQUIRE_FAILED);
         }
 
         try {
-            LOG.info(String.format("lock success for key : %s , expire : %s", lockKey, expireTime));
+            LOG.debug("lock success for key : {} , expire : {}", lockKey, expireTime);
             response = pjp.proceed();
         } catch (Throwable e) {
             throw new Exception(e);
@@ -281,7 +287,7 @@ public class DistributeLockAspect
             try {
                 if (rLock.isHeldByCurrentThread()) {
                     rLock.unlock();
-                    LOG.info(String.format("unlock for key : %s , expire : %s", lockKey, expireTime));
+                    LOG.debug("unlock for key : {} , expire : {}", lockKey, expireTime);
                 }
             } catch (Exception e) {
                 LOG.error("Failed to release lock for key: {}", lockKey, e);
@@ -306,11 +312,11 @@ public class DistributeLockAspect
 
         try {
             if (waitTime == DistributeLockConstant.DEFAULT_WAIT_TIME) {
-                LOG.info(String.format("local lock for key : %s", lockKey));
+                LOG.debug("local lock for key : {}", lockKey);
                 localLockManager.lock(lockKey, expireTime);
                 lockResult = true;
             } else {
-                LOG.info(String.format("try local lock for key : %s , wait : %s", lockKey, waitTime));
+                LOG.debug("try local lock for key : {} , wait : {}", lockKey, waitTime);
                 lockResult = localLockManager.tryLock(lockKey, waitTime, expireTime);
             }
         } catch (Exception e) {
@@ -319,22 +325,51 @@ public class DistributeLockAspect
         }
 
         if (!lockResult) {
-            LOG.warn(String.format("local lock failed for key : %s , expire : %s", lockKey, expireTime));
+            LOG.warn("local lock failed for key : {} , expire : {}", lockKey, expireTime);
             throw new SystemException(LockErrorCode.LOCK_ACQUIRE_FAILED);
         }
 
         try {
-            LOG.info(String.format("local lock success for key : %s , expire : %s", lockKey, expireTime));
+            LOG.debug("local lock success for key : {} , expire : {}", lockKey, expireTime);
             return pjp.proceed();
         } catch (Throwable e) {
             throw new Exception(e);
         } finally {
             try {
                 localLockManager.unlock(lockKey);
-                LOG.info(String.format("local unlock for key : %s , expire : %s", lockKey, expireTime));
+                LOG.debug("local unlock for key : {} , expire : {}", lockKey, expireTime);
             } catch (Exception e) {
                 LOG.error("Failed to release local lock for key: {}", lockKey, e);
             }
         }
     }
+
+    /**
+     * 锁 key 模板；key 与 keyExpression 为空或为 NONE 时视为未配置，固定 key 优先
+     */
+    private record LockKeyTemplate(String prefix, String fixedKey, Expression expression, String[] parameterNames) {
+
+        private static LockKeyTemplate of(Method method, DistributeLock distributeLock) {
+            String prefix = distributeLock.scene() + "#";
+            if (isConfigured(distributeLock.key())) {
+                return new LockKeyTemplate(prefix, distributeLock.key(), null, null);
+            }
+            if (!isConfigured(distributeLock.keyExpression())) {
+                throw new SystemException(LockErrorCode.LOCK_KEY_MISSING);
+            }
+            Expression expression;
+            try {
+                expression = PARSER.parseExpression(distributeLock.keyExpression());
+            } catch (Exception e) {
+                LOG.error("SpEL expression parse error: {}", distributeLock.keyExpression(), e);
+                throw new SystemException(LockErrorCode.LOCK_EXPRESSION_ERROR);
+            }
+            // 获取运行时参数的名称
+            return new LockKeyTemplate(prefix, null, expression, PARAMETER_NAME_DISCOVERER.getParameterNames(method));
+        }
+
+        private static boolean isConfigured(String value) {
+            return value != null && !value.isEmpty() && !DistributeLockConstant.NONE_KEY.equals(value);
+        }
+    }
 }
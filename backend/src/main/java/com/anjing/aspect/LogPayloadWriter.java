@@ -0,0 +1,563 @@
+package com.anjing.aspect;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.validation.Errors;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 接口日志用的流式 JSON 序列化：边序列化边脱敏，写满字符预算立即停止。
+ *
+ * <p>直接把参数/返回值写进包装过的 JsonGenerator，不再先转成 JsonNode 树再整体转字符串后截断；
+ * 敏感字段名写出后值替换为占位符并跳过原值（含嵌套对象和数组），超出预算时中断遍历，
+ * 100 条作品的分页响应也只序列化前 1000 个字符左右。</p>
+ */
+final class LogPayloadWriter {
+
+    static final String FILTERED_VALUE = "***FILTERED***";
+    static final String TRUNCATED_SUFFIX = "...";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+    private final Set<String> sensitiveFieldNames;
+
+    LogPayloadWriter(ObjectMapper objectMapper, Set<String> sensitiveFieldNames) {
+        this.objectMapper = objectMapper;
+        this.objectWriter = objectMapper.writer();
+        this.sensitiveFieldNames = sensitiveFieldNames.stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    String write(Object value, int maxChars) throws IOException {
+        return serialize(maxChars, generator -> objectWriter.writeValue(generator, value));
+    }
+
+    /**
+     * 按数组写出控制器参数；请求、响应、上传文件等框架对象只写类型名
+     */
+    String writeArgs(Object[] args, int maxChars) throws IOException {
+        return serialize(maxChars, generator -> {
+            generator.writeStartArray();
+            for (Object arg : args) {
+                if (isFrameworkObject(arg)) {
+                    generator.writeString("<" + arg.getClass().getSimpleName() + ">");
+                } else {
+                    objectWriter.writeValue(generator, arg);
+                }
+            }
+            generator.writeEndArray();
+        });
+    }
+
+    private String serialize(int maxChars, PayloadBody body) throws IOException {
+        int budget = Math.max(1, maxChars);
+        BoundedSink sink = new BoundedSink(budget);
+        JsonGenerator target = objectMapper.getFactory().createGenerator(sink);
+        target.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        RedactingGenerator generator = new RedactingGenerator(target, sink, budget);
+        try {
+            body.writeTo(generator);
+        } catch (BudgetExceededException e) {
+            // 预算已满，丢弃剩余内容
+        } finally {
+            flushQuietly(target);
+        }
+        return sink.exceeded() ? sink.content() + TRUNCATED_SUFFIX : sink.content();
+    }
+
+    private boolean isFrameworkObject(Object arg) {
+        return arg instanceof ServletRequest
+                || arg instanceof ServletResponse
+                || arg instanceof WebRequest
+                || arg instanceof InputStreamSource
+                || arg instanceof Errors;
+    }
+
+    private boolean isSensitive(String fieldName) {
+        return fieldName != null && sensitiveFieldNames.contains(fieldName.toLowerCase(Locale.ROOT));
+    }
+
+    private void flushQuietly(JsonGenerator generator) {
+        try {
+            generator.flush();
+        } catch (IOException | RuntimeException ignored) {
+            // 截断后生成器可能处于未闭合状态，已写入的前缀仍然有效
+        }
+    }
+
+    @FunctionalInterface
+    private interface PayloadBody {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * 只保留前 maxChars 个字符的输出目标，超出部分直接丢弃
+     */
+    private static final class BoundedSink extends Writer {
+
+        private final StringBuilder buffer;
+        private final int maxChars;
+        private boolean exceeded;
+
+        private BoundedSink(int maxChars) {
+            this.buffer = new StringBuilder(Math.min(maxChars, 4096));
+            this.maxChars = maxChars;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            int remaining = maxChars - buffer.length();
+            if (length > remaining) {
+                exceeded = true;
+            }
+            if (remaining > 0) {
+                buffer.append(chars, offset, Math.min(length, remaining));
+            }
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            int remaining = maxChars - buffer.length();
+            if (length > remaining) {
+                exceeded = true;
+            }
+            if (remaining > 0) {
+                buffer.append(text, offset, offset + Math.min(length, remaining));
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private int length() {
+            return buffer.length();
+        }
+
+        private boolean exceeded() {
+            return exceeded;
+        }
+
+        private void markExceeded() {
+            exceeded = true;
+        }
+
+        private String content() {
+            return buffer.toString();
+        }
+    }
+
+    /**
+     * 预算用尽时中断序列化；继承 IOException 使 Jackson 序列化器原样抛出而不包装
+     */
+    private static final class BudgetExceededException extends IOException {
+
+        private BudgetExceededException() {
+            super("log payload budget exceeded", null);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * 脱敏并计量输出的生成器：敏感字段的值写成占位符并吞掉原值；每次写出后检查已写出和缓冲中的字符数
+     */
+    private final class RedactingGenerator extends JsonGeneratorDelegate {
+
+        private final BoundedSink sink;
+        private final int budget;
+        /**
+         * 大于等于 0 时正在跳过敏感字段的原值，数值为跳过部分内的嵌套深度
+         */
+        private int skipDepth = -1;
+
+        private RedactingGenerator(JsonGenerator target, BoundedSink sink, int budget) {
+            super(target, false);
+            this.sink = sink;
+            this.budget = budget;
+        }
+
+        @Override
+        public void writeFieldName(String name) throws IOException {
+            if (skipDepth > 0) {
+                return;
+            }
+            delegate.writeFieldName(name);
+            redactIfSensitive(name);
+            checkBudget();
+        }
+
+        @Override
+        public void writeFieldName(SerializableString name) throws IOException {
+            if (skipDepth > 0) {
+                return;
+            }
+            delegate.writeFieldName(name);
+            redactIfSensitive(name.getValue());
+            checkBudget();
+        }
+
+        @Override
+        public void writeFieldId(long id) throws IOException {
+            writeFieldName(Long.toString(id));
+        }
+
+        @Override
+        public void writeStartArray() throws IOException {
+            if (!skipStart()) {
+                delegate.writeStartArray();
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeStartArray(int size) throws IOException {
+            if (!skipStart()) {
+                delegate.writeStartArray(size);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeStartArray(Object currentValue) throws IOException {
+            if (!skipStart()) {
+                delegate.writeStartArray(currentValue);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeStartArray(Object currentValue, int size) throws IOException {
+            if (!skipStart()) {
+                delegate.writeStartArray(currentValue, size);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeEndArray() throws IOException {
+            if (!skipEnd()) {
+                delegate.writeEndArray();
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeStartObject() throws IOException {
+            if (!skipStart()) {
+                delegate.writeStartObject();
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeStartObject(Object currentValue) throws IOException {
+            if (!skipStart()) {
+                delegate.writeStartObject(currentValue);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeStartObject(Object currentValue, int size) throws IOException {
+            if (!skipStart()) {
+                delegate.writeStartObject(currentValue, size);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeEndObject() throws IOException {
+            if (!skipEnd()) {
+                delegate.writeEndObject();
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeArray(int[] array, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeArray(array, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeArray(long[] array, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeArray(array, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeArray(double[] array, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeArray(array, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeArray(String[] array, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeArray(array, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeString(String text) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeString(text);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeString(Reader reader, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeString(reader, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeString(char[] text, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeString(text, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeString(SerializableString text) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeString(text);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeRawUTF8String(byte[] text, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeRawUTF8String(text, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeUTF8String(byte[] text, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeUTF8String(text, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeRawValue(String text) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeRawValue(text);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeRawValue(String text, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeRawValue(text, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeRawValue(char[] text, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeRawValue(text, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeBinary(Base64Variant variant, byte[] data, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeBinary(variant, data, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public int writeBinary(Base64Variant variant, InputStream data, int dataLength) throws IOException {
+            if (skipScalar()) {
+                return 0;
+            }
+            int written = delegate.writeBinary(variant, data, dataLength);
+            checkBudget();
+            return written;
+        }
+
+        @Override
+        public void writeNumber(short value) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeNumber(value);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeNumber(int value) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeNumber(value);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeNumber(long value) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeNumber(value);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeNumber(BigInteger value) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeNumber(value);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeNumber(double value) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeNumber(value);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeNumber(float value) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeNumber(value);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeNumber(BigDecimal value) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeNumber(value);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeNumber(String encodedValue) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeNumber(encodedValue);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeNumber(char[] encodedValue, int offset, int length) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeNumber(encodedValue, offset, length);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeBoolean(boolean state) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeBoolean(state);
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeNull() throws IOException {
+            if (!skipScalar()) {
+                delegate.writeNull();
+                checkBudget();
+            }
+        }
+
+        @Override
+        public void writeEmbeddedObject(Object object) throws IOException {
+            if (!skipScalar()) {
+                delegate.writeEmbeddedObject(object);
+                checkBudget();
+            }
+        }
+
+        private void redactIfSensitive(String name) throws IOException {
+            if (isSensitive(name)) {
+                delegate.writeString(FILTERED_VALUE);
+                skipDepth = 0;
+            }
+        }
+
+        private boolean skipScalar() {
+            if (skipDepth < 0) {
+                return false;
+            }
+            if (skipDepth == 0) {
+                skipDepth = -1;
+            }
+            return true;
+        }
+
+        private boolean skipStart() {
+            if (skipDepth < 0) {
+                return false;
+            }
+            skipDepth++;
+            return true;
+        }
+
+        private boolean skipEnd() {
+            if (skipDepth < 0) {
+                return false;
+            }
+            skipDepth--;
+            if (skipDepth == 0) {
+                skipDepth = -1;
+            }
+            return true;
+        }
+
+        private void checkBudget() throws IOException {
+            if (sink.length() + delegate.getOutputBuffered() > budget) {
+                sink.markExceeded();
+                throw new BudgetExceededException();
+            }
+        }
+    }
+}
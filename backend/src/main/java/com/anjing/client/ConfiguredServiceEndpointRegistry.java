@@ -4,11 +4,16 @@ import com.anjing.config.properties.RemoteHttpClientProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Configuration-backed service endpoint registry.
+ *
+ * <p>A comma-separated base URL value defines several endpoints for one service.</p>
  */
 @RequiredArgsConstructor
 public class ConfiguredServiceEndpointRegistry implements ServiceEndpointRegistry {
@@ -17,18 +22,48 @@ public class ConfiguredServiceEndpointRegistry implements ServiceEndpointRegistr
 
     private final RemoteHttpClientProperties properties;
 
+    /**
+     * Parsed endpoint lists keyed by service id; re-parsed only when the configured value changes.
+     */
+    private final Map<String, ParsedEndpoints> parsedEndpoints = new ConcurrentHashMap<>();
+
     @Override
     public Optional<ServiceEndpoint> findEndpoint(String serviceId) {
+        List<ServiceEndpoint> endpoints = findEndpoints(serviceId);
+        return endpoints.isEmpty() ? Optional.empty() : Optional.of(endpoints.get(0));
+    }
+
+    @Override
+    public List<ServiceEndpoint> findEndpoints(String serviceId) {
         if (!StringUtils.hasText(serviceId)) {
-            return Optional.empty();
+            return List.of();
         }
 
         Map<String, String> serviceBaseUrls = properties.getServiceBaseUrls();
-        String baseUrl = serviceBaseUrls == null ? null : serviceBaseUrls.get(serviceId);
-        if (!StringUtils.hasText(baseUrl)) {
-            return Optional.empty();
+        String baseUrls = serviceBaseUrls == null ? null : serviceBaseUrls.get(serviceId);
+        if (!StringUtils.hasText(baseUrls)) {
+            return List.of();
+        }
+
+        ParsedEndpoints parsed = parsedEndpoints.get(serviceId);
+        if (parsed == null || !parsed.baseUrls().equals(baseUrls)) {
+            parsed = new ParsedEndpoints(baseUrls, parse(serviceId, baseUrls));
+            parsedEndpoints.put(serviceId, parsed);
         }
+        return parsed.endpoints();
+    }
+
+    private List<ServiceEndpoint> parse(String serviceId, String baseUrls) {
+        List<ServiceEndpoint> endpoints = new ArrayList<>();
+        for (String baseUrl : StringUtils.commaDelimitedListToStringArray(baseUrls)) {
+            baseUrl = baseUrl.trim();
+            if (StringUtils.hasText(baseUrl)) {
+                endpoints.add(new ServiceEndpoint(serviceId, baseUrl, SOURCE));
+            }
+        }
+        return List.copyOf(endpoints);
+    }
 
-        return Optional.of(new ServiceEndpoint(serviceId, baseUrl, SOURCE));
+    private record ParsedEndpoints(String baseUrls, List<ServiceEndpoint> endpoints) {
     }
 }
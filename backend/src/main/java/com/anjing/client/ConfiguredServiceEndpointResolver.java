@@ -2,25 +2,80 @@ package com.anjing.client;
 
 import com.anjing.model.errorcode.RemoteErrorCode;
 import com.anjing.model.exception.SystemException;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+
 /**
  * Registry-backed service endpoint resolver.
+ *
+ * <p>Services with several endpoints are balanced per attempt by {@link ServiceEndpointBalancer};
+ * single-endpoint services skip the balancer entirely.</p>
  */
 @Component
-@RequiredArgsConstructor
 public class ConfiguredServiceEndpointResolver implements ServiceEndpointResolver {
 
     private final ServiceEndpointRegistry serviceEndpointRegistry;
+    private final ServiceEndpointBalancer serviceEndpointBalancer;
+
+    public ConfiguredServiceEndpointResolver(ServiceEndpointRegistry serviceEndpointRegistry) {
+        this(serviceEndpointRegistry, null);
+    }
+
+    @Autowired
+    public ConfiguredServiceEndpointResolver(
+            ServiceEndpointRegistry serviceEndpointRegistry,
+            ServiceEndpointBalancer serviceEndpointBalancer
+    ) {
+        this.serviceEndpointRegistry = serviceEndpointRegistry;
+        this.serviceEndpointBalancer = serviceEndpointBalancer;
+    }
 
     @Override
     public String resolveUrl(String serviceId, String path) {
+        List<ServiceEndpoint> endpoints = requireEndpoints(serviceId);
+        if (endpoints == null) {
+            ServiceEndpoint endpoint = requireEndpoint(serviceId);
+            return joinUrl(endpoint.baseUrl(), path);
+        }
+        return joinUrl(serviceEndpointBalancer.peek(serviceId, endpoints).baseUrl(), path);
+    }
+
+    @Override
+    public ServiceEndpointAttempt beginAttempt(String serviceId, String path) {
+        List<ServiceEndpoint> endpoints = requireEndpoints(serviceId);
+        if (endpoints == null) {
+            ServiceEndpoint endpoint = requireEndpoint(serviceId);
+            return new ServiceEndpointAttempt(serviceId, null, joinUrl(endpoint.baseUrl(), path));
+        }
+        ServiceEndpoint endpoint = serviceEndpointBalancer.acquire(serviceId, endpoints);
+        return new ServiceEndpointAttempt(serviceId, endpoint.baseUrl(), joinUrl(endpoint.baseUrl(), path));
+    }
+
+    @Override
+    public void endAttempt(ServiceEndpointAttempt attempt, boolean endpointFailure, long durationNanos) {
+        if (serviceEndpointBalancer != null && attempt != null && attempt.baseUrl() != null) {
+            serviceEndpointBalancer.release(attempt.serviceId(), attempt.baseUrl(), endpointFailure, durationNanos);
+        }
+    }
+
+    /**
+     * Returns the endpoint list when the balancer applies, or null for the single-endpoint path.
+     */
+    private List<ServiceEndpoint> requireEndpoints(String serviceId) {
         if (!StringUtils.hasText(serviceId)) {
             throw new SystemException("远程 HTTP serviceId 不能为空", RemoteErrorCode.REMOTE_CALL_PARAM_ERROR);
         }
+        if (serviceEndpointBalancer == null) {
+            return null;
+        }
+        List<ServiceEndpoint> endpoints = serviceEndpointRegistry.findEndpoints(serviceId);
+        return endpoints.size() > 1 ? endpoints : null;
+    }
 
+    private ServiceEndpoint requireEndpoint(String serviceId) {
         ServiceEndpoint endpoint = serviceEndpointRegistry.findEndpoint(serviceId).orElse(null);
         if (endpoint == null || !StringUtils.hasText(endpoint.baseUrl())) {
             throw new SystemException(
@@ -28,11 +83,10 @@ public class ConfiguredServiceEndpointResolver implements ServiceEndpointResolve
                     RemoteErrorCode.REMOTE_CALL_PARAM_ERROR
             );
         }
-
-        return joinUrl(endpoint.baseUrl(), path);
+        return endpoint;
     }
 
-    private String joinUrl(String baseUrl, String path) {
+    static String joinUrl(String baseUrl, String path) {
         String normalizedBase = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
         if (!StringUtils.hasText(path)) {
             return normalizedBase;
@@ -0,0 +1,81 @@
+package com.anjing.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default observer that records remote calls as Micrometer meters.
+ *
+ * <p>Each call feeds a latency timer with a percentile histogram, an error counter tagged with the
+ * error code on failure, and an in-flight gauge; tags come from {@link RemoteCallMetrics#seriesTags}.
+ * Slow calls also go to the {@link RemoteCallMetrics} buffer. Custom observers can keep the built-in
+ * metrics by delegating to an instance of this class.</p>
+ */
+public class MetricsRemoteCallObserver implements RemoteCallObserver {
+
+    private final RemoteCallMetrics remoteCallMetrics;
+    private final int maxSeries;
+    private final Map<Tags, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public MetricsRemoteCallObserver(RemoteCallMetrics remoteCallMetrics, int maxSeries) {
+        this.remoteCallMetrics = remoteCallMetrics;
+        this.maxSeries = Math.max(1, maxSeries);
+    }
+
+    @Override
+    public void onStart(RemoteCallPolicyContext context) {
+        AtomicInteger active = inFlight(
+                remoteCallMetrics.seriesTags(context.targetService(), context.method(), context.path(), context.callerId()));
+        if (active != null) {
+            active.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onComplete(RemoteCallObservation observation) {
+        Tags tags = remoteCallMetrics.seriesTags(
+                observation.targetService(), observation.method(), observation.path(), observation.callerId());
+        AtomicInteger active = inFlight.get(tags);
+        if (active != null) {
+            active.updateAndGet(current -> Math.max(0, current - 1));
+        }
+        Timer.builder(RemoteCallMetrics.CALLS)
+                .description("Outbound remote call latency")
+                .tags(tags)
+                .publishPercentiles(0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(remoteCallMetrics.registry())
+                .record(observation.durationMs(), TimeUnit.MILLISECONDS);
+        if (!observation.success()) {
+            Counter.builder(RemoteCallMetrics.ERRORS)
+                    .description("Failed outbound remote calls by error code")
+                    .tags(tags)
+                    .tag(RemoteCallMetrics.TAG_ERROR, errorCode(observation.errorCode()))
+                    .register(remoteCallMetrics.registry())
+                    .increment();
+        }
+        remoteCallMetrics.recordSlowCall(observation);
+    }
+
+    /**
+     * The gauge holds a weak reference, so the counter lives in this map; beyond maxSeries new series are not tracked
+     */
+    private AtomicInteger inFlight(Tags tags) {
+        AtomicInteger active = inFlight.get(tags);
+        if (active != null || inFlight.size() >= maxSeries) {
+            return active;
+        }
+        return inFlight.computeIfAbsent(tags, key -> remoteCallMetrics.registry()
+                .gauge(RemoteCallMetrics.ACTIVE, key, new AtomicInteger()));
+    }
+
+    private static String errorCode(String errorCode) {
+        return errorCode == null || errorCode.isBlank() ? RemoteCallMetrics.UNKNOWN : errorCode;
+    }
+}
@@ -1,7 +1,7 @@
 package com.anjing.client;
 
 /**
- * Default no-op observer that keeps the scaffold dependency-free.
+ * No-op observer used when app.remote-http.metrics.enabled is false.
  */
 public class NoopRemoteCallObserver implements RemoteCallObserver {
 }
@@ -0,0 +1,83 @@
+package com.anjing.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Fan-out helpers for aggregating several async remote calls.
+ *
+ * <pre>
+ * CompletableFuture&lt;UserView&gt; user = remoteHttpClient.getFromServiceAsync("infra-auth", "/api/auth/me", UserView.class);
+ * CompletableFuture&lt;QuotaView&gt; quota = remoteHttpClient.getFromServiceAsync("infra-api-gateway", "/api/quota", QuotaView.class);
+ * RemoteCallFanOut.allSettled(List.of(user, quota)).orTimeout(2, TimeUnit.SECONDS);
+ * </pre>
+ */
+public final class RemoteCallFanOut {
+
+    private RemoteCallFanOut() {
+    }
+
+    /**
+     * Completes with all results in input order, or fails with the first failure and cancels the calls still
+     * running so a broken dependency does not keep the others retrying.
+     */
+    public static <R> CompletableFuture<List<R>> all(List<? extends CompletableFuture<? extends R>> calls) {
+        List<CompletableFuture<? extends R>> snapshot = List.copyOf(calls);
+        CompletableFuture<List<R>> result = new CompletableFuture<>();
+        for (CompletableFuture<? extends R> call : snapshot) {
+            call.whenComplete((ignored, error) -> {
+                if (error != null && result.completeExceptionally(unwrap(error))) {
+                    snapshot.forEach(other -> other.cancel(false));
+                }
+            });
+        }
+        CompletableFuture.allOf(snapshot.toArray(CompletableFuture[]::new)).whenComplete((ignored, error) -> {
+            if (error == null) {
+                List<R> values = new ArrayList<>(snapshot.size());
+                snapshot.forEach(call -> values.add(call.join()));
+                result.complete(values);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for every call and keeps per-call outcomes, for aggregators that can render partial results.
+     */
+    public static <R> CompletableFuture<List<RemoteCallOutcome<R>>> allSettled(
+            List<? extends CompletableFuture<? extends R>> calls
+    ) {
+        List<CompletableFuture<RemoteCallOutcome<R>>> outcomes = new ArrayList<>(calls.size());
+        for (CompletableFuture<? extends R> call : calls) {
+            outcomes.add(call.handle((value, error) -> error == null
+                    ? RemoteCallOutcome.success(value)
+                    : RemoteCallOutcome.failure(unwrap(error))));
+        }
+        return CompletableFuture.allOf(outcomes.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> outcomes.stream().map(CompletableFuture::join).toList());
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Result of one call in a settled fan-out.
+     */
+    public record RemoteCallOutcome<R>(R value, Throwable error) {
+
+        public static <R> RemoteCallOutcome<R> success(R value) {
+            return new RemoteCallOutcome<>(value, null);
+        }
+
+        public static <R> RemoteCallOutcome<R> failure(Throwable error) {
+            return new RemoteCallOutcome<>(null, error);
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.anjing.client;
+
+import com.anjing.config.properties.RemoteHttpClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Meter names, tag bounding and the admin view of outbound remote call metrics.
+ *
+ * <p>{@link MetricsRemoteCallObserver} records a {@value #CALLS} timer, a {@value #ERRORS} counter and a
+ * {@value #ACTIVE} gauge per target service, method, path template and caller id. Path segments that
+ * look like ids (numbers, UUIDs, long hex or mixed tokens) are folded into {id}, and meter filters deny
+ * new series once {@code maxSeries} path templates or callers are in use, so tag cardinality stays bounded
+ * no matter what callers send. The report reads those meters back from the registry; only the buffer of
+ * recent slow calls, which carries request and trace ids that do not belong in tags, is kept here.</p>
+ */
+public class RemoteCallMetrics {
+
+    public static final String CALLS = "remote.call";
+    public static final String ERRORS = "remote.call.errors";
+    public static final String ACTIVE = "remote.call.active";
+
+    static final String TAG_SERVICE = "service";
+    static final String TAG_METHOD = "method";
+    static final String TAG_URI = "uri";
+    static final String TAG_CALLER = "caller";
+    static final String TAG_ERROR = "error";
+    static final String ID_SEGMENT = "{id}";
+    static final String UNKNOWN = "unknown";
+
+    private static final int MAX_PATH_CACHE = 2000;
+    private static final int MAX_ERROR_CODES = 32;
+
+    private final RemoteHttpClientProperties.Metrics properties;
+    private final MeterRegistry registry;
+    private final Map<String, String> pathTemplates = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<SlowRemoteCall> slowCalls;
+    private final AtomicLong slowCallCursor = new AtomicLong();
+
+    public RemoteCallMetrics(RemoteHttpClientProperties.Metrics properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+        this.slowCalls = new AtomicReferenceArray<>(Math.max(1, properties.getSlowCallBufferSize()));
+        int maxSeries = Math.max(1, properties.getMaxSeries());
+        registry.config()
+                .meterFilter(MeterFilter.maximumAllowableTags(CALLS, TAG_URI, maxSeries, MeterFilter.deny()))
+                .meterFilter(MeterFilter.maximumAllowableTags(CALLS, TAG_CALLER, maxSeries, MeterFilter.deny()))
+                .meterFilter(MeterFilter.maximumAllowableTags(ERRORS, TAG_ERROR, MAX_ERROR_CODES, MeterFilter.deny()));
+    }
+
+    public MeterRegistry registry() {
+        return registry;
+    }
+
+    /**
+     * Series tags of one call; the path is reduced to its template
+     */
+    public Tags seriesTags(String targetService, String method, String path, String callerId) {
+        return Tags.of(
+                TAG_SERVICE, valueOrUnknown(targetService),
+                TAG_METHOD, valueOrUnknown(method),
+                TAG_URI, template(path),
+                TAG_CALLER, valueOrUnknown(callerId));
+    }
+
+    public void recordSlowCall(RemoteCallObservation observation) {
+        if (observation.durationMs() < properties.getSlowCallThresholdMs()) {
+            return;
+        }
+        int index = (int) (slowCallCursor.getAndIncrement() % slowCalls.length());
+        slowCalls.set(index, new SlowRemoteCall(
+                System.currentTimeMillis(),
+                observation.targetService(),
+                observation.method(),
+                observation.path(),
+                observation.callerId(),
+                observation.requestId(),
+                observation.traceId(),
+                observation.durationMs(),
+                observation.success(),
+                observation.errorCode()));
+    }
+
+    public RemoteCallMetricsReport report(int limit) {
+        Map<Tags, Map<String, Long>> errorCodes = new LinkedHashMap<>();
+        for (Counter counter : registry.find(ERRORS).counters()) {
+            errorCodes.computeIfAbsent(seriesTags(counter.getId()), ignored -> new LinkedHashMap<>())
+                    .merge(counter.getId().getTag(TAG_ERROR), (long) counter.count(), Long::sum);
+        }
+        Map<Tags, Integer> inFlightBySeries = new LinkedHashMap<>();
+        int inFlight = 0;
+        for (Gauge gauge : registry.find(ACTIVE).gauges()) {
+            int value = (int) gauge.value();
+            inFlightBySeries.merge(seriesTags(gauge.getId()), value, Integer::sum);
+            inFlight += value;
+        }
+
+        List<RemoteCallSeriesMetric> metrics = new ArrayList<>();
+        long calls = 0;
+        long errors = 0;
+        for (Timer timer : registry.find(CALLS).timers()) {
+            Tags tags = seriesTags(timer.getId());
+            Map<String, Long> codes = errorCodes.getOrDefault(tags, Map.of());
+            long count = timer.count();
+            long errorCount = codes.values().stream().mapToLong(Long::longValue).sum();
+            double totalMillis = timer.totalTime(TimeUnit.MILLISECONDS);
+            ValueAtPercentile[] percentiles = timer.takeSnapshot().percentileValues();
+            metrics.add(new RemoteCallSeriesMetric(
+                    timer.getId().getTag(TAG_SERVICE),
+                    timer.getId().getTag(TAG_METHOD),
+                    timer.getId().getTag(TAG_URI),
+                    timer.getId().getTag(TAG_CALLER),
+                    count,
+                    errorCount,
+                    count == 0 ? 0.0 : (double) errorCount / count,
+                    inFlightBySeries.getOrDefault(tags, 0),
+                    totalMillis,
+                    count == 0 ? 0.0 : totalMillis / count,
+                    percentile(percentiles, 0.95),
+                    percentile(percentiles, 0.99),
+                    timer.max(TimeUnit.MILLISECONDS),
+                    codes));
+            calls += count;
+            errors += errorCount;
+        }
+        metrics.sort(Comparator.comparingDouble(RemoteCallSeriesMetric::totalMillis).reversed());
+        return new RemoteCallMetricsReport(
+                calls,
+                errors,
+                inFlight,
+                properties.getSlowCallThresholdMs(),
+                metrics.subList(0, Math.min(Math.max(0, limit), metrics.size())),
+                recentSlowCalls());
+    }
+
+    /**
+     * Path with id-like segments replaced and the query string dropped
+     */
+    static String pathTemplate(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        int query = path.indexOf('?');
+        String rawPath = query >= 0 ? path.substring(0, query) : path;
+        StringBuilder template = new StringBuilder(rawPath.length());
+        int start = 0;
+        while (start <= rawPath.length()) {
+            int end = rawPath.indexOf('/', start);
+            if (end < 0) {
+                end = rawPath.length();
+            }
+            if (start > 0) {
+                template.append('/');
+            }
+            String segment = rawPath.substring(start, end);
+            template.append(isIdSegment(segment) ? ID_SEGMENT : segment);
+            start = end + 1;
+        }
+        return template.toString();
+    }
+
+    private static boolean isIdSegment(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        int digits = 0;
+        int hex = 0;
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (Character.isDigit(c)) {
+                digits++;
+            }
+            if (Character.digit(c, 16) >= 0 || c == '-') {
+                hex++;
+            }
+        }
+        if (digits == segment.length()) {
+            return true;
+        }
+        if (hex == segment.length() && segment.length() >= 16) {
+            return true;
+        }
+        return digits > 0 && segment.length() >= 16;
+    }
+
+    private String template(String path) {
+        String template = pathTemplates.get(path == null ? "" : path);
+        if (template == null) {
+            template = pathTemplate(path);
+            if (path != null && pathTemplates.size() < MAX_PATH_CACHE) {
+                pathTemplates.put(path, template);
+            }
+        }
+        return template;
+    }
+
+    private static Tags seriesTags(Meter.Id id) {
+        return Tags.of(
+                TAG_SERVICE, id.getTag(TAG_SERVICE),
+                TAG_METHOD, id.getTag(TAG_METHOD),
+                TAG_URI, id.getTag(TAG_URI),
+                TAG_CALLER, id.getTag(TAG_CALLER));
+    }
+
+    private static String valueOrUnknown(String value) {
+        return value == null || value.isBlank() ? UNKNOWN : value;
+    }
+
+    private static double percentile(ValueAtPercentile[] percentiles, double percentile) {
+        for (ValueAtPercentile value : percentiles) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0.0;
+    }
+
+    private List<SlowRemoteCall> recentSlowCalls() {
+        long cursor = slowCallCursor.get();
+        int size = slowCalls.length();
+        List<SlowRemoteCall> recent = new ArrayList<>(size);
+        for (long i = cursor - 1; i >= Math.max(0, cursor - size); i--) {
+            SlowRemoteCall call = slowCalls.get((int) (i % size));
+            if (call != null) {
+                recent.add(call);
+            }
+        }
+        return recent;
+    }
+
+    public record RemoteCallMetricsReport(
+            long calls,
+            long errors,
+            int inFlight,
+            long slowCallThresholdMs,
+            List<RemoteCallSeriesMetric> series,
+            List<SlowRemoteCall> slowCalls) {
+    }
+
+    public record RemoteCallSeriesMetric(
+            String targetService,
+            String method,
+            String path,
+            String callerId,
+            long calls,
+            long errors,
+            double errorRate,
+            int inFlight,
+            double totalMillis,
+            double avgMillis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis,
+            Map<String, Long> errorCodes) {
+    }
+
+    public record SlowRemoteCall(
+            long finishedAt,
+            String targetService,
+            String method,
+            String path,
+            String callerId,
+            String requestId,
+            String traceId,
+            long durationMs,
+            boolean success,
+            String errorCode) {
+    }
+}
@@ -3,12 +3,19 @@ package com.anjing.client;
 /**
  * Observation hook for completed outbound remote calls.
  *
- * <p>The scaffold ships a no-op implementation. Downstream services can replace
- * it with audit persistence, metrics, tracing, or governance dashboards without
- * changing remote call sites.</p>
+ * <p>The scaffold records Micrometer call metrics by default and falls back to a no-op
+ * implementation when they are disabled. Downstream services can replace it with audit
+ * persistence, metrics, tracing, or governance dashboards without changing remote call sites.</p>
  */
 public interface RemoteCallObserver {
 
+    /**
+     * Called when a remote call starts, before policy checks; every call that starts is
+     * completed with exactly one {@link #onComplete} later, so in-flight counts stay balanced.
+     */
+    default void onStart(RemoteCallPolicyContext context) {
+    }
+
     /**
      * Called once after a remote call succeeds, fails, or is rejected by policy.
      */
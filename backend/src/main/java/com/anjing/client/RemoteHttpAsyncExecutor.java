@@ -0,0 +1,62 @@
+package com.anjing.client;
+
+import com.anjing.config.async.RequestContextTaskDecorator;
+import com.anjing.config.properties.RemoteHttpClientProperties;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Threads behind the async RemoteHttpClient API.
+ *
+ * <p>Attempts run on a bounded pool separate from the application task executor, so slow downstream
+ * services cannot starve other @Async work. Retries wait on a single timer thread instead of sleeping
+ * in a pool thread. The caller's request context and MDC are captured once per call and applied to
+ * every attempt, including retries fired from the timer.</p>
+ */
+public class RemoteHttpAsyncExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final RequestContextTaskDecorator contextDecorator;
+
+    public RemoteHttpAsyncExecutor(RemoteHttpClientProperties.Async config, RequestContextTaskDecorator contextDecorator) {
+        CustomizableThreadFactory workerFactory = new CustomizableThreadFactory(config.getThreadNamePrefix());
+        workerFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(
+                config.getCorePoolSize(),
+                Math.max(config.getCorePoolSize(), config.getMaxPoolSize()),
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                workerFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+
+        CustomizableThreadFactory timerFactory = new CustomizableThreadFactory(config.getThreadNamePrefix() + "retry-");
+        timerFactory.setDaemon(true);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, timerFactory);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.contextDecorator = contextDecorator;
+    }
+
+    /**
+     * Executor bound to the calling thread's request context.
+     */
+    public Executor contextBoundExecutor() {
+        return contextDecorator.bindCurrentContext(executor);
+    }
+
+    public ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdown();
+    }
+}
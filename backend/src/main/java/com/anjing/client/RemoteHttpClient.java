@@ -1,13 +1,14 @@
 package com.anjing.client;
 
+import com.anjing.config.async.RequestContextTaskDecorator;
 import com.anjing.config.properties.RemoteHttpClientProperties;
 import com.anjing.context.GlobalRequestContextHolder;
 import com.anjing.model.errorcode.RemoteErrorCode;
 import com.anjing.model.exception.SystemException;
 import com.anjing.model.request.GlobalRequestContext;
 import com.anjing.util.RemoteCallWrapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
@@ -21,6 +22,8 @@ import org.springframework.web.client.RestClientResponseException;
 import java.net.URI;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 /**
@@ -30,7 +33,6 @@ import java.util.function.Function;
  * audit logs consistent before the scaffold evolves into multiple services.</p>
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RemoteHttpClient {
 
@@ -40,6 +42,39 @@ public class RemoteHttpClient {
     private final RemoteCallerResolver remoteCallerResolver;
     private final RemoteCallPolicy remoteCallPolicy;
     private final RemoteCallObserver remoteCallObserver;
+    private final RemoteHttpAsyncExecutor asyncExecutor;
+
+    public RemoteHttpClient(
+            RestClient remoteRestClient,
+            RemoteHttpClientProperties properties,
+            ServiceEndpointResolver serviceEndpointResolver,
+            RemoteCallerResolver remoteCallerResolver,
+            RemoteCallPolicy remoteCallPolicy,
+            RemoteCallObserver remoteCallObserver
+    ) {
+        this(remoteRestClient, properties, serviceEndpointResolver, remoteCallerResolver, remoteCallPolicy,
+                remoteCallObserver,
+                new RemoteHttpAsyncExecutor(properties.getAsync(), new RequestContextTaskDecorator()));
+    }
+
+    @Autowired
+    public RemoteHttpClient(
+            RestClient remoteRestClient,
+            RemoteHttpClientProperties properties,
+            ServiceEndpointResolver serviceEndpointResolver,
+            RemoteCallerResolver remoteCallerResolver,
+            RemoteCallPolicy remoteCallPolicy,
+            RemoteCallObserver remoteCallObserver,
+            RemoteHttpAsyncExecutor asyncExecutor
+    ) {
+        this.remoteRestClient = remoteRestClient;
+        this.properties = properties;
+        this.serviceEndpointResolver = serviceEndpointResolver;
+        this.remoteCallerResolver = remoteCallerResolver;
+        this.remoteCallPolicy = remoteCallPolicy;
+        this.remoteCallObserver = remoteCallObserver;
+        this.asyncExecutor = asyncExecutor;
+    }
 
     public <R> R get(String url, Class<R> responseType) {
         return exchange(RemoteHttpRequest.builder()
@@ -110,10 +145,54 @@ public class RemoteHttpClient {
                 .build(), responseType);
     }
 
+    public <R> CompletableFuture<R> getFromServiceAsync(String serviceId, String path, Class<R> responseType) {
+        return exchangeAsync(RemoteHttpRequest.builder()
+                .method(HttpMethod.GET)
+                .serviceId(serviceId)
+                .path(path)
+                .build(), responseType);
+    }
+
+    public <R> CompletableFuture<R> getFromServiceAsync(
+            String serviceId,
+            String path,
+            ParameterizedTypeReference<R> responseType
+    ) {
+        return exchangeAsync(RemoteHttpRequest.builder()
+                .method(HttpMethod.GET)
+                .serviceId(serviceId)
+                .path(path)
+                .build(), responseType);
+    }
+
+    public <T, R> CompletableFuture<R> postToServiceAsync(String serviceId, String path, T body, Class<R> responseType) {
+        return exchangeAsync(RemoteHttpRequest.builder()
+                .method(HttpMethod.POST)
+                .serviceId(serviceId)
+                .path(path)
+                .body(body)
+                .build(), responseType);
+    }
+
+    public <T, R> CompletableFuture<R> postToServiceAsync(
+            String serviceId,
+            String path,
+            T body,
+            ParameterizedTypeReference<R> responseType
+    ) {
+        return exchangeAsync(RemoteHttpRequest.builder()
+                .method(HttpMethod.POST)
+                .serviceId(serviceId)
+                .path(path)
+                .body(body)
+                .build(), responseType);
+    }
+
     public <R> R exchange(RemoteHttpRequest request, Class<R> responseType) {
         validateRequest(request, responseType);
         RemoteCallPolicyContext policyContext = buildPolicyContext(request);
         long startedAtNanos = System.nanoTime();
+        notifyStart(policyContext);
 
         try {
             remoteCallPolicy.beforeCall(policyContext);
@@ -126,10 +205,10 @@ public class RemoteHttpClient {
                     request.isCheckResponse(),
                     resolveRetryInterval(request)
             );
-            observeRemoteCall(policyContext, true, startedAtNanos, null);
+            observeRemoteCall(policyContext, currentRequestContext(), true, startedAtNanos, null);
             return response;
         } catch (RuntimeException e) {
-            observeRemoteCall(policyContext, false, startedAtNanos, e);
+            observeRemoteCall(policyContext, currentRequestContext(), false, startedAtNanos, e);
             throw e;
         }
     }
@@ -138,6 +217,7 @@ public class RemoteHttpClient {
         validateRequest(request, responseType);
         RemoteCallPolicyContext policyContext = buildPolicyContext(request);
         long startedAtNanos = System.nanoTime();
+        notifyStart(policyContext);
 
         try {
             remoteCallPolicy.beforeCall(policyContext);
@@ -150,14 +230,77 @@ public class RemoteHttpClient {
                     request.isCheckResponse(),
                     resolveRetryInterval(request)
             );
-            observeRemoteCall(policyContext, true, startedAtNanos, null);
+            observeRemoteCall(policyContext, currentRequestContext(), true, startedAtNanos, null);
             return response;
         } catch (RuntimeException e) {
-            observeRemoteCall(policyContext, false, startedAtNanos, e);
+            observeRemoteCall(policyContext, currentRequestContext(), false, startedAtNanos, e);
             throw e;
         }
     }
 
+    /**
+     * Non-blocking variant of {@link #exchange(RemoteHttpRequest, Class)}.
+     *
+     * <p>Policy, caller resolution, endpoint resolution, response checks and observation behave exactly
+     * as in the blocking call. Attempts run on {@link RemoteHttpAsyncExecutor} with the caller's request
+     * context; retries are fired by a timer with jittered exponential backoff instead of sleeping.
+     * Validation and policy rejections are returned as failed futures rather than thrown.</p>
+     */
+    public <R> CompletableFuture<R> exchangeAsync(RemoteHttpRequest request, Class<R> responseType) {
+        try {
+            validateRequest(request, responseType);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return doExchangeAsync(request, responseSpec -> responseSpec.body(responseType));
+    }
+
+    public <R> CompletableFuture<R> exchangeAsync(RemoteHttpRequest request, ParameterizedTypeReference<R> responseType) {
+        try {
+            validateRequest(request, responseType);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return doExchangeAsync(request, responseSpec -> responseSpec.body(responseType));
+    }
+
+    private <R> CompletableFuture<R> doExchangeAsync(
+            RemoteHttpRequest request,
+            Function<RestClient.ResponseSpec, R> responseReader
+    ) {
+        RemoteCallPolicyContext policyContext = buildPolicyContext(request);
+        GlobalRequestContext requestContext = currentRequestContext();
+        long startedAtNanos = System.nanoTime();
+        notifyStart(policyContext);
+
+        CompletableFuture<R> future;
+        try {
+            remoteCallPolicy.beforeCall(policyContext);
+            future = RemoteCallWrapper.callWithRetryAsync(
+                    ignored -> doExchange(request, responseReader, policyContext),
+                    describeRequest(request),
+                    remoteCallName(request),
+                    resolveRetryCount(request),
+                    request.isCheckResponse(),
+                    resolveRetryInterval(request),
+                    asyncExecutor.contextBoundExecutor(),
+                    asyncExecutor.scheduler()
+            );
+        } catch (RuntimeException e) {
+            observeRemoteCall(policyContext, requestContext, false, startedAtNanos, e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((response, error) -> observeRemoteCall(
+                policyContext,
+                requestContext,
+                error == null,
+                startedAtNanos,
+                error == null ? null : asRuntimeException(error)
+        ));
+        return future;
+    }
+
     private <R> R doExchange(
             RemoteHttpRequest request,
             Class<R> responseType,
@@ -179,11 +322,14 @@ public class RemoteHttpClient {
             Function<RestClient.ResponseSpec, R> responseReader,
             RemoteCallPolicyContext policyContext
     ) {
+        ServiceEndpointAttempt attempt = null;
+        boolean endpointFailure = false;
+        long attemptStartedAtNanos = System.nanoTime();
         try {
-            String url = resolveUrl(request);
+            attempt = beginAttempt(request);
             RestClient.RequestBodySpec spec = remoteRestClient
                     .method(resolveMethod(request))
-                    .uri(url);
+                    .uri(attempt.url());
 
             buildHeaders(request).forEach((name, value) -> spec.header(name, value));
 
@@ -195,12 +341,14 @@ public class RemoteHttpClient {
             remoteCallPolicy.afterSuccess(policyContext);
             return response;
         } catch (ResourceAccessException e) {
+            endpointFailure = true;
             throw recordFailure(policyContext, new SystemException(
                     "远程 HTTP 调用网络异常: " + remoteCallName(request),
                     e,
                     RemoteErrorCode.REMOTE_CALL_NETWORK_ERROR
             ));
         } catch (RestClientResponseException e) {
+            endpointFailure = e.getStatusCode().is5xxServerError() || e.getStatusCode().value() == 408;
             throw recordFailure(policyContext, new SystemException(
                     String.format("远程 HTTP 响应异常: %s, status=%s", remoteCallName(request), e.getStatusCode().value()),
                     e,
@@ -214,6 +362,10 @@ public class RemoteHttpClient {
             ));
         } catch (RuntimeException e) {
             throw recordFailure(policyContext, e);
+        } finally {
+            if (attempt != null) {
+                serviceEndpointResolver.endAttempt(attempt, endpointFailure, System.nanoTime() - attemptStartedAtNanos);
+            }
         }
     }
 
@@ -271,6 +423,7 @@ public class RemoteHttpClient {
 
     private void observeRemoteCall(
             RemoteCallPolicyContext context,
+            GlobalRequestContext requestContext,
             boolean success,
             long startedAtNanos,
             RuntimeException exception
@@ -282,12 +435,12 @@ public class RemoteHttpClient {
                 context.path(),
                 context.url(),
                 context.callerId(),
-                contextValue(GlobalRequestContext::getRequestId),
-                contextValue(GlobalRequestContext::getTraceId),
-                contextValue(GlobalRequestContext::getTenantId),
-                contextValue(GlobalRequestContext::getUserId),
-                contextValue(GlobalRequestContext::getTimeZone),
-                contextValue(GlobalRequestContext::getLocale),
+                contextValue(requestContext, GlobalRequestContext::getRequestId),
+                contextValue(requestContext, GlobalRequestContext::getTraceId),
+                contextValue(requestContext, GlobalRequestContext::getTenantId),
+                contextValue(requestContext, GlobalRequestContext::getUserId),
+                contextValue(requestContext, GlobalRequestContext::getTimeZone),
+                contextValue(requestContext, GlobalRequestContext::getLocale),
                 success,
                 durationMs(startedAtNanos),
                 errorCode(exception),
@@ -296,6 +449,14 @@ public class RemoteHttpClient {
         ));
     }
 
+    private void notifyStart(RemoteCallPolicyContext context) {
+        try {
+            remoteCallObserver.onStart(context);
+        } catch (RuntimeException e) {
+            log.warn("Remote call observer failed: {}", e.getMessage(), e);
+        }
+    }
+
     private void safeObserve(RemoteCallObservation observation) {
         try {
             remoteCallObserver.onComplete(observation);
@@ -319,8 +480,20 @@ public class RemoteHttpClient {
         return null;
     }
 
-    private String contextValue(Function<GlobalRequestContext, String> getter) {
-        return GlobalRequestContextHolder.current().map(getter).orElse(null);
+    private String contextValue(GlobalRequestContext requestContext, Function<GlobalRequestContext, String> getter) {
+        return requestContext == null ? null : getter.apply(requestContext);
+    }
+
+    private GlobalRequestContext currentRequestContext() {
+        return GlobalRequestContextHolder.current().orElse(null);
+    }
+
+    private RuntimeException asRuntimeException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new SystemException("远程 HTTP 调用失败", cause, RemoteErrorCode.REMOTE_CALL_FAILED);
     }
 
     private void validateRequest(RemoteHttpRequest request, Object responseType) {
@@ -400,6 +573,21 @@ public class RemoteHttpClient {
         return serviceEndpointResolver.resolveUrl(request.getServiceId(), request.getPath());
     }
 
+    /**
+     * Resolves the URL for one attempt; service calls go through the resolver so each retry can land on
+     * a different endpoint.
+     */
+    private ServiceEndpointAttempt beginAttempt(RemoteHttpRequest request) {
+        if (StringUtils.hasText(request.getUrl())) {
+            return new ServiceEndpointAttempt(null, null, request.getUrl());
+        }
+        if (!StringUtils.hasText(request.getServiceId())) {
+            throw new SystemException("远程 HTTP URL 或 serviceId 不能为空", RemoteErrorCode.REMOTE_CALL_PARAM_ERROR);
+        }
+
+        return serviceEndpointResolver.beginAttempt(request.getServiceId(), request.getPath());
+    }
+
     private String sanitizedUrl(String url) {
         try {
             URI uri = URI.create(url);
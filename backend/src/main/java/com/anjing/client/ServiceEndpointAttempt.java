@@ -0,0 +1,13 @@
+package com.anjing.client;
+
+/**
+ * One HTTP attempt against a resolved service endpoint.
+ *
+ * <p>baseUrl is null when the resolver does not track endpoints per attempt.</p>
+ */
+public record ServiceEndpointAttempt(
+        String serviceId,
+        String baseUrl,
+        String url
+) {
+}
@@ -0,0 +1,370 @@
+package com.anjing.client;
+
+import com.anjing.config.properties.RemoteHttpClientProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side load balancing for services configured with several endpoints.
+ *
+ * <p>Strategies: round-robin, least outstanding attempts, and peak-EWMA latency weighted by outstanding
+ * attempts; a failed attempt is sampled as at least one read timeout so fast failures do not look fast.
+ * Endpoints that keep failing at the transport level are ejected for a growing period (passive outlier
+ * detection); optional GET probes take endpoints out and put them back independently of traffic, and a
+ * healthy probe never cuts a passive ejection short. Probes block on HTTP, so they run on a thread of their
+ * own started by {@link #start} rather than on the shared {@code @Scheduled} thread. When every endpoint is unavailable the balancer falls back to all of them, because
+ * trying a possibly broken endpoint is better than failing the call outright.</p>
+ */
+@Slf4j
+public class ServiceEndpointBalancer {
+
+    private final RemoteHttpClientProperties properties;
+    private final ServiceEndpointRegistry serviceEndpointRegistry;
+    private final RestClient probeClient;
+    private final LongSupplier clock;
+    private final Map<String, ServiceState> services = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService probeExecutor;
+
+    public ServiceEndpointBalancer(
+            RemoteHttpClientProperties properties,
+            ServiceEndpointRegistry serviceEndpointRegistry,
+            RestClient probeClient
+    ) {
+        this(properties, serviceEndpointRegistry, probeClient, System::currentTimeMillis);
+    }
+
+    ServiceEndpointBalancer(
+            RemoteHttpClientProperties properties,
+            ServiceEndpointRegistry serviceEndpointRegistry,
+            RestClient probeClient,
+            LongSupplier clock
+    ) {
+        this.properties = properties;
+        this.serviceEndpointRegistry = serviceEndpointRegistry;
+        this.probeClient = probeClient;
+        this.clock = clock;
+    }
+
+    /**
+     * Endpoint the next attempt would most likely use, without counting an attempt.
+     */
+    public ServiceEndpoint peek(String serviceId, List<ServiceEndpoint> endpoints) {
+        return select(serviceId, endpoints, false).endpoint();
+    }
+
+    /**
+     * Picks an endpoint and counts the attempt as outstanding until {@link #release} is called.
+     */
+    public ServiceEndpoint acquire(String serviceId, List<ServiceEndpoint> endpoints) {
+        Candidate candidate = select(serviceId, endpoints, true);
+        candidate.state().outstanding.incrementAndGet();
+        candidate.state().attempts.increment();
+        return candidate.endpoint();
+    }
+
+    public void release(String serviceId, String baseUrl, boolean endpointFailure, long durationNanos) {
+        ServiceState service = services.get(serviceId);
+        EndpointState state = service == null ? null : service.endpoints.get(baseUrl);
+        if (state == null) {
+            return;
+        }
+        state.outstanding.decrementAndGet();
+        long now = clock.getAsLong();
+        if (endpointFailure) {
+            state.failures.increment();
+            long penaltyNanos = Math.max(durationNanos, TimeUnit.MILLISECONDS.toNanos(properties.getReadTimeoutMs()));
+            if (state.recordFailure(now, penaltyNanos, config().getEwmaDecayMs()) >= config().getConsecutiveFailures()) {
+                tryEject(serviceId, service, baseUrl, state, now);
+            }
+        } else {
+            state.recordSuccess(now, durationNanos, config().getEwmaDecayMs(), config().getMaxEjectionMs());
+        }
+    }
+
+    /**
+     * Starts the probe thread when health checks are enabled; a no-op otherwise.
+     */
+    public synchronized void start() {
+        RemoteHttpClientProperties.HealthCheck healthCheck = config().getHealthCheck();
+        if (!healthCheck.isEnabled() || probeClient == null || probeExecutor != null) {
+            return;
+        }
+        long interval = Math.max(1L, healthCheck.getIntervalMs());
+        probeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "remote-http-lb-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        probeExecutor.scheduleWithFixedDelay(this::probeEndpointsQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        ScheduledExecutorService executor = probeExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+            probeExecutor = null;
+        }
+    }
+
+    /**
+     * Probes every endpoint of the multi-endpoint services that have been called since startup
+     * and have a probe path configured.
+     */
+    public void probeEndpoints() {
+        RemoteHttpClientProperties.HealthCheck healthCheck = config().getHealthCheck();
+        if (!healthCheck.isEnabled() || probeClient == null) {
+            return;
+        }
+        for (String serviceId : services.keySet()) {
+            String path = healthCheck.getPathByService().getOrDefault(serviceId, healthCheck.getPath());
+            if (path == null || path.isBlank()) {
+                continue;
+            }
+            for (ServiceEndpoint endpoint : serviceEndpointRegistry.findEndpoints(serviceId)) {
+                markProbeResult(serviceId, endpoint.baseUrl(), probe(endpoint.baseUrl(), path));
+            }
+        }
+    }
+
+    /**
+     * An exception escaping a fixed-delay task would cancel every later probe round.
+     */
+    private void probeEndpointsQuietly() {
+        try {
+            probeEndpoints();
+        } catch (RuntimeException e) {
+            log.warn("Remote endpoint health probe round failed", e);
+        }
+    }
+
+    /**
+     * Only changes the probe verdict; a passive ejection stays until its own timer runs out.
+     */
+
+    void markProbeResult(String serviceId, String baseUrl, boolean healthy) {
+        EndpointState state = service(serviceId).endpoint(baseUrl);
+        if (state.probeHealthy != healthy) {
+            log.warn("Remote endpoint health probe changed: serviceId={}, baseUrl={}, healthy={}",
+                    serviceId, baseUrl, healthy);
+        }
+        state.probeHealthy = healthy;
+    }
+
+    public List<EndpointStats> snapshot() {
+        long now = clock.getAsLong();
+        List<EndpointStats> stats = new ArrayList<>();
+        services.forEach((serviceId, service) -> service.endpoints.forEach((baseUrl, state) -> stats.add(
+                new EndpointStats(
+                        serviceId,
+                        baseUrl,
+                        state.outstanding.get(),
+                        state.attempts.sum(),
+                        state.failures.sum(),
+                        TimeUnit.NANOSECONDS.toMicros((long) state.ewmaNanos) / 1000.0,
+                        state.probeHealthy,
+                        Math.max(0L, state.ejectedUntil - now),
+                        state.ejections
+                ))));
+        return stats;
+    }
+
+    private Candidate select(String serviceId, List<ServiceEndpoint> endpoints, boolean advance) {
+        ServiceState service = service(serviceId);
+        long now = clock.getAsLong();
+        List<Candidate> available = new ArrayList<>(endpoints.size());
+        for (ServiceEndpoint endpoint : endpoints) {
+            EndpointState state = service.endpoint(endpoint.baseUrl());
+            if (state.isAvailable(now)) {
+                available.add(new Candidate(endpoint, state));
+            }
+        }
+        if (available.isEmpty()) {
+            for (ServiceEndpoint endpoint : endpoints) {
+                available.add(new Candidate(endpoint, service.endpoint(endpoint.baseUrl())));
+            }
+        }
+        if (available.size() == 1) {
+            return available.get(0);
+        }
+
+        return switch (strategy(serviceId)) {
+            case ROUND_ROBIN -> {
+                int index = advance ? service.cursor.getAndIncrement() : service.cursor.get();
+                yield available.get(Math.floorMod(index, available.size()));
+            }
+            case LEAST_OUTSTANDING -> lowest(available, state -> state.outstanding.get());
+            case EWMA_LATENCY -> lowest(available, state -> state.ewmaNanos * (state.outstanding.get() + 1));
+        };
+    }
+
+    /**
+     * Lowest score wins; the scan starts at a random offset so ties do not all land on the first endpoint.
+     */
+    private static Candidate lowest(List<Candidate> candidates, Score score) {
+        int size = candidates.size();
+        int offset = ThreadLocalRandom.current().nextInt(size);
+        Candidate best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Candidate candidate = candidates.get((offset + i) % size);
+            double value = score.of(candidate.state());
+            if (value < bestScore) {
+                best = candidate;
+                bestScore = value;
+            }
+        }
+        return best;
+    }
+
+    private void tryEject(String serviceId, ServiceState service, String baseUrl, EndpointState state, long now) {
+        synchronized (service) {
+            if (!state.isAvailable(now)) {
+                return;
+            }
+            int total = service.endpoints.size();
+            long unavailable = service.endpoints.values().stream().filter(other -> !other.isAvailable(now)).count();
+            long allowed = Math.min(total - 1L, (long) total * config().getMaxEjectionPercent() / 100);
+            if (unavailable >= allowed) {
+                log.warn("Remote endpoint keeps failing but ejection limit is reached: serviceId={}, baseUrl={}",
+                        serviceId, baseUrl);
+                return;
+            }
+            state.ejections++;
+            long ejectionMs = Math.min(config().getMaxEjectionMs(), config().getBaseEjectionMs() * state.ejections);
+            state.ejectedUntil = now + ejectionMs;
+            state.resetFailures();
+            log.warn("Remote endpoint ejected: serviceId={}, baseUrl={}, ejectionMs={}, ejections={}",
+                    serviceId, baseUrl, ejectionMs, state.ejections);
+        }
+    }
+
+    private boolean probe(String baseUrl, String path) {
+        try {
+            probeClient.get()
+                    .uri(ConfiguredServiceEndpointResolver.joinUrl(baseUrl, path))
+                    .retrieve()
+                    .toBodilessEntity();
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Remote endpoint health probe failed: baseUrl={}, error={}", baseUrl, e.getMessage());
+            return false;
+        }
+    }
+
+    private RemoteHttpClientProperties.Strategy strategy(String serviceId) {
+        RemoteHttpClientProperties.Strategy strategy = config().getStrategyByService().get(serviceId);
+        if (strategy != null) {
+            return strategy;
+        }
+        return config().getStrategy() == null ? RemoteHttpClientProperties.Strategy.ROUND_ROBIN : config().getStrategy();
+    }
+
+    private RemoteHttpClientProperties.LoadBalancing config() {
+        return properties.getLoadBalancing();
+    }
+
+    private ServiceState service(String serviceId) {
+        return services.computeIfAbsent(serviceId, ignored -> new ServiceState());
+    }
+
+    /**
+     * Point-in-time view of one endpoint.
+     */
+    public record EndpointStats(
+            String serviceId,
+            String baseUrl,
+            int outstanding,
+            long attempts,
+            long failures,
+            double ewmaLatencyMs,
+            boolean probeHealthy,
+            long ejectedForMs,
+            int ejections
+    ) {
+    }
+
+    private record Candidate(ServiceEndpoint endpoint, EndpointState state) {
+    }
+
+    @FunctionalInterface
+    private interface Score {
+        double of(EndpointState state);
+    }
+
+    private static final class ServiceState {
+
+        private final AtomicInteger cursor = new AtomicInteger();
+        private final Map<String, EndpointState> endpoints = new ConcurrentHashMap<>();
+
+        private EndpointState endpoint(String baseUrl) {
+            return endpoints.computeIfAbsent(baseUrl, ignored -> new EndpointState());
+        }
+    }
+
+    private static final class EndpointState {
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private volatile double ewmaNanos;
+        private volatile boolean probeHealthy = true;
+        private volatile long ejectedUntil;
+        private volatile int ejections;
+
+        private int consecutiveFailures;
+        private boolean sampled;
+        private long lastSampleAt;
+
+        private boolean isAvailable(long now) {
+            return probeHealthy && now >= ejectedUntil;
+        }
+
+        private synchronized int recordFailure(long now, long penaltyNanos, long decayMs) {
+            sample(now, penaltyNanos, decayMs);
+            return ++consecutiveFailures;
+        }
+
+        private synchronized void resetFailures() {
+            consecutiveFailures = 0;
+        }
+
+        /**
+         * The ejection multiplier is forgotten once the endpoint has stayed healthy for a full maximum ejection.
+         */
+        private synchronized void recordSuccess(long now, long durationNanos, long decayMs, long ejectionResetMs) {
+            consecutiveFailures = 0;
+            if (ejections > 0 && now - ejectedUntil > ejectionResetMs) {
+                ejections = 0;
+            }
+            sample(now, durationNanos, decayMs);
+        }
+
+        /**
+         * Peak EWMA: a slower sample is taken as is, faster samples pull the average down with a weight
+         * that depends on the time since the previous sample rather than on the sample count.
+         */
+        private void sample(long now, long durationNanos, long decayMs) {
+            if (!sampled || durationNanos > ewmaNanos) {
+                sampled = true;
+                ewmaNanos = durationNanos;
+            } else {
+                double weight = Math.exp(-(double) Math.max(0L, now - lastSampleAt) / Math.max(1L, decayMs));
+                ewmaNanos = ewmaNanos * weight + durationNanos * (1 - weight);
+            }
+            lastSampleAt = now;
+        }
+    }
+}
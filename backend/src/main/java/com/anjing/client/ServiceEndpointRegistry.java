@@ -1,5 +1,6 @@
 package com.anjing.client;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,4 +16,13 @@ public interface ServiceEndpointRegistry {
      * Finds the base endpoint for a logical downstream service id.
      */
     Optional<ServiceEndpoint> findEndpoint(String serviceId);
+
+    /**
+     * Finds every interchangeable endpoint of a service, in configuration order.
+     *
+     * <p>Registries that only know one address per service can keep the default.</p>
+     */
+    default List<ServiceEndpoint> findEndpoints(String serviceId) {
+        return findEndpoint(serviceId).map(List::of).orElse(List.of());
+    }
 }
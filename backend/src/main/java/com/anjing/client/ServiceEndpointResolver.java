@@ -18,4 +18,24 @@ public interface ServiceEndpointResolver {
      * @return absolute URL
      */
     String resolveUrl(String serviceId, String path);
+
+    /**
+     * Picks the endpoint for one HTTP attempt.
+     *
+     * <p>Load-balancing resolvers count the attempt as outstanding until {@link #endAttempt} is called,
+     * while {@link #resolveUrl} stays free of side effects for validation and logging.</p>
+     */
+    default ServiceEndpointAttempt beginAttempt(String serviceId, String path) {
+        return new ServiceEndpointAttempt(serviceId, null, resolveUrl(serviceId, path));
+    }
+
+    /**
+     * Reports the outcome of an attempt started with {@link #beginAttempt}.
+     *
+     * @param attempt         attempt returned by beginAttempt
+     * @param endpointFailure true for network errors, timeouts and 5xx responses that point at the endpoint itself
+     * @param durationNanos   attempt duration
+     */
+    default void endAttempt(ServiceEndpointAttempt attempt, boolean endpointFailure, long durationNanos) {
+    }
 }
@@ -7,20 +7,34 @@ import org.springframework.core.task.TaskDecorator;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Propagates request context and MDC into async executor threads.
+ *
+ * <p>The request context is shared by reference; only the MDC map is copied, because MDC is mutable per thread.</p>
  */
 @Component
 public class RequestContextTaskDecorator implements TaskDecorator {
 
     @Override
     public Runnable decorate(Runnable runnable) {
+        return bind(runnable, GlobalRequestContextHolder.capture().orElse(null), MDC.getCopyOfContextMap());
+    }
+
+    /**
+     * Captures the caller's context once and applies it to every task later run through the returned executor,
+     * including tasks submitted from timer or pool threads that carry no context of their own.
+     */
+    public Executor bindCurrentContext(Executor delegate) {
         GlobalRequestContext contextSnapshot = GlobalRequestContextHolder.capture().orElse(null);
         Map<String, String> mdcSnapshot = MDC.getCopyOfContextMap();
+        return task -> delegate.execute(bind(task, contextSnapshot, mdcSnapshot));
+    }
 
+    private Runnable bind(Runnable runnable, GlobalRequestContext contextSnapshot, Map<String, String> mdcSnapshot) {
         return () -> {
-            GlobalRequestContext previousContext = GlobalRequestContextHolder.capture().orElse(null);
+            GlobalRequestContext previousContext = GlobalRequestContextHolder.currentOrNull();
             Map<String, String> previousMdc = MDC.getCopyOfContextMap();
 
             try {
@@ -0,0 +1,67 @@
+package com.anjing.config.http;
+
+import okhttp3.Dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 带 TTL 的 DNS 缓存，出站调用集中在少数几个主机上，不必每次建连都走系统解析。
+ *
+ * <p>建连失败时由 {@link OutboundHttpClientMetrics} 驱逐对应主机，下一次重新解析。</p>
+ */
+public class CachingDns implements Dns {
+
+    private final Dns delegate;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, CachedLookup> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingDns(Dns delegate, long ttlSeconds, int maxEntries) {
+        this.delegate = delegate;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0L, ttlSeconds));
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        if (ttlNanos == 0L) {
+            return delegate.lookup(hostname);
+        }
+        long now = System.nanoTime();
+        CachedLookup cached = cache.get(hostname);
+        if (cached != null && now - cached.resolvedAtNanos() < ttlNanos) {
+            hits.increment();
+            return cached.addresses();
+        }
+        misses.increment();
+        List<InetAddress> addresses = List.copyOf(delegate.lookup(hostname));
+        if (cache.size() >= maxEntries && !cache.containsKey(hostname)) {
+            cache.clear();
+        }
+        cache.put(hostname, new CachedLookup(addresses, now));
+        return addresses;
+    }
+
+    public void evict(String hostname) {
+        cache.remove(hostname);
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    private record CachedLookup(List<InetAddress> addresses, long resolvedAtNanos) {
+    }
+}
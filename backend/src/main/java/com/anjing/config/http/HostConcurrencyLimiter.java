@@ -0,0 +1,78 @@
+package com.anjing.config.http;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按主机限制并发调用数。
+ *
+ * <p>OkHttp 的 Dispatcher 只限制异步调用，Provider 和 RestClient 都是同步 execute，
+ * 因此在应用拦截器里用信号量兜底；许可在响应头返回后释放，不覆盖响应体的读取时间。</p>
+ */
+public class HostConcurrencyLimiter implements Interceptor {
+
+    private final int maxPerHost;
+    private final long acquireTimeoutMillis;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final LongAdder rejections = new LongAdder();
+
+    public HostConcurrencyLimiter(int maxPerHost, long acquireTimeoutMillis) {
+        this.maxPerHost = maxPerHost;
+        this.acquireTimeoutMillis = Math.max(0L, acquireTimeoutMillis);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        if (maxPerHost <= 0) {
+            return chain.proceed(chain.request());
+        }
+        String host = hostKey(chain.request().url());
+        Semaphore semaphore = permits.computeIfAbsent(host, ignored -> new Semaphore(maxPerHost));
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejections.increment();
+                throw new IOException("Too many concurrent outbound calls to " + host + " (limit " + maxPerHost + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an outbound slot to " + host);
+        }
+        try {
+            return chain.proceed(chain.request());
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * 当前各主机占用的并发数，只返回非零项
+     */
+    public Map<String, Integer> inFlightByHost() {
+        Map<String, Integer> inFlight = new TreeMap<>();
+        permits.forEach((host, semaphore) -> {
+            int used = maxPerHost - semaphore.availablePermits();
+            if (used > 0) {
+                inFlight.put(host, used);
+            }
+        });
+        return inFlight;
+    }
+
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    private static String hostKey(HttpUrl url) {
+        return url.host() + ":" + url.port();
+    }
+}
@@ -0,0 +1,142 @@
+package com.anjing.config.http;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * 让 RestTemplate / RestClient 走共享的 OkHttp 客户端。
+ *
+ * <p>每个工厂通过 {@code newBuilder()} 派生出只改超时的客户端，连接池、调度器、DNS 缓存和统计仍与共享客户端是同一份。
+ * Spring 自带的 OkHttp3ClientHttpRequestFactory 已标记为待移除，这里保留一个只做缓冲请求体的最小实现。</p>
+ */
+public class OkHttpClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final OkHttpClient client;
+
+    public OkHttpClientHttpRequestFactory(OkHttpClient sharedClient, Duration connectTimeout, Duration readTimeout) {
+        this.client = sharedClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .writeTimeout(readTimeout)
+                .build();
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new OkHttpClientHttpRequest(client, uri, httpMethod);
+    }
+
+    private static final class OkHttpClientHttpRequest extends AbstractClientHttpRequest {
+
+        private final OkHttpClient client;
+        private final URI uri;
+        private final HttpMethod method;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        private OkHttpClientHttpRequest(OkHttpClient client, URI uri, HttpMethod method) {
+            this.client = client;
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            byte[] bytes = body.toByteArray();
+            okhttp3.MediaType contentType = headers.getContentType() == null
+                    ? null
+                    : okhttp3.MediaType.parse(headers.getContentType().toString());
+            RequestBody requestBody = bytes.length > 0 || permitsBody(method)
+                    ? RequestBody.create(bytes, contentType)
+                    : null;
+
+            Request.Builder builder = new Request.Builder()
+                    .url(uri.toURL())
+                    .method(method.name(), requestBody);
+            headers.forEach((name, values) -> {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                    values.forEach(value -> builder.addHeader(name, value));
+                }
+            });
+            return new OkHttpClientHttpResponse(client.newCall(builder.build()).execute());
+        }
+
+        private static boolean permitsBody(HttpMethod method) {
+            return HttpMethod.POST.equals(method) || HttpMethod.PUT.equals(method) || HttpMethod.PATCH.equals(method);
+        }
+    }
+
+    private static final class OkHttpClientHttpResponse implements ClientHttpResponse {
+
+        private final Response response;
+        private HttpHeaders headers;
+
+        private OkHttpClientHttpResponse(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatusCode.valueOf(response.code());
+        }
+
+        @Override
+        public String getStatusText() {
+            return response.message();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            if (headers == null) {
+                HttpHeaders copied = new HttpHeaders();
+                for (String name : response.headers().names()) {
+                    response.headers(name).forEach(value -> copied.add(name, value));
+                }
+                headers = copied;
+            }
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            ResponseBody body = response.body();
+            return body == null ? InputStream.nullInputStream() : body.byteStream();
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
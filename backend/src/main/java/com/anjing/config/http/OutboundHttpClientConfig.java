@@ -0,0 +1,82 @@
+package com.anjing.config.http;
+
+import com.anjing.config.properties.OutboundHttpClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Dns;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 共享出站 HTTP 客户端。
+ *
+ * <p>Google Provider、OneRouter（RestTemplate）和 RemoteHttpClient（RestClient）都从这个客户端
+ * {@code newBuilder()} 派生，只覆盖各自的超时和代理，共用一个连接池、调度器、DNS 缓存和统计。</p>
+ */
+@Slf4j
+@Configuration
+public class OutboundHttpClientConfig implements DisposableBean {
+
+    private volatile OkHttpClient sharedClient;
+
+    @Bean
+    public OutboundHttpClientMetrics outboundHttpClientMetrics(OutboundHttpClientProperties properties) {
+        return new OutboundHttpClientMetrics(
+                new CachingDns(Dns.SYSTEM, properties.getDnsCacheTtlSeconds(), properties.getDnsCacheMaxEntries()),
+                new HostConcurrencyLimiter(properties.getMaxRequestsPerHost(), properties.getPerHostAcquireTimeoutMs())
+        );
+    }
+
+    @Bean
+    public OkHttpClient outboundHttpClient(
+            OutboundHttpClientProperties properties,
+            OutboundHttpClientMetrics outboundHttpClientMetrics,
+            MeterRegistry meterRegistry
+    ) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(1, properties.getMaxRequests()));
+        if (properties.getMaxRequestsPerHost() > 0) {
+            dispatcher.setMaxRequestsPerHost(properties.getMaxRequestsPerHost());
+        }
+
+        OkHttpClient client = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(
+                        properties.getMaxIdleConnections(), properties.getKeepAliveSeconds(), TimeUnit.SECONDS))
+                .dispatcher(dispatcher)
+                .protocols(properties.isHttp2Enabled()
+                        ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : List.of(Protocol.HTTP_1_1))
+                .dns(outboundHttpClientMetrics.getDns())
+                .addInterceptor(outboundHttpClientMetrics.getHostLimiter())
+                .eventListener(outboundHttpClientMetrics)
+                .retryOnConnectionFailure(true)
+                .build();
+
+        outboundHttpClientMetrics.bindTo(meterRegistry, client);
+        sharedClient = client;
+        log.info("[OutboundHttp] 共享客户端初始化完成, http2={}, maxIdle={}, keepAlive={}s, maxPerHost={}, dnsTtl={}s",
+                properties.isHttp2Enabled(), properties.getMaxIdleConnections(), properties.getKeepAliveSeconds(),
+                properties.getMaxRequestsPerHost(), properties.getDnsCacheTtlSeconds());
+        return client;
+    }
+
+    /**
+     * 关闭时释放调度线程和空闲连接；派生客户端共用这两者，无需单独关闭
+     */
+    @Override
+    public void destroy() {
+        OkHttpClient client = sharedClient;
+        if (client != null) {
+            client.dispatcher().executorService().shutdown();
+            client.connectionPool().evictAll();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.anjing.config.http;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 共享出站 HTTP 客户端的调用与连接池统计。
+ *
+ * <p>作为 OkHttp 的全局 {@link EventListener} 挂在共享客户端上，所有 {@code newBuilder()} 派生出的客户端共用这一份计数；
+ * 连接池、调度器的实时数值在 {@link #snapshot(OkHttpClient)} 时读取。{@link #bindTo} 把同样的数值注册为
+ * {@code outbound.http.*} Micrometer 指标，指标按需读取计数，不改变事件回调的开销。</p>
+ */
+public class OutboundHttpClientMetrics extends EventListener {
+
+    static final String PREFIX = "outbound.http.";
+
+    private final CachingDns dns;
+    private final HostConcurrencyLimiter hostLimiter;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder connectionAcquisitions = new LongAdder();
+    private final LongAdder http2Connections = new LongAdder();
+
+    public OutboundHttpClientMetrics(CachingDns dns, HostConcurrencyLimiter hostLimiter) {
+        this.dns = dns;
+        this.hostLimiter = hostLimiter;
+    }
+
+    public CachingDns getDns() {
+        return dns;
+    }
+
+    public HostConcurrencyLimiter getHostLimiter() {
+        return hostLimiter;
+    }
+
+    @Override
+    public void callStart(Call call) {
+        calls.increment();
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        failedCalls.increment();
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectionsOpened.increment();
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        if (protocol == Protocol.HTTP_2 || protocol == Protocol.H2_PRIOR_KNOWLEDGE) {
+            http2Connections.increment();
+        }
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+            IOException ioe) {
+        connectFailures.increment();
+        if (dns != null) {
+            dns.evict(call.request().url().host());
+        }
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        connectionAcquisitions.increment();
+    }
+
+    /**
+     * 注册连接池、调度器和调用计数指标；按主机的在途请求数基数不可控，只保留在快照里
+     */
+    public void bindTo(MeterRegistry registry, OkHttpClient client) {
+        ConnectionPool pool = client.connectionPool();
+        Dispatcher dispatcher = client.dispatcher();
+        Gauge.builder(PREFIX + "pool.connections", pool, ConnectionPool::connectionCount)
+                .description("Open connections in the shared pool")
+                .register(registry);
+        Gauge.builder(PREFIX + "pool.idle.connections", pool, ConnectionPool::idleConnectionCount)
+                .register(registry);
+        Gauge.builder(PREFIX + "dispatcher.running", dispatcher, Dispatcher::runningCallsCount)
+                .register(registry);
+        Gauge.builder(PREFIX + "dispatcher.queued", dispatcher, Dispatcher::queuedCallsCount)
+                .register(registry);
+        counter(registry, "calls", calls);
+        counter(registry, "calls.failed", failedCalls);
+        counter(registry, "connections.opened", connectionsOpened);
+        counter(registry, "connections.http2", http2Connections);
+        counter(registry, "connections.failed", connectFailures);
+        counter(registry, "connections.acquired", connectionAcquisitions);
+        if (dns != null) {
+            FunctionCounter.builder(PREFIX + "dns.cache.hits", dns, CachingDns::hits).register(registry);
+            FunctionCounter.builder(PREFIX + "dns.cache.misses", dns, CachingDns::misses).register(registry);
+        }
+        if (hostLimiter != null) {
+            FunctionCounter.builder(PREFIX + "host.limit.rejections", hostLimiter, HostConcurrencyLimiter::rejections)
+                    .register(registry);
+        }
+    }
+
+    private static void counter(MeterRegistry registry, String name, LongAdder adder) {
+        FunctionCounter.builder(PREFIX + name, adder, LongAdder::sum).register(registry);
+    }
+
+    public OutboundHttpClientStats snapshot(OkHttpClient client) {
+        ConnectionPool pool = client.connectionPool();
+        Dispatcher dispatcher = client.dispatcher();
+        long acquisitions = connectionAcquisitions.sum();
+        long opened = connectionsOpened.sum();
+        double reuseRatio = acquisitions == 0 ? 0.0 : Math.max(0.0, 1.0 - (double) opened / acquisitions);
+        return new OutboundHttpClientStats(
+                pool.connectionCount(),
+                pool.idleConnectionCount(),
+                dispatcher.runningCallsCount(),
+                dispatcher.queuedCallsCount(),
+                calls.sum(),
+                failedCalls.sum(),
+                opened,
+                http2Connections.sum(),
+                connectFailures.sum(),
+                acquisitions,
+                reuseRatio,
+                dns == null ? 0L : dns.hits(),
+                dns == null ? 0L : dns.misses(),
+                hostLimiter == null ? 0L : hostLimiter.rejections(),
+                hostLimiter == null ? Map.of() : hostLimiter.inFlightByHost()
+        );
+    }
+
+    /**
+     * 出站 HTTP 连接池与调用统计快照
+     */
+    public record OutboundHttpClientStats(
+            int connectionCount,
+            int idleConnectionCount,
+            int runningAsyncCalls,
+            int queuedAsyncCalls,
+            long calls,
+            long failedCalls,
+            long connectionsOpened,
+            long http2Connections,
+            long connectFailures,
+            long connectionAcquisitions,
+            double connectionReuseRatio,
+            long dnsCacheHits,
+            long dnsCacheMisses,
+            long hostLimitRejections,
+            Map<String, Integer> inFlightByHost
+    ) {
+    }
+}
@@ -1,49 +1,100 @@
 package com.anjing.config.http;
 
 import com.anjing.client.ConfiguredRemoteCallPolicy;
+import com.anjing.client.MetricsRemoteCallObserver;
 import com.anjing.client.NoopRemoteCallObserver;
 import com.anjing.client.DefaultRemoteCallerResolver;
 import com.anjing.client.ConfiguredServiceEndpointRegistry;
+import com.anjing.client.RemoteCallMetrics;
 import com.anjing.client.RemoteCallObserver;
 import com.anjing.client.RemoteCallPolicy;
 import com.anjing.client.RemoteCallerResolver;
+import com.anjing.client.RemoteHttpAsyncExecutor;
+import com.anjing.client.ServiceEndpointBalancer;
 import com.anjing.client.ServiceEndpointRegistry;
+import com.anjing.config.async.RequestContextTaskDecorator;
 import com.anjing.config.properties.RemoteHttpClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 import java.time.Duration;
 
 /**
  * HTTP client configuration for outbound service calls.
+ *
+ * <p>The RestClient runs on the shared pooled OkHttp client from {@link OutboundHttpClientConfig}.</p>
  */
 @Configuration
 public class RemoteHttpClientConfig {
 
     @Bean
-    public RestClient remoteRestClient(RemoteHttpClientProperties properties) {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()));
-        requestFactory.setReadTimeout(Duration.ofMillis(properties.getReadTimeoutMs()));
+    public RestClient remoteRestClient(RemoteHttpClientProperties properties, OkHttpClient outboundHttpClient) {
+        OkHttpClientHttpRequestFactory requestFactory = new OkHttpClientHttpRequestFactory(
+                outboundHttpClient,
+                Duration.ofMillis(properties.getConnectTimeoutMs()),
+                Duration.ofMillis(properties.getReadTimeoutMs()));
 
         return RestClient.builder()
                 .requestFactory(requestFactory)
                 .build();
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public RemoteHttpAsyncExecutor remoteHttpAsyncExecutor(
+            RemoteHttpClientProperties properties,
+            RequestContextTaskDecorator requestContextTaskDecorator
+    ) {
+        return new RemoteHttpAsyncExecutor(properties.getAsync(), requestContextTaskDecorator);
+    }
+
+    /**
+     * Balances services configured with several base URLs; probes use their own short timeouts and thread.
+     */
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public ServiceEndpointBalancer serviceEndpointBalancer(
+            RemoteHttpClientProperties properties,
+            ServiceEndpointRegistry serviceEndpointRegistry,
+            OkHttpClient outboundHttpClient
+    ) {
+        Duration probeTimeout = Duration.ofMillis(properties.getLoadBalancing().getHealthCheck().getTimeoutMs());
+        RestClient probeClient = RestClient.builder()
+                .requestFactory(new OkHttpClientHttpRequestFactory(outboundHttpClient, probeTimeout, probeTimeout))
+                .build();
+        return new ServiceEndpointBalancer(properties, serviceEndpointRegistry, probeClient);
+    }
+
     @Bean
     @ConditionalOnMissingBean(RemoteCallPolicy.class)
     public RemoteCallPolicy remoteCallPolicy(RemoteHttpClientProperties properties) {
         return new ConfiguredRemoteCallPolicy(properties);
     }
 
+    /**
+     * In-memory registry used when no other registry is defined, e.g. by an actuator or Prometheus setup.
+     */
+    @Bean
+    @ConditionalOnMissingBean(MeterRegistry.class)
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public RemoteCallMetrics remoteCallMetrics(RemoteHttpClientProperties properties, MeterRegistry meterRegistry) {
+        return new RemoteCallMetrics(properties.getMetrics(), meterRegistry);
+    }
+
     @Bean
     @ConditionalOnMissingBean(RemoteCallObserver.class)
-    public RemoteCallObserver remoteCallObserver() {
-        return new NoopRemoteCallObserver();
+    public RemoteCallObserver remoteCallObserver(RemoteHttpClientProperties properties, RemoteCallMetrics remoteCallMetrics) {
+        if (!properties.getMetrics().isEnabled()) {
+            return new NoopRemoteCallObserver();
+        }
+        return new MetricsRemoteCallObserver(remoteCallMetrics, properties.getMetrics().getMaxSeries());
     }
 
     @Bean
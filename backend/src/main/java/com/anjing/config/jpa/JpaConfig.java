@@ -1,16 +1,36 @@
 package com.anjing.config.jpa;
 
+import com.alibaba.druid.pool.DruidDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * JPA配置类
- * 
+ *
  * @author Backend Template
  * @since 2025-01-20
  */
 @Configuration
 public class JpaConfig {
-    
+
     // JPA配置在application.yml中已配置
     // 这里可以添加自定义的JPA配置
+
+    /**
+     * 在 Druid 连接池初始化前挂上查询 profiler 过滤器
+     */
+    @Bean
+    public static BeanPostProcessor queryProfilingFilterRegistrar(ObjectProvider<QueryProfiler> queryProfiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof DruidDataSource dataSource) {
+                    dataSource.getProxyFilters().add(new QueryProfilingFilter(queryProfiler.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
 }
@@ -0,0 +1,412 @@
+package com.anjing.config.jpa;
+
+import com.anjing.config.properties.QueryProfilerProperties;
+import com.anjing.context.GlobalRequestContextHolder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 抽样 SQL profiler：按语句形态统计耗时直方图、行数和错误数，并按请求识别 N+1 查询。
+ *
+ * <p>语句形态是去掉注释、字面量并把 IN 列表折叠后的 SQL；同一请求内同一形态的 SELECT
+ * 执行次数达到阈值时记一次 N+1（例如逐条补齐点赞/收藏状态的循环）。抽样率为 0 时，
+ * 每条语句只多一次配置读取，不计时、不归一化 SQL、不分配对象。</p>
+ *
+ * <p>统计同时以 Micrometer 指标暴露：每个形态一组 {@code db.query*} 指标（按 {@code shape} 标签区分，
+ * 数量受 max-shapes 限制），以及全局的抽样请求数和 N+1 请求数。指标直接读取内部计数，不增加记录开销。</p>
+ */
+@Component
+@Slf4j
+public class QueryProfiler {
+
+    static final long[] BUCKET_UPPER_BOUNDS_MS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+    static final String OVERFLOW_SHAPE = "<other>";
+    static final String QUERIES = "db.query";
+    static final String ERRORS = "db.query.errors";
+    static final String ROWS = "db.query.rows";
+    static final String REPEATED = "db.query.n-plus-one";
+    static final String SAMPLED_REQUESTS = "db.query.sampled.requests";
+    static final String REPEATED_REQUESTS = "db.query.n-plus-one.requests";
+    static final String TAG_SHAPE = "shape";
+
+    private static final int MAX_SHAPE_LENGTH = 1000;
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    /**
+     * 本次请求未被抽中；与"不在请求内"区分，避免请求内的语句再逐条抽样
+     */
+    private static final RequestProfile UNSAMPLED = new RequestProfile(null);
+
+    private final QueryProfilerProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final Map<String, String> shapeCache = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestProfile> currentRequest = new ThreadLocal<>();
+    private final LongAdder sampledRequests = new LongAdder();
+    private final LongAdder repeatedQueryRequests = new LongAdder();
+
+    public QueryProfiler(QueryProfilerProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+        // 形态本身已受 max-shapes 限制，这里再多留一个溢出形态的位置，防止其他来源注册同名指标撑大基数
+        registry.config().meterFilter(
+                MeterFilter.maximumAllowableTags(QUERIES, TAG_SHAPE, Math.max(1, properties.getMaxShapes()) + 1,
+                        MeterFilter.deny()));
+        FunctionCounter.builder(SAMPLED_REQUESTS, sampledRequests, LongAdder::sum)
+                .description("Requests whose statements were profiled")
+                .register(registry);
+        FunctionCounter.builder(REPEATED_REQUESTS, repeatedQueryRequests, LongAdder::sum)
+                .description("Profiled requests with at least one N+1 statement shape")
+                .register(registry);
+    }
+
+    /**
+     * 请求开始时决定是否抽中；未开启时不写线程变量
+     */
+    void beginRequest(String route) {
+        double rate = properties.getSampleRate();
+        if (rate <= 0.0) {
+            return;
+        }
+        if (sample(rate)) {
+            sampledRequests.increment();
+            currentRequest.set(new RequestProfile(route));
+        } else {
+            currentRequest.set(UNSAMPLED);
+        }
+    }
+
+    void endRequest() {
+        RequestProfile profile = currentRequest.get();
+        if (profile == null) {
+            return;
+        }
+        currentRequest.remove();
+        if (profile != UNSAMPLED) {
+            reportRepeatedShapes(profile);
+        }
+    }
+
+    /**
+     * 当前语句是否需要计时：请求内沿用请求的抽样结果，请求外（定时任务等）逐条抽样
+     */
+    boolean shouldProfile() {
+        double rate = properties.getSampleRate();
+        if (rate <= 0.0) {
+            return false;
+        }
+        RequestProfile profile = currentRequest.get();
+        if (profile != null) {
+            return profile != UNSAMPLED;
+        }
+        return sample(rate);
+    }
+
+    void recordExecution(String shape, long elapsedNanos, long rows, boolean failed) {
+        stats(shape).record(elapsedNanos, rows, failed);
+        RequestProfile profile = currentRequest.get();
+        if (profile != null && profile != UNSAMPLED) {
+            profile.count(shape);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMillis >= properties.getSlowQueryMillis()) {
+            log.warn("SLOW_QUERY | requestId={} | durationMs={} | rows={} | failed={} | shape={}",
+                    resolveRequestId(profile), elapsedMillis, rows, failed, shape);
+        }
+    }
+
+    void recordRows(String shape, long rows) {
+        if (rows > 0) {
+            stats(shape).rows.add(rows);
+        }
+    }
+
+    /**
+     * 归一化后的语句形态；超过形态上限后的新语句统一归入 {@link #OVERFLOW_SHAPE}
+     */
+    String shapeOf(String sql) {
+        if (sql == null) {
+            return OVERFLOW_SHAPE;
+        }
+        String shape = shapeCache.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = normalize(sql);
+        if (shapeCache.size() < Math.max(1, properties.getMaxShapes()) * 4) {
+            shapeCache.put(sql, shape);
+        }
+        return shape;
+    }
+
+    public QueryProfileReport report(int limit) {
+        List<QueryShapeMetric> metrics = new ArrayList<>(shapes.size());
+        shapes.forEach((shape, stats) -> metrics.add(stats.toMetric(shape)));
+        metrics.sort(Comparator.comparingDouble(QueryShapeMetric::totalMillis).reversed());
+        return new QueryProfileReport(
+                properties.getSampleRate(),
+                sampledRequests.sum(),
+                repeatedQueryRequests.sum(),
+                metrics.subList(0, Math.min(Math.max(0, limit), metrics.size())));
+    }
+
+    static String normalize(String sql) {
+        StringBuilder shape = new StringBuilder(Math.min(sql.length(), MAX_SHAPE_LENGTH));
+        int length = sql.length();
+        int i = 0;
+        while (i < length && shape.length() < MAX_SHAPE_LENGTH) {
+            char c = sql.charAt(i);
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (c == '\'') {
+                i = skipQuoted(sql, i + 1);
+                shape.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (shape.length() > 0) {
+                    shape.append(' ');
+                }
+            } else if (Character.isDigit(c) && !isIdentifierPart(shape)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                shape.append('?');
+            } else {
+                shape.append(c);
+                i++;
+            }
+        }
+        String normalized = shape.toString().trim();
+        return IN_LIST.matcher(normalized).replaceAll("(?)");
+    }
+
+    private static int skipQuoted(String sql, int start) {
+        int i = start;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isIdentifierPart(StringBuilder shape) {
+        if (shape.length() == 0) {
+            return false;
+        }
+        char previous = shape.charAt(shape.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_';
+    }
+
+    private boolean sample(double rate) {
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private ShapeStats stats(String shape) {
+        ShapeStats stats = shapes.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+        if (shapes.size() >= Math.max(1, properties.getMaxShapes())) {
+            return shapes.computeIfAbsent(OVERFLOW_SHAPE, this::newShapeStats);
+        }
+        return shapes.computeIfAbsent(shape, this::newShapeStats);
+    }
+
+    /**
+     * 新形态第一次出现时注册它的指标；指标通过函数读取计数，形态不被移除，因此与统计对象同生命周期
+     */
+    private ShapeStats newShapeStats(String shape) {
+        ShapeStats stats = new ShapeStats();
+        FunctionTimer.builder(QUERIES, stats,
+                        value -> value.executions.sum(), value -> value.totalNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Profiled SQL executions by statement shape")
+                .tag(TAG_SHAPE, shape)
+                .register(registry);
+        FunctionCounter.builder(ERRORS, stats, value -> value.errors.sum())
+                .tag(TAG_SHAPE, shape)
+                .register(registry);
+        FunctionCounter.builder(ROWS, stats, value -> value.rows.sum())
+                .tag(TAG_SHAPE, shape)
+                .register(registry);
+        FunctionCounter.builder(REPEATED, stats, value -> value.repeatedQueryRequests.sum())
+                .description("Requests that ran this shape at least repeated-query-threshold times")
+                .tag(TAG_SHAPE, shape)
+                .register(registry);
+        return stats;
+    }
+
+    private void reportRepeatedShapes(RequestProfile profile) {
+        int threshold = Math.max(2, properties.getRepeatedQueryThreshold());
+        boolean flagged = false;
+        for (Map.Entry<String, int[]> entry : profile.executions.entrySet()) {
+            int executions = entry.getValue()[0];
+            if (executions < threshold || !isSelect(entry.getKey())) {
+                continue;
+            }
+            flagged = true;
+            stats(entry.getKey()).repeatedQueryRequests.increment();
+            log.warn("N_PLUS_ONE_QUERY | requestId={} | route={} | executions={} | shape={}",
+                    resolveRequestId(profile), profile.route, executions, entry.getKey());
+        }
+        if (flagged) {
+            repeatedQueryRequests.increment();
+        }
+    }
+
+    private boolean isSelect(String shape) {
+        return shape.regionMatches(true, 0, "select", 0, "select".length());
+    }
+
+    private String resolveRequestId(RequestProfile profile) {
+        if (profile != null && profile.requestId != null) {
+            return profile.requestId;
+        }
+        String requestId = GlobalRequestContextHolder.requestIdOrEmpty();
+        return requestId.isEmpty() ? "unknown" : requestId;
+    }
+
+    /**
+     * 单个抽中请求内各形态的执行次数；只在请求线程内读写
+     */
+    private static final class RequestProfile {
+
+        private final String route;
+        private final Map<String, int[]> executions = new HashMap<>();
+        private String requestId;
+
+        private RequestProfile(String route) {
+            this.route = route;
+        }
+
+        private void count(String shape) {
+            if (requestId == null) {
+                requestId = GlobalRequestContextHolder.requestIdOrNull();
+            }
+            executions.computeIfAbsent(shape, key -> new int[1])[0]++;
+        }
+    }
+
+    private static final class ShapeStats {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder repeatedQueryRequests = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_BOUNDS_MS.length + 1];
+
+        private ShapeStats() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long elapsedNanos, long rowCount, boolean failed) {
+            executions.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (rowCount > 0) {
+                rows.add(rowCount);
+            }
+            if (failed) {
+                errors.increment();
+            }
+            buckets[bucketOf(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))].increment();
+        }
+
+        private static int bucketOf(long elapsedMillis) {
+            for (int i = 0; i < BUCKET_UPPER_BOUNDS_MS.length; i++) {
+                if (elapsedMillis < BUCKET_UPPER_BOUNDS_MS[i]) {
+                    return i;
+                }
+            }
+            return BUCKET_UPPER_BOUNDS_MS.length;
+        }
+
+        private QueryShapeMetric toMetric(String shape) {
+            long count = executions.sum();
+            double totalMillis = totalNanos.sum() / 1_000_000.0;
+            long[] counts = new long[buckets.length];
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+                histogram.put(i < BUCKET_UPPER_BOUNDS_MS.length ? "<" + BUCKET_UPPER_BOUNDS_MS[i] + "ms" : "+Inf", counts[i]);
+            }
+            return new QueryShapeMetric(
+                    shape,
+                    count,
+                    errors.sum(),
+                    rows.sum(),
+                    totalMillis,
+                    count == 0 ? 0.0 : totalMillis / count,
+                    percentileUpperBound(counts, count, 0.95),
+                    maxNanos.get() / 1_000_000.0,
+                    repeatedQueryRequests.sum(),
+                    histogram);
+        }
+
+        /**
+         * 直方图估算的分位数上界，落在最后一个桶时返回 -1 表示超过最大边界
+         */
+        private static long percentileUpperBound(long[] counts, long total, double percentile) {
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return i < BUCKET_UPPER_BOUNDS_MS.length ? BUCKET_UPPER_BOUNDS_MS[i] : -1;
+                }
+            }
+            return -1;
+        }
+    }
+
+    public record QueryProfileReport(
+            double sampleRate,
+            long sampledRequests,
+            long repeatedQueryRequests,
+            List<QueryShapeMetric> shapes) {
+    }
+
+    public record QueryShapeMetric(
+            String shape,
+            long executions,
+            long errors,
+            long rows,
+            double totalMillis,
+            double avgMillis,
+            long p95UpperBoundMillis,
+            double maxMillis,
+            long repeatedQueryRequests,
+            Map<String, Long> histogram) {
+    }
+}
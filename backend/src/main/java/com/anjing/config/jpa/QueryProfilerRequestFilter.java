@@ -0,0 +1,37 @@
+package com.anjing.config.jpa;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 按请求划定 {@link QueryProfiler} 的抽样和 N+1 统计范围。
+ */
+@Component
+public class QueryProfilerRequestFilter extends OncePerRequestFilter {
+
+    private final QueryProfiler queryProfiler;
+
+    public QueryProfilerRequestFilter(QueryProfiler queryProfiler) {
+        this.queryProfiler = queryProfiler;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        queryProfiler.beginRequest(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryProfiler.endRequest();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.anjing.config.jpa;
+
+import com.alibaba.druid.filter.FilterChain;
+import com.alibaba.druid.filter.FilterEventAdapter;
+import com.alibaba.druid.proxy.jdbc.ResultSetProxy;
+import com.alibaba.druid.proxy.jdbc.StatementProxy;
+
+import java.sql.SQLException;
+
+/**
+ * 挂在 Druid 连接池上的语句计时过滤器，把抽中的语句交给 {@link QueryProfiler}。
+ *
+ * <p>执行前只判断是否抽中，抽中时才把起始时间挂到语句上；查询的行数在结果集关闭时补记。</p>
+ */
+class QueryProfilingFilter extends FilterEventAdapter {
+
+    private static final String ATTR_START_NANOS = "queryProfiler.startNanos";
+    private static final String ATTR_SHAPE = "queryProfiler.shape";
+
+    private final QueryProfiler profiler;
+
+    QueryProfilingFilter(QueryProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    protected void statementExecuteBefore(StatementProxy statement, String sql) {
+        begin(statement);
+    }
+
+    @Override
+    protected void statementExecuteAfter(StatementProxy statement, String sql, boolean result) {
+        finish(statement, sql, 0, false);
+    }
+
+    @Override
+    protected void statementExecuteQueryBefore(StatementProxy statement, String sql) {
+        begin(statement);
+    }
+
+    @Override
+    protected void statementExecuteQueryAfter(StatementProxy statement, String sql, ResultSetProxy resultSet) {
+        String shape = finish(statement, sql, 0, false);
+        if (shape != null && resultSet != null) {
+            resultSet.putAttribute(ATTR_SHAPE, shape);
+        }
+    }
+
+    @Override
+    protected void statementExecuteUpdateBefore(StatementProxy statement, String sql) {
+        begin(statement);
+    }
+
+    @Override
+    protected void statementExecuteUpdateAfter(StatementProxy statement, String sql, int updateCount) {
+        finish(statement, sql, updateCount, false);
+    }
+
+    @Override
+    protected void statementExecuteBatchBefore(StatementProxy statement) {
+        begin(statement);
+    }
+
+    @Override
+    protected void statementExecuteBatchAfter(StatementProxy statement, int[] result) {
+        long rows = 0;
+        if (result != null) {
+            for (int count : result) {
+                rows += Math.max(0, count);
+            }
+        }
+        finish(statement, statement.getBatchSql(), rows, false);
+    }
+
+    @Override
+    protected void statement_executeErrorAfter(StatementProxy statement, String sql, Throwable error) {
+        finish(statement, sql, 0, true);
+    }
+
+    @Override
+    public void resultSet_close(FilterChain chain, ResultSetProxy resultSet) throws SQLException {
+        Object shape = resultSet.getAttribute(ATTR_SHAPE);
+        if (shape instanceof String value) {
+            profiler.recordRows(value, resultSet.getFetchRowCount());
+        }
+        chain.resultSet_close(resultSet);
+    }
+
+    private void begin(StatementProxy statement) {
+        if (profiler.shouldProfile()) {
+            statement.putAttribute(ATTR_START_NANOS, System.nanoTime());
+        }
+    }
+
+    /**
+     * 记录一次抽中的执行并清掉起始时间（连接池会复用 PreparedStatement），返回语句形态；未抽中返回 null
+     */
+    private String finish(StatementProxy statement, String sql, long rows, boolean failed) {
+        Object start = statement.getAttribute(ATTR_START_NANOS);
+        if (!(start instanceof Long startNanos)) {
+            return null;
+        }
+        statement.getAttributes().remove(ATTR_START_NANOS);
+        String shape = profiler.shapeOf(sql);
+        profiler.recordExecution(shape, System.nanoTime() - startNanos, rows, failed);
+        return shape;
+    }
+}
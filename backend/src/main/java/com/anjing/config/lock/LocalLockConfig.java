@@ -1,11 +1,24 @@
 package com.anjing.config.lock;
 
+import com.anjing.config.properties.FeatureProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -25,6 +38,13 @@ import java.util.concurrent.locks.ReentrantLock;
  *   <li>多实例部署时无法保证分布式互斥</li>
  *   <li>适合开发环境和单体应用</li>
  * </ul>
+ *
+ * <h3>🕒 租约语义（与 Redisson 对齐）：</h3>
+ * <ul>
+ *   <li>指定 expireTime 时，到期后锁自动失效，其他线程可以获取</li>
+ *   <li>expireTime 为 -1 时由看门狗续期：持有线程存活就按 watchdog-timeout 周期续约，线程结束后租约到期自动释放</li>
+ *   <li>同一线程可重入，重入时刷新租约</li>
+ * </ul>
  * 
  * @author Backend Template Team
  * @version 1.0
@@ -37,28 +57,66 @@ public class LocalLockConfig {
     /**
      * 本地锁管理器
      */
-    @Bean
-    public LocalLockManager localLockManager() {
+    @Bean(destroyMethod = "shutdown")
+    public LocalLockManager localLockManager(FeatureProperties featureProperties, MeterRegistry meterRegistry) {
         log.warn("🔄 分布式锁降级: 使用本地锁实现 (仅适用于单机部署)");
-        return new LocalLockManager();
+        LocalLockManager manager = new LocalLockManager(featureProperties.getDistributedLock().getWatchdogTimeoutMillis());
+        manager.bindTo(meterRegistry);
+        return manager;
     }
 
     /**
      * 本地锁管理器实现
+     *
+     * <p>每个 key 一个引用计数的锁条目：获取前在 compute 中加引用，结束等待或释放后在 compute 中减引用，
+     * 引用归零时原子移除，不会出现两个线程对同一 key 持有不同锁对象的情况。</p>
+     *
+     * <p>竞争统计同时注册为 {@code local.lock.*} 指标，指标按需读取计数，不在加锁路径上额外记录。</p>
      */
-    public static class LocalLockManager {
-        
-        private final ConcurrentHashMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+    public static class LocalLockManager implements MeterBinder {
+
+        private final ConcurrentHashMap<String, LockEntry> locks = new ConcurrentHashMap<>();
+        private final long watchdogTimeoutNanos;
+        private final ScheduledExecutorService watchdog;
+
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder contendedAcquisitions = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder expiredLeases = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        public LocalLockManager(long watchdogTimeoutMillis) {
+            this.watchdogTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(3, watchdogTimeoutMillis));
+            this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "local-lock-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long renewIntervalNanos = watchdogTimeoutNanos / 3;
+            this.watchdog.scheduleWithFixedDelay(this::renewLeases, renewIntervalNanos, renewIntervalNanos, TimeUnit.NANOSECONDS);
+        }
 
         /**
          * 获取本地锁，直到成功为止。
          *
          * @param lockKey 锁键
-         * @param expireTime 过期时间（秒，本地锁忽略此参数）
+         * @param expireTime 过期时间（秒），-1 表示由看门狗续期
          */
         public void lock(String lockKey, long expireTime) {
-            ReentrantLock lock = locks.computeIfAbsent(lockKey, k -> new ReentrantLock());
-            lock.lock();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    acquire(lockKey, Long.MAX_VALUE, expireTime);
+                    break;
+                } catch (InterruptedException e) {
+                    // 与 Redisson lock() 一致：不因中断放弃加锁，加锁后恢复中断标记
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
             log.debug("🔒 本地锁获取成功: {}", lockKey);
         }
         
@@ -67,14 +125,12 @@ public class LocalLockConfig {
          * 
          * @param lockKey 锁键
          * @param waitTime 等待时间（秒）
-         * @param expireTime 过期时间（秒，本地锁忽略此参数）
+         * @param expireTime 过期时间（秒），-1 表示由看门狗续期
          * @return 是否获取成功
          */
         public boolean tryLock(String lockKey, long waitTime, long expireTime) {
-            ReentrantLock lock = locks.computeIfAbsent(lockKey, k -> new ReentrantLock());
-            
             try {
-                boolean acquired = lock.tryLock(waitTime, java.util.concurrent.TimeUnit.SECONDS);
+                boolean acquired = acquire(lockKey, TimeUnit.SECONDS.toNanos(Math.max(0, waitTime)), expireTime);
                 if (acquired) {
                     log.debug("🔒 本地锁获取成功: {}", lockKey);
                 } else {
@@ -89,21 +145,17 @@ public class LocalLockConfig {
         }
         
         /**
-         * 释放锁
+         * 释放锁；租约已过期或锁已被他人获取时只记录告警
          * 
          * @param lockKey 锁键
          */
         public void unlock(String lockKey) {
-            ReentrantLock lock = locks.get(lockKey);
-            if (lock != null && lock.isHeldByCurrentThread()) {
-                lock.unlock();
-                log.debug("🔓 本地锁释放成功: {}", lockKey);
-                
-                // 清理无人持有的锁
-                if (!lock.hasQueuedThreads()) {
-                    locks.remove(lockKey);
-                }
+            LockEntry entry = locks.get(lockKey);
+            if (entry == null || !entry.release()) {
+                log.warn("🔓 本地锁释放时已不再持有（租约可能已过期）: {}", lockKey);
+                return;
             }
+            log.debug("🔓 本地锁释放成功: {}", lockKey);
         }
         
         /**
@@ -113,17 +165,256 @@ public class LocalLockConfig {
          * @return 是否被锁定
          */
         public boolean isLocked(String lockKey) {
-            ReentrantLock lock = locks.get(lockKey);
-            return lock != null && lock.isLocked();
+            LockEntry entry = locks.get(lockKey);
+            return entry != null && entry.isHeld(System.nanoTime());
         }
-        
+
         /**
          * 获取锁统计信息
          */
         public String getStats() {
-            int totalLocks = locks.size();
-            long activeLocks = locks.values().stream().mapToLong(lock -> lock.isLocked() ? 1 : 0).sum();
-            return String.format("总锁数: %d, 活跃锁: %d", totalLocks, activeLocks);
+            LocalLockStats stats = snapshot();
+            return String.format("总锁数: %d, 活跃锁: %d, 获取次数: %d, 竞争次数: %d, 超时次数: %d, 租约过期: %d, 平均等待: %.2fms, 最长等待: %.2fms",
+                    stats.totalLocks(), stats.activeLocks(), stats.acquisitions(), stats.contendedAcquisitions(),
+                    stats.timeouts(), stats.expiredLeases(), stats.avgWaitMillis(), stats.maxWaitMillis());
+        }
+
+        public LocalLockStats snapshot() {
+            long now = System.nanoTime();
+            long activeLocks = locks.values().stream().filter(entry -> entry.isHeld(now)).count();
+            long contended = contendedAcquisitions.sum();
+            double totalWaitMillis = totalWaitNanos.sum() / 1_000_000.0;
+            return new LocalLockStats(
+                    locks.size(),
+                    activeLocks,
+                    acquisitions.sum(),
+                    contended,
+                    timeouts.sum(),
+                    expiredLeases.sum(),
+                    contended == 0 ? 0.0 : totalWaitMillis / contended,
+                    maxWaitNanos.get() / 1_000_000.0);
+        }
+
+        @Override
+        public void bindTo(MeterRegistry registry) {
+            FunctionCounter.builder("local.lock.acquisitions", acquisitions, LongAdder::sum)
+                    .description("Successful local lock acquisitions")
+                    .register(registry);
+            FunctionCounter.builder("local.lock.timeouts", timeouts, LongAdder::sum)
+                    .description("tryLock calls that gave up after the wait time")
+                    .register(registry);
+            FunctionCounter.builder("local.lock.expired.leases", expiredLeases, LongAdder::sum)
+                    .register(registry);
+            FunctionTimer.builder("local.lock.contended.wait", this,
+                            manager -> manager.contendedAcquisitions.sum(),
+                            manager -> manager.totalWaitNanos.sum(),
+                            TimeUnit.NANOSECONDS)
+                    .description("Acquisitions that had to wait and their total wait time")
+                    .register(registry);
+            TimeGauge.builder("local.lock.contended.wait.max", maxWaitNanos, TimeUnit.NANOSECONDS, AtomicLong::get)
+                    .register(registry);
+            Gauge.builder("local.lock.entries", locks, ConcurrentHashMap::size)
+                    .description("Lock keys currently held or waited on")
+                    .register(registry);
+        }
+
+        public void shutdown() {
+            watchdog.shutdownNow();
+        }
+
+        private boolean acquire(String lockKey, long waitNanos, long expireTime) throws InterruptedException {
+            LockEntry entry = locks.compute(lockKey, (key, existing) -> {
+                LockEntry target = existing == null ? new LockEntry(key) : existing;
+                target.references++;
+                return target;
+            });
+            boolean firstHold = false;
+            try {
+                firstHold = entry.acquire(waitNanos, leaseNanos(expireTime));
+                return entry.isHeldByCurrentThread();
+            } finally {
+                // 新获得的持有保留这份引用直到释放或租约过期；重入和失败立即归还
+                if (!firstHold) {
+                    dereference(lockKey, entry);
+                }
+            }
+        }
+
+        /**
+         * 等待者放弃、持有者释放或租约过期时减少引用；引用归零的条目在 compute 中原子移除
+         */
+        private void dereference(String lockKey, LockEntry entry) {
+            locks.computeIfPresent(lockKey, (key, existing) -> {
+                if (existing != entry) {
+                    return existing;
+                }
+                return --existing.references == 0 ? null : existing;
+            });
+        }
+
+        private long leaseNanos(long expireTime) {
+            return expireTime > 0 ? TimeUnit.SECONDS.toNanos(expireTime) : -1L;
+        }
+
+        /**
+         * 看门狗：续约存活持有者的租约，同时收回已过期的租约，没有后续访问的过期条目也能被清理
+         */
+        private void renewLeases() {
+            long now = System.nanoTime();
+            locks.values().forEach(entry -> entry.renew(now));
         }
+
+        private void recordWait(long waitedNanos, boolean acquired) {
+            if (acquired) {
+                acquisitions.increment();
+            } else {
+                timeouts.increment();
+            }
+            if (waitedNanos > 0) {
+                contendedAcquisitions.increment();
+                totalWaitNanos.add(waitedNanos);
+                maxWaitNanos.accumulateAndGet(waitedNanos, Math::max);
+            }
+        }
+
+        /**
+         * 单个 key 的锁状态；持有者、重入次数和租约截止时间都由 mutex 保护。
+         * 持有者占用一份引用，在完全释放或租约过期时归还；mutex 内只会调用 computeIfPresent，
+         * compute 的回调里从不获取 mutex，不存在锁顺序反转。
+         */
+        private final class LockEntry {
+
+            private final String key;
+            private final ReentrantLock mutex = new ReentrantLock();
+            private final Condition released = mutex.newCondition();
+            /**
+             * 引用数，只在 locks.compute / computeIfPresent 中读写
+             */
+            private int references;
+            private Thread owner;
+            private int holdCount;
+            private long leaseDeadlineNanos;
+            private boolean watchdogLease;
+
+            private LockEntry(String key) {
+                this.key = key;
+            }
+
+            /**
+             * 获取锁；返回是否为本线程新获得的持有（重入或超时返回 false）
+             */
+            private boolean acquire(long waitNanos, long leaseNanos) throws InterruptedException {
+                Thread current = Thread.currentThread();
+                long start = System.nanoTime();
+                boolean waited = false;
+                mutex.lockInterruptibly();
+                try {
+                    while (true) {
+                        long now = System.nanoTime();
+                        expireIfDue(now);
+                        if (owner == null || owner == current) {
+                            boolean firstHold = owner == null;
+                            if (firstHold) {
+                                owner = current;
+                                holdCount = 0;
+                            }
+                            holdCount++;
+                            watchdogLease = leaseNanos < 0;
+                            leaseDeadlineNanos = now + (watchdogLease ? watchdogTimeoutNanos : leaseNanos);
+                            recordWait(waited ? now - start : 0, true);
+                            return firstHold;
+                        }
+                        long remaining = waitNanos == Long.MAX_VALUE ? Long.MAX_VALUE : waitNanos - (now - start);
+                        if (remaining <= 0) {
+                            recordWait(waited ? now - start : 0, false);
+                            return false;
+                        }
+                        waited = true;
+                        released.awaitNanos(Math.min(remaining, Math.max(1L, leaseDeadlineNanos - now)));
+                    }
+                } finally {
+                    mutex.unlock();
+                }
+            }
+
+            private boolean release() {
+                mutex.lock();
+                try {
+                    expireIfDue(System.nanoTime());
+                    if (owner != Thread.currentThread()) {
+                        return false;
+                    }
+                    if (--holdCount == 0) {
+                        endHold();
+                    }
+                    return true;
+                } finally {
+                    mutex.unlock();
+                }
+            }
+
+            private boolean isHeldByCurrentThread() {
+                mutex.lock();
+                try {
+                    return owner == Thread.currentThread();
+                } finally {
+                    mutex.unlock();
+                }
+            }
+
+            private boolean isHeld(long now) {
+                mutex.lock();
+                try {
+                    expireIfDue(now);
+                    return owner != null;
+                } finally {
+                    mutex.unlock();
+                }
+            }
+
+            /**
+             * 持有线程仍存活时延长看门狗租约；线程结束后不再续约，租约到期即收回
+             */
+            private void renew(long now) {
+                mutex.lock();
+                try {
+                    if (owner != null && watchdogLease && owner.isAlive()) {
+                        leaseDeadlineNanos = now + watchdogTimeoutNanos;
+                    }
+                    expireIfDue(now);
+                } finally {
+                    mutex.unlock();
+                }
+            }
+
+            private void expireIfDue(long now) {
+                if (owner != null && now - leaseDeadlineNanos >= 0) {
+                    log.warn("🔒 本地锁租约过期，自动释放: {} (持有线程: {})", key, owner.getName());
+                    expiredLeases.increment();
+                    endHold();
+                }
+            }
+
+            private void endHold() {
+                owner = null;
+                holdCount = 0;
+                released.signal();
+                dereference(key, this);
+            }
+        }
+    }
+
+    /**
+     * 本地锁统计快照
+     */
+    public record LocalLockStats(
+            int totalLocks,
+            long activeLocks,
+            long acquisitions,
+            long contendedAcquisitions,
+            long timeouts,
+            long expiredLeases,
+            double avgWaitMillis,
+            double maxWaitMillis) {
     }
 }
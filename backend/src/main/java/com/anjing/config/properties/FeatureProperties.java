@@ -163,6 +163,11 @@ public class FeatureProperties {
          * 默认过期时间（秒）
          */
         private long defaultExpireTime = 30;
+
+        /**
+         * 本地锁看门狗租约（毫秒）：未指定过期时间的锁按此租约每 1/3 周期续约，与 Redisson lockWatchdogTimeout 对应
+         */
+        private long watchdogTimeoutMillis = 30000;
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.anjing.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared outbound HTTP client settings (connection pool, HTTP/2, per-host limits, DNS cache).
+ *
+ * <p>Timeouts stay with each caller (provider config, OneRouter config, app.remote-http);
+ * everything configured here is shared by all of them.</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.outbound-http")
+public class OutboundHttpClientProperties {
+
+    /**
+     * Negotiate HTTP/2 over TLS (ALPN) when the server supports it; falls back to HTTP/1.1.
+     */
+    private boolean http2Enabled = true;
+
+    /**
+     * Idle connections kept in the shared pool.
+     */
+    private int maxIdleConnections = 32;
+
+    /**
+     * How long an idle pooled connection is kept alive.
+     */
+    private long keepAliveSeconds = 300L;
+
+    /**
+     * Maximum concurrent asynchronous calls across all hosts.
+     */
+    private int maxRequests = 128;
+
+    /**
+     * Maximum concurrent calls to one host (sync and async); 0 disables the limit.
+     */
+    private int maxRequestsPerHost = 32;
+
+    /**
+     * How long a call waits for a per-host slot before failing.
+     */
+    private long perHostAcquireTimeoutMs = 2000L;
+
+    /**
+     * TTL of cached DNS lookups; 0 disables the cache.
+     */
+    private long dnsCacheTtlSeconds = 60L;
+
+    /**
+     * Maximum number of cached host names.
+     */
+    private int dnsCacheMaxEntries = 256;
+}
@@ -0,0 +1,34 @@
+package com.anjing.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sampling SQL profiler settings.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.query-profiler")
+public class QueryProfilerProperties {
+
+    /**
+     * Share of requests (0.0 - 1.0) whose statements are profiled; 0 turns the profiler off.
+     */
+    private double sampleRate = 0.0;
+
+    /**
+     * Sampled statements at or above this duration are written to the slow-query log.
+     */
+    private long slowQueryMillis = 500;
+
+    /**
+     * Executions of one statement shape within a single request that are reported as an N+1 pattern.
+     */
+    private int repeatedQueryThreshold = 10;
+
+    /**
+     * Maximum number of distinct statement shapes tracked; further shapes are folded into one bucket.
+     */
+    private int maxShapes = 500;
+}
@@ -43,19 +43,164 @@ public class RemoteHttpClientProperties {
      */
     private long defaultRetryIntervalMs = 1000L;
 
+    /**
+     * Executor and retry timer used by the *Async methods of RemoteHttpClient.
+     */
+    private Async async = new Async();
+
+    /**
+     * In-memory call metrics recorded by the default RemoteCallObserver.
+     */
+    private Metrics metrics = new Metrics();
+
     /**
      * Optional lightweight governance policy for outbound remote calls.
      */
     private Policy policy = new Policy();
 
+    /**
+     * Endpoint selection for services configured with more than one base URL.
+     */
+    private LoadBalancing loadBalancing = new LoadBalancing();
+
     /**
      * Logical service id to base URL mapping.
      *
      * <p>Keep service addresses in configuration so business code can call
-     * RemoteHttpRequest with serviceId + path instead of scattering absolute URLs.</p>
+     * RemoteHttpRequest with serviceId + path instead of scattering absolute URLs.
+     * A comma-separated value defines several interchangeable endpoints for one service.</p>
      */
     private Map<String, String> serviceBaseUrls = new LinkedHashMap<>();
 
+    @Data
+    public static class Async {
+
+        /**
+         * Threads kept for running async remote call attempts.
+         */
+        private int corePoolSize = 8;
+
+        /**
+         * Upper bound of threads for async remote call attempts.
+         */
+        private int maxPoolSize = 32;
+
+        /**
+         * Attempts queued before new async calls are rejected.
+         */
+        private int queueCapacity = 200;
+
+        /**
+         * Thread name prefix; the retry timer thread uses the same prefix plus "retry-".
+         */
+        private String threadNamePrefix = "remote-http-";
+    }
+
+    @Data
+    public static class Metrics {
+
+        /**
+         * When disabled the default observer is the no-op one.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of distinct path templates and of callers in remote call meters; meters for further values are dropped.
+         */
+        private int maxSeries = 500;
+
+        /**
+         * Calls at or above this duration are kept in the slow-call buffer.
+         */
+        private long slowCallThresholdMs = 1000L;
+
+        /**
+         * Number of most recent slow calls kept.
+         */
+        private int slowCallBufferSize = 100;
+    }
+
+    @Data
+    public static class LoadBalancing {
+
+        /**
+         * Default strategy for multi-endpoint services.
+         */
+        private Strategy strategy = Strategy.ROUND_ROBIN;
+
+        /**
+         * Per-service strategy override.
+         */
+        private Map<String, Strategy> strategyByService = new LinkedHashMap<>();
+
+        /**
+         * Time constant of the latency moving average used by EWMA_LATENCY.
+         */
+        private long ewmaDecayMs = 10_000L;
+
+        /**
+         * Consecutive transport failures (network errors, timeouts, 5xx) that eject an endpoint.
+         */
+        private int consecutiveFailures = 5;
+
+        /**
+         * First ejection length; repeated ejections of the same endpoint grow linearly up to maxEjectionMs.
+         */
+        private long baseEjectionMs = 30_000L;
+
+        /**
+         * Upper bound of a single ejection.
+         */
+        private long maxEjectionMs = 300_000L;
+
+        /**
+         * Share of a service's endpoints that may be ejected at once; at least one endpoint always stays.
+         */
+        private int maxEjectionPercent = 50;
+
+        /**
+         * Optional active health probing of multi-endpoint services.
+         */
+        private HealthCheck healthCheck = new HealthCheck();
+    }
+
+    @Data
+    public static class HealthCheck {
+
+        /**
+         * Disabled by default; passive ejection works without probes.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Default path probed with GET on every endpoint; any 2xx marks the endpoint healthy.
+         * Blank by default because downstream services do not share a health endpoint;
+         * services without a path are left to passive ejection.
+         */
+        private String path = "";
+
+        /**
+         * Per-service probe path override.
+         */
+        private Map<String, String> pathByService = new LinkedHashMap<>();
+
+        /**
+         * Delay between probe rounds.
+         */
+        private long intervalMs = 10_000L;
+
+        /**
+         * Connect and read timeout of a single probe.
+         */
+        private int timeoutMs = 1000;
+    }
+
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_OUTSTANDING,
+        EWMA_LATENCY
+    }
+
     @Data
     public static class Policy {
 
@@ -0,0 +1,32 @@
+package com.anjing.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controller request log payload settings.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.request-log")
+public class RequestLogProperties {
+
+    /**
+     * Character budget for serialized args or result; serialization stops once it is used up.
+     */
+    private int payloadMaxChars = 1000;
+
+    /**
+     * Share of requests (0.0 - 1.0) whose args and result are serialized into the log.
+     */
+    private double payloadSampleRate = 1.0;
+
+    /**
+     * Per-route overrides keyed by Ant-style route pattern; the first matching entry wins.
+     */
+    private Map<String, Double> routePayloadSampleRates = new LinkedHashMap<>();
+}
@@ -5,9 +5,13 @@ import com.anjing.model.request.GlobalRequestContext;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Thread-local request context for controllers, services, logs, and remote calls.
+ *
+ * <p>{@link GlobalRequestContext} is immutable, so propagation to async tasks and future stages only
+ * moves a reference: {@link #capture()}, {@link #runWith} and the {@code wrap*} helpers never copy.</p>
  */
 public final class GlobalRequestContextHolder {
 
@@ -24,33 +28,26 @@ public final class GlobalRequestContextHolder {
         return Optional.ofNullable(HOLDER.get());
     }
 
+    /**
+     * Current context without the Optional wrapper, for hot paths that read a single field.
+     */
+    public static GlobalRequestContext currentOrNull() {
+        return HOLDER.get();
+    }
+
+    /**
+     * Snapshot for another thread. The context is immutable, so the snapshot is the instance itself.
+     */
     public static Optional<GlobalRequestContext> capture() {
-        return current().map(GlobalRequestContextHolder::copyOf);
+        return current();
     }
 
+    /**
+     * @deprecated the context is immutable; share the instance or derive a changed one with {@code toBuilder()}
+     */
+    @Deprecated
     public static GlobalRequestContext copyOf(GlobalRequestContext context) {
-        if (context == null) {
-            return null;
-        }
-
-        Object[] args = context.getArgs();
-        return GlobalRequestContext.builder()
-                .requestId(context.getRequestId())
-                .traceId(context.getTraceId())
-                .tenantId(context.getTenantId())
-                .userId(context.getUserId())
-                .userName(context.getUserName())
-                .userRoles(context.getUserRoles())
-                .callerId(context.getCallerId())
-                .locale(context.getLocale())
-                .timeZone(context.getTimeZone())
-                .ip(context.getIp())
-                .url(context.getUrl())
-                .methodType(context.getMethodType())
-                .className(context.getClassName())
-                .methodName(context.getMethodName())
-                .args(args == null ? null : args.clone())
-                .build();
+        return context;
     }
 
     public static void setOrClear(GlobalRequestContext context) {
@@ -58,11 +55,15 @@ public final class GlobalRequestContextHolder {
             clear();
             return;
         }
-        set(copyOf(context));
+        set(context);
     }
 
+    /**
+     * Runs with the given context bound and restores the previous one afterwards,
+     * the same shape as {@code ScopedValue.where(key, context).run(runnable)}.
+     */
     public static void runWith(GlobalRequestContext context, Runnable runnable) {
-        GlobalRequestContext previous = capture().orElse(null);
+        GlobalRequestContext previous = HOLDER.get();
         try {
             setOrClear(context);
             runnable.run();
@@ -72,7 +73,7 @@ public final class GlobalRequestContextHolder {
     }
 
     public static <T> T callWith(GlobalRequestContext context, Callable<T> callable) throws Exception {
-        GlobalRequestContext previous = capture().orElse(null);
+        GlobalRequestContext previous = HOLDER.get();
         try {
             setOrClear(context);
             return callable.call();
@@ -81,6 +82,42 @@ public final class GlobalRequestContextHolder {
         }
     }
 
+    /**
+     * Binds the caller's context to a task run later on another thread, e.g.
+     * {@code CompletableFuture.runAsync(GlobalRequestContextHolder.wrapRunnable(task))}.
+     */
+    public static Runnable wrapRunnable(Runnable runnable) {
+        GlobalRequestContext context = HOLDER.get();
+        return () -> runWith(context, runnable);
+    }
+
+    /**
+     * Supplier variant of {@link #wrapRunnable}, for {@code CompletableFuture.supplyAsync}.
+     */
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+        GlobalRequestContext context = HOLDER.get();
+        return () -> supplyWith(context, supplier);
+    }
+
+    /**
+     * Function variant of {@link #wrapRunnable}, for {@code thenApply}/{@code thenApplyAsync} stages
+     * that may run on whichever thread completed the previous stage.
+     */
+    public static <T, R> Function<T, R> wrapFunction(Function<T, R> function) {
+        GlobalRequestContext context = HOLDER.get();
+        return value -> supplyWith(context, () -> function.apply(value));
+    }
+
+    private static <T> T supplyWith(GlobalRequestContext context, Supplier<T> supplier) {
+        GlobalRequestContext previous = HOLDER.get();
+        try {
+            setOrClear(context);
+            return supplier.get();
+        } finally {
+            setOrClear(previous);
+        }
+    }
+
     public static String requestIdOrEmpty() {
         return valueOrEmpty(GlobalRequestContext::getRequestId);
     }
@@ -127,6 +164,7 @@ public final class GlobalRequestContextHolder {
     }
 
     private static String valueOrNull(Function<GlobalRequestContext, String> getter) {
-        return current().map(getter).orElse(null);
+        GlobalRequestContext context = HOLDER.get();
+        return context == null ? null : getter.apply(context);
     }
 }
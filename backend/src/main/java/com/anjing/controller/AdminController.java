@@ -0,0 +1,85 @@
+package com.anjing.controller;
+
+import com.anjing.aigc.service.AigcProviderAuditLogService;
+import com.anjing.aigc.service.AigcProviderManagementPermissionService;
+import com.anjing.client.RemoteCallMetrics;
+import com.anjing.config.http.OutboundHttpClientMetrics;
+import com.anjing.config.jpa.QueryProfiler;
+import com.anjing.model.constants.ApiConstants;
+import com.anjing.model.response.APIResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import okhttp3.OkHttpClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 运维统计控制器
+ *
+ * <p>汇总 SQL 抽样、出站连接池和远程调用等进程内统计。统计里带有语句形态、下游主机和调用方，
+ * 所有接口都要求请求方具备 AIGC 管理角色，拒绝时写入 Provider 审计日志。</p>
+ */
+@RestController
+@RequestMapping(ApiConstants.Admin.BASE)
+@RequiredArgsConstructor
+@Tag(name = "Admin Operations", description = "Operational statistics for administrators")
+public class AdminController {
+
+    private static final String RESOURCE_QUERY_PROFILE = "OPS_QUERY_PROFILE";
+    private static final String RESOURCE_OUTBOUND_HTTP = "OPS_OUTBOUND_HTTP";
+    private static final String RESOURCE_REMOTE_CALLS = "OPS_REMOTE_CALLS";
+
+    private final AigcProviderManagementPermissionService permissionService;
+    private final QueryProfiler queryProfiler;
+    private final OutboundHttpClientMetrics outboundHttpClientMetrics;
+    private final OkHttpClient outboundHttpClient;
+    private final RemoteCallMetrics remoteCallMetrics;
+
+    /**
+     * SQL 抽样统计接口
+     *
+     * <p>按累计耗时倒序返回各语句形态的执行次数、行数、耗时直方图和 N+1 命中次数。</p>
+     *
+     * @param limit 返回的语句形态数量
+     * @return 查询 profiler 统计
+     */
+    @GetMapping(ApiConstants.Admin.QUERY_PROFILE)
+    @Operation(summary = "Query profile")
+    public APIResponse<QueryProfiler.QueryProfileReport> queryProfile(@RequestParam(defaultValue = "20") int limit) {
+        permissionService.assertCanManageAigc(AigcProviderAuditLogService.ACTION_OPS_STATS, RESOURCE_QUERY_PROFILE);
+        return APIResponse.success(queryProfiler.report(limit));
+    }
+
+    /**
+     * 出站 HTTP 连接池统计接口
+     *
+     * <p>返回共享出站客户端的连接数、连接复用率、HTTP/2 连接数、DNS 缓存命中和各主机并发占用。</p>
+     *
+     * @return 出站 HTTP 统计
+     */
+    @GetMapping(ApiConstants.Admin.OUTBOUND_HTTP)
+    @Operation(summary = "Outbound HTTP client stats")
+    public APIResponse<OutboundHttpClientMetrics.OutboundHttpClientStats> outboundHttp() {
+        permissionService.assertCanManageAigc(AigcProviderAuditLogService.ACTION_OPS_STATS, RESOURCE_OUTBOUND_HTTP);
+        return APIResponse.success(outboundHttpClientMetrics.snapshot(outboundHttpClient));
+    }
+
+    /**
+     * 远程调用统计接口
+     *
+     * <p>从 Micrometer 指标汇总各服务、路径模板和调用方的调用次数、错误率、在途数和 p95/p99 耗时，
+     * 按累计耗时倒序返回，并附带最近的慢调用。</p>
+     *
+     * @param limit 返回的调用序列数量
+     * @return 远程调用统计
+     */
+    @GetMapping(ApiConstants.Admin.REMOTE_CALLS)
+    @Operation(summary = "Remote call metrics")
+    public APIResponse<RemoteCallMetrics.RemoteCallMetricsReport> remoteCalls(@RequestParam(defaultValue = "20") int limit) {
+        permissionService.assertCanManageAigc(AigcProviderAuditLogService.ACTION_OPS_STATS, RESOURCE_REMOTE_CALLS);
+        return APIResponse.success(remoteCallMetrics.report(limit));
+    }
+}
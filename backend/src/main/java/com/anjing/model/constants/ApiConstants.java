@@ -129,6 +129,9 @@ public class ApiConstants {
         public static final String DASHBOARD = "/dashboard";
         public static final String SYSTEM_INFO = "/system/info";
         public static final String HEALTH_CHECK = "/health";
+        public static final String QUERY_PROFILE = "/query-profile";
+        public static final String OUTBOUND_HTTP = "/outbound-http";
+        public static final String REMOTE_CALLS = "/remote-calls";
         
         /** 📋 日志管理 */
         public static final String LOGS = "/logs";
@@ -147,6 +150,9 @@ public class ApiConstants {
         public static final String DASHBOARD_FULL = BASE + DASHBOARD;
         public static final String SYSTEM_INFO_FULL = BASE + SYSTEM_INFO;
         public static final String HEALTH_CHECK_FULL = BASE + HEALTH_CHECK;
+        public static final String QUERY_PROFILE_FULL = BASE + QUERY_PROFILE;
+        public static final String OUTBOUND_HTTP_FULL = BASE + OUTBOUND_HTTP;
+        public static final String REMOTE_CALLS_FULL = BASE + REMOTE_CALLS;
         public static final String LOGS_FULL = BASE + LOGS;
         public static final String OPERATION_LOGS_FULL = BASE + OPERATION_LOGS;
         public static final String ERROR_LOGS_FULL = BASE + ERROR_LOGS;
@@ -269,8 +275,13 @@ public class ApiConstants {
         public static final String MATERIAL_UPLOAD = "/materials/upload";
         public static final String STORAGE_STATUS = "/storage/status";
         public static final String STORAGE_AUDITS = "/storage/audits";
+        public static final String STORAGE_AUDIT_FEED = "/storage/audits/feed";
+        public static final String STORAGE_DATA_URL_MIGRATION = "/storage/data-url-migration";
         public static final String OWNERSHIP_BACKFILL = "/ownership/backfill";
+        public static final String TASK_MATERIAL_BACKFILL = "/materials/task-links/backfill";
+        public static final String GALLERY_TOPIC_BACKFILL = "/gallery/topics/backfill";
         public static final String GALLERY = "/gallery";
+        public static final String GALLERY_FEED = "/gallery/feed";
         public static final String GALLERY_RANKING = "/gallery/ranking";
         public static final String GALLERY_COLLECTIONS = "/gallery/collections";
         public static final String GALLERY_TOPICS = "/gallery/topics";
@@ -278,6 +289,7 @@ public class ApiConstants {
         public static final String GALLERY_CURATION_RULES = "/gallery/curation/rules";
         public static final String GALLERY_CURATION_RULE_CONFIG = "/gallery/curation/rules/config";
         public static final String GALLERY_AUDITS = "/gallery/audits";
+        public static final String GALLERY_AUDIT_FEED = "/gallery/audits/feed";
         public static final String GALLERY_INTERACTION_REPORT = "/gallery/reports/interactions";
         public static final String GALLERY_FAVORITES = "/gallery/favorites";
         public static final String GALLERY_SAVE = "/gallery/save";
@@ -286,10 +298,12 @@ public class ApiConstants {
         public static final String GALLERY_FAVORITE = "/gallery/{assetId}/favorite";
         public static final String GALLERY_SHARE = "/gallery/{assetId}/share";
         public static final String GALLERY_SHARE_REUSE = "/gallery/{assetId}/share/reuse";
+        public static final String GALLERY_DETAIL = "/gallery/{assetId}";
         public static final String GALLERY_AUTHOR_PROFILE = "/gallery/authors/{authorId}";
         public static final String GALLERY_ASSET_PREVIEW = "/gallery/{assetId}/preview";
         public static final String GALLERY_ASSET_DOWNLOAD = "/gallery/{assetId}/download";
         public static final String ASSETS = "/assets";
+        public static final String ASSET_FEED = "/assets/feed";
         public static final String ASSET_DETAIL = "/assets/{assetId}";
         public static final String ASSET_PREVIEW = "/assets/{assetId}/preview";
         public static final String ASSET_DOWNLOAD = "/assets/{assetId}/download";
@@ -313,8 +327,13 @@ public class ApiConstants {
         public static final String MATERIAL_UPLOAD_FULL = BASE + MATERIAL_UPLOAD;
         public static final String STORAGE_STATUS_FULL = BASE + STORAGE_STATUS;
         public static final String STORAGE_AUDITS_FULL = BASE + STORAGE_AUDITS;
+        public static final String STORAGE_AUDIT_FEED_FULL = BASE + STORAGE_AUDIT_FEED;
+        public static final String STORAGE_DATA_URL_MIGRATION_FULL = BASE + STORAGE_DATA_URL_MIGRATION;
         public static final String OWNERSHIP_BACKFILL_FULL = BASE + OWNERSHIP_BACKFILL;
+        public static final String TASK_MATERIAL_BACKFILL_FULL = BASE + TASK_MATERIAL_BACKFILL;
+        public static final String GALLERY_TOPIC_BACKFILL_FULL = BASE + GALLERY_TOPIC_BACKFILL;
         public static final String GALLERY_FULL = BASE + GALLERY;
+        public static final String GALLERY_FEED_FULL = BASE + GALLERY_FEED;
         public static final String GALLERY_RANKING_FULL = BASE + GALLERY_RANKING;
         public static final String GALLERY_COLLECTIONS_FULL = BASE + GALLERY_COLLECTIONS;
         public static final String GALLERY_TOPICS_FULL = BASE + GALLERY_TOPICS;
@@ -322,6 +341,7 @@ public class ApiConstants {
         public static final String GALLERY_CURATION_RULES_FULL = BASE + GALLERY_CURATION_RULES;
         public static final String GALLERY_CURATION_RULE_CONFIG_FULL = BASE + GALLERY_CURATION_RULE_CONFIG;
         public static final String GALLERY_AUDITS_FULL = BASE + GALLERY_AUDITS;
+        public static final String GALLERY_AUDIT_FEED_FULL = BASE + GALLERY_AUDIT_FEED;
         public static final String GALLERY_INTERACTION_REPORT_FULL = BASE + GALLERY_INTERACTION_REPORT;
         public static final String GALLERY_FAVORITES_FULL = BASE + GALLERY_FAVORITES;
         public static final String GALLERY_SAVE_FULL = BASE + GALLERY_SAVE;
@@ -330,10 +350,12 @@ public class ApiConstants {
         public static final String GALLERY_FAVORITE_FULL = BASE + GALLERY_FAVORITE;
         public static final String GALLERY_SHARE_FULL = BASE + GALLERY_SHARE;
         public static final String GALLERY_SHARE_REUSE_FULL = BASE + GALLERY_SHARE_REUSE;
+        public static final String GALLERY_DETAIL_FULL = BASE + GALLERY_DETAIL;
         public static final String GALLERY_AUTHOR_PROFILE_FULL = BASE + GALLERY_AUTHOR_PROFILE;
         public static final String GALLERY_ASSET_PREVIEW_FULL = BASE + GALLERY_ASSET_PREVIEW;
         public static final String GALLERY_ASSET_DOWNLOAD_FULL = BASE + GALLERY_ASSET_DOWNLOAD;
         public static final String ASSETS_FULL = BASE + ASSETS;
+        public static final String ASSET_FEED_FULL = BASE + ASSET_FEED;
         public static final String ASSET_DETAIL_FULL = BASE + ASSET_DETAIL;
         public static final String ASSET_PREVIEW_FULL = BASE + ASSET_PREVIEW;
         public static final String ASSET_DOWNLOAD_FULL = BASE + ASSET_DOWNLOAD;
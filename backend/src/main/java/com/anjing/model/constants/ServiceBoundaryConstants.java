@@ -76,7 +76,7 @@ public final class ServiceBoundaryConstants {
         public static final String API_PATHS_KEY = "aigc";
         public static final boolean OPENAPI = true;
         public static final String COPY_ACTION = "core business boundary for multimodal generation, assets, gallery, and model metadata";
-        public static final String[] ROUTES = { "generate", "taskStatus", "taskRetry", "models", "modelProbe", "modelActiveProvider", "modelProviderCredential", "modelProviderParams", "modelProviderSmokeTest", "modelProviderAudits", "modelProviderExecutionReport", "materials", "materialDetail", "materialTasks", "materialPreview", "materialDownload", "materialUpload", "storageStatus", "storageAudits", "ownershipBackfill", "gallery", "galleryRanking", "galleryCollections", "galleryTopics", "galleryCreatorRanking", "galleryCurationRules", "galleryCurationRuleConfig", "galleryAudits", "galleryInteractionReport", "galleryFavorites", "gallerySave", "galleryPublication", "galleryLike", "galleryFavorite", "galleryShare", "galleryShareReuse", "galleryAuthorProfile", "galleryAssetPreview", "galleryAssetDownload", "assets", "assetDetail", "assetPreview", "assetDownload" };
+        public static final String[] ROUTES = { "generate", "taskStatus", "taskRetry", "models", "modelProbe", "modelActiveProvider", "modelProviderCredential", "modelProviderParams", "modelProviderSmokeTest", "modelProviderAudits", "modelProviderExecutionReport", "materials", "materialDetail", "materialTasks", "materialPreview", "materialDownload", "materialUpload", "storageStatus", "storageAudits", "storageAuditFeed", "storageDataUrlMigration", "ownershipBackfill", "taskMaterialBackfill", "galleryTopicBackfill", "gallery", "galleryFeed", "galleryRanking", "galleryCollections", "galleryTopics", "galleryCreatorRanking", "galleryCurationRules", "galleryCurationRuleConfig", "galleryAudits", "galleryAuditFeed", "galleryInteractionReport", "galleryFavorites", "gallerySave", "galleryPublication", "galleryLike", "galleryFavorite", "galleryShare", "galleryShareReuse", "galleryDetail", "galleryAuthorProfile", "galleryAssetPreview", "galleryAssetDownload", "assets", "assetFeed", "assetDetail", "assetPreview", "assetDownload" };
 
         private Aigc() {
         }
@@ -102,15 +102,15 @@ public final class ServiceBoundaryConstants {
     public static final class Admin {
         public static final String ID = "admin";
         public static final String NAME = "Admin Operations";
-        public static final String KIND = "reserved";
+        public static final String KIND = "runtime";
         public static final String OWNER = "infra-admin";
-        public static final String CURRENT_HOST = "future-service";
+        public static final String CURRENT_HOST = "agent-aigc";
         public static final String BASE_PATH = "/api/admin";
         public static final String API_CONSTANTS_CLASS = "Admin";
-        public static final String API_PATHS_KEY = "";
-        public static final boolean OPENAPI = false;
+        public static final String API_PATHS_KEY = "admin";
+        public static final boolean OPENAPI = true;
         public static final String COPY_ACTION = "use for operations dashboards, logs, and platform admin APIs";
-        public static final String[] ROUTES = {};
+        public static final String[] ROUTES = { "queryProfile", "outboundHttp", "remoteCalls" };
 
         private Admin() {
         }
@@ -18,7 +18,11 @@ public enum AigcErrorCode implements ErrorCode {
     PROVIDER_CALL_FAILED("2410", "模型 Provider 调用失败"),
     MATERIAL_USAGE_UNSUPPORTED("2411", "素材不适用于当前创作类型"),
     STORAGE_FILE_NOT_FOUND("2412", "文件不存在或不可访问"),
-    OWNERSHIP_BACKFILL_INVALID("2413", "归属回填请求不合法");
+    OWNERSHIP_BACKFILL_INVALID("2413", "归属回填请求不合法"),
+    DATA_URL_MIGRATION_INVALID("2414", "data URL 迁移请求不合法"),
+    CURSOR_INVALID("2415", "分页游标不合法"),
+    TASK_MATERIAL_BACKFILL_INVALID("2416", "任务素材关联回填请求不合法"),
+    GALLERY_TOPIC_BACKFILL_INVALID("2417", "广场专题标签回填请求不合法");
 
     private final String code;
     private final String message;
@@ -1,60 +1,92 @@
 package com.anjing.model.request;
 
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@AllArgsConstructor
-@NoArgsConstructor
-@Builder
-public class GlobalRequestContext
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable per-request context.
+ *
+ * <p>Built once at the entrypoint and shared by reference with async tasks, future stages,
+ * audit writers and remote calls; derive a changed copy with {@code toBuilder()}.</p>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class GlobalRequestContext
 {
     // Request id generated by frontend, gateway, or backend.
-    private String requestId;
+    private final String requestId;
 
     // Trace id propagated across future service calls.
-    private String traceId;
+    private final String traceId;
 
     // Tenant id for future multi-tenant projects.
-    private String tenantId;
+    private final String tenantId;
 
     // Current user id.
-    private String userId;
+    private final String userId;
 
     // Current user display name.
-    private String userName;
+    private final String userName;
 
     // Current user role list from upstream auth or gateway.
-    private String userRoles;
+    private final String userRoles;
 
     // Caller id for service-to-service calls.
-    private String callerId;
+    private final String callerId;
 
     // Locale from Accept-Language.
-    private String locale;
+    private final String locale;
 
     // User or client time zone.
-    private String timeZone;
+    private final String timeZone;
 
     // Client ip.
-    private String ip;
+    private final String ip;
 
     // Request url.
-    private String url;
+    private final String url;
 
     // Request method: GET/POST/DELETE/PUT.
-    private String methodType;
+    private final String methodType;
 
     // Controller or service class.
-    private String className;
+    private final String className;
 
     // Controller or service method.
-    private String methodName;
-
-    // Method arguments.
-    private Object[] args;
+    private final String methodName;
+
+    // Method arguments, copied in and out so the shared instance cannot change.
+    private final Object[] args;
+
+    @Builder(toBuilder = true)
+    public GlobalRequestContext(String requestId, String traceId, String tenantId, String userId, String userName,
+                                String userRoles, String callerId, String locale, String timeZone, String ip,
+                                String url, String methodType, String className, String methodName, Object[] args)
+    {
+        this.requestId = requestId;
+        this.traceId = traceId;
+        this.tenantId = tenantId;
+        this.userId = userId;
+        this.userName = userName;
+        this.userRoles = userRoles;
+        this.callerId = callerId;
+        this.locale = locale;
+        this.timeZone = timeZone;
+        this.ip = ip;
+        this.url = url;
+        this.methodType = methodType;
+        this.className = className;
+        this.methodName = methodName;
+        this.args = args == null ? null : args.clone();
+    }
+
+    public Object[] getArgs()
+    {
+        return args == null ? null : args.clone();
+    }
 
 }
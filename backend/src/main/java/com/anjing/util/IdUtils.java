@@ -5,16 +5,21 @@ import lombok.extern.slf4j.Slf4j;
 import java.security.SecureRandom;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * ID生成工具类
  * 
  * 提供多种ID生成策略：
- * 1. 雪花算法ID（分布式唯一）
- * 2. UUID（全局唯一）
+ * 1. 雪花算法ID（分布式唯一，节点号需在启动时通过租约分配）
+ * 2. UUID / UUIDv7（全局唯一，v7 按时间有序）
  * 3. 时间戳ID（可读性好）
  * 4. 随机字符串（验证码等）
+ *
+ * 业务主键（taskId、assetId 等）统一走 {@link #businessId()}，具体策略由应用启动时配置；
+ * 按时间有序的ID插入时落在B+树右侧，避免随机UUID造成的页分裂和缓冲池抖动。
  * 
  * @author Backend Template
  * @since 2025-01-20
@@ -33,15 +38,35 @@ public class IdUtils {
     private static final long MAX_WORKER_ID = -1L ^ (-1L << WORKER_ID_BITS);
     private static final long MAX_DATA_CENTER_ID = -1L ^ (-1L << DATA_CENTER_ID_BITS);
     private static final long SEQUENCE_MASK = -1L ^ (-1L << SEQUENCE_BITS);
+
+    /**
+     * 节点号 = 数据中心ID + 工作节点ID，共 10 位
+     */
+    public static final long MAX_NODE_ID = -1L ^ (-1L << (WORKER_ID_BITS + DATA_CENTER_ID_BITS));
+
+    /**
+     * 可容忍的时钟回拨（毫秒）：范围内沿用上次时间戳继续发号，序列用尽则等待时钟追上；超出直接拒绝
+     */
+    public static final long MAX_CLOCK_BACKWARD_MILLIS = 1000L;
     
     private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
     private static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
     private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
 
     /**
-     * 雪花算法实例
+     * 雪花算法实例；未分配节点号前沿用 worker 1 / datacenter 1，多实例部署必须调用 {@link #configureSnowflakeNode(long)}
      */
-    private static final SnowflakeIdGenerator SNOWFLAKE = new SnowflakeIdGenerator(1, 1);
+    private static volatile SnowflakeIdGenerator snowflake = new SnowflakeIdGenerator(1, 1);
+
+    /**
+     * 当前节点号可以发号的截止时间（epoch 毫秒）；固定节点号时不设限，租约分配时为租约到期时间减去安全余量
+     */
+    private static volatile long snowflakeUsableUntilMillis = Long.MAX_VALUE;
+
+    /**
+     * 业务主键策略
+     */
+    private static volatile BusinessIdStrategy businessIdStrategy = BusinessIdStrategy.UUID;
 
     /**
      * 序列号生成器
@@ -68,18 +93,95 @@ public class IdUtils {
      * 生成雪花算法ID
      * 
      * @return 雪花算法ID
+     * @throws IllegalStateException 节点号租约未持有或即将到期
      */
     public static Long nextId() {
-        return SNOWFLAKE.nextId();
+        return usableSnowflake().nextId();
     }
 
     /**
      * 生成雪花算法ID字符串
      * 
      * @return 雪花算法ID字符串
+     * @throws IllegalStateException 节点号租约未持有或即将到期
      */
     public static String nextIdStr() {
-        return String.valueOf(SNOWFLAKE.nextId());
+        return String.valueOf(usableSnowflake().nextId());
+    }
+
+    /**
+     * 切换雪花算法节点号（0 ~ {@link #MAX_NODE_ID}），高 5 位作为数据中心ID、低 5 位作为工作节点ID
+     *
+     * <p>新生成器从切换时刻重新计序列；同一节点号只能由一个进程持有，由调用方通过租约保证。</p>
+     *
+     * @param nodeId 节点号
+     */
+    public static void configureSnowflakeNode(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("雪花算法节点号超出范围: " + nodeId);
+        }
+        snowflake = new SnowflakeIdGenerator(nodeId & MAX_WORKER_ID, nodeId >>> WORKER_ID_BITS);
+    }
+
+    /**
+     * 设置当前节点号可以发号的截止时间
+     *
+     * <p>租约分配节点号时传入租约到期时间减去安全余量：续约持续失败时本进程在租约到期前停止使用该节点号，
+     * 其他实例接管后不会与本进程发出重复ID。传入 {@link Long#MAX_VALUE} 表示不设限，传入 0 表示立即停用。</p>
+     *
+     * @param usableUntilEpochMillis 截止时间（epoch 毫秒）
+     */
+    public static void configureSnowflakeLease(long usableUntilEpochMillis) {
+        snowflakeUsableUntilMillis = usableUntilEpochMillis;
+    }
+
+    /**
+     * 当前节点号是否仍可发号
+     */
+    public static boolean snowflakeUsable() {
+        return System.currentTimeMillis() < snowflakeUsableUntilMillis;
+    }
+
+    /**
+     * 当前雪花算法节点号
+     */
+    public static long snowflakeNodeId() {
+        return snowflake.nodeId();
+    }
+
+    /**
+     * 配置业务主键策略
+     *
+     * @param strategy 策略，null 时回退为随机UUID
+     */
+    public static void configureBusinessIdStrategy(BusinessIdStrategy strategy) {
+        businessIdStrategy = strategy == null ? BusinessIdStrategy.UUID : strategy;
+    }
+
+    public static BusinessIdStrategy businessIdStrategy() {
+        return businessIdStrategy;
+    }
+
+    /**
+     * 按当前策略生成业务主键（taskId、assetId、materialId 等字符串主键）
+     *
+     * <p>雪花算法策略下节点号不可用时本次降级为 UUIDv7，重新持有租约后自动恢复。</p>
+     *
+     * @return 业务主键
+     */
+    public static String businessId() {
+        return switch (businessIdStrategy) {
+            case UUID_V7 -> uuidV7();
+            case SNOWFLAKE -> snowflakeUsable() ? String.valueOf(snowflake.nextId()) : uuidV7();
+            case UUID -> uuid();
+        };
+    }
+
+    private static SnowflakeIdGenerator usableSnowflake() {
+        if (!snowflakeUsable()) {
+            throw new IllegalStateException("雪花算法节点号租约未持有或即将到期，拒绝发号");
+        }
+        return snowflake;
     }
 
     /**
@@ -91,6 +193,30 @@ public class IdUtils {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * 生成 UUIDv7（RFC 9562）：高 48 位为毫秒时间戳，其余为随机位，字符串形式与普通UUID同长且按时间有序
+     *
+     * @return UUIDv7字符串
+     */
+    public static String uuidV7() {
+        return uuidV7(System.currentTimeMillis()).toString();
+    }
+
+    static UUID uuidV7(long epochMillis) {
+        byte[] random = new byte[10];
+        SECURE_RANDOM.nextBytes(random);
+        long mostSigBits = (epochMillis << 16)
+                | 0x7000L
+                | ((random[0] & 0x0FL) << 8)
+                | (random[1] & 0xFFL);
+        long leastSigBits = 0L;
+        for (int i = 2; i < random.length; i++) {
+            leastSigBits = (leastSigBits << 8) | (random[i] & 0xFFL);
+        }
+        leastSigBits = (leastSigBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
     /**
      * 生成不带分隔符的UUID
      * 
@@ -185,56 +311,88 @@ public class IdUtils {
         return sb.toString();
     }
 
+    /**
+     * 业务主键策略
+     */
+    public enum BusinessIdStrategy {
+        /**
+         * 随机UUID，兼容历史数据
+         */
+        UUID,
+        /**
+         * 时间有序UUID，无需节点协调
+         */
+        UUID_V7,
+        /**
+         * 雪花算法，最紧凑，需要节点号租约
+         */
+        SNOWFLAKE
+    }
+
     /**
      * 雪花算法ID生成器
+     *
+     * <p>(相对时间戳, 序列号) 打包在一个 {@link AtomicLong} 中，用 CAS 推进，多线程发号不再串行在同一把锁上。
+     * 序列号占低 12 位，时间戳在其上方，同一毫秒内状态单调加一。</p>
      */
-    private static class SnowflakeIdGenerator {
-        private final long workerId;
-        private final long dataCenterId;
-        private long sequence = 0L;
-        private long lastTimestamp = -1L;
+    static final class SnowflakeIdGenerator {
+        private final long nodeBits;
+        private final long nodeId;
+        private final AtomicLong state = new AtomicLong();
 
-        public SnowflakeIdGenerator(long workerId, long dataCenterId) {
+        SnowflakeIdGenerator(long workerId, long dataCenterId) {
             if (workerId > MAX_WORKER_ID || workerId < 0) {
                 throw new IllegalArgumentException("工作节点ID超出范围: " + workerId);
             }
             if (dataCenterId > MAX_DATA_CENTER_ID || dataCenterId < 0) {
                 throw new IllegalArgumentException("数据中心ID超出范围: " + dataCenterId);
             }
-            this.workerId = workerId;
-            this.dataCenterId = dataCenterId;
+            this.nodeId = (dataCenterId << WORKER_ID_BITS) | workerId;
+            this.nodeBits = (dataCenterId << DATA_CENTER_ID_SHIFT) | (workerId << WORKER_ID_SHIFT);
         }
 
-        public synchronized long nextId() {
-            long timestamp = System.currentTimeMillis();
-
-            if (timestamp < lastTimestamp) {
-                throw new RuntimeException("时钟回拨，拒绝生成ID");
-            }
+        long nodeId() {
+            return nodeId;
+        }
 
-            if (lastTimestamp == timestamp) {
-                sequence = (sequence + 1) & SEQUENCE_MASK;
-                if (sequence == 0) {
-                    timestamp = tilNextMillis(lastTimestamp);
+        long nextId() {
+            while (true) {
+                long current = state.get();
+                long lastTimestamp = current >>> SEQUENCE_BITS;
+                long timestamp = currentTimestamp();
+                long next;
+                if (timestamp > lastTimestamp) {
+                    next = timestamp << SEQUENCE_BITS;
+                } else {
+                    long backward = lastTimestamp - timestamp;
+                    if (backward > MAX_CLOCK_BACKWARD_MILLIS) {
+                        throw new IllegalStateException("时钟回拨 " + backward + "ms，超过容忍上限，拒绝生成ID");
+                    }
+                    if ((current & SEQUENCE_MASK) == SEQUENCE_MASK) {
+                        // 当前毫秒序列已用尽（或处于回拨窗口内），等时钟越过上次时间戳
+                        waitUntilAfter(lastTimestamp);
+                        continue;
+                    }
+                    next = current + 1;
+                }
+                if (state.compareAndSet(current, next)) {
+                    return ((next >>> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT) | nodeBits | (next & SEQUENCE_MASK);
                 }
-            } else {
-                sequence = 0L;
             }
+        }
 
-            lastTimestamp = timestamp;
-
-            return ((timestamp - EPOCH) << TIMESTAMP_LEFT_SHIFT)
-                    | (dataCenterId << DATA_CENTER_ID_SHIFT)
-                    | (workerId << WORKER_ID_SHIFT)
-                    | sequence;
+        private static long currentTimestamp() {
+            return System.currentTimeMillis() - EPOCH;
         }
 
-        private long tilNextMillis(long lastTimestamp) {
-            long timestamp = System.currentTimeMillis();
-            while (timestamp <= lastTimestamp) {
-                timestamp = System.currentTimeMillis();
+        private static void waitUntilAfter(long lastTimestamp) {
+            while (currentTimestamp() <= lastTimestamp) {
+                if (lastTimestamp - currentTimestamp() > 1) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                } else {
+                    Thread.onSpinWait();
+                }
             }
-            return timestamp;
         }
     }
 }
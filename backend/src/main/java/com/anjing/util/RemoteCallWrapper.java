@@ -16,6 +16,12 @@ import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -66,6 +72,12 @@ import java.util.function.Supplier;
  *     true, // 检查响应状态
  *     1000  // 重试间隔1秒
  * );
+ *
+ * // 异步重试：重试由定时器触发，不占用调用线程
+ * CompletableFuture&lt;PaymentResponse&gt; future = RemoteCallWrapper.callWithRetryAsync(
+ *     req -> paymentService.processPayment(req),
+ *     paymentRequest, "processPayment", 3, true, 500, executor, scheduler
+ * );
  * 
  * // 无参数调用
  * ConfigResponse config = RemoteCallWrapper.callNoParam(
@@ -109,6 +121,11 @@ public class RemoteCallWrapper {
      */
     private static final long DEFAULT_RETRY_INTERVAL = 1000L;
 
+    /**
+     * 异步重试退避上限（毫秒）
+     */
+    private static final long MAX_RETRY_BACKOFF = 30_000L;
+
     /**
      * Builds outbound headers from the current request context.
      *
@@ -288,6 +305,48 @@ public class RemoteCallWrapper {
         );
     }
 
+    /**
+     * 🔄 异步带重试的远程调用
+     *
+     * <p>每次尝试提交到 {@code executor}，失败后的重试由 {@code scheduler} 按带抖动的指数退避定时触发，
+     * 调用线程和执行线程都不会 sleep。重试判定、响应校验和日志与 {@link #callWithRetry} 一致；
+     * 取消返回的 future 后不再发起新的尝试。</p>
+     *
+     * @param function       调用函数
+     * @param request        请求参数
+     * @param methodName     方法名称
+     * @param retryCount     重试次数
+     * @param checkResponse  是否校验响应
+     * @param retryInterval  首次重试的基准间隔（毫秒），之后逐次翻倍
+     * @param executor       执行每次尝试的线程池
+     * @param scheduler      触发重试的定时器
+     * @param <T>            请求类型
+     * @param <R>            响应类型
+     * @return 完成时携带响应结果；最终失败时以 SystemException 异常完成
+     */
+    public static <T, R> CompletableFuture<R> callWithRetryAsync(Function<T, R> function, T request, String methodName,
+                                                             int retryCount, boolean checkResponse, long retryInterval,
+                                                             Executor executor, ScheduledExecutorService scheduler) {
+        logCallStart(methodName, request);
+        AsyncRetryCall<T, R> call = new AsyncRetryCall<>(
+                function, request, methodName, retryCount, checkResponse, retryInterval, executor, scheduler);
+        call.submit(0);
+        return call.result;
+    }
+
+    /**
+     * 第 attempt 次重试（从 0 开始）前的等待时间：基准间隔按 2 的幂增长并封顶，再在后一半区间内随机抖动，
+     * 避免大量调用在下游恢复瞬间同时重试
+     */
+    static long retryBackoffMillis(long retryInterval, int attempt) {
+        if (retryInterval <= 0) {
+            return 0L;
+        }
+        long backoff = Math.min(MAX_RETRY_BACKOFF, retryInterval << Math.min(attempt, 16));
+        long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+    }
+
     /**
      * 🔍 校验响应结果
      */
@@ -515,4 +574,81 @@ public class RemoteCallWrapper {
         }
         return str.substring(0, maxLength) + "...";
     }
+
+    /**
+     * 一次异步重试调用的状态
+     */
+    private static final class AsyncRetryCall<T, R> {
+
+        private final Function<T, R> function;
+        private final T request;
+        private final String methodName;
+        private final int retryCount;
+        private final boolean checkResponse;
+        private final long retryInterval;
+        private final Executor executor;
+        private final ScheduledExecutorService scheduler;
+        private final long startedAtNanos = System.nanoTime();
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+
+        private AsyncRetryCall(Function<T, R> function, T request, String methodName, int retryCount,
+                               boolean checkResponse, long retryInterval, Executor executor,
+                               ScheduledExecutorService scheduler) {
+            this.function = function;
+            this.request = request;
+            this.methodName = methodName;
+            this.retryCount = retryCount;
+            this.checkResponse = checkResponse;
+            this.retryInterval = retryInterval;
+            this.executor = executor;
+            this.scheduler = scheduler;
+        }
+
+        private void submit(int attempt) {
+            try {
+                executor.execute(() -> run(attempt));
+            } catch (RejectedExecutionException e) {
+                fail(new SystemException("远程调用线程池已满: " + methodName, e, RemoteErrorCode.REMOTE_CALL_FAILED));
+            }
+        }
+
+        private void run(int attempt) {
+            if (result.isDone()) {
+                return;
+            }
+            long attemptStartedAt = System.nanoTime();
+            try {
+                R response = function.apply(request);
+                if (checkResponse) {
+                    validateResponse(response, methodName);
+                }
+                logCallSuccess(methodName, request, response, elapsedMillis(attemptStartedAt), attempt);
+                result.complete(response);
+            } catch (Exception e) {
+                if (attempt >= retryCount || !shouldRetry(e)) {
+                    logCallFailure(methodName, request, e, elapsedMillis(startedAtNanos));
+                    fail(new SystemException("远程调用失败: " + e.getMessage(), e, RemoteErrorCode.REMOTE_CALL_FAILED));
+                    return;
+                }
+                logRetryAttempt(methodName, attempt + 1, retryCount, e.getMessage());
+                scheduleRetry(attempt + 1, retryBackoffMillis(retryInterval, attempt));
+            }
+        }
+
+        private void scheduleRetry(int attempt, long delayMillis) {
+            try {
+                scheduler.schedule(() -> submit(attempt), delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                fail(new SystemException("远程调用重试调度失败: " + methodName, e, RemoteErrorCode.REMOTE_CALL_FAILED));
+            }
+        }
+
+        private void fail(SystemException exception) {
+            result.completeExceptionally(exception);
+        }
+
+        private static long elapsedMillis(long startedAtNanos) {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+        }
+    }
 }
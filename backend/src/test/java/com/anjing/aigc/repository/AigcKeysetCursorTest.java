@@ -0,0 +1,34 @@
+package com.anjing.aigc.repository;
+
+import com.anjing.aigc.exception.AigcException;
+import com.anjing.model.errorcode.AigcErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AigcKeysetCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTripKeepsTimestampPrecisionAndId() {
+        AigcKeysetCursor cursor = new AigcKeysetCursor(LocalDateTime.of(2026, 6, 19, 10, 0, 1, 123_456_000), 42L);
+
+        assertEquals(cursor, AigcKeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decodeTreatsBlankCursorAsFirstPage() {
+        assertNull(AigcKeysetCursor.decode(null));
+        assertNull(AigcKeysetCursor.decode(" "));
+    }
+
+    @Test
+    void decodeRejectsTamperedCursor() {
+        AigcException error = assertThrows(AigcException.class, () -> AigcKeysetCursor.decode("not-a-cursor"));
+
+        assertEquals(AigcErrorCode.CURSOR_INVALID, error.getErrorCode());
+    }
+}
@@ -0,0 +1,172 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.exception.AigcException;
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.entity.AigcTask;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.request.DataUrlMigrationRequest;
+import com.anjing.aigc.model.response.DataUrlMigrationResponse;
+import com.anjing.aigc.repository.AigcAssetRepository;
+import com.anjing.aigc.repository.AigcTaskRepository;
+import com.anjing.aigc.service.storage.AigcStorageAuditLogService;
+import com.anjing.aigc.service.storage.AigcStorageService;
+import com.anjing.aigc.service.storage.LocalAigcStorageService;
+import com.anjing.aigc.service.storage.OssAigcStorageService;
+import com.anjing.model.errorcode.AigcErrorCode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AigcDataUrlMigrationServiceTest {
+
+    private static final String DATA_URL = "data:image/svg+xml;charset=UTF-8,%3Csvg%3E%3C%2Fsvg%3E";
+
+    @TempDir
+    Path tempDir;
+
+    private final AigcAssetRepository assetRepository = mock(AigcAssetRepository.class);
+    private final AigcTaskRepository taskRepository = mock(AigcTaskRepository.class);
+    private final AigcProviderManagementPermissionService permissionService =
+            mock(AigcProviderManagementPermissionService.class);
+    private final AigcProviderAuditLogService auditLogService = mock(AigcProviderAuditLogService.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private AigcDataUrlMigrationService service;
+
+    @BeforeEach
+    void setUp() {
+        AigcProperties properties = new AigcProperties();
+        properties.getStorage().getLocal().setBasePath(tempDir.toString());
+        properties.getStorage().getLocal().setUrlPrefix("http://localhost:10003/files");
+        AigcStorageService storageService = new AigcStorageService(
+                properties,
+                new LocalAigcStorageService(properties),
+                new OssAigcStorageService(properties),
+                mock(AigcStorageAuditLogService.class)
+        );
+        service = new AigcDataUrlMigrationService(
+                assetRepository,
+                taskRepository,
+                storageService,
+                permissionService,
+                auditLogService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                entityManager);
+    }
+
+    @Test
+    void dryRunCountsCandidatesWithoutWritingObjects() throws Exception {
+        when(assetRepository.countDataUrlAssets()).thenReturn(2L);
+        when(taskRepository.countDataUrlTasks()).thenReturn(3L);
+
+        DataUrlMigrationResponse response = service.migrate(new DataUrlMigrationRequest());
+
+        assertTrue(response.getDryRun());
+        assertEquals(2L, response.getAssetCandidates());
+        assertEquals(3L, response.getTaskCandidates());
+        assertEquals(0, response.getAssetMigrated());
+        verify(assetRepository, never()).findDataUrlAssetsAfter(anyLong(), any());
+        verify(permissionService).assertCanManageAigc(
+                AigcProviderAuditLogService.ACTION_DATA_URL_MIGRATION,
+                "AIGC_DATA_URL");
+        assertTrue(Files.notExists(tempDir.resolve("generated")));
+    }
+
+    @Test
+    void confirmedMigrationRewritesAssetAndTaskToSharedManagedObject() throws Exception {
+        AigcAsset asset = new AigcAsset();
+        asset.setId(1L);
+        asset.setAssetId("asset-1");
+        asset.setContentType(ContentType.IMAGE);
+        asset.setUrl(DATA_URL);
+        asset.setThumbnailUrl(DATA_URL);
+        AigcTask task = new AigcTask();
+        task.setId(7L);
+        task.setTaskId("task-1");
+        task.setContentType(ContentType.IMAGE);
+        task.setResultUrl(DATA_URL);
+        task.setThumbnailUrl(DATA_URL);
+        when(assetRepository.countDataUrlAssets()).thenReturn(1L);
+        when(taskRepository.countDataUrlTasks()).thenReturn(1L);
+        when(assetRepository.findDataUrlAssetsAfter(eq(0L), any())).thenReturn(List.of(asset));
+        when(taskRepository.findDataUrlTasksAfter(eq(0L), any())).thenReturn(List.of(task));
+
+        DataUrlMigrationRequest request = new DataUrlMigrationRequest();
+        request.setDryRun(false);
+        request.setConfirmMigration(true);
+        DataUrlMigrationResponse response = service.migrate(request);
+
+        assertEquals(1, response.getAssetMigrated());
+        assertEquals(1, response.getTaskMigrated());
+        assertEquals(0, response.getFailed());
+        assertTrue(asset.getUrl().startsWith("http://localhost:10003/files/generated/image/"));
+        assertTrue(asset.getUrl().endsWith(".svg"));
+        assertEquals(asset.getUrl(), asset.getThumbnailUrl());
+        assertEquals(asset.getUrl(), task.getResultUrl());
+        assertEquals(asset.getUrl(), task.getThumbnailUrl());
+        try (var files = Files.list(tempDir.resolve("generated/image"))) {
+            assertEquals(1L, files.count());
+        }
+        verify(auditLogService).record(
+                eq(AigcProviderAuditLogService.ACTION_DATA_URL_MIGRATION),
+                any(),
+                any(),
+                any(),
+                any(),
+                any(),
+                any());
+    }
+
+    @Test
+    void assetWithFailingThumbnailKeepsBothOriginalUrlsAndIsNotSaved() throws Exception {
+        String brokenThumbnail = "data:image/png;base64,@@@";
+        AigcAsset asset = new AigcAsset();
+        asset.setId(1L);
+        asset.setAssetId("asset-1");
+        asset.setContentType(ContentType.IMAGE);
+        asset.setUrl(DATA_URL);
+        asset.setThumbnailUrl(brokenThumbnail);
+        when(assetRepository.findDataUrlAssetsAfter(eq(0L), any())).thenReturn(List.of(asset));
+        when(taskRepository.findDataUrlTasksAfter(eq(0L), any())).thenReturn(List.of());
+
+        DataUrlMigrationRequest request = new DataUrlMigrationRequest();
+        request.setDryRun(false);
+        request.setConfirmMigration(true);
+        DataUrlMigrationResponse response = service.migrate(request);
+
+        assertEquals(0, response.getAssetMigrated());
+        assertEquals(1, response.getFailed());
+        assertEquals(DATA_URL, asset.getUrl());
+        assertEquals(brokenThumbnail, asset.getThumbnailUrl());
+        verify(assetRepository).saveAll(List.of());
+        verify(entityManager, org.mockito.Mockito.times(2)).clear();
+    }
+
+    @Test
+    void migrationRequiresExplicitConfirmation() {
+        DataUrlMigrationRequest request = new DataUrlMigrationRequest();
+        request.setDryRun(false);
+
+        AigcException error = assertThrows(AigcException.class, () -> service.migrate(request));
+
+        assertEquals(AigcErrorCode.DATA_URL_MIGRATION_INVALID, error.getErrorCode());
+    }
+}
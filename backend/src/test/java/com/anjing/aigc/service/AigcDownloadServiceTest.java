@@ -29,13 +29,13 @@ class AigcDownloadServiceTest {
     private final AigcMaterialRepository materialRepository = mock(AigcMaterialRepository.class);
     private final AigcStorageService storageService = mock(AigcStorageService.class);
     private final AigcOwnershipService ownershipService = new AigcOwnershipService();
-    private final AigcGalleryAuditLogService galleryAuditLogService = mock(AigcGalleryAuditLogService.class);
+    private final AigcGalleryEventRecorder galleryEventRecorder = mock(AigcGalleryEventRecorder.class);
     private final AigcDownloadService downloadService = new AigcDownloadService(
             assetRepository,
             materialRepository,
             storageService,
             ownershipService,
-            galleryAuditLogService
+            galleryEventRecorder
     );
 
     @Test
@@ -151,7 +151,7 @@ class AigcDownloadServiceTest {
         assertTrue(response.getHeaders()
                 .getFirst(HttpHeaders.CONTENT_DISPOSITION)
                 .startsWith("attachment"));
-        verify(galleryAuditLogService).recordSuccess(
+        verify(galleryEventRecorder).record(
                 AigcGalleryAuditLogService.ACTION_PUBLIC_DOWNLOAD,
                 asset
         );
@@ -4,6 +4,8 @@ import com.anjing.aigc.model.entity.AigcAsset;
 import com.anjing.aigc.model.entity.AigcGalleryAuditLog;
 import com.anjing.aigc.model.enums.ContentType;
 import com.anjing.aigc.repository.AigcGalleryAuditLogRepository;
+import com.anjing.aigc.repository.AigcGalleryEventRollupRepository;
+import com.anjing.aigc.repository.AigcKeysetCursor;
 import com.anjing.context.GlobalRequestContextHolder;
 import com.anjing.model.request.GlobalRequestContext;
 import com.anjing.model.response.PageResult;
@@ -12,7 +14,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -21,15 +26,18 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AigcGalleryAuditLogServiceTest {
 
     private final AigcGalleryAuditLogRepository repository = mock(AigcGalleryAuditLogRepository.class);
+    private final AigcGalleryEventRollupRepository rollupRepository = mock(AigcGalleryEventRollupRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
     private final AigcOwnershipService ownershipService = new AigcOwnershipService();
     private final AigcGalleryAuditLogService service =
-            new AigcGalleryAuditLogService(repository, ownershipService);
+            new AigcGalleryAuditLogService(repository, ownershipService, rollupRepository, jdbcTemplate);
 
     @AfterEach
     void tearDown() {
@@ -71,6 +79,44 @@ class AigcGalleryAuditLogServiceTest {
         ));
     }
 
+    @Test
+    void recordEventBatchWritesOneAuditSamplePerBucketAndUpsertsRollupCounts() {
+        LocalDateTime minute = LocalDateTime.of(2026, 6, 19, 10, 0);
+        List<AigcGalleryEventRecorder.EventBucket> buckets = List.of(
+                new AigcGalleryEventRecorder.EventBucket(
+                        event(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, "asset-1", minute.plusSeconds(5)), 40L),
+                new AigcGalleryEventRecorder.EventBucket(
+                        event(AigcGalleryAuditLogService.ACTION_PUBLIC_DOWNLOAD, "asset-1", minute.plusSeconds(10)), 1L),
+                new AigcGalleryEventRecorder.EventBucket(
+                        event(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, null, minute.plusSeconds(20)), 1L));
+
+        service.recordEventBatch(buckets);
+
+        verify(jdbcTemplate).batchUpdate(org.mockito.ArgumentMatchers.startsWith("insert into aigc_gallery_audit_log"),
+                org.mockito.ArgumentMatchers.<List<Object[]>>argThat(rows ->
+                        rows.size() == 3
+                                && AigcGalleryAuditLogService.ACTION_SHARE_VIEW.equals(rows.get(0)[0])
+                                && "asset-1".equals(rows.get(0)[1])
+                                && "IMAGE".equals(rows.get(0)[2])
+                                && Boolean.TRUE.equals(rows.get(0)[5])
+                                && String.valueOf(rows.get(0)[6]).contains("40")
+                                && "rid-1".equals(rows.get(0)[7])
+                                && Timestamp.valueOf(minute.plusSeconds(5)).equals(rows.get(0)[14])
+                                && rows.get(1)[6] == null
+                                && AigcGalleryAuditLogService.ACTION_PUBLIC_DOWNLOAD.equals(rows.get(1)[0])));
+        verify(jdbcTemplate).batchUpdate(org.mockito.ArgumentMatchers.startsWith("insert into aigc_gallery_event_rollup"),
+                org.mockito.ArgumentMatchers.<List<Object[]>>argThat(rows ->
+                        rows.size() == 2
+                                && "asset-1".equals(rows.get(0)[0])
+                                && AigcGalleryAuditLogService.ACTION_SHARE_VIEW.equals(rows.get(0)[1])
+                                && Timestamp.valueOf(minute).equals(rows.get(0)[3])
+                                && Long.valueOf(40L).equals(rows.get(0)[4])
+                                && Long.valueOf(40L).equals(rows.get(0)[6])
+                                && Long.valueOf(1L).equals(rows.get(1)[4])));
+        verify(repository, never()).saveAll(any());
+        verify(repository, never()).save(any(AigcGalleryAuditLog.class));
+    }
+
     @Test
     void getAuditLogsReturnsPagedResponse() {
         AigcGalleryAuditLog log = new AigcGalleryAuditLog();
@@ -93,19 +139,43 @@ class AigcGalleryAuditLogServiceTest {
     }
 
     @Test
-    void getInteractionReportAggregatesVisibleAuditMetrics() {
-        when(repository.countVisible(nullable(String.class), nullable(String.class), eq(ContentType.IMAGE),
-                any(LocalDateTime.class))).thenReturn(18L);
-        when(repository.countVisibleSuccessful(nullable(String.class), nullable(String.class), eq(ContentType.IMAGE),
-                any(LocalDateTime.class))).thenReturn(16L);
+    void getAuditLogFeedReturnsNextCursorFromLastRowWhenMoreRowsExist() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 6, 19, 10, 0);
+        List<AigcGalleryAuditLog> rows = List.of(
+                feedLog(9L, createdAt),
+                feedLog(8L, createdAt),
+                feedLog(7L, createdAt.minusMinutes(1)));
+        when(repository.findBy(any(Specification.class), any())).thenReturn(rows);
+
+        var feed = service.getAuditLogFeed(null, 2, null, null, null);
+
+        assertEquals(2, feed.getRecords().size());
+        assertEquals(true, feed.getHasMore());
+        assertEquals(new AigcKeysetCursor(createdAt, 8L), AigcKeysetCursor.decode(feed.getNextCursor()));
+    }
+
+    @Test
+    void getInteractionReportCombinesAuditActionsWithRollupEventCounts() {
         when(repository.summarizeActions(nullable(String.class), nullable(String.class), eq(ContentType.IMAGE),
                 any(LocalDateTime.class))).thenReturn(List.of(
                         actionMetric(AigcGalleryAuditLogService.ACTION_PUBLISH, 2L, 2L),
                         actionMetric(AigcGalleryAuditLogService.ACTION_LIKE, 7L, 6L),
                         actionMetric(AigcGalleryAuditLogService.ACTION_FAVORITE, 3L, 2L),
                         actionMetric(AigcGalleryAuditLogService.ACTION_PUBLIC_DOWNLOAD, 1L, 1L),
-                        actionMetric(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, 4L, 4L),
-                        actionMetric(AigcGalleryAuditLogService.ACTION_PROMPT_REUSE, 2L, 2L)
+                        actionMetric(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, 1L, 1L),
+                        actionMetric(AigcGalleryAuditLogService.ACTION_PROMPT_REUSE, 1L, 1L)
+                ));
+        when(rollupRepository.summarizeActions(nullable(String.class), nullable(String.class), eq(ContentType.IMAGE),
+                any(LocalDateTime.class))).thenReturn(List.of(
+                        rollupCount(AigcGalleryAuditLogService.ACTION_PUBLIC_DOWNLOAD, 1L),
+                        rollupCount(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, 4L),
+                        rollupCount(AigcGalleryAuditLogService.ACTION_PROMPT_REUSE, 2L)
+                ));
+        when(rollupRepository.summarizeDaily(nullable(String.class), nullable(String.class), eq(ContentType.IMAGE),
+                any(LocalDateTime.class))).thenReturn(List.of(
+                        dailyRollupCount(AigcGalleryAuditLogService.ACTION_PUBLIC_DOWNLOAD, LocalDate.now(), 1L),
+                        dailyRollupCount(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, LocalDate.now(), 4L),
+                        dailyRollupCount(AigcGalleryAuditLogService.ACTION_PROMPT_REUSE, LocalDate.now(), 2L)
                 ));
         when(repository.summarizeContentTypes(nullable(String.class), nullable(String.class), eq(ContentType.IMAGE),
                 any(LocalDateTime.class))).thenReturn(List.of(contentTypeMetric(ContentType.IMAGE, 18L, 16L)));
@@ -141,8 +211,8 @@ class AigcGalleryAuditLogServiceTest {
 
         assertEquals(7, report.getDays());
         assertEquals(ContentType.IMAGE, report.getContentType());
-        assertEquals(18L, report.getTotalEvents());
-        assertEquals(16L, report.getSuccessfulEvents());
+        assertEquals(19L, report.getTotalEvents());
+        assertEquals(17L, report.getSuccessfulEvents());
         assertEquals(2L, report.getPublishCount());
         assertEquals(6L, report.getLikeCount());
         assertEquals(2L, report.getFavoriteCount());
@@ -161,15 +231,15 @@ class AigcGalleryAuditLogServiceTest {
         assertEquals(2L, report.getCreatorMetrics().get(0).getAssetCount());
         assertEquals("asset-1", report.getAssetComparisons().get(0).getAssetId());
         assertEquals(8L, report.getAssetComparisons().get(0).getEngagementEvents());
-        assertEquals(44.44D, report.getAssetComparisons().get(0).getEventShareRate());
+        assertEquals(42.11D, report.getAssetComparisons().get(0).getEventShareRate());
         assertEquals(25D, report.getAssetComparisons().get(0).getFavoriteRate());
         assertEquals(12.5D, report.getAssetComparisons().get(0).getDownloadRate());
         assertEquals(7, report.getDailyMetrics().size());
-        assertEquals(4L, report.getDailyMetrics().stream().mapToLong(metric -> metric.getTotalEvents()).sum());
+        assertEquals(8L, report.getDailyMetrics().stream().mapToLong(metric -> metric.getTotalEvents()).sum());
         assertEquals(1L, report.getDailyMetrics().stream().mapToLong(metric -> metric.getLikeCount()).sum());
         assertEquals(1L, report.getDailyMetrics().stream().mapToLong(metric -> metric.getDownloadCount()).sum());
-        assertEquals(1L, report.getDailyMetrics().stream().mapToLong(metric -> metric.getShareViewCount()).sum());
-        assertEquals(1L, report.getDailyMetrics().stream().mapToLong(metric -> metric.getPromptReuseCount()).sum());
+        assertEquals(4L, report.getDailyMetrics().stream().mapToLong(metric -> metric.getShareViewCount()).sum());
+        assertEquals(2L, report.getDailyMetrics().stream().mapToLong(metric -> metric.getPromptReuseCount()).sum());
     }
 
     private static AigcGalleryAuditLog reportLog(String action, boolean success, LocalDateTime createdAt) {
@@ -200,6 +270,40 @@ class AigcGalleryAuditLogServiceTest {
         };
     }
 
+    private static AigcGalleryEventRollupRepository.ActionCountProjection rollupCount(String action, Long eventCount) {
+        return new AigcGalleryEventRollupRepository.ActionCountProjection() {
+            @Override
+            public String getAction() {
+                return action;
+            }
+
+            @Override
+            public Long getEventCount() {
+                return eventCount;
+            }
+        };
+    }
+
+    private static AigcGalleryEventRollupRepository.DailyActionCountProjection dailyRollupCount(
+            String action, LocalDate bucketDate, Long eventCount) {
+        return new AigcGalleryEventRollupRepository.DailyActionCountProjection() {
+            @Override
+            public String getAction() {
+                return action;
+            }
+
+            @Override
+            public LocalDate getBucketDate() {
+                return bucketDate;
+            }
+
+            @Override
+            public Long getEventCount() {
+                return eventCount;
+            }
+        };
+    }
+
     private static AigcGalleryAuditLogRepository.ContentTypeMetricProjection contentTypeMetric(
             ContentType contentType, Long totalEvents, Long successfulEvents) {
         return new AigcGalleryAuditLogRepository.ContentTypeMetricProjection() {
@@ -311,4 +415,18 @@ class AigcGalleryAuditLogServiceTest {
             }
         };
     }
+
+    private AigcGalleryAuditLog feedLog(Long id, LocalDateTime createdAt) {
+        AigcGalleryAuditLog log = new AigcGalleryAuditLog();
+        log.setId(id);
+        log.setAction(AigcGalleryAuditLogService.ACTION_LIKE);
+        log.setSuccess(true);
+        log.setCreatedAt(createdAt);
+        return log;
+    }
+
+    private AigcGalleryEventRecorder.GalleryEvent event(String action, String assetId, LocalDateTime occurredAt) {
+        return new AigcGalleryEventRecorder.GalleryEvent(action, assetId, ContentType.IMAGE, "mock-image-preview",
+                "share prompt", "rid-1", "tid-1", null, null, null, "frontend", "127.0.0.1", occurredAt);
+    }
 }
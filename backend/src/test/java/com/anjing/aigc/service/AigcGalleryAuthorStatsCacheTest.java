@@ -0,0 +1,136 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.repository.AigcAssetRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AigcGalleryAuthorStatsCacheTest {
+
+    private final AigcProperties aigcProperties = new AigcProperties();
+    private final AigcAssetRepository assetRepository = mock(AigcAssetRepository.class);
+    private final AigcGalleryAuthorStatsCache cache = new AigcGalleryAuthorStatsCache(aigcProperties, assetRepository);
+
+    @Test
+    void getFoldsGroupedRowsIntoOneAuthorStatsAndLoadsOnce() {
+        when(assetRepository.aggregatePublishedStatsByOwner("creator-1", false)).thenReturn(List.of(
+                row(ContentType.IMAGE, 3L, 7L, 2L),
+                row(ContentType.AUDIO, 1L, 1L, 0L)));
+
+        AigcGalleryAuthorStatsCache.AuthorStats stats = cache.get("creator-1", false);
+        cache.get("creator-1", false);
+
+        assertEquals(4L, stats.publishedCount());
+        assertEquals(3L, stats.publishedCount(ContentType.IMAGE));
+        assertEquals(0L, stats.publishedCount(ContentType.VIDEO));
+        assertEquals(8L, stats.totalLikeCount());
+        assertEquals(2L, stats.totalFavoriteCount());
+        verify(assetRepository, times(1)).aggregatePublishedStatsByOwner("creator-1", false);
+    }
+
+    @Test
+    void eventsUpdateLoadedAuthorsWithoutRequerying() {
+        when(assetRepository.aggregatePublishedStatsByOwner("creator-1", false)).thenReturn(List.of(
+                row(ContentType.IMAGE, 1L, 1L, 1L)));
+        cache.get("creator-1", false);
+
+        cache.onPublishChanged("creator-1", ContentType.VIDEO, 2, 0, true);
+        cache.onReactionChanged("creator-1", 1, -1);
+        cache.onPublishChanged("creator-1", ContentType.IMAGE, 1, 0, false);
+        cache.onReactionChanged("creator-2", 5, 5);
+
+        AigcGalleryAuthorStatsCache.AuthorStats stats = cache.get("creator-1", false);
+        assertEquals(1L, stats.publishedCount());
+        assertEquals(0L, stats.publishedCount(ContentType.IMAGE));
+        assertEquals(1L, stats.publishedCount(ContentType.VIDEO));
+        assertEquals(3L, stats.totalLikeCount());
+        assertEquals(0L, stats.totalFavoriteCount());
+        assertEquals(1, cache.size());
+        verify(assetRepository, times(1)).aggregatePublishedStatsByOwner("creator-1", false);
+    }
+
+    @Test
+    void unpublishOfContentTypeMissingFromCachedStatsDoesNotGoNegative() {
+        when(assetRepository.aggregatePublishedStatsByOwner("creator-1", false)).thenReturn(List.of(
+                row(ContentType.IMAGE, 1L, 0L, 0L)));
+        cache.get("creator-1", false);
+
+        cache.onPublishChanged("creator-1", ContentType.VIDEO, 0, 0, false);
+
+        AigcGalleryAuthorStatsCache.AuthorStats stats = cache.get("creator-1", false);
+        assertEquals(0L, stats.publishedCount(ContentType.VIDEO));
+        assertEquals(1L, stats.publishedCount());
+    }
+
+    @Test
+    void aggregateRacingWithAnEventIsNotCached() {
+        when(assetRepository.aggregatePublishedStatsByOwner("creator-1", false)).thenAnswer(invocation -> {
+            cache.onReactionChanged("creator-1", 1, 0);
+            return List.of(row(ContentType.IMAGE, 1L, 0L, 0L));
+        });
+
+        cache.get("creator-1", false);
+        cache.get("creator-1", false);
+
+        assertEquals(0, cache.size());
+        verify(assetRepository, times(2)).aggregatePublishedStatsByOwner("creator-1", false);
+    }
+
+    @Test
+    void disabledCacheQueriesEveryTime() {
+        aigcProperties.getAuthorStatsCache().setEnabled(false);
+        when(assetRepository.aggregatePublishedStatsByOwner("anonymous", true)).thenReturn(List.of());
+
+        cache.get("anonymous", true);
+        cache.get("anonymous", true);
+
+        assertEquals(0, cache.size());
+        verify(assetRepository, times(2)).aggregatePublishedStatsByOwner("anonymous", true);
+    }
+
+    @Test
+    void leastRecentlyUsedAuthorsAreEvictedBeyondCapacity() {
+        aigcProperties.getAuthorStatsCache().setMaxAuthors(2);
+        when(assetRepository.aggregatePublishedStatsByOwner(org.mockito.ArgumentMatchers.anyString(),
+                org.mockito.ArgumentMatchers.eq(false))).thenReturn(List.of());
+
+        cache.get("creator-1", false);
+        cache.get("creator-2", false);
+        cache.get("creator-3", false);
+
+        assertEquals(2, cache.size());
+    }
+
+    private AigcAssetRepository.PublishedContentTypeStatsProjection row(ContentType contentType, Long publishedCount,
+            Long totalLikeCount, Long totalFavoriteCount) {
+        return new AigcAssetRepository.PublishedContentTypeStatsProjection() {
+            @Override
+            public ContentType getContentType() {
+                return contentType;
+            }
+
+            @Override
+            public Long getPublishedCount() {
+                return publishedCount;
+            }
+
+            @Override
+            public Long getTotalLikeCount() {
+                return totalLikeCount;
+            }
+
+            @Override
+            public Long getTotalFavoriteCount() {
+                return totalFavoriteCount;
+            }
+        };
+    }
+}
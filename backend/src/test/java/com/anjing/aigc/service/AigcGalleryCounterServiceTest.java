@@ -0,0 +1,101 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.repository.AigcAssetRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AigcGalleryCounterServiceTest {
+
+    private final AigcProperties aigcProperties = new AigcProperties();
+    private final AigcAssetRepository assetRepository = mock(AigcAssetRepository.class);
+    private final AigcGalleryCounterService service = new AigcGalleryCounterService(aigcProperties, assetRepository);
+
+    @Test
+    void pendingDeltasAreMergedIntoReadsAndFlushedAsOneAtomicUpdatePerAsset() {
+        service.recordLike("asset-1", 1);
+        service.recordLike("asset-1", 1);
+        service.recordFavorite("asset-1", 1);
+        service.recordLike("asset-1", -1);
+
+        assertEquals(4, service.mergedLikeCount("asset-1", 3));
+        assertEquals(1, service.mergedFavoriteCount("asset-1", null));
+
+        assertEquals(1, service.flush());
+
+        verify(assetRepository).applyReactionCountDelta("asset-1", 1, 1);
+        assertEquals(3, service.mergedLikeCount("asset-1", 3));
+    }
+
+    @Test
+    void cancelledDeltasAreDroppedWithoutTouchingTheDatabase() {
+        service.recordFavorite("asset-1", 1);
+        service.recordFavorite("asset-1", -1);
+
+        assertEquals(0, service.flush());
+
+        verify(assetRepository, never()).applyReactionCountDelta(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void failedFlushKeepsDeltaForNextRound() {
+        when(assetRepository.applyReactionCountDelta("asset-1", 2, 0))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+        service.recordLike("asset-1", 2);
+
+        assertEquals(0, service.flush());
+        assertEquals(2, service.mergedLikeCount("asset-1", 0));
+        assertEquals(1, service.flush());
+
+        verify(assetRepository, times(2)).applyReactionCountDelta("asset-1", 2, 0);
+        assertEquals(0, service.mergedLikeCount("asset-1", 0));
+    }
+
+    @Test
+    void deltaIsTakenBeforeUpdateSoCommittedCountIsNeverMergedTwice() {
+        service.recordLike("asset-1", 2);
+        when(assetRepository.applyReactionCountDelta("asset-1", 2, 0)).thenAnswer(invocation -> {
+            assertEquals(0, service.pendingDelta("asset-1").likes());
+            service.recordLike("asset-1", 1);
+            return 1;
+        });
+
+        assertEquals(1, service.flush());
+
+        assertEquals(1, service.pendingDelta("asset-1").likes());
+        assertEquals(3, service.mergedLikeCount("asset-1", 2));
+    }
+
+    @Test
+    void failedFlushMergesDeltaBackWithDeltasRecordedDuringTheUpdate() {
+        service.recordLike("asset-1", 2);
+        when(assetRepository.applyReactionCountDelta("asset-1", 2, 0)).thenAnswer(invocation -> {
+            service.recordLike("asset-1", 1);
+            throw new IllegalStateException("db down");
+        });
+
+        assertEquals(0, service.flush());
+
+        assertEquals(3, service.pendingDelta("asset-1").likes());
+        assertEquals(5, service.mergedLikeCount("asset-1", 2));
+    }
+
+    @Test
+    void disabledWriteBehindAppliesDeltaImmediately() {
+        aigcProperties.getGalleryCounter().setWriteBehindEnabled(false);
+
+        service.recordLike("asset-1", 1);
+
+        verify(assetRepository).applyReactionCountDelta("asset-1", 1, 0);
+        assertEquals(0, service.flush());
+    }
+}
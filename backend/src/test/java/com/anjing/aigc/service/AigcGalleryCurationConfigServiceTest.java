@@ -0,0 +1,106 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.entity.AigcGalleryCurationConfig;
+import com.anjing.aigc.model.response.GalleryCurationRuleResponse;
+import com.anjing.aigc.repository.AigcGalleryCurationConfigRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AigcGalleryCurationConfigServiceTest {
+
+    private final AigcGalleryCurationConfigRepository repository = mock(AigcGalleryCurationConfigRepository.class);
+    private final AigcGalleryFeedCache galleryFeedCache =
+            new AigcGalleryFeedCache(new AigcProperties(), Runnable::run);
+    private final AigcGalleryCurationConfigService service =
+            new AigcGalleryCurationConfigService(repository, galleryFeedCache);
+    private final Supplier<List<GalleryCurationRuleResponse>> baseRules = () -> new ArrayList<>(List.of(
+            GalleryCurationRuleResponse.builder().id("trending").enabled(true).defaultSize(6).build(),
+            GalleryCurationRuleResponse.builder().id("latest").enabled(true).defaultSize(6).build()));
+
+    @Test
+    void effectiveRulesAreServedFromOneReadOnlySnapshot() {
+        when(repository.findByRuleIdIn(any())).thenReturn(List.of(config("latest", false, 1L)));
+
+        List<GalleryCurationRuleResponse> first = service.effectiveRules(baseRules);
+        List<GalleryCurationRuleResponse> second = service.effectiveRules(baseRules);
+
+        assertSame(first, second);
+        assertFalse(service.effectiveRulesById(baseRules).get("latest").getEnabled());
+        assertEquals(AigcGalleryCurationConfigService.CONFIG_SOURCE_DATABASE,
+                service.effectiveRulesById(baseRules).get("latest").getConfigSource());
+        assertThrows(UnsupportedOperationException.class, () -> first.add(null));
+        verify(repository, times(1)).findByRuleIdIn(any());
+    }
+
+    @Test
+    void saveConfigBumpsRevisionAndVersionSoTheNextReadRebuilds() {
+        AigcGalleryCurationConfig existing = config("trending", true, 2L);
+        when(repository.findByRuleIdIn(any())).thenReturn(List.of());
+        when(repository.findByRuleId("trending")).thenReturn(Optional.of(existing));
+        when(repository.save(existing)).thenReturn(existing);
+        service.effectiveRules(baseRules);
+        long before = service.currentVersion();
+
+        service.saveConfig("trending", false, 3, 9, " hint ");
+        when(repository.findByRuleIdIn(any())).thenReturn(List.of(existing));
+
+        assertEquals(3L, existing.getRevision());
+        assertEquals(before + 1, service.currentVersion());
+        assertFalse(service.effectiveRulesById(baseRules).get("trending").getEnabled());
+        verify(repository, times(2)).findByRuleIdIn(any());
+    }
+
+    @Test
+    void refreshDetectsChangesMadeOnOtherNodes() {
+        when(repository.findByRuleIdIn(any())).thenReturn(List.of());
+        when(repository.findRevision()).thenReturn(revision(1L, 1L));
+        service.effectiveRules(baseRules);
+        galleryFeedCache.get("collections", null, null, null, () -> "cached");
+
+        assertFalse(service.refreshIfChangedElsewhere());
+
+        when(repository.findRevision()).thenReturn(revision(1L, 2L));
+        assertTrue(service.refreshIfChangedElsewhere());
+        assertEquals(0, galleryFeedCache.size());
+        service.effectiveRules(baseRules);
+        verify(repository, times(2)).findByRuleIdIn(any());
+    }
+
+    private AigcGalleryCurationConfig config(String ruleId, Boolean enabled, Long revision) {
+        AigcGalleryCurationConfig config = new AigcGalleryCurationConfig();
+        config.setRuleId(ruleId);
+        config.setEnabled(enabled);
+        config.setRevision(revision);
+        return config;
+    }
+
+    private AigcGalleryCurationConfigRepository.RevisionProjection revision(Long rowCount, Long revisionSum) {
+        return new AigcGalleryCurationConfigRepository.RevisionProjection() {
+            @Override
+            public Long getRowCount() {
+                return rowCount;
+            }
+
+            @Override
+            public Long getRevisionSum() {
+                return revisionSum;
+            }
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.context.GlobalRequestContextHolder;
+import com.anjing.model.request.GlobalRequestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AigcGalleryEventRecorderTest {
+
+    private final AigcProperties aigcProperties = new AigcProperties();
+    private final AigcGalleryAuditLogService auditLogService = mock(AigcGalleryAuditLogService.class);
+
+    @AfterEach
+    void tearDown() {
+        GlobalRequestContextHolder.clear();
+    }
+
+    @Test
+    void recordOnlyBuffersEventWithRequestContextSnapshotUntilFlush() {
+        AigcGalleryEventRecorder recorder = new AigcGalleryEventRecorder(aigcProperties, auditLogService);
+        GlobalRequestContextHolder.set(GlobalRequestContext.builder()
+                .requestId("rid-1")
+                .userId("user-1")
+                .ip("127.0.0.1")
+                .build());
+
+        recorder.record(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset("asset-1"));
+        GlobalRequestContextHolder.clear();
+
+        verify(auditLogService, never()).recordSuccess(any(), any());
+        verify(auditLogService, never()).recordEventBatch(any());
+        assertEquals(1, recorder.pendingEvents());
+
+        assertEquals(1, recorder.flush());
+
+        verify(auditLogService).recordEventBatch(org.mockito.ArgumentMatchers.argThat(buckets ->
+                buckets.size() == 1
+                        && buckets.get(0).count() == 1
+                        && "asset-1".equals(buckets.get(0).sample().assetId())
+                        && "rid-1".equals(buckets.get(0).sample().requestId())
+                        && "user-1".equals(buckets.get(0).sample().operatorId())
+                        && "127.0.0.1".equals(buckets.get(0).sample().clientIp())
+                        && buckets.get(0).sample().occurredAt() != null));
+        assertEquals(0, recorder.pendingEvents());
+    }
+
+    @Test
+    void flushMergesBurstOfSameAssetAndActionIntoOneBucket() {
+        AigcGalleryEventRecorder recorder = new AigcGalleryEventRecorder(aigcProperties, auditLogService);
+        for (int i = 0; i < 50; i++) {
+            GlobalRequestContextHolder.set(GlobalRequestContext.builder().requestId("rid-" + i).build());
+            recorder.record(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset("asset-hot"));
+        }
+        recorder.record(AigcGalleryAuditLogService.ACTION_PROMPT_REUSE, asset("asset-hot"));
+
+        assertEquals(51, recorder.flush());
+
+        verify(auditLogService).recordEventBatch(org.mockito.ArgumentMatchers.argThat(buckets ->
+                buckets.size() == 2
+                        && AigcGalleryAuditLogService.ACTION_SHARE_VIEW.equals(buckets.get(0).sample().action())
+                        && buckets.get(0).count() == 50
+                        && "rid-0".equals(buckets.get(0).sample().requestId())
+                        && buckets.get(0).bucketStart().getSecond() == 0
+                        && AigcGalleryAuditLogService.ACTION_PROMPT_REUSE.equals(buckets.get(1).sample().action())
+                        && buckets.get(1).count() == 1));
+    }
+
+    @Test
+    void flushWritesInBatchesOfConfiguredSize() {
+        aigcProperties.getGalleryEvents().setBatchSize(2);
+        AigcGalleryEventRecorder recorder = new AigcGalleryEventRecorder(aigcProperties, auditLogService);
+        for (int i = 0; i < 5; i++) {
+            recorder.record(AigcGalleryAuditLogService.ACTION_PUBLIC_DOWNLOAD, asset("asset-" + i));
+        }
+
+        assertEquals(5, recorder.flush());
+
+        verify(auditLogService, times(3)).recordEventBatch(any());
+    }
+
+    @Test
+    void recordDropsEventsWhenBufferIsFullInsteadOfBlocking() {
+        aigcProperties.getGalleryEvents().setBufferCapacity(4);
+        AigcGalleryEventRecorder recorder = new AigcGalleryEventRecorder(aigcProperties, auditLogService);
+        for (int i = 0; i < 6; i++) {
+            recorder.record(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset("asset-" + i));
+        }
+
+        assertEquals(4, recorder.pendingEvents());
+        assertEquals(2L, recorder.droppedEvents());
+        assertEquals(4, recorder.flush());
+    }
+
+    @Test
+    void flushStopsAfterOneBufferCapacityWhileEventsKeepArriving() {
+        aigcProperties.getGalleryEvents().setBufferCapacity(4);
+        aigcProperties.getGalleryEvents().setBatchSize(2);
+        AigcGalleryEventRecorder recorder = new AigcGalleryEventRecorder(aigcProperties, auditLogService);
+        doAnswer(invocation -> {
+            recorder.record(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset("asset-late-1"));
+            recorder.record(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset("asset-late-2"));
+            return null;
+        }).when(auditLogService).recordEventBatch(any());
+        for (int i = 0; i < 4; i++) {
+            recorder.record(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset("asset-" + i));
+        }
+
+        assertEquals(4, recorder.flush());
+
+        verify(auditLogService, times(2)).recordEventBatch(any());
+        assertEquals(4, recorder.pendingEvents());
+    }
+
+    @Test
+    void recordWritesSynchronouslyWhenAsyncDisabled() {
+        aigcProperties.getGalleryEvents().setAsyncEnabled(false);
+        AigcGalleryEventRecorder recorder = new AigcGalleryEventRecorder(aigcProperties, auditLogService);
+        AigcAsset asset = asset("asset-1");
+
+        recorder.record(AigcGalleryAuditLogService.ACTION_PROMPT_REUSE, asset);
+
+        verify(auditLogService).recordEventBatch(org.mockito.ArgumentMatchers.argThat(buckets ->
+                buckets.size() == 1
+                        && buckets.get(0).count() == 1
+                        && AigcGalleryAuditLogService.ACTION_PROMPT_REUSE.equals(buckets.get(0).sample().action())
+                        && "asset-1".equals(buckets.get(0).sample().assetId())));
+        verify(auditLogService, never()).recordSuccess(any(), any());
+        assertEquals(0, recorder.pendingEvents());
+    }
+
+    @Test
+    void ringBufferKeepsEveryItemUnderConcurrentProducers() throws Exception {
+        AigcEventRingBuffer<Integer> buffer = new AigcEventRingBuffer<>(4096);
+        int producers = 4;
+        int itemsPerProducer = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int p = 0; p < producers; p++) {
+                int offset = p * itemsPerProducer;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < itemsPerProducer; i++) {
+                        assertTrue(buffer.offer(offset + i));
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+        Set<Integer> unique = new HashSet<>(drained);
+        assertEquals(producers * itemsPerProducer, drained.size());
+        assertEquals(producers * itemsPerProducer, unique.size());
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void ringBufferReusesSlotsAfterDraining() {
+        AigcEventRingBuffer<String> buffer = new AigcEventRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(buffer.offer("item-" + round + "-" + i));
+            }
+            assertFalse(buffer.offer("overflow"));
+            assertEquals("item-" + round + "-0", buffer.poll());
+            List<String> rest = new ArrayList<>();
+            assertEquals(3, buffer.drainTo(rest, 10));
+        }
+    }
+
+    private AigcAsset asset(String assetId) {
+        AigcAsset asset = new AigcAsset();
+        asset.setAssetId(assetId);
+        asset.setContentType(ContentType.IMAGE);
+        asset.setModel("mock-image-preview");
+        asset.setPrompt("share prompt");
+        asset.setIsPublished(true);
+        return asset;
+    }
+}
@@ -0,0 +1,87 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.enums.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AigcGalleryFeedCacheTest {
+
+    private final AigcProperties aigcProperties = new AigcProperties();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+    private final AigcGalleryFeedCache cache = new AigcGalleryFeedCache(aigcProperties, refreshTasks::add);
+
+    @Test
+    void getLoadsOncePerFeedFilterCombination() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get("topics", ContentType.IMAGE, "cat", 3, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.get("topics", ContentType.IMAGE, "cat", 3, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v2", cache.get("topics", ContentType.VIDEO, "cat", 3, () -> "v" + loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void staleEntryIsServedWhileASingleBackgroundRefreshRuns() {
+        aigcProperties.getGalleryFeedCache().setTtlSeconds(0);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get("collections", null, null, null, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.get("collections", null, null, null, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.get("collections", null, null, null, () -> "v" + loads.incrementAndGet()));
+
+        assertEquals(1, refreshTasks.size());
+        refreshTasks.get(0).run();
+        assertEquals(2, loads.get());
+        assertEquals("v2", cache.get("collections", null, null, null, () -> "v" + loads.incrementAndGet()));
+    }
+
+    @Test
+    void invalidateAllDropsEntriesAndDiscardsLoadsStartedBefore() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("collections", null, null, null, () -> "v" + loads.incrementAndGet());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+
+        String racing = cache.get("collections", null, null, null, () -> {
+            cache.invalidateAll();
+            return "v" + loads.incrementAndGet();
+        });
+
+        assertEquals("v2", racing);
+        assertEquals(0, cache.size());
+        assertEquals("v3", cache.get("collections", null, null, null, () -> "v" + loads.incrementAndGet()));
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        aigcProperties.getGalleryFeedCache().setEnabled(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("creator-ranking", null, null, 5, loads::incrementAndGet);
+        cache.get("creator-ranking", null, null, 5, loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void oldestEntriesAreEvictedBeyondMaxEntries() {
+        aigcProperties.getGalleryFeedCache().setMaxEntries(2);
+
+        for (int size = 1; size <= 3; size++) {
+            int value = size;
+            cache.get("topics", null, null, size, () -> value);
+        }
+
+        assertEquals(2, cache.size());
+    }
+}
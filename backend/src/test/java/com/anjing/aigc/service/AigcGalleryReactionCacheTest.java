@@ -0,0 +1,72 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.repository.AigcGalleryReactionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AigcGalleryReactionCacheTest {
+
+    private final AigcProperties aigcProperties = new AigcProperties();
+    private final AigcGalleryReactionRepository repository = mock(AigcGalleryReactionRepository.class);
+    private final AigcGalleryReactionCache cache = new AigcGalleryReactionCache(aigcProperties, repository);
+
+    @Test
+    void changesForActorsNotYetLoadedAreLeftToTheNextLoad() {
+        cache.onReactionChanged("user-1", "tenant-1", AigcGalleryReactionService.REACTION_LIKE, "asset-1", true);
+
+        assertEquals(0, cache.size());
+        when(repository.findActorReactions("user-1", "tenant-1")).thenReturn(List.of());
+        assertFalse(cache.contains("user-1", "tenant-1", AigcGalleryReactionService.REACTION_LIKE, "asset-1"));
+    }
+
+    @Test
+    void leastRecentlyUsedActorIsEvictedWhenCapacityIsExceeded() {
+        aigcProperties.getReactionCache().setMaxActors(2);
+        when(repository.findActorReactions("user-1", "default")).thenReturn(List.of());
+        when(repository.findActorReactions("user-2", "default")).thenReturn(List.of());
+        when(repository.findActorReactions("user-3", "default")).thenReturn(List.of());
+
+        cache.contains("user-1", "default", AigcGalleryReactionService.REACTION_LIKE, "asset-1");
+        cache.contains("user-2", "default", AigcGalleryReactionService.REACTION_LIKE, "asset-1");
+        cache.contains("user-1", "default", AigcGalleryReactionService.REACTION_LIKE, "asset-2");
+        cache.contains("user-3", "default", AigcGalleryReactionService.REACTION_LIKE, "asset-1");
+        cache.contains("user-1", "default", AigcGalleryReactionService.REACTION_LIKE, "asset-3");
+        cache.contains("user-2", "default", AigcGalleryReactionService.REACTION_LIKE, "asset-1");
+
+        assertEquals(2, cache.size());
+        verify(repository, times(1)).findActorReactions("user-1", "default");
+        verify(repository, times(2)).findActorReactions("user-2", "default");
+    }
+
+    @Test
+    void tenantsAreKeptApartForTheSameActorId() {
+        when(repository.findActorReactions("user-1", "tenant-a")).thenReturn(List.of(new Row("asset-1")));
+        when(repository.findActorReactions("user-1", "tenant-b")).thenReturn(List.of());
+
+        assertTrue(cache.contains("user-1", "tenant-a", AigcGalleryReactionService.REACTION_FAVORITE, "asset-1"));
+        assertFalse(cache.contains("user-1", "tenant-b", AigcGalleryReactionService.REACTION_FAVORITE, "asset-1"));
+    }
+
+    private record Row(String assetId) implements AigcGalleryReactionRepository.ActorReactionProjection {
+
+        @Override
+        public String getAssetId() {
+            return assetId;
+        }
+
+        @Override
+        public String getReactionType() {
+            return AigcGalleryReactionService.REACTION_FAVORITE;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.anjing.aigc.service;
 
+import com.anjing.aigc.config.AigcProperties;
 import com.anjing.aigc.model.entity.AigcGalleryReaction;
 import com.anjing.aigc.repository.AigcGalleryReactionRepository;
 import com.anjing.context.GlobalRequestContextHolder;
@@ -7,13 +8,16 @@ import com.anjing.model.request.GlobalRequestContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -21,8 +25,10 @@ class AigcGalleryReactionServiceTest {
 
     private final AigcGalleryReactionRepository repository = mock(AigcGalleryReactionRepository.class);
     private final AigcOwnershipService ownershipService = new AigcOwnershipService();
+    private final AigcGalleryReactionCache reactionCache =
+            new AigcGalleryReactionCache(new AigcProperties(), repository);
     private final AigcGalleryReactionService service =
-            new AigcGalleryReactionService(repository, ownershipService);
+            new AigcGalleryReactionService(repository, ownershipService, reactionCache);
 
     @AfterEach
     void tearDown() {
@@ -38,13 +44,11 @@ class AigcGalleryReactionServiceTest {
                 .callerId("frontend")
                 .ip("127.0.0.1")
                 .build());
-        when(repository.findByAssetIdAndReactionTypeAndActorIdAndTenantKey(
-                "asset-1", AigcGalleryReactionService.REACTION_LIKE, "user-1", "tenant-1"))
-                .thenReturn(Optional.empty());
+        when(repository.insertIgnoringDuplicate(any(AigcGalleryReaction.class))).thenReturn(1);
 
         assertTrue(service.addReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-1"));
 
-        verify(repository).save(org.mockito.ArgumentMatchers.argThat(reaction ->
+        verify(repository).insertIgnoringDuplicate(org.mockito.ArgumentMatchers.argThat(reaction ->
                 "asset-1".equals(reaction.getAssetId())
                         && AigcGalleryReactionService.REACTION_LIKE.equals(reaction.getReactionType())
                         && "user-1".equals(reaction.getActorId())
@@ -53,22 +57,95 @@ class AigcGalleryReactionServiceTest {
                         && "tenant-1".equals(reaction.getTenantKey())
                         && "frontend".equals(reaction.getCallerId())
                         && "127.0.0.1".equals(reaction.getClientIp())
+                        && reaction.getCreatedAt() != null
         ));
+        verify(repository, never()).findByAssetIdAndReactionTypeAndActorIdAndTenantKey(any(), any(), any(), any());
     }
 
     @Test
     void addReactionSkipsExistingRelation() {
-        AigcGalleryReaction existing = new AigcGalleryReaction();
-        existing.setAssetId("asset-1");
-        existing.setReactionType(AigcGalleryReactionService.REACTION_FAVORITE);
-        existing.setActorId("anonymous");
-        existing.setTenantKey("default");
-        when(repository.findByAssetIdAndReactionTypeAndActorIdAndTenantKey(
-                "asset-1", AigcGalleryReactionService.REACTION_FAVORITE, "anonymous", "default"))
-                .thenReturn(Optional.of(existing));
+        when(repository.insertIgnoringDuplicate(any(AigcGalleryReaction.class))).thenReturn(0);
 
         assertFalse(service.addReaction(AigcGalleryReactionService.REACTION_FAVORITE, "asset-1"));
 
+        verify(repository).insertIgnoringDuplicate(org.mockito.ArgumentMatchers.argThat(reaction ->
+                "anonymous".equals(reaction.getActorId()) && "default".equals(reaction.getTenantKey())));
         verify(repository, never()).save(any(AigcGalleryReaction.class));
     }
+
+    @Test
+    void removeReactionReportsWhetherARowWasDeleted() {
+        when(repository.deleteByActor("asset-1", AigcGalleryReactionService.REACTION_LIKE, "anonymous", "default"))
+                .thenReturn(1)
+                .thenReturn(0);
+
+        assertTrue(service.removeReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-1"));
+        assertFalse(service.removeReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-1"));
+
+        verify(repository, never()).findByAssetIdAndReactionTypeAndActorIdAndTenantKey(any(), any(), any(), any());
+    }
+
+    @Test
+    void hasReactionLoadsActorRelationsOnceAndFollowsLaterToggles() {
+        when(repository.findActorReactions("anonymous", "default")).thenReturn(List.of(
+                reactionRow("asset-1", AigcGalleryReactionService.REACTION_LIKE),
+                reactionRow("asset-2", AigcGalleryReactionService.REACTION_FAVORITE)));
+        when(repository.deleteByActor("asset-1", AigcGalleryReactionService.REACTION_LIKE, "anonymous", "default"))
+                .thenReturn(1);
+        when(repository.insertIgnoringDuplicate(any(AigcGalleryReaction.class))).thenReturn(1);
+
+        assertTrue(service.hasReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-1"));
+        assertFalse(service.hasReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-2"));
+        assertTrue(service.hasReaction(AigcGalleryReactionService.REACTION_FAVORITE, "asset-2"));
+
+        service.removeReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-1");
+        service.addReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-3");
+
+        assertFalse(service.hasReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-1"));
+        assertTrue(service.hasReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-3"));
+        verify(repository, times(1)).findActorReactions("anonymous", "default");
+        verify(repository, never()).findByAssetIdAndReactionTypeAndActorIdAndTenantKey(any(), any(), any(), any());
+    }
+
+    @Test
+    void findReactedAssetIdsQueriesWholeBatchOnceWhenCacheDisabled() {
+        AigcProperties properties = new AigcProperties();
+        properties.getReactionCache().setEnabled(false);
+        AigcGalleryReactionService uncachedService = new AigcGalleryReactionService(
+                repository, ownershipService, new AigcGalleryReactionCache(properties, repository));
+        when(repository.findActorAssetIds(AigcGalleryReactionService.REACTION_LIKE, "anonymous", "default",
+                List.of("asset-1", "asset-2"))).thenReturn(List.of("asset-2"));
+
+        assertEquals(Set.of("asset-2"), uncachedService.findReactedAssetIds(
+                AigcGalleryReactionService.REACTION_LIKE, List.of("asset-1", "asset-2")));
+        assertTrue(uncachedService.findReactedAssetIds(AigcGalleryReactionService.REACTION_LIKE, List.of()).isEmpty());
+
+        verify(repository, times(1)).findActorAssetIds(any(), any(), any(), any());
+        verify(repository, never()).findByAssetIdAndReactionTypeAndActorIdAndTenantKey(any(), any(), any(), any());
+    }
+
+    @Test
+    void findReactedAssetIdsUsesCachedActorRelations() {
+        when(repository.findActorReactions("anonymous", "default")).thenReturn(List.of(
+                reactionRow("asset-1", AigcGalleryReactionService.REACTION_LIKE)));
+
+        assertEquals(Set.of("asset-1"), service.findReactedAssetIds(
+                AigcGalleryReactionService.REACTION_LIKE, List.of("asset-1", "asset-2")));
+
+        verify(repository, never()).findActorAssetIds(any(), any(), any(), any());
+    }
+
+    private AigcGalleryReactionRepository.ActorReactionProjection reactionRow(String assetId, String reactionType) {
+        return new AigcGalleryReactionRepository.ActorReactionProjection() {
+            @Override
+            public String getAssetId() {
+                return assetId;
+            }
+
+            @Override
+            public String getReactionType() {
+                return reactionType;
+            }
+        };
+    }
 }
@@ -0,0 +1,90 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.enums.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AigcGallerySharePayloadCacheTest {
+
+    private final AigcProperties aigcProperties = new AigcProperties();
+    private final AigcGallerySharePayloadCache cache = new AigcGallerySharePayloadCache(aigcProperties);
+    private final AtomicInteger builds = new AtomicInteger();
+    private final Function<AigcAsset, AigcGallerySharePayloadCache.SharePayload> builder = asset -> {
+        builds.incrementAndGet();
+        return AigcGallerySharePayloadCache.SharePayload.of(
+                "/share/gallery/" + asset.getAssetId(), "preview", "download",
+                asset.getPrompt() + " | agent-aigc", "description", "AIGC", asset.getPrompt(),
+                asset.getOwnerId(), "footer");
+    };
+
+    @Test
+    void refreshOnPublishPrecomputesPayloadForLaterHits() {
+        AigcAsset asset = asset("asset-1", "prompt");
+
+        cache.refresh(asset, builder);
+        AigcGallerySharePayloadCache.SharePayload first = cache.get(asset, builder);
+        AigcGallerySharePayloadCache.SharePayload second = cache.get(asset(asset.getAssetId(), "prompt"), builder);
+
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void getRebuildsWhenPromptOrAuthorChanged() {
+        AigcAsset asset = asset("asset-1", "prompt");
+        AigcGallerySharePayloadCache.SharePayload original = cache.get(asset, builder);
+
+        asset.setOwnerId("creator-2");
+        AigcGallerySharePayloadCache.SharePayload afterAuthorChange = cache.get(asset, builder);
+        asset.setPrompt("new prompt");
+        AigcGallerySharePayloadCache.SharePayload afterPromptChange = cache.get(asset, builder);
+
+        assertEquals(3, builds.get());
+        assertNotEquals(original.digest(), afterAuthorChange.digest());
+        assertEquals("new prompt | agent-aigc", afterPromptChange.seoTitle());
+    }
+
+    @Test
+    void evictAndCapacityBoundRemoveEntries() {
+        aigcProperties.getSharePayloadCache().setMaxEntries(2);
+        cache.get(asset("asset-1", "a"), builder);
+        cache.get(asset("asset-2", "b"), builder);
+        cache.get(asset("asset-3", "c"), builder);
+
+        assertEquals(2, cache.size());
+
+        cache.evict("asset-3");
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void disabledCacheBuildsEveryTime() {
+        aigcProperties.getSharePayloadCache().setEnabled(false);
+        AigcAsset asset = asset("asset-1", "prompt");
+
+        cache.refresh(asset, builder);
+        cache.get(asset, builder);
+        cache.get(asset, builder);
+
+        assertEquals(2, builds.get());
+        assertEquals(0, cache.size());
+    }
+
+    private AigcAsset asset(String assetId, String prompt) {
+        AigcAsset asset = new AigcAsset();
+        asset.setAssetId(assetId);
+        asset.setContentType(ContentType.IMAGE);
+        asset.setModel("mock-image-preview");
+        asset.setPrompt(prompt);
+        asset.setOwnerId("creator-1");
+        return asset;
+    }
+}
@@ -0,0 +1,146 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.exception.AigcException;
+import com.anjing.aigc.model.entity.AigcAsset;
+import com.anjing.aigc.model.entity.AigcAssetTopic;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.request.GalleryTopicBackfillRequest;
+import com.anjing.aigc.model.response.GalleryTopicBackfillResponse;
+import com.anjing.aigc.repository.AigcAssetRepository;
+import com.anjing.aigc.repository.AigcAssetTopicRepository;
+import com.anjing.model.errorcode.AigcErrorCode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AigcGalleryTopicServiceTest {
+
+    private final AigcAssetRepository assetRepository = mock(AigcAssetRepository.class);
+    private final AigcAssetTopicRepository assetTopicRepository = mock(AigcAssetTopicRepository.class);
+    private final AigcProviderManagementPermissionService permissionService =
+            mock(AigcProviderManagementPermissionService.class);
+    private final AigcProviderAuditLogService auditLogService = mock(AigcProviderAuditLogService.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final AigcGalleryTopicService service = new AigcGalleryTopicService(
+            assetRepository,
+            assetTopicRepository,
+            permissionService,
+            auditLogService,
+            new AigcGalleryFeedCache(new AigcProperties(), Runnable::run),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            entityManager);
+
+    @Test
+    void matcherFindsOverlappingTokensInOnePass() {
+        AigcPromptTokenMatcher matcher = new AigcPromptTokenMatcher(Map.of(
+                "he", List.of("he"),
+                "she", List.of("SHE"),
+                "hers", List.of("hers"),
+                "audio", List.of("配音")));
+
+        assertEquals(Set.of("she", "he", "hers"), matcher.match("uShers"));
+        assertEquals(Set.of("audio"), matcher.match("品牌配音参考"));
+        assertEquals(Set.of(), matcher.match("plain text"));
+    }
+
+    @Test
+    void matchTopicIdsRespectsTopicContentType() {
+        AigcAsset image = asset(1L, "asset-image", ContentType.IMAGE, "course poster with voice over video");
+        AigcAsset video = asset(2L, "asset-video", ContentType.VIDEO, "course trailer 分镜");
+
+        assertEquals(List.of("course-cover"), service.matchTopicIds(image));
+        assertEquals(List.of("video-storyboard"), service.matchTopicIds(video));
+        assertEquals(List.of(), service.matchTopicIds(asset(3L, "asset-empty", ContentType.IMAGE, null)));
+    }
+
+    @Test
+    void dryRunCountsPublishedAssetsWithoutWritingTags() {
+        when(assetRepository.countByIsPublishedTrue()).thenReturn(7L);
+
+        GalleryTopicBackfillResponse response = service.backfill(new GalleryTopicBackfillRequest());
+
+        assertTrue(response.getDryRun());
+        assertEquals(7L, response.getAssetCandidates());
+        verify(assetRepository, never()).findPublishedAfter(anyLong(), any());
+        verify(permissionService).assertCanManageAigc(
+                AigcProviderAuditLogService.ACTION_GALLERY_TOPIC_BACKFILL,
+                "AIGC_GALLERY_TOPIC");
+    }
+
+    @Test
+    void confirmedBackfillRetagsPublishedAssetsInBatches() {
+        AigcAsset cover = asset(1L, "asset-cover", ContentType.IMAGE, "workshop cover");
+        AigcAsset plain = asset(2L, "asset-plain", ContentType.IMAGE, "abstract landscape");
+        when(assetRepository.countByIsPublishedTrue()).thenReturn(2L);
+        when(assetRepository.findPublishedAfter(eq(0L), any())).thenReturn(List.of(cover, plain));
+
+        GalleryTopicBackfillRequest request = new GalleryTopicBackfillRequest();
+        request.setDryRun(false);
+        request.setConfirmBackfill(true);
+        GalleryTopicBackfillResponse response = service.backfill(request);
+
+        assertEquals(2, response.getAssetsTagged());
+        assertEquals(1, response.getTagsCreated());
+        verify(assetTopicRepository).deleteByAssetIdIn(List.of("asset-cover", "asset-plain"));
+        verify(entityManager).clear();
+        List<AigcAssetTopic> tags = capturedTags();
+        assertEquals("asset-cover", tags.get(0).getAssetId());
+        assertEquals("course-cover", tags.get(0).getTopicId());
+        verify(auditLogService).record(
+                eq(AigcProviderAuditLogService.ACTION_GALLERY_TOPIC_BACKFILL),
+                any(),
+                any(),
+                any(),
+                any(),
+                any(),
+                any());
+    }
+
+    @Test
+    void backfillRequiresExplicitConfirmation() {
+        GalleryTopicBackfillRequest request = new GalleryTopicBackfillRequest();
+        request.setDryRun(false);
+
+        AigcException error = assertThrows(AigcException.class, () -> service.backfill(request));
+
+        assertEquals(AigcErrorCode.GALLERY_TOPIC_BACKFILL_INVALID, error.getErrorCode());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AigcAssetTopic> capturedTags() {
+        ArgumentCaptor<Iterable<AigcAssetTopic>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(assetTopicRepository).saveAll(captor.capture());
+        List<AigcAssetTopic> tags = new ArrayList<>();
+        captor.getValue().forEach(tags::add);
+        return tags;
+    }
+
+    private AigcAsset asset(Long id, String assetId, ContentType contentType, String prompt) {
+        AigcAsset asset = new AigcAsset();
+        asset.setId(id);
+        asset.setAssetId(assetId);
+        asset.setContentType(contentType);
+        asset.setPrompt(prompt);
+        asset.setIsPublished(true);
+        return asset;
+    }
+}
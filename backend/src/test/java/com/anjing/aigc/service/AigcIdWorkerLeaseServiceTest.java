@@ -0,0 +1,117 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.repository.AigcIdWorkerLeaseRepository;
+import com.anjing.util.IdUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AigcIdWorkerLeaseServiceTest {
+
+    private final AigcProperties aigcProperties = new AigcProperties();
+    private final AigcIdWorkerLeaseRepository leaseRepository = mock(AigcIdWorkerLeaseRepository.class);
+    private final AigcIdWorkerLeaseService service =
+            new AigcIdWorkerLeaseService(aigcProperties, leaseRepository, "node-a");
+
+    @AfterEach
+    void tearDown() {
+        service.release();
+        IdUtils.configureSnowflakeNode(33);
+        IdUtils.configureSnowflakeLease(Long.MAX_VALUE);
+        IdUtils.configureBusinessIdStrategy(null);
+    }
+
+    @Test
+    void initializeSkipsNodesHeldByOthersAndConfiguresSnowflake() {
+        aigcProperties.getIds().setStrategy(IdUtils.BusinessIdStrategy.SNOWFLAKE);
+        int start = Math.floorMod("node-a".hashCode(), 1024);
+        int next = (start + 1) % 1024;
+        when(leaseRepository.findOwnerId(start)).thenReturn("node-b");
+        when(leaseRepository.findOwnerId(next)).thenReturn("node-a");
+
+        service.initialize();
+
+        assertEquals(next, service.getWorkerId());
+        assertEquals(next, IdUtils.snowflakeNodeId());
+        assertEquals(IdUtils.BusinessIdStrategy.SNOWFLAKE, IdUtils.businessIdStrategy());
+    }
+
+    @Test
+    void lostLeaseIsReacquiredOnRenew() {
+        int start = Math.floorMod("node-a".hashCode(), 1024);
+        int next = (start + 1) % 1024;
+        when(leaseRepository.findOwnerId(start)).thenReturn("node-a", "node-b");
+        when(leaseRepository.findOwnerId(next)).thenReturn("node-a");
+        service.initialize();
+        assertEquals(start, service.getWorkerId());
+
+        service.renew();
+
+        assertEquals(next, service.getWorkerId());
+        assertEquals(next, IdUtils.snowflakeNodeId());
+    }
+
+    @Test
+    void snowflakeDegradesToUuidV7WithoutLeaseAndRecoversOnceReacquired() {
+        aigcProperties.getIds().setStrategy(IdUtils.BusinessIdStrategy.SNOWFLAKE);
+        int start = Math.floorMod("node-a".hashCode(), 1024);
+        when(leaseRepository.claim(anyInt(), eq("node-a"), any(), any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+        when(leaseRepository.findOwnerId(start)).thenReturn("node-a");
+
+        service.initialize();
+
+        assertNull(service.getWorkerId());
+        assertEquals(IdUtils.BusinessIdStrategy.SNOWFLAKE, IdUtils.businessIdStrategy());
+        assertEquals(7, UUID.fromString(IdUtils.businessId()).version());
+        assertThrows(IllegalStateException.class, IdUtils::nextId);
+
+        service.renew();
+
+        assertEquals(start, service.getWorkerId());
+        assertTrue(IdUtils.businessId().chars().allMatch(Character::isDigit));
+    }
+
+    @Test
+    void snowflakeStopsWithinSafetyMarginEvenWhileLeaseIsHeld() {
+        aigcProperties.getIds().setStrategy(IdUtils.BusinessIdStrategy.SNOWFLAKE);
+        aigcProperties.getIds().setLeaseSafetyMarginMs(aigcProperties.getIds().getLeaseSeconds() * 1000L);
+        int start = Math.floorMod("node-a".hashCode(), 1024);
+        when(leaseRepository.findOwnerId(start)).thenReturn("node-a");
+        service.initialize();
+        when(leaseRepository.claim(anyInt(), eq("node-a"), any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        service.renew();
+
+        assertEquals(start, service.getWorkerId());
+        assertEquals(7, UUID.fromString(IdUtils.businessId()).version());
+        assertThrows(IllegalStateException.class, IdUtils::nextId);
+    }
+
+    @Test
+    void fixedNodeIdBypassesLease() {
+        aigcProperties.getIds().setNodeId(7);
+
+        service.initialize();
+        service.release();
+
+        assertEquals(7, IdUtils.snowflakeNodeId());
+        verify(leaseRepository, never()).claim(anyInt(), any(), any(), any());
+        verify(leaseRepository, never()).release(anyInt(), any(), any());
+    }
+}
@@ -0,0 +1,60 @@
+package com.anjing.aigc.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AigcLruCacheTest {
+
+    private final AtomicInteger maxEntries = new AtomicInteger(2);
+    private final AigcLruCache<String, String> cache = new AigcLruCache<>(maxEntries::get);
+
+    @Test
+    void leastRecentlyAccessedEntryIsEvictedFirst() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertEquals(2, cache.size());
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    void loadIsSkippedWhileFreshAndReloadedWhenStale() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.getOrLoad("a", value -> true, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.getOrLoad("a", value -> true, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v2", cache.getOrLoad("a", value -> false, () -> "v" + loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+        assertEquals("v2", cache.get("a"));
+    }
+
+    @Test
+    void loadRacingWithAChangeIsReturnedButNotCached() {
+        String loaded = cache.getOrLoad("a", value -> true, () -> {
+            cache.remove("a");
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void updateOnlyTouchesCachedEntries() {
+        cache.update("a", value -> value + "!");
+        cache.put("b", "2");
+        cache.update("b", value -> value + "!");
+
+        assertNull(cache.get("a"));
+        assertEquals("2!", cache.get("b"));
+    }
+}
@@ -7,6 +7,8 @@ import com.anjing.aigc.model.entity.AigcAsset;
 import com.anjing.aigc.model.entity.AigcGalleryCurationConfig;
 import com.anjing.aigc.model.entity.AigcTask;
 import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.aigc.model.projection.AigcAssetSummary;
+import com.anjing.aigc.model.projection.AigcTaskSummary;
 import com.anjing.aigc.model.enums.TaskStatus;
 import com.anjing.aigc.model.request.GalleryCurationRuleUpdateRequest;
 import com.anjing.aigc.model.request.ProviderProbeRequest;
@@ -25,20 +27,25 @@ import com.anjing.aigc.provider.ContentProvider;
 import com.anjing.aigc.provider.ImageGenerationProvider;
 import com.anjing.aigc.provider.ProviderRouter;
 import com.anjing.aigc.repository.AigcAssetRepository;
+import com.anjing.aigc.repository.AigcAssetTopicRepository;
 import com.anjing.aigc.repository.AigcGalleryCurationConfigRepository;
 import com.anjing.aigc.repository.AigcMaterialRepository;
 import com.anjing.aigc.repository.AigcProviderCredentialConfigRepository;
 import com.anjing.aigc.repository.AigcProviderParamConfigRepository;
 import com.anjing.aigc.repository.AigcProviderRouteConfigRepository;
+import com.anjing.aigc.repository.AigcTaskMaterialRepository;
 import com.anjing.aigc.repository.AigcTaskRepository;
 import com.anjing.aigc.service.impl.AigcServiceImpl;
 import com.anjing.aigc.service.storage.AigcStorageService;
 import com.anjing.model.errorcode.AigcErrorCode;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -47,10 +54,12 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,10 +72,13 @@ class AigcServiceImplAssetTest {
     private final AigcProviderAuditLogService auditLogService = mock(AigcProviderAuditLogService.class);
     private final AigcGalleryAuditLogService galleryAuditLogService = mock(AigcGalleryAuditLogService.class);
     private final AigcGalleryReactionService galleryReactionService = mock(AigcGalleryReactionService.class);
+    private final AigcGalleryEventRecorder galleryEventRecorder = mock(AigcGalleryEventRecorder.class);
+    private final AigcGallerySharePayloadCache sharePayloadCache = new AigcGallerySharePayloadCache(aigcProperties);
     private final AigcGalleryCurationConfigRepository curationConfigRepository =
             mock(AigcGalleryCurationConfigRepository.class);
+    private final AigcGalleryFeedCache galleryFeedCache = new AigcGalleryFeedCache(aigcProperties, Runnable::run);
     private final AigcGalleryCurationConfigService galleryCurationConfigService =
-            new AigcGalleryCurationConfigService(curationConfigRepository);
+            new AigcGalleryCurationConfigService(curationConfigRepository, galleryFeedCache);
     private final AigcProviderCostEstimator costEstimator = new AigcProviderCostEstimator(aigcProperties);
     private final AigcProviderManagementPermissionService permissionService =
             mock(AigcProviderManagementPermissionService.class);
@@ -90,6 +102,20 @@ class AigcServiceImplAssetTest {
     private final AigcReferenceMaterialPolicy referenceMaterialPolicy = mock(AigcReferenceMaterialPolicy.class);
     private final AigcStorageService storageService = mock(AigcStorageService.class);
     private final AigcOwnershipService ownershipService = new AigcOwnershipService();
+    private final AigcGenerationResultCache generationResultCache =
+            new AigcGenerationResultCache(aigcProperties, paramConfigService, storageService);
+    private final AigcTaskMaterialRepository taskMaterialRepository = mock(AigcTaskMaterialRepository.class);
+    private final AigcTaskMaterialService taskMaterialService = new AigcTaskMaterialService(
+            taskRepository, taskMaterialRepository, permissionService, auditLogService,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(EntityManager.class));
+    private final AigcGalleryCounterService galleryCounterService =
+            new AigcGalleryCounterService(aigcProperties, assetRepository);
+    private final AigcGalleryAuthorStatsCache authorStatsCache =
+            new AigcGalleryAuthorStatsCache(aigcProperties, assetRepository);
+    private final AigcAssetTopicRepository assetTopicRepository = mock(AigcAssetTopicRepository.class);
+    private final AigcGalleryTopicService galleryTopicService = new AigcGalleryTopicService(
+            assetRepository, assetTopicRepository, permissionService, auditLogService, galleryFeedCache,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(EntityManager.class));
     private final AigcServiceImpl aigcService = new AigcServiceImpl(
             routingAgent,
             taskExecutor,
@@ -109,7 +135,15 @@ class AigcServiceImplAssetTest {
             materialRepository,
             referenceMaterialPolicy,
             storageService,
-            ownershipService
+            ownershipService,
+            generationResultCache,
+            taskMaterialService,
+            galleryCounterService,
+            galleryFeedCache,
+            authorStatsCache,
+            galleryTopicService,
+            galleryEventRecorder,
+            sharePayloadCache
     );
 
     @BeforeEach
@@ -313,6 +347,35 @@ class AigcServiceImplAssetTest {
         assertEquals(2, response.getCollections().get(2).getItemCount());
     }
 
+    @Test
+    void getGalleryCollectionsReusesCachedFeedAndOverlaysViewerFlags() {
+        AigcAsset hotAsset = asset("asset-hot");
+        hotAsset.setIsPublished(true);
+        hotAsset.setLikeCount(2);
+        when(assetRepository.searchPublishedRanking(any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(hotAsset)));
+        when(assetRepository.searchPublished(any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of()));
+        when(galleryReactionService.hasReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-hot"))
+                .thenReturn(false)
+                .thenReturn(true);
+
+        var first = aigcService.getGalleryCollections("IMAGE", " cat ", 3);
+        var second = aigcService.getGalleryCollections("IMAGE", "cat", 3);
+
+        assertEquals(false, first.getCollections().get(0).getCoverAsset().getLikedByCurrentUser());
+        assertEquals(true, second.getCollections().get(0).getCoverAsset().getLikedByCurrentUser());
+        assertEquals(false, first.getCollections().get(0).getCoverAsset().getLikedByCurrentUser());
+        verify(assetRepository, org.mockito.Mockito.times(1)).searchPublishedRanking(any(), any(), any(), any());
+
+        when(assetRepository.findVisibleByAssetId("asset-hot", null, null)).thenReturn(Optional.of(hotAsset));
+        when(assetRepository.save(hotAsset)).thenReturn(hotAsset);
+        aigcService.saveToGallery("asset-hot");
+        aigcService.getGalleryCollections("IMAGE", "cat", 3);
+
+        verify(assetRepository, org.mockito.Mockito.times(2)).searchPublishedRanking(any(), any(), any(), any());
+    }
+
     @Test
     void getGalleryCollectionsUsesCurationConfigForSectionsAndSizes() {
         AigcAsset hotAsset = asset("asset-hot-configured");
@@ -386,12 +449,19 @@ class AigcServiceImplAssetTest {
         genericAsset.setLikeCount(1);
         genericAsset.setFavoriteCount(1);
 
+        when(assetTopicRepository.findPublishedRankingByTopic(
+                org.mockito.ArgumentMatchers.eq("course-cover"),
+                org.mockito.ArgumentMatchers.eq(ContentType.IMAGE),
+                org.mockito.ArgumentMatchers.eq("course"),
+                org.mockito.ArgumentMatchers.<org.springframework.data.domain.Pageable>argThat(pageable ->
+                        pageable.getPageNumber() == 0 && pageable.getPageSize() == 2)))
+                .thenReturn(List.of(courseCoverAsset));
         when(assetRepository.searchPublishedRanking(
                 org.mockito.ArgumentMatchers.eq(ContentType.IMAGE),
                 org.mockito.ArgumentMatchers.<String>isNull(),
                 org.mockito.ArgumentMatchers.eq("course"),
                 org.mockito.ArgumentMatchers.<org.springframework.data.domain.Pageable>argThat(pageable ->
-                        pageable.getPageNumber() == 0 && pageable.getPageSize() == 8)))
+                        pageable.getPageNumber() == 0 && pageable.getPageSize() == 2)))
                 .thenReturn(new PageImpl<>(List.of(courseCoverAsset, genericAsset)));
 
         var response = aigcService.getGalleryTopics("IMAGE", " course ", 2);
@@ -424,13 +494,13 @@ class AigcServiceImplAssetTest {
                 curationConfig("course-cover", true, 1, 1, "优先投放课程首屏"),
                 curationConfig("share-ready", false, 4, 8, null)
         ));
-        when(assetRepository.searchPublishedRanking(
+        when(assetTopicRepository.findPublishedRankingByTopic(
+                org.mockito.ArgumentMatchers.eq("course-cover"),
                 org.mockito.ArgumentMatchers.eq(ContentType.IMAGE),
-                org.mockito.ArgumentMatchers.<String>isNull(),
                 org.mockito.ArgumentMatchers.eq("course"),
                 org.mockito.ArgumentMatchers.<org.springframework.data.domain.Pageable>argThat(pageable ->
-                        pageable.getPageNumber() == 0 && pageable.getPageSize() == 4)))
-                .thenReturn(new PageImpl<>(List.of(courseCoverAsset, genericAsset)));
+                        pageable.getPageNumber() == 0 && pageable.getPageSize() == 1)))
+                .thenReturn(List.of(courseCoverAsset));
 
         var response = aigcService.getGalleryTopics("IMAGE", " course ", null);
 
@@ -442,6 +512,39 @@ class AigcServiceImplAssetTest {
         assertEquals(false, response.getTopics().stream().anyMatch(topic -> "share-ready".equals(topic.getId())));
     }
 
+    @Test
+    void getGalleryTopicsSkipsTaggedTopicsWithoutMembersInsteadOfFallingBackToRanking() {
+        AigcAsset genericAsset = asset("asset-untagged");
+        genericAsset.setPrompt("blue futuristic abstract landscape");
+        genericAsset.setIsPublished(true);
+        when(assetTopicRepository.findPublishedRankingByTopic(any(), any(), any(), any())).thenReturn(List.of());
+        when(assetRepository.searchPublishedRanking(any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(genericAsset)));
+
+        var response = aigcService.getGalleryTopics("IMAGE", null, 2);
+
+        assertEquals(List.of("share-ready"), response.getTopics().stream().map(topic -> topic.getId()).toList());
+        verify(assetRepository, org.mockito.Mockito.times(1)).searchPublishedRanking(any(), any(), any(), any());
+    }
+
+    @Test
+    void saveToGalleryTagsAssetWithMatchedTopics() {
+        AigcAsset asset = asset("asset-tagged");
+        asset.setPrompt("Workshop COVER for the 课程 launch");
+        when(assetRepository.findVisibleByAssetId("asset-tagged", null, null)).thenReturn(Optional.of(asset));
+        when(assetRepository.save(asset)).thenReturn(asset);
+
+        aigcService.saveToGallery("asset-tagged");
+
+        verify(assetTopicRepository).deleteByAssetIdIn(List.of("asset-tagged"));
+        verify(assetTopicRepository).saveAll(org.mockito.ArgumentMatchers.<Iterable<com.anjing.aigc.model.entity.AigcAssetTopic>>argThat(
+                tags -> {
+                    List<String> topicIds = new java.util.ArrayList<>();
+                    tags.forEach(tag -> topicIds.add(tag.getTopicId()));
+                    return topicIds.equals(List.of("course-cover"));
+                }));
+    }
+
     @Test
     void getGalleryCreatorRankingBuildsPublicCreatorRanking() {
         AigcAsset topAsset = asset("asset-creator-top");
@@ -467,10 +570,9 @@ class AigcServiceImplAssetTest {
                                 && pageable.getPageSize() == 5
                                 && pageable.getSort().isUnsorted())))
                 .thenReturn(List.of(projection));
-        when(assetRepository.countPublishedByOwner("creator-1", false, ContentType.IMAGE)).thenReturn(2L);
-        when(assetRepository.countPublishedByOwner("creator-1", false, ContentType.VIDEO)).thenReturn(0L);
-        when(assetRepository.countPublishedByOwner("creator-1", false, ContentType.AUDIO)).thenReturn(0L);
-        when(assetRepository.searchPublishedByOwner(
+        when(assetRepository.aggregatePublishedStatsByOwner("creator-1", false)).thenReturn(List.of(
+                contentTypeStats(ContentType.IMAGE, 2L, 8L, 3L)));
+        when(assetRepository.searchPublishedSummariesByOwner(
                 org.mockito.ArgumentMatchers.eq("creator-1"),
                 org.mockito.ArgumentMatchers.eq(false),
                 org.mockito.ArgumentMatchers.<ContentType>isNull(),
@@ -478,7 +580,7 @@ class AigcServiceImplAssetTest {
                         pageable.getPageNumber() == 0
                                 && pageable.getPageSize() == 50
                                 && pageable.getSort().getOrderFor("createdAt") != null)))
-                .thenReturn(new PageImpl<>(List.of(topAsset)));
+                .thenReturn(new PageImpl<>(List.of(AigcAssetSummary.from(topAsset))));
 
         var response = aigcService.getGalleryCreatorRanking("IMAGE", " course ", 5);
 
@@ -709,6 +811,74 @@ class AigcServiceImplAssetTest {
                 org.mockito.ArgumentMatchers.anyMap());
     }
 
+    @Test
+    void smokeTestProviderReusesCachedResultWhenResultCacheEnabled() throws Exception {
+        aigcProperties.getResultCache().setEnabled(true);
+        when(storageService.exists(org.mockito.ArgumentMatchers.anyString())).thenReturn(true);
+        ImageGenerationProvider mockProvider = givenSingleMockImageProvider();
+        when(mockProvider.generate(org.mockito.ArgumentMatchers.any(AigcTask.class)))
+                .thenReturn(GenerationResult.builder()
+                        .success(true)
+                        .contentType(ContentType.IMAGE)
+                        .url("http://localhost:10003/files/images/cached.svg")
+                        .thumbnailUrl("http://localhost:10003/files/images/cached.svg")
+                        .model("mock-image-preview")
+                        .build());
+
+        ProviderSmokeTestRequest request = new ProviderSmokeTestRequest();
+        request.setContentType(ContentType.IMAGE);
+        request.setProvider("OTHER");
+        request.setProviderName("Mock Image Provider");
+        request.setPrompt("cached prompt");
+
+        ProviderSmokeTestResponse first = aigcService.smokeTestProvider(request);
+        ProviderSmokeTestResponse second = aigcService.smokeTestProvider(request);
+
+        assertEquals(true, second.getSuccess());
+        assertEquals(first.getUrl(), second.getUrl());
+        assertEquals("mock-image-preview", second.getModel());
+        org.junit.jupiter.api.Assertions.assertNotEquals(first.getAssetId(), second.getAssetId());
+        verify(mockProvider, org.mockito.Mockito.times(1)).generate(org.mockito.ArgumentMatchers.any(AigcTask.class));
+    }
+
+    @Test
+    void smokeTestProviderRegeneratesWhenCachedObjectWasDeletedByAnotherNode() throws Exception {
+        aigcProperties.getResultCache().setEnabled(true);
+        ImageGenerationProvider mockProvider = givenSingleMockImageProvider();
+        when(mockProvider.generate(org.mockito.ArgumentMatchers.any(AigcTask.class)))
+                .thenReturn(GenerationResult.builder()
+                        .success(true)
+                        .contentType(ContentType.IMAGE)
+                        .url("http://localhost:10003/files/images/gone.svg")
+                        .model("mock-image-preview")
+                        .build());
+        when(storageService.exists("http://localhost:10003/files/images/gone.svg")).thenReturn(false);
+
+        ProviderSmokeTestRequest request = new ProviderSmokeTestRequest();
+        request.setContentType(ContentType.IMAGE);
+        request.setProvider("OTHER");
+        request.setProviderName("Mock Image Provider");
+        request.setPrompt("deleted elsewhere");
+
+        aigcService.smokeTestProvider(request);
+        aigcService.smokeTestProvider(request);
+
+        verify(mockProvider, org.mockito.Mockito.times(2)).generate(org.mockito.ArgumentMatchers.any(AigcTask.class));
+    }
+
+    @Test
+    void deleteAssetKeepsStoredObjectSharedWithOtherAssets() throws Exception {
+        AigcAsset asset = asset("asset-shared");
+        asset.setUrl("http://localhost:10003/files/images/shared.svg");
+        when(assetRepository.findVisibleByAssetId("asset-shared", null, null)).thenReturn(Optional.of(asset));
+        when(assetRepository.countOtherAssetsReferencingUrl("asset-shared", asset.getUrl())).thenReturn(1L);
+
+        aigcService.deleteAsset("asset-shared");
+
+        verify(storageService, never()).deleteByUrl(asset.getUrl());
+        verify(assetRepository).deleteByAssetId("asset-shared");
+    }
+
     @Test
     void smokeTestProviderRequiresExplicitExternalConfirmationForGoogle() {
         givenImageProviders();
@@ -791,7 +961,7 @@ class AigcServiceImplAssetTest {
         asset.setOwnerId("creator-1");
         when(assetRepository.findByAssetIdAndIsPublishedTrue("asset-share")).thenReturn(Optional.of(asset));
 
-        GalleryShareResponse response = aigcService.getGalleryShare("asset-share");
+        GalleryShareResponse response = aigcService.getGalleryShare("asset-share", etag -> false);
 
         assertEquals("asset-share", response.getAsset().getId());
         assertEquals("creator-1", response.getAsset().getAuthorId());
@@ -806,18 +976,123 @@ class AigcServiceImplAssetTest {
         assertEquals("agent-aigc · /share/gallery/asset-share", response.getPosterFooter());
         assertEquals(7, response.getAsset().getLikeCount());
         assertEquals(3, response.getAsset().getFavoriteCount());
-        verify(galleryAuditLogService).recordSuccess(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset);
+        verify(galleryEventRecorder).record(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset);
+        verify(galleryAuditLogService, never()).recordSuccess(any(), any());
+    }
+
+    @Test
+    void getGalleryShareKeepsEtagUntilCountsOrPayloadSourceChange() {
+        AigcAsset asset = asset("asset-share");
+        asset.setIsPublished(true);
+        asset.setLikeCount(7);
+        asset.setOwnerId("creator-1");
+        when(assetRepository.findByAssetIdAndIsPublishedTrue("asset-share")).thenReturn(Optional.of(asset));
+
+        String first = aigcService.getGalleryShare("asset-share", etag -> false).getEtag();
+        assertEquals(first, aigcService.getGalleryShare("asset-share", etag -> false).getEtag());
+        assertEquals(1, sharePayloadCache.size());
+
+        asset.setLikeCount(8);
+        String afterLike = aigcService.getGalleryShare("asset-share", etag -> false).getEtag();
+        asset.setOwnerId("creator-2");
+        GalleryShareResponse afterOwnerChange = aigcService.getGalleryShare("asset-share", etag -> false);
+
+        org.junit.jupiter.api.Assertions.assertNotEquals(first, afterLike);
+        org.junit.jupiter.api.Assertions.assertNotEquals(afterLike, afterOwnerChange.getEtag());
+        assertEquals("图片 · creator-2 · mock-image-preview", afterOwnerChange.getPosterSubtitle());
+    }
+
+    @Test
+    void getGalleryShareChangesEtagWhenDisplayedFieldsChangeAndSkipsResponseWhenNotModified() {
+        AigcAsset asset = asset("asset-share");
+        asset.setIsPublished(true);
+        asset.setOwnerId("creator-1");
+        when(assetRepository.findByAssetIdAndIsPublishedTrue("asset-share")).thenReturn(Optional.of(asset));
+
+        String first = aigcService.getGalleryShare("asset-share", etag -> false).getEtag();
+        asset.setThumbnailUrl("https://cdn.example.com/asset-share-thumb.png");
+        String afterThumbnail = aigcService.getGalleryShare("asset-share", etag -> false).getEtag();
+        asset.setPrompt("prompt with a new title");
+        String afterPrompt = aigcService.getGalleryShare("asset-share", etag -> false).getEtag();
+
+        org.junit.jupiter.api.Assertions.assertNotEquals(first, afterThumbnail);
+        org.junit.jupiter.api.Assertions.assertNotEquals(afterThumbnail, afterPrompt);
+        assertNull(aigcService.getGalleryShare("asset-share", afterPrompt::equals));
+        verify(galleryEventRecorder, times(4)).record(AigcGalleryAuditLogService.ACTION_SHARE_VIEW, asset);
     }
 
     @Test
     void getGalleryShareRequiresPublishedAsset() {
         when(assetRepository.findByAssetIdAndIsPublishedTrue("draft")).thenReturn(Optional.empty());
 
-        AigcException error = assertThrows(AigcException.class, () -> aigcService.getGalleryShare("draft"));
+        AigcException error = assertThrows(AigcException.class,
+                () -> aigcService.getGalleryShare("draft", etag -> false));
 
         assertEquals(AigcErrorCode.ASSET_NOT_FOUND, error.getErrorCode());
     }
 
+    @Test
+    void getGalleryListFlagsTruncatedPromptAndDetailReturnsFullPrompt() {
+        String fullPrompt = "p".repeat(AigcAssetSummary.PROMPT_PREVIEW_LENGTH + 50);
+        AigcAssetSummary summary = new AigcAssetSummary(
+                1L, "asset-long", ContentType.IMAGE, "https://cdn.example.com/a.png", null,
+                fullPrompt.substring(0, AigcAssetSummary.PROMPT_PREVIEW_LENGTH), fullPrompt.length(),
+                "mock-image-preview", "creator-1", true, 2, 1, LocalDateTime.now());
+        when(assetRepository.searchPublishedSummaries(
+                org.mockito.ArgumentMatchers.<ContentType>isNull(),
+                org.mockito.ArgumentMatchers.<String>isNull(),
+                org.mockito.ArgumentMatchers.<String>isNull(),
+                any(org.springframework.data.domain.Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(summary)));
+        AigcAsset asset = asset("asset-long");
+        asset.setIsPublished(true);
+        asset.setPrompt(fullPrompt);
+        when(assetRepository.findByAssetIdAndIsPublishedTrue("asset-long")).thenReturn(Optional.of(asset));
+
+        var page = aigcService.getGalleryList(1, 20, null, null, null);
+        var detail = aigcService.getGalleryDetail("asset-long");
+
+        assertEquals(AigcAssetSummary.PROMPT_PREVIEW_LENGTH, page.getRecords().get(0).getPrompt().length());
+        assertEquals(true, page.getRecords().get(0).getPromptTruncated());
+        assertEquals("/api/aigc/gallery/asset-long/preview", page.getRecords().get(0).getPreviewUrl());
+        assertEquals(fullPrompt, detail.getPrompt());
+        assertEquals(false, detail.getPromptTruncated());
+    }
+
+    @Test
+    void getTasksByMaterialLoadsSlimRowsInPageOrderWithBatchedAssets() {
+        when(materialRepository.findVisibleByMaterialId("material-1", null, null))
+                .thenReturn(Optional.of(new com.anjing.aigc.model.entity.AigcMaterial()));
+        when(taskMaterialRepository.findVisibleTaskIdsByMaterialId(
+                org.mockito.ArgumentMatchers.eq("material-1"),
+                org.mockito.ArgumentMatchers.<String>isNull(),
+                org.mockito.ArgumentMatchers.<String>isNull(),
+                any(org.springframework.data.domain.Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of("task-new", "task-old"), PageRequest.of(0, 20), 2));
+        LocalDateTime now = LocalDateTime.now();
+        when(taskRepository.findSummariesByTaskIdIn(List.of("task-new", "task-old"))).thenReturn(List.of(
+                new AigcTaskSummary("task-old", TaskStatus.FAILED, 100, ContentType.IMAGE, null,
+                        null, null, null, null, "failed", "PROVIDER_ERROR", null, now, now),
+                new AigcTaskSummary("task-new", TaskStatus.COMPLETED, 100, ContentType.IMAGE, "IMAGE_GENERATION",
+                        "mock-image-preview", "mock-image", "OTHER", "asset-1", null, null, 12L, now, now)));
+        AigcAsset asset = asset("asset-1");
+        when(assetRepository.findVisibleAssetSummariesByAssetIdIn(
+                org.mockito.ArgumentMatchers.eq(java.util.Set.of("asset-1")),
+                org.mockito.ArgumentMatchers.<String>isNull(),
+                org.mockito.ArgumentMatchers.<String>isNull()))
+                .thenReturn(List.of(AigcAssetSummary.from(asset)));
+
+        var page = aigcService.getTasksByMaterial("material-1", 1, 20);
+
+        assertEquals(2L, page.getTotal());
+        assertEquals("task-new", page.getRecords().get(0).getTaskId());
+        assertEquals("asset-1", page.getRecords().get(0).getResult().getAssetId());
+        assertEquals(12L, page.getRecords().get(0).getProviderExecution().getDurationMs());
+        assertEquals("task-old", page.getRecords().get(1).getTaskId());
+        assertEquals(null, page.getRecords().get(1).getResult());
+        verify(taskRepository, never()).findByTaskId(any());
+    }
+
     @Test
     void recordGallerySharePromptReuseRecordsPublishedAssetAudit() {
         AigcAsset asset = asset("asset-reuse");
@@ -826,7 +1101,7 @@ class AigcServiceImplAssetTest {
 
         aigcService.recordGallerySharePromptReuse("asset-reuse");
 
-        verify(galleryAuditLogService).recordSuccess(AigcGalleryAuditLogService.ACTION_PROMPT_REUSE, asset);
+        verify(galleryEventRecorder).record(AigcGalleryAuditLogService.ACTION_PROMPT_REUSE, asset);
     }
 
     @Test
@@ -855,16 +1130,17 @@ class AigcServiceImplAssetTest {
         lowerRankedAsset.setFavoriteCount(1);
         PageRequest pageRequest = PageRequest.of(0, 12, Sort.by(Sort.Direction.DESC, "createdAt"));
         PageRequest topCandidateRequest = PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "createdAt"));
-        when(assetRepository.searchPublishedByOwner("creator-1", false, ContentType.IMAGE, pageRequest))
-                .thenReturn(new PageImpl<>(List.of(asset), pageRequest, 1));
-        when(assetRepository.searchPublishedByOwner("creator-1", false, null, topCandidateRequest))
-                .thenReturn(new PageImpl<>(List.of(lowerRankedAsset, asset), topCandidateRequest, 2));
-        when(assetRepository.countPublishedByOwner("creator-1", false, null)).thenReturn(4L);
-        when(assetRepository.countPublishedByOwner("creator-1", false, ContentType.IMAGE)).thenReturn(2L);
-        when(assetRepository.countPublishedByOwner("creator-1", false, ContentType.VIDEO)).thenReturn(1L);
-        when(assetRepository.countPublishedByOwner("creator-1", false, ContentType.AUDIO)).thenReturn(1L);
-        when(assetRepository.sumPublishedLikeCountByOwner("creator-1", false)).thenReturn(9L);
-        when(assetRepository.sumPublishedFavoriteCountByOwner("creator-1", false)).thenReturn(4L);
+        when(assetRepository.searchPublishedSummariesByOwner("creator-1", false, ContentType.IMAGE, pageRequest))
+                .thenReturn(new PageImpl<>(List.of(AigcAssetSummary.from(asset)), pageRequest, 1));
+        when(assetRepository.searchPublishedSummariesByOwner("creator-1", false, null, topCandidateRequest))
+                .thenReturn(new PageImpl<>(
+                        List.of(AigcAssetSummary.from(lowerRankedAsset), AigcAssetSummary.from(asset)),
+                        topCandidateRequest,
+                        2));
+        when(assetRepository.aggregatePublishedStatsByOwner("creator-1", false)).thenReturn(List.of(
+                contentTypeStats(ContentType.IMAGE, 2L, 8L, 3L),
+                contentTypeStats(ContentType.VIDEO, 1L, 1L, 1L),
+                contentTypeStats(ContentType.AUDIO, 1L, 0L, 0L)));
 
         GalleryAuthorProfileResponse response = aigcService.getGalleryAuthorProfile(
                 "creator-1", 1, 12, "IMAGE");
@@ -889,10 +1165,10 @@ class AigcServiceImplAssetTest {
     void getGalleryAuthorProfileMapsBlankAuthorToAnonymous() {
         PageRequest pageRequest = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
         PageRequest topCandidateRequest = PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "createdAt"));
-        when(assetRepository.searchPublishedByOwner("anonymous", true, null, pageRequest))
-                .thenReturn(new PageImpl<>(List.of(), pageRequest, 0));
-        when(assetRepository.searchPublishedByOwner("anonymous", true, null, topCandidateRequest))
-                .thenReturn(new PageImpl<>(List.of(), topCandidateRequest, 0));
+        when(assetRepository.searchPublishedSummariesByOwner("anonymous", true, null, pageRequest))
+                .thenReturn(new PageImpl<AigcAssetSummary>(List.of(), pageRequest, 0));
+        when(assetRepository.searchPublishedSummariesByOwner("anonymous", true, null, topCandidateRequest))
+                .thenReturn(new PageImpl<AigcAssetSummary>(List.of(), topCandidateRequest, 0));
 
         GalleryAuthorProfileResponse response = aigcService.getGalleryAuthorProfile(
                 " ", 0, 0, null);
@@ -902,6 +1178,62 @@ class AigcServiceImplAssetTest {
         assertEquals(0, response.getAssets().getRecords().size());
     }
 
+    @Test
+    void getGalleryAuthorProfileReusesCachedStatsAndAppliesPublishAndReactionEvents() {
+        PageRequest pageRequest = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        when(assetRepository.searchPublishedSummariesByOwner(any(), org.mockito.ArgumentMatchers.eq(false), any(), any()))
+                .thenReturn(new PageImpl<AigcAssetSummary>(List.of(), pageRequest, 0));
+        when(assetRepository.aggregatePublishedStatsByOwner("creator-1", false)).thenReturn(List.of(
+                contentTypeStats(ContentType.IMAGE, 1L, 2L, 1L)));
+        aigcService.getGalleryAuthorProfile("creator-1", 1, 20, null);
+
+        AigcAsset draft = asset("asset-new-video");
+        draft.setOwnerId("creator-1");
+        draft.setContentType(ContentType.VIDEO);
+        when(assetRepository.findVisibleByAssetId("asset-new-video", null, null)).thenReturn(Optional.of(draft));
+        when(assetRepository.save(draft)).thenReturn(draft);
+        aigcService.saveToGallery("asset-new-video");
+        when(assetRepository.findByAssetIdAndIsPublishedTrue("asset-new-video")).thenReturn(Optional.of(draft));
+        when(galleryReactionService.addReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-new-video"))
+                .thenReturn(true);
+        aigcService.likeGalleryAsset("asset-new-video");
+
+        GalleryAuthorProfileResponse response = aigcService.getGalleryAuthorProfile("creator-1", 1, 20, null);
+
+        assertEquals(2L, response.getPublishedCount());
+        assertEquals(1L, response.getImageCount());
+        assertEquals(1L, response.getVideoCount());
+        assertEquals(3L, response.getTotalLikeCount());
+        assertEquals(1L, response.getTotalFavoriteCount());
+        verify(assetRepository, org.mockito.Mockito.times(1)).aggregatePublishedStatsByOwner("creator-1", false);
+    }
+
+    @Test
+    void getMyFavoriteGalleryListHydratesJoinedPageWithBulkLikeFlags() {
+        AigcAsset recentFavorite = asset("asset-recent");
+        recentFavorite.setIsPublished(true);
+        AigcAsset olderFavorite = asset("asset-older");
+        olderFavorite.setIsPublished(true);
+        PageRequest pageRequest = PageRequest.of(0, 20);
+        when(galleryReactionService.getMyFavoriteAssets(pageRequest)).thenReturn(new PageImpl<>(
+                List.of(AigcAssetSummary.from(recentFavorite), AigcAssetSummary.from(olderFavorite)),
+                pageRequest, 2));
+        when(galleryReactionService.findReactedAssetIds(
+                AigcGalleryReactionService.REACTION_LIKE, List.of("asset-recent", "asset-older")))
+                .thenReturn(java.util.Set.of("asset-older"));
+
+        var result = aigcService.getMyFavoriteGalleryList(1, 20);
+
+        assertEquals(2L, result.getTotal());
+        assertEquals("asset-recent", result.getRecords().get(0).getId());
+        assertEquals(false, result.getRecords().get(0).getLikedByCurrentUser());
+        assertEquals(true, result.getRecords().get(0).getFavoritedByCurrentUser());
+        assertEquals("asset-older", result.getRecords().get(1).getId());
+        assertEquals(true, result.getRecords().get(1).getLikedByCurrentUser());
+        verify(assetRepository, never()).findByAssetIdAndIsPublishedTrue(any());
+        verify(galleryReactionService, never()).hasReaction(any(), any());
+    }
+
     @Test
     void likeGalleryAssetIncrementsPublishedAssetLikeCount() {
         AigcAsset asset = asset("asset-liked");
@@ -912,12 +1244,16 @@ class AigcServiceImplAssetTest {
                 .thenReturn(true);
         when(galleryReactionService.hasReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-liked"))
                 .thenReturn(true);
-        when(assetRepository.save(asset)).thenReturn(asset);
 
         assertEquals(3, aigcService.likeGalleryAsset("asset-liked").getLikeCount());
-        assertEquals(3, asset.getLikeCount());
-        verify(assetRepository).save(asset);
+        assertEquals(3, aigcService.getGalleryDetail("asset-liked").getLikeCount());
+        assertEquals(2, asset.getLikeCount());
+        verify(assetRepository, never()).save(asset);
         verify(galleryAuditLogService).recordSuccess(AigcGalleryAuditLogService.ACTION_LIKE, asset);
+
+        galleryCounterService.flush();
+
+        verify(assetRepository).applyReactionCountDelta("asset-liked", 1, 0);
     }
 
     @Test
@@ -945,11 +1281,10 @@ class AigcServiceImplAssetTest {
         when(assetRepository.findByAssetIdAndIsPublishedTrue("asset-unliked")).thenReturn(Optional.of(asset));
         when(galleryReactionService.removeReaction(AigcGalleryReactionService.REACTION_LIKE, "asset-unliked"))
                 .thenReturn(true);
-        when(assetRepository.save(asset)).thenReturn(asset);
 
         assertEquals(0, aigcService.unlikeGalleryAsset("asset-unliked").getLikeCount());
         assertEquals(0, asset.getLikeCount());
-        verify(assetRepository).save(asset);
+        verify(assetRepository, never()).save(asset);
         verify(galleryAuditLogService).recordSuccess(AigcGalleryAuditLogService.ACTION_UNLIKE, asset);
     }
 
@@ -972,12 +1307,14 @@ class AigcServiceImplAssetTest {
                 .thenReturn(true);
         when(galleryReactionService.hasReaction(AigcGalleryReactionService.REACTION_FAVORITE, "asset-favorited"))
                 .thenReturn(true);
-        when(assetRepository.save(asset)).thenReturn(asset);
 
         assertEquals(5, aigcService.favoriteGalleryAsset("asset-favorited").getFavoriteCount());
-        assertEquals(5, asset.getFavoriteCount());
-        verify(assetRepository).save(asset);
+        verify(assetRepository, never()).save(asset);
         verify(galleryAuditLogService).recordSuccess(AigcGalleryAuditLogService.ACTION_FAVORITE, asset);
+
+        galleryCounterService.flush();
+
+        verify(assetRepository).applyReactionCountDelta("asset-favorited", 0, 1);
     }
 
     @Test
@@ -988,11 +1325,10 @@ class AigcServiceImplAssetTest {
         when(assetRepository.findByAssetIdAndIsPublishedTrue("asset-unfavorited")).thenReturn(Optional.of(asset));
         when(galleryReactionService.removeReaction(AigcGalleryReactionService.REACTION_FAVORITE, "asset-unfavorited"))
                 .thenReturn(true);
-        when(assetRepository.save(asset)).thenReturn(asset);
 
         assertEquals(0, aigcService.unfavoriteGalleryAsset("asset-unfavorited").getFavoriteCount());
         assertEquals(0, asset.getFavoriteCount());
-        verify(assetRepository).save(asset);
+        verify(assetRepository, never()).save(asset);
         verify(galleryAuditLogService).recordSuccess(AigcGalleryAuditLogService.ACTION_UNFAVORITE, asset);
     }
 
@@ -1005,6 +1341,31 @@ class AigcServiceImplAssetTest {
         assertEquals(AigcErrorCode.ASSET_NOT_FOUND, error.getErrorCode());
     }
 
+    private AigcAssetRepository.PublishedContentTypeStatsProjection contentTypeStats(ContentType contentType,
+            Long publishedCount, Long totalLikeCount, Long totalFavoriteCount) {
+        return new AigcAssetRepository.PublishedContentTypeStatsProjection() {
+            @Override
+            public ContentType getContentType() {
+                return contentType;
+            }
+
+            @Override
+            public Long getPublishedCount() {
+                return publishedCount;
+            }
+
+            @Override
+            public Long getTotalLikeCount() {
+                return totalLikeCount;
+            }
+
+            @Override
+            public Long getTotalFavoriteCount() {
+                return totalFavoriteCount;
+            }
+        };
+    }
+
     private AigcAsset asset(String assetId) {
         AigcAsset asset = new AigcAsset();
         asset.setAssetId(assetId);
@@ -0,0 +1,140 @@
+package com.anjing.aigc.service;
+
+import com.anjing.aigc.exception.AigcException;
+import com.anjing.aigc.model.entity.AigcTask;
+import com.anjing.aigc.model.entity.AigcTaskMaterial;
+import com.anjing.aigc.model.request.TaskMaterialBackfillRequest;
+import com.anjing.aigc.model.response.TaskMaterialBackfillResponse;
+import com.anjing.aigc.repository.AigcTaskMaterialRepository;
+import com.anjing.aigc.repository.AigcTaskRepository;
+import com.anjing.model.errorcode.AigcErrorCode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AigcTaskMaterialServiceTest {
+
+    private final AigcTaskRepository taskRepository = mock(AigcTaskRepository.class);
+    private final AigcTaskMaterialRepository taskMaterialRepository = mock(AigcTaskMaterialRepository.class);
+    private final AigcProviderManagementPermissionService permissionService =
+            mock(AigcProviderManagementPermissionService.class);
+    private final AigcProviderAuditLogService auditLogService = mock(AigcProviderAuditLogService.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final AigcTaskMaterialService service = new AigcTaskMaterialService(
+            taskRepository,
+            taskMaterialRepository,
+            permissionService,
+            auditLogService,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            entityManager);
+
+    @Test
+    void linkTaskWritesOneRowPerDistinctMaterialWithTaskCreatedAt() {
+        AigcTask task = task(1L, "task-1", " material-1", "material-2", "material-1", "");
+
+        int linked = service.linkTask(task);
+
+        assertEquals(2, linked);
+        List<AigcTaskMaterial> links = capturedLinks();
+        assertEquals(List.of("material-1", "material-2"),
+                links.stream().map(AigcTaskMaterial::getMaterialId).toList());
+        assertEquals(task.getCreatedAt(), links.get(0).getTaskCreatedAt());
+        assertEquals("task-1", links.get(1).getTaskId());
+    }
+
+    @Test
+    void linkTaskSkipsTasksWithoutReferenceMaterials() {
+        assertEquals(0, service.linkTask(task(1L, "task-1")));
+
+        verify(taskMaterialRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void dryRunCountsCandidatesWithoutWritingLinks() {
+        when(taskRepository.countWithReferenceMaterials()).thenReturn(4L);
+
+        TaskMaterialBackfillResponse response = service.backfill(new TaskMaterialBackfillRequest());
+
+        assertTrue(response.getDryRun());
+        assertEquals(4L, response.getTaskCandidates());
+        assertEquals(0, response.getLinksCreated());
+        verify(taskRepository, never()).findWithReferenceMaterialsAfter(anyLong(), any());
+        verify(permissionService).assertCanManageAigc(
+                AigcProviderAuditLogService.ACTION_TASK_MATERIAL_BACKFILL,
+                "AIGC_TASK_MATERIAL");
+    }
+
+    @Test
+    void confirmedBackfillLinksOnlyTasksWithoutExistingRows() {
+        AigcTask linked = task(1L, "task-linked", "material-1");
+        AigcTask pending = task(2L, "task-pending", "material-1", "material-2");
+        when(taskRepository.countWithReferenceMaterials()).thenReturn(2L);
+        when(taskRepository.findWithReferenceMaterialsAfter(eq(0L), any())).thenReturn(List.of(linked, pending));
+        when(taskMaterialRepository.findLinkedTaskIds(List.of("task-linked", "task-pending")))
+                .thenReturn(List.of("task-linked"));
+
+        TaskMaterialBackfillRequest request = new TaskMaterialBackfillRequest();
+        request.setDryRun(false);
+        request.setConfirmBackfill(true);
+        TaskMaterialBackfillResponse response = service.backfill(request);
+
+        assertEquals(1, response.getTaskLinked());
+        assertEquals(2, response.getLinksCreated());
+        assertTrue(capturedLinks().stream().allMatch(link -> "task-pending".equals(link.getTaskId())));
+        verify(entityManager).clear();
+        verify(auditLogService).record(
+                eq(AigcProviderAuditLogService.ACTION_TASK_MATERIAL_BACKFILL),
+                any(),
+                any(),
+                any(),
+                any(),
+                any(),
+                any());
+    }
+
+    @Test
+    void backfillRequiresExplicitConfirmation() {
+        TaskMaterialBackfillRequest request = new TaskMaterialBackfillRequest();
+        request.setDryRun(false);
+
+        AigcException error = assertThrows(AigcException.class, () -> service.backfill(request));
+
+        assertEquals(AigcErrorCode.TASK_MATERIAL_BACKFILL_INVALID, error.getErrorCode());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AigcTaskMaterial> capturedLinks() {
+        ArgumentCaptor<Iterable<AigcTaskMaterial>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(taskMaterialRepository).saveAll(captor.capture());
+        List<AigcTaskMaterial> links = new ArrayList<>();
+        captor.getValue().forEach(links::add);
+        return links;
+    }
+
+    private AigcTask task(Long id, String taskId, String... materialIds) {
+        AigcTask task = new AigcTask();
+        task.setId(id);
+        task.setTaskId(taskId);
+        task.setReferenceMaterialIds(materialIds.length == 0 ? null : Arrays.asList(materialIds));
+        task.setCreatedAt(LocalDateTime.of(2026, 6, 1, 9, 30));
+        return task;
+    }
+}
@@ -1,7 +1,9 @@
 package com.anjing.aigc.service.storage;
 
 import com.anjing.aigc.config.AigcProperties;
+import com.anjing.aigc.model.enums.ContentType;
 import com.anjing.aigc.model.response.AigcStorageDownloadResource;
+import com.anjing.aigc.model.response.GenerationResult;
 import com.anjing.aigc.model.response.StorageStatusResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -230,4 +232,32 @@ class AigcStorageServiceTest {
         assertEquals(3L, response.getContentLength());
         assertEquals(3, response.getResource().getInputStream().readAllBytes().length);
     }
+
+    @Test
+    void offloadGeneratedDataUrlsStoresManagedObjectAndRewritesResult() throws Exception {
+        AigcProperties properties = new AigcProperties();
+        properties.getStorage().getLocal().setBasePath(tempDir.toString());
+        properties.getStorage().getLocal().setUrlPrefix("http://localhost:10003/files");
+        AigcStorageService storageService = new AigcStorageService(
+                properties,
+                new LocalAigcStorageService(properties),
+                new OssAigcStorageService(properties),
+                mock(AigcStorageAuditLogService.class)
+        );
+        String dataUrl = "data:image/svg+xml;charset=UTF-8,%3Csvg%3Eok%3C%2Fsvg%3E";
+        GenerationResult result = GenerationResult.builder()
+                .success(true)
+                .contentType(ContentType.IMAGE)
+                .url(dataUrl)
+                .thumbnailUrl(dataUrl)
+                .build();
+
+        storageService.offloadGeneratedDataUrls(result);
+
+        assertTrue(result.getUrl().startsWith("http://localhost:10003/files/generated/image/"));
+        assertEquals(result.getUrl(), result.getThumbnailUrl());
+        AigcStorageDownloadResource download = storageService.resolveDownload(result.getUrl(), null);
+        assertEquals("image/svg+xml", download.getContentType());
+        assertEquals("<svg>ok</svg>", new String(download.getResource().getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
 }
@@ -2,19 +2,26 @@ package com.anjing.aspect;
 
 import com.anjing.aigc.model.enums.ContentType;
 import com.anjing.aigc.model.request.ProviderCredentialUpdateRequest;
+import com.anjing.config.properties.RequestLogProperties;
 import com.anjing.model.response.APIResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ControllerLogAspectTest {
 
-    private final ControllerLogAspect aspect = new ControllerLogAspect(new ObjectMapper());
+    private final RequestLogProperties properties = new RequestLogProperties();
+    private final ControllerLogAspect aspect = new ControllerLogAspect(new ObjectMapper(), properties);
 
     @Test
     void formatArgsMasksProviderCredential() {
@@ -44,4 +51,65 @@ class ControllerLogAspectTest {
         assertTrue(formatted.contains("\"token\":\"***FILTERED***\""));
         assertTrue(formatted.contains("\"password\":\"***FILTERED***\""));
     }
+
+    @Test
+    void formatResultSkipsWholeSensitiveSubtreeAndKeepsFollowingFields() {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("credential", Map.of("apiKey", "nested-secret", "scopes", List.of("a", "b")));
+        payload.put("provider", "GOOGLE");
+
+        String formatted = (String) ReflectionTestUtils.invokeMethod(aspect, "formatResult", payload);
+
+        assertEquals("{\"credential\":\"***FILTERED***\",\"provider\":\"GOOGLE\"}", formatted);
+    }
+
+    @Test
+    void formatResultStopsSerializingOnceBudgetIsUsed() {
+        properties.setPayloadMaxChars(200);
+        AtomicInteger serializedItems = new AtomicInteger();
+        List<CountingItem> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new CountingItem("prompt-" + i + "-" + "x".repeat(40), serializedItems));
+        }
+
+        String formatted = (String) ReflectionTestUtils.invokeMethod(aspect, "formatResult", APIResponse.success(items));
+
+        assertEquals(200 + "...".length(), formatted.length());
+        assertTrue(formatted.endsWith("..."));
+        assertTrue(serializedItems.get() < 10, "serialized " + serializedItems.get() + " items");
+    }
+
+    @Test
+    void formatArgsWritesFrameworkObjectsAsTypeNames() {
+        String formatted = (String) ReflectionTestUtils.invokeMethod(aspect, "formatArgs", new Object[]{new Object[]{
+                "asset-1", new org.springframework.mock.web.MockHttpServletRequest()}});
+
+        assertEquals("[\"asset-1\",\"<MockHttpServletRequest>\"]", formatted);
+    }
+
+    @Test
+    void samplePayloadUsesFirstMatchingRouteRate() {
+        properties.getRoutePayloadSampleRates().put("/api/aigc/gallery/**", 0.0);
+        properties.getRoutePayloadSampleRates().put("/api/aigc/**", 1.0);
+
+        assertFalse((Boolean) ReflectionTestUtils.invokeMethod(aspect, "samplePayload", "/api/aigc/gallery/{assetId}/share"));
+        assertTrue((Boolean) ReflectionTestUtils.invokeMethod(aspect, "samplePayload", "/api/aigc/task/{taskId}"));
+        assertTrue((Boolean) ReflectionTestUtils.invokeMethod(aspect, "samplePayload", (Object) null));
+    }
+
+    static final class CountingItem {
+
+        private final String prompt;
+        private final AtomicInteger serializedItems;
+
+        CountingItem(String prompt, AtomicInteger serializedItems) {
+            this.prompt = prompt;
+            this.serializedItems = serializedItems;
+        }
+
+        public String getPrompt() {
+            serializedItems.incrementAndGet();
+            return prompt;
+        }
+    }
 }
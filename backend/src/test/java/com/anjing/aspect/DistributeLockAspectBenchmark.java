@@ -0,0 +1,87 @@
+package com.anjing.aspect;
+
+import com.anjing.annotation.DistributeLock;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 锁 key 解析基准：对比每次加锁都重新解析 SpEL 并解释执行，与 {@link DistributeLockAspect#resolveLockKey}
+ * 按方法缓存模板、表达式编译为字节码后的写法。
+ *
+ * <p>默认测试不运行，用 {@code mvn -Pbenchmark test} 执行。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistributeLockAspectBenchmark {
+
+    private DistributeLockAspect aspect;
+    private Method method;
+    private DistributeLock distributeLock;
+    private Object[] args;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws NoSuchMethodException {
+        aspect = new DistributeLockAspect(mock(ObjectProvider.class), mock(ObjectProvider.class), "local");
+        method = LockedMethods.class.getDeclaredMethod("pay", String.class, DistributeLockAspectTest.Order.class);
+        distributeLock = method.getAnnotation(DistributeLock.class);
+        args = new Object[]{"order-1", new DistributeLockAspectTest.Order(3)};
+    }
+
+    @Benchmark
+    public String cachedCompiledTemplate() {
+        return aspect.resolveLockKey(method, distributeLock, args);
+    }
+
+    @Benchmark
+    public String parsePerCall() {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setVariable("orderId", args[0]);
+        context.setVariable("order", args[1]);
+        return distributeLock.scene() + "#"
+                + new SpelExpressionParser().parseExpression(distributeLock.keyExpression()).getValue(context);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void runBenchmark() throws RunnerException {
+        // surefire 的类路径在清单 jar 里，分叉出的 JVM 找不到测试类，这里在当前 JVM 内运行
+        new Runner(new OptionsBuilder()
+                .include(DistributeLockAspectBenchmark.class.getName())
+                .forks(0)
+                .build())
+                .run();
+    }
+
+    static class LockedMethods {
+
+        @DistributeLock(scene = "payment", keyExpression = "#orderId + ':' + #order.version")
+        void pay(String orderId, DistributeLockAspectTest.Order order) {
+        }
+    }
+}
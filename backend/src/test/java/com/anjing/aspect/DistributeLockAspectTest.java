@@ -0,0 +1,125 @@
+package com.anjing.aspect;
+
+import com.anjing.annotation.DistributeLock;
+import com.anjing.model.errorcode.LockErrorCode;
+import com.anjing.model.exception.SystemException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class DistributeLockAspectTest {
+
+    @SuppressWarnings("unchecked")
+    private final DistributeLockAspect aspect = new DistributeLockAspect(
+            mock(ObjectProvider.class), mock(ObjectProvider.class), "local");
+
+    @Test
+    void resolveLockKeyEvaluatesExpressionAgainstArgumentsAndCachesTemplatePerMethod() throws Exception {
+        Method method = LockedMethods.class.getDeclaredMethod("pay", String.class, Order.class);
+        DistributeLock distributeLock = method.getAnnotation(DistributeLock.class);
+
+        assertEquals("payment#order-1:3", aspect.resolveLockKey(method, distributeLock, new Object[]{"order-1", new Order(3)}));
+        Object template = lockKeyTemplates().get(method);
+        assertEquals("payment#order-2:5", aspect.resolveLockKey(method, distributeLock, new Object[]{"order-2", new Order(5)}));
+
+        assertEquals(1, lockKeyTemplates().size());
+        assertSame(template, lockKeyTemplates().get(method));
+    }
+
+    @Test
+    void compiledExpressionFallsBackToInterpreterForOtherArgumentTypesAndNull() throws Exception {
+        Method method = LockedMethods.class.getDeclaredMethod("sync", Object.class);
+        DistributeLock distributeLock = method.getAnnotation(DistributeLock.class);
+        // 足够多次调用，让表达式按 Order 编译
+        for (int i = 0; i < 300; i++) {
+            assertEquals("sync#" + i, aspect.resolveLockKey(method, distributeLock, new Object[]{new Order(i)}));
+        }
+
+        assertEquals("sync#7", aspect.resolveLockKey(method, distributeLock, new Object[]{new Invoice(7)}));
+        assertEquals("sync#null", aspect.resolveLockKey(method, distributeLock, new Object[]{null}));
+        assertEquals("sync#8", aspect.resolveLockKey(method, distributeLock, new Object[]{new Order(8)}));
+    }
+
+    @Test
+    void resolveLockKeyPrefersFixedKey() throws Exception {
+        Method method = LockedMethods.class.getDeclaredMethod("refresh");
+
+        assertEquals("cache#all", aspect.resolveLockKey(method, method.getAnnotation(DistributeLock.class), new Object[0]));
+    }
+
+    @Test
+    void resolveLockKeyRejectsMissingKeyAndBrokenExpression() throws Exception {
+        Method missing = LockedMethods.class.getDeclaredMethod("missing");
+        Method broken = LockedMethods.class.getDeclaredMethod("broken", String.class);
+
+        SystemException missingError = assertThrows(SystemException.class,
+                () -> aspect.resolveLockKey(missing, missing.getAnnotation(DistributeLock.class), new Object[0]));
+        SystemException brokenError = assertThrows(SystemException.class,
+                () -> aspect.resolveLockKey(broken, broken.getAnnotation(DistributeLock.class), new Object[]{"x"}));
+
+        assertEquals(LockErrorCode.LOCK_KEY_MISSING, missingError.getErrorCode());
+        assertEquals(LockErrorCode.LOCK_EXPRESSION_ERROR, brokenError.getErrorCode());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Method, Object> lockKeyTemplates() {
+        return (Map<Method, Object>) ReflectionTestUtils.getField(aspect, "lockKeyTemplates");
+    }
+
+    public static class Order {
+
+        private final int version;
+
+        Order(int version) {
+            this.version = version;
+        }
+
+        public int getVersion() {
+            return version;
+        }
+    }
+
+    public static class Invoice {
+
+        private final int version;
+
+        Invoice(int version) {
+            this.version = version;
+        }
+
+        public int getVersion() {
+            return version;
+        }
+    }
+
+    static class LockedMethods {
+
+        @DistributeLock(scene = "payment", keyExpression = "#orderId + ':' + #order.version")
+        void pay(String orderId, Order order) {
+        }
+
+        @DistributeLock(scene = "sync", keyExpression = "#target?.version")
+        void sync(Object target) {
+        }
+
+        @DistributeLock(scene = "cache", key = "all", keyExpression = "#ignored")
+        void refresh() {
+        }
+
+        @DistributeLock(scene = "empty")
+        void missing() {
+        }
+
+        @DistributeLock(scene = "broken", keyExpression = "#value +")
+        void broken(String value) {
+        }
+    }
+}
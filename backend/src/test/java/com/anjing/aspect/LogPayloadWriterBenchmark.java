@@ -0,0 +1,134 @@
+package com.anjing.aspect;
+
+import com.anjing.aigc.model.dto.GalleryDTO;
+import com.anjing.aigc.model.enums.ContentType;
+import com.anjing.model.response.APIResponse;
+import com.anjing.model.response.PageResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 接口日志序列化基准：100 条作品的广场分页响应，对比旧的 valueToTree + 脱敏 + 整体转字符串后截断，
+ * 与 {@link LogPayloadWriter} 边写边脱敏、写满预算即停止的流式写法。
+ *
+ * <p>默认测试不运行，用 {@code mvn -Pbenchmark test} 执行。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogPayloadWriterBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_CHARS = 1000;
+
+    private ObjectMapper objectMapper;
+    private LogPayloadWriter payloadWriter;
+    private APIResponse<PageResult<GalleryDTO>> galleryPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        payloadWriter = new LogPayloadWriter(objectMapper, ControllerLogAspect.SENSITIVE_FIELD_NAMES);
+        List<GalleryDTO> items = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            items.add(GalleryDTO.builder()
+                    .id("asset-" + i)
+                    .contentType(ContentType.IMAGE)
+                    .url("https://cdn.example.com/generated/image/" + i + ".png")
+                    .thumbnailUrl("https://cdn.example.com/generated/image/" + i + "-thumb.png")
+                    .prompt("a watercolor lighthouse at dusk, soft light, detailed waves, variant " + i)
+                    .promptTruncated(false)
+                    .model("mock-image-preview")
+                    .isPublished(true)
+                    .createdAt(LocalDateTime.of(2026, 6, 19, 10, 0).plusMinutes(i))
+                    .authorId("creator-" + (i % 7))
+                    .authorName("创作者 " + (i % 7))
+                    .likeCount(i * 3)
+                    .likedByCurrentUser(i % 2 == 0)
+                    .favoriteCount(i)
+                    .favoritedByCurrentUser(false)
+                    .build());
+        }
+        galleryPage = APIResponse.success(PageResult.of(items, 1000, 1, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public String streamingWriter() throws IOException {
+        return payloadWriter.write(galleryPage, MAX_CHARS);
+    }
+
+    @Benchmark
+    public String valueToTreeThenTruncate() throws IOException {
+        JsonNode node = objectMapper.valueToTree(galleryPage);
+        redact(node);
+        String json = objectMapper.writeValueAsString(node);
+        return json.length() > MAX_CHARS ? json.substring(0, MAX_CHARS) + LogPayloadWriter.TRUNCATED_SUFFIX : json;
+    }
+
+    @Test
+    @Tag("benchmark")
+    void runBenchmark() throws RunnerException {
+        // surefire 的类路径在清单 jar 里，分叉出的 JVM 找不到测试类，这里在当前 JVM 内运行
+        new Runner(new OptionsBuilder()
+                .include(LogPayloadWriterBenchmark.class.getName())
+                .forks(0)
+                .build())
+                .run();
+    }
+
+    /**
+     * 改造前 ControllerLogAspect 的树形脱敏
+     */
+    private static void redact(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode objectNode = (ObjectNode) node;
+            Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields();
+            List<String> sensitive = new ArrayList<>();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (isSensitive(field.getKey())) {
+                    sensitive.add(field.getKey());
+                } else {
+                    redact(field.getValue());
+                }
+            }
+            sensitive.forEach(name -> objectNode.put(name, LogPayloadWriter.FILTERED_VALUE));
+            return;
+        }
+        if (node.isArray()) {
+            node.forEach(LogPayloadWriterBenchmark::redact);
+        }
+    }
+
+    private static boolean isSensitive(String fieldName) {
+        return ControllerLogAspect.SENSITIVE_FIELD_NAMES.stream().anyMatch(name -> name.equalsIgnoreCase(fieldName));
+    }
+}
@@ -0,0 +1,103 @@
+package com.anjing.client;
+
+import com.anjing.config.properties.RemoteHttpClientProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RemoteCallMetricsTest {
+
+    private final RemoteHttpClientProperties.Metrics properties = new RemoteHttpClientProperties.Metrics();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void pathTemplateFoldsIdSegmentsAndDropsQuery() {
+        assertEquals("/api/items/{id}", RemoteCallMetrics.pathTemplate("/api/items/42?expand=true"));
+        assertEquals("/api/tasks/{id}/status",
+                RemoteCallMetrics.pathTemplate("/api/tasks/0f8c3a2e-1b4d-4c8e-9a6f-2d1e7b5c9a30/status"));
+        assertEquals("/api/assets/{id}", RemoteCallMetrics.pathTemplate("/api/assets/asset_20240101abcdef"));
+        assertEquals("/api/v1/users/me", RemoteCallMetrics.pathTemplate("/api/v1/users/me"));
+        assertEquals("/", RemoteCallMetrics.pathTemplate(null));
+    }
+
+    @Test
+    void recordsLatencyErrorsAndInFlightAsMeters() {
+        RemoteCallMetrics metrics = new RemoteCallMetrics(properties, registry);
+        MetricsRemoteCallObserver observer = new MetricsRemoteCallObserver(metrics, properties.getMaxSeries());
+
+        observer.onStart(context("/api/items/1"));
+        observer.onStart(context("/api/items/2"));
+        assertEquals(2, metrics.report(10).inFlight());
+
+        observer.onComplete(observation("/api/items/1", 30, true, null));
+        observer.onComplete(observation("/api/items/2", 300, false, "1801"));
+
+        Timer timer = registry.find(RemoteCallMetrics.CALLS).tag("uri", "/api/items/{id}").timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+        assertTrue(timer.takeSnapshot().histogramCounts().length > 0);
+        assertEquals(1.0, registry.find(RemoteCallMetrics.ERRORS).tag("error", "1801").counter().count());
+
+        RemoteCallMetrics.RemoteCallMetricsReport report = metrics.report(10);
+        assertEquals(1, report.series().size());
+        RemoteCallMetrics.RemoteCallSeriesMetric series = report.series().get(0);
+        assertEquals("/api/items/{id}", series.path());
+        assertEquals(2, series.calls());
+        assertEquals(1, series.errors());
+        assertEquals(0.5, series.errorRate());
+        assertEquals(0, series.inFlight());
+        assertEquals(1L, series.errorCodes().get("1801"));
+        assertTrue(series.p99Millis() >= 250);
+        assertEquals(300.0, series.maxMillis());
+    }
+
+    @Test
+    void pathTemplatesBeyondLimitAreNotRegistered() {
+        properties.setMaxSeries(1);
+        RemoteCallMetrics metrics = new RemoteCallMetrics(properties, registry);
+        MetricsRemoteCallObserver observer = new MetricsRemoteCallObserver(metrics, properties.getMaxSeries());
+
+        observer.onComplete(observation("/api/a", 1, true, null));
+        observer.onComplete(observation("/api/b", 1, true, null));
+        observer.onComplete(observation("/api/c", 1, true, null));
+
+        assertEquals(1, registry.find(RemoteCallMetrics.CALLS).timers().size());
+        assertEquals("/api/a", metrics.report(10).series().get(0).path());
+    }
+
+    @Test
+    void slowCallBufferKeepsMostRecentCallsNewestFirst() {
+        properties.setSlowCallThresholdMs(100);
+        properties.setSlowCallBufferSize(2);
+        RemoteCallMetrics bounded = new RemoteCallMetrics(properties, registry);
+
+        bounded.recordSlowCall(observation("/api/slow/1", 150, true, null));
+        bounded.recordSlowCall(observation("/api/fast", 10, true, null));
+        bounded.recordSlowCall(observation("/api/slow/2", 200, true, null));
+        bounded.recordSlowCall(observation("/api/slow/3", 250, false, "1802"));
+
+        List<RemoteCallMetrics.SlowRemoteCall> slowCalls = bounded.report(10).slowCalls();
+        assertEquals(2, slowCalls.size());
+        assertEquals("/api/slow/3", slowCalls.get(0).path());
+        assertEquals("/api/slow/2", slowCalls.get(1).path());
+        assertEquals("rid-1", slowCalls.get(0).requestId());
+    }
+
+    private static RemoteCallPolicyContext context(String path) {
+        return new RemoteCallPolicyContext("GET", "inventory", "inventory", path,
+                "http://inventory.local" + path, "gateway");
+    }
+
+    private static RemoteCallObservation observation(String path, long durationMs, boolean success, String errorCode) {
+        return new RemoteCallObservation(
+                "GET", "inventory", "inventory", path, "http://inventory.local" + path, "gateway",
+                "rid-1", "tid-1", null, null, null, null,
+                success, durationMs, errorCode, null, null);
+    }
+}
@@ -0,0 +1,190 @@
+package com.anjing.client;
+
+import com.anjing.config.async.RequestContextTaskDecorator;
+import com.anjing.config.properties.RemoteHttpClientProperties;
+import com.anjing.context.GlobalRequestContextHolder;
+import com.anjing.model.constants.RequestHeaderConstants;
+import com.anjing.model.errorcode.RemoteErrorCode;
+import com.anjing.model.exception.SystemException;
+import com.anjing.model.request.GlobalRequestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class RemoteHttpClientAsyncTest {
+
+    private final RemoteHttpClientProperties properties = properties();
+    private final RemoteHttpAsyncExecutor asyncExecutor =
+            new RemoteHttpAsyncExecutor(properties.getAsync(), new RequestContextTaskDecorator());
+
+    @AfterEach
+    void tearDown() {
+        GlobalRequestContextHolder.clear();
+        asyncExecutor.shutdown();
+    }
+
+    @Test
+    void exchangeAsyncShouldRetryOnTimerWithCallerContext() {
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        RecordingObserver observer = new RecordingObserver();
+        RemoteHttpClient client = client(builder, observer);
+
+        GlobalRequestContextHolder.set(GlobalRequestContext.builder()
+                .requestId("rid-async")
+                .traceId("tid-async")
+                .build());
+
+        server.expect(ExpectedCount.once(), requestTo("http://inventory.local/api/items"))
+                .andExpect(header(RequestHeaderConstants.REQUEST_ID, "rid-async"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(ExpectedCount.once(), requestTo("http://inventory.local/api/items"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(RequestHeaderConstants.REQUEST_ID, "rid-async"))
+                .andRespond(withSuccess("ok", MediaType.TEXT_PLAIN));
+
+        CompletableFuture<String> future = client.exchangeAsync(
+                RemoteHttpRequest.builder()
+                        .serviceId("inventory")
+                        .path("/api/items")
+                        .retryCount(1)
+                        .retryIntervalMs(10L)
+                        .build(),
+                String.class
+        );
+        GlobalRequestContextHolder.clear();
+
+        assertEquals("ok", future.orTimeout(5, TimeUnit.SECONDS).join());
+        server.verify();
+        awaitObservations(observer, 1);
+        assertTrue(observer.observations.get(0).success());
+        assertEquals("rid-async", observer.observations.get(0).requestId());
+        assertEquals("tid-async", observer.observations.get(0).traceId());
+    }
+
+    @Test
+    void exchangeAsyncShouldFailFutureWithoutRetryingNonRetryableStatus() {
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        RecordingObserver observer = new RecordingObserver();
+        RemoteHttpClient client = client(builder, observer);
+
+        server.expect(ExpectedCount.once(), requestTo("http://inventory.local/api/items"))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+        CompletableFuture<String> future = client.exchangeAsync(
+                RemoteHttpRequest.builder()
+                        .serviceId("inventory")
+                        .path("/api/items")
+                        .retryCount(3)
+                        .retryIntervalMs(10L)
+                        .build(),
+                String.class
+        );
+
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> future.orTimeout(5, TimeUnit.SECONDS).join());
+        SystemException cause = assertInstanceOf(SystemException.class, error.getCause());
+        assertEquals(RemoteErrorCode.REMOTE_CALL_FAILED, cause.getErrorCode());
+        server.verify();
+        awaitObservations(observer, 1);
+        assertFalse(observer.observations.get(0).success());
+    }
+
+    @Test
+    void exchangeAsyncShouldReturnFailedFutureForInvalidRequest() {
+        RemoteHttpClient client = client(RestClient.builder(), new RecordingObserver());
+
+        CompletableFuture<String> future = client.exchangeAsync(RemoteHttpRequest.builder().build(), String.class);
+
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    void fanOutAllShouldFailFastAndCancelRemainingCalls() {
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<List<String>> all = RemoteCallFanOut.all(List.of(failed, pending));
+        failed.completeExceptionally(new CompletionException(new IllegalStateException("boom")));
+
+        CompletionException error = assertThrows(CompletionException.class, all::join);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void fanOutAllSettledShouldKeepResultsInInputOrder() {
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+
+        CompletableFuture<List<RemoteCallFanOut.RemoteCallOutcome<String>>> settled =
+                RemoteCallFanOut.allSettled(List.of(first, second));
+        second.complete("b");
+        first.completeExceptionally(new IllegalStateException("a failed"));
+
+        List<RemoteCallFanOut.RemoteCallOutcome<String>> outcomes = settled.join();
+        assertFalse(outcomes.get(0).isSuccess());
+        assertInstanceOf(IllegalStateException.class, outcomes.get(0).error());
+        assertTrue(outcomes.get(1).isSuccess());
+        assertEquals("b", outcomes.get(1).value());
+    }
+
+    private RemoteHttpClient client(RestClient.Builder builder, RemoteCallObserver observer) {
+        return new RemoteHttpClient(
+                builder.build(),
+                properties,
+                new ConfiguredServiceEndpointResolver(new ConfiguredServiceEndpointRegistry(properties)),
+                new DefaultRemoteCallerResolver(properties),
+                new NoopRemoteCallPolicy(),
+                observer,
+                asyncExecutor
+        );
+    }
+
+    private static void awaitObservations(RecordingObserver observer, int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (observer.observations.size() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, observer.observations.size());
+    }
+
+    private static RemoteHttpClientProperties properties() {
+        RemoteHttpClientProperties properties = new RemoteHttpClientProperties();
+        properties.getServiceBaseUrls().put("inventory", "http://inventory.local");
+        properties.setDefaultCallerId("infra-dev-scaffolding-test");
+        return properties;
+    }
+
+    static class RecordingObserver implements RemoteCallObserver {
+        private final List<RemoteCallObservation> observations = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onComplete(RemoteCallObservation observation) {
+            observations.add(observation);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.anjing.client;
+
+import com.anjing.config.properties.RemoteHttpClientProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ServiceEndpointBalancerTest {
+
+    private static final String A = "http://inventory-a.local";
+    private static final String B = "http://inventory-b.local";
+
+    private final AtomicLong clock = new AtomicLong(1_000L);
+    private final RemoteHttpClientProperties properties = properties();
+    private final ConfiguredServiceEndpointRegistry registry = new ConfiguredServiceEndpointRegistry(properties);
+    private final ServiceEndpointBalancer balancer = new ServiceEndpointBalancer(properties, registry, null, clock::get);
+    private final List<ServiceEndpoint> endpoints = registry.findEndpoints("inventory");
+
+    @Test
+    void registryShouldSplitCommaSeparatedBaseUrls() {
+        assertEquals(2, endpoints.size());
+        assertEquals(A, endpoints.get(0).baseUrl());
+        assertEquals(B, endpoints.get(1).baseUrl());
+        assertEquals(A, registry.findEndpoint("inventory").orElseThrow().baseUrl());
+    }
+
+    @Test
+    void roundRobinShouldAlternateAndPeekShouldNotAdvance() {
+        assertEquals(A, balancer.peek("inventory", endpoints).baseUrl());
+        assertEquals(A, balancer.peek("inventory", endpoints).baseUrl());
+
+        assertEquals(A, balancer.acquire("inventory", endpoints).baseUrl());
+        assertEquals(B, balancer.acquire("inventory", endpoints).baseUrl());
+        assertEquals(A, balancer.acquire("inventory", endpoints).baseUrl());
+    }
+
+    @Test
+    void leastOutstandingShouldAvoidBusyEndpoint() {
+        properties.getLoadBalancing().setStrategy(RemoteHttpClientProperties.Strategy.LEAST_OUTSTANDING);
+
+        String busy = balancer.acquire("inventory", endpoints).baseUrl();
+        String next = balancer.acquire("inventory", endpoints).baseUrl();
+
+        assertFalse(busy.equals(next));
+        balancer.release("inventory", busy, false, 0L);
+        assertEquals(busy, balancer.acquire("inventory", endpoints).baseUrl());
+    }
+
+    @Test
+    void ewmaLatencyShouldPreferFasterEndpoint() {
+        properties.getLoadBalancing().getStrategyByService()
+                .put("inventory", RemoteHttpClientProperties.Strategy.EWMA_LATENCY);
+        warmUp(A, TimeUnit.MILLISECONDS.toNanos(200));
+        warmUp(B, TimeUnit.MILLISECONDS.toNanos(20));
+
+        for (int i = 0; i < 10; i++) {
+            ServiceEndpoint endpoint = balancer.acquire("inventory", endpoints);
+            assertEquals(B, endpoint.baseUrl());
+            balancer.release("inventory", endpoint.baseUrl(), false, TimeUnit.MILLISECONDS.toNanos(20));
+        }
+    }
+
+    @Test
+    void consecutiveFailuresShouldEjectEndpointUntilEjectionExpires() {
+        properties.getLoadBalancing().setConsecutiveFailures(2);
+        properties.getLoadBalancing().setBaseEjectionMs(5_000L);
+        fail(A, 2);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(B, balancer.acquire("inventory", endpoints).baseUrl());
+        }
+        assertTrue(stats(A).ejectedForMs() > 0);
+
+        clock.addAndGet(5_001L);
+        assertEquals(0L, stats(A).ejectedForMs());
+        assertTrue(List.of(A, B).contains(balancer.acquire("inventory", endpoints).baseUrl()));
+    }
+
+    @Test
+    void ejectionShouldKeepAtLeastOneEndpoint() {
+        properties.getLoadBalancing().setConsecutiveFailures(1);
+        fail(A, 1);
+        fail(B, 1);
+
+        assertTrue(stats(A).ejectedForMs() > 0);
+        assertEquals(0L, stats(B).ejectedForMs());
+        assertEquals(B, balancer.acquire("inventory", endpoints).baseUrl());
+    }
+
+    @Test
+    void failedProbeShouldTakeEndpointOutUntilItRecovers() {
+        balancer.markProbeResult("inventory", A, false);
+        assertEquals(B, balancer.acquire("inventory", endpoints).baseUrl());
+        assertEquals(B, balancer.acquire("inventory", endpoints).baseUrl());
+
+        balancer.markProbeResult("inventory", A, true);
+        assertTrue(stats(A).probeHealthy());
+    }
+
+    @Test
+    void healthyProbeShouldNotLiftPassiveEjection() {
+        properties.getLoadBalancing().setConsecutiveFailures(1);
+        properties.getLoadBalancing().setBaseEjectionMs(5_000L);
+        fail(A, 1);
+
+        balancer.markProbeResult("inventory", A, true);
+
+        assertTrue(stats(A).ejectedForMs() > 0);
+        assertEquals(B, balancer.acquire("inventory", endpoints).baseUrl());
+    }
+
+    @Test
+    void fastFailuresShouldCountAsSlowForEwma() {
+        properties.getLoadBalancing().getStrategyByService()
+                .put("inventory", RemoteHttpClientProperties.Strategy.EWMA_LATENCY);
+        properties.getLoadBalancing().setConsecutiveFailures(100);
+        warmUp(B, TimeUnit.MILLISECONDS.toNanos(200));
+        fail(A, 1);
+
+        assertEquals(properties.getReadTimeoutMs(), stats(A).ewmaLatencyMs(), 0.001);
+        for (int i = 0; i < 5; i++) {
+            ServiceEndpoint endpoint = balancer.acquire("inventory", endpoints);
+            assertEquals(B, endpoint.baseUrl());
+            balancer.release("inventory", endpoint.baseUrl(), false, TimeUnit.MILLISECONDS.toNanos(200));
+        }
+    }
+
+    @Test
+    void retryShouldResolveEndpointPerAttempt() {
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        RemoteHttpClient client = new RemoteHttpClient(
+                builder.build(),
+                properties,
+                new ConfiguredServiceEndpointResolver(registry, balancer),
+                new DefaultRemoteCallerResolver(properties),
+                new NoopRemoteCallPolicy(),
+                new NoopRemoteCallObserver()
+        );
+
+        server.expect(ExpectedCount.once(), requestTo(A + "/api/items"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(ExpectedCount.once(), requestTo(B + "/api/items"))
+                .andRespond(withSuccess("ok", MediaType.TEXT_PLAIN));
+
+        String response = client.exchange(
+                RemoteHttpRequest.builder()
+                        .serviceId("inventory")
+                        .path("/api/items")
+                        .retryCount(1)
+                        .retryIntervalMs(0L)
+                        .build(),
+                String.class
+        );
+
+        assertEquals("ok", response);
+        server.verify();
+        assertEquals(1L, stats(A).failures());
+        assertEquals(0, stats(A).outstanding());
+        assertEquals(0, stats(B).outstanding());
+    }
+
+    private void warmUp(String baseUrl, long durationNanos) {
+        acquireOnly(baseUrl);
+        clock.addAndGet(1L);
+        balancer.release("inventory", baseUrl, false, durationNanos);
+    }
+
+    private void fail(String baseUrl, int times) {
+        for (int i = 0; i < times; i++) {
+            acquireOnly(baseUrl);
+            balancer.release("inventory", baseUrl, true, 0L);
+        }
+    }
+
+    /**
+     * Registers every endpoint, then acquires the given one regardless of strategy.
+     */
+    private void acquireOnly(String baseUrl) {
+        balancer.peek("inventory", endpoints);
+        balancer.acquire("inventory", endpoints.stream().filter(endpoint -> endpoint.baseUrl().equals(baseUrl)).toList());
+    }
+
+    private ServiceEndpointBalancer.EndpointStats stats(String baseUrl) {
+        return balancer.snapshot().stream()
+                .filter(stats -> stats.baseUrl().equals(baseUrl))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static RemoteHttpClientProperties properties() {
+        RemoteHttpClientProperties properties = new RemoteHttpClientProperties();
+        properties.getServiceBaseUrls().put("inventory", A + ", " + B);
+        properties.setDefaultCallerId("infra-dev-scaffolding-test");
+        return properties;
+    }
+}
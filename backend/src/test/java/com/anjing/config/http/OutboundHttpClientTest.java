@@ -0,0 +1,107 @@
+package com.anjing.config.http;
+
+import com.anjing.config.properties.OutboundHttpClientProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Dns;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboundHttpClientTest {
+
+    private HttpServer server;
+    private OutboundHttpClientConfig config;
+    private OutboundHttpClientMetrics metrics;
+    private OkHttpClient sharedClient;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/echo", exchange -> {
+            byte[] request = exchange.getRequestBody().readAllBytes();
+            byte[] response = (exchange.getRequestMethod() + ":" + new String(request, StandardCharsets.UTF_8))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("X-Echo", "yes");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        });
+        server.start();
+
+        OutboundHttpClientProperties properties = new OutboundHttpClientProperties();
+        config = new OutboundHttpClientConfig();
+        metrics = config.outboundHttpClientMetrics(properties);
+        sharedClient = config.outboundHttpClient(properties, metrics, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        config.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void restClientCallsShareOnePooledConnection() {
+        RestClient restClient = RestClient.builder()
+                .requestFactory(new OkHttpClientHttpRequestFactory(
+                        sharedClient, Duration.ofSeconds(2), Duration.ofSeconds(2)))
+                .build();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        String first = restClient.get().uri(baseUrl + "/echo").retrieve().body(String.class);
+        String second = restClient.post().uri(baseUrl + "/echo")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body("hello")
+                .retrieve()
+                .body(String.class);
+
+        assertEquals("GET:", first);
+        assertEquals("POST:hello", second);
+        OutboundHttpClientMetrics.OutboundHttpClientStats stats = metrics.snapshot(sharedClient);
+        assertEquals(2, stats.calls());
+        assertEquals(1, stats.connectionsOpened());
+        assertEquals(2, stats.connectionAcquisitions());
+        assertEquals(0.5, stats.connectionReuseRatio());
+        assertTrue(stats.inFlightByHost().isEmpty());
+        assertEquals(2.0, registry.find("outbound.http.calls").functionCounter().count());
+        assertEquals(1.0, registry.find("outbound.http.connections.opened").functionCounter().count());
+        assertEquals(1.0, registry.find("outbound.http.pool.connections").gauge().value());
+    }
+
+    @Test
+    void cachingDnsResolvesEachHostOncePerTtlAndForgetsEvictedHosts() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        Dns delegate = hostname -> {
+            lookups.incrementAndGet();
+            return List.of(InetAddress.getLoopbackAddress());
+        };
+        CachingDns dns = new CachingDns(delegate, 60, 16);
+
+        dns.lookup("api.example.com");
+        dns.lookup("api.example.com");
+        dns.evict("api.example.com");
+        dns.lookup("api.example.com");
+
+        assertEquals(2, lookups.get());
+        assertEquals(1, dns.hits());
+        assertEquals(2, dns.misses());
+    }
+}
@@ -0,0 +1,121 @@
+package com.anjing.config.jpa;
+
+import com.anjing.config.properties.QueryProfilerProperties;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryProfilerTest {
+
+    private final QueryProfilerProperties properties = new QueryProfilerProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryProfiler profiler = new QueryProfiler(properties, registry);
+
+    @Test
+    void normalizeFoldsLiteralsCommentsAndInLists() {
+        String shape = QueryProfiler.normalize(
+                "/* load AigcAsset */ select a1_0.id from aigc_asset a1_0\n  where a1_0.asset_id in (?, ?, ?) and a1_0.owner = 'it''s' limit 20");
+
+        assertEquals("select a1_0.id from aigc_asset a1_0 where a1_0.asset_id in (?) and a1_0.owner = ? limit ?", shape);
+    }
+
+    @Test
+    void samplingOffSkipsProfilingInsideAndOutsideRequests() {
+        assertFalse(profiler.shouldProfile());
+
+        profiler.beginRequest("GET /api/aigc/gallery");
+        assertFalse(profiler.shouldProfile());
+        profiler.endRequest();
+
+        assertTrue(profiler.report(10).shapes().isEmpty());
+    }
+
+    @Test
+    void sampledRequestRecordsHistogramRowsAndRepeatedSelects() {
+        properties.setSampleRate(1.0);
+        properties.setRepeatedQueryThreshold(3);
+        String reactionShape = profiler.shapeOf("select r1_0.id from aigc_gallery_reaction r1_0 where r1_0.asset_id=?");
+        String updateShape = profiler.shapeOf("update aigc_asset set like_count=like_count+1 where asset_id=?");
+
+        profiler.beginRequest("GET /api/aigc/gallery");
+        assertTrue(profiler.shouldProfile());
+        for (int i = 0; i < 3; i++) {
+            profiler.recordExecution(reactionShape, TimeUnit.MILLISECONDS.toNanos(3), 0, false);
+            profiler.recordRows(reactionShape, 1);
+        }
+        profiler.recordExecution(updateShape, TimeUnit.MILLISECONDS.toNanos(30), 1, false);
+        profiler.recordExecution(updateShape, TimeUnit.MILLISECONDS.toNanos(30), 1, false);
+        profiler.recordExecution(updateShape, TimeUnit.MILLISECONDS.toNanos(30), 1, true);
+        profiler.endRequest();
+
+        QueryProfiler.QueryProfileReport report = profiler.report(10);
+        assertEquals(1, report.sampledRequests());
+        assertEquals(1, report.repeatedQueryRequests());
+
+        QueryProfiler.QueryShapeMetric update = report.shapes().get(0);
+        assertEquals(updateShape, update.shape());
+        assertEquals(3, update.executions());
+        assertEquals(1, update.errors());
+        assertEquals(3, update.rows());
+        assertEquals(0, update.repeatedQueryRequests());
+        assertEquals(50, update.p95UpperBoundMillis());
+
+        QueryProfiler.QueryShapeMetric reaction = report.shapes().get(1);
+        assertEquals(reactionShape, reaction.shape());
+        assertEquals(3, reaction.rows());
+        assertEquals(1, reaction.repeatedQueryRequests());
+        assertEquals(3L, reaction.histogram().get("<5ms"));
+    }
+
+    @Test
+    void shapesBeyondLimitAreFoldedIntoOverflowBucket() {
+        properties.setSampleRate(1.0);
+        properties.setMaxShapes(1);
+
+        profiler.recordExecution("select 1", 1_000, 0, false);
+        profiler.recordExecution("select 2", 1_000, 0, false);
+
+        QueryProfiler.QueryProfileReport report = profiler.report(10);
+        assertEquals(2, report.shapes().size());
+        assertTrue(report.shapes().stream().anyMatch(metric -> QueryProfiler.OVERFLOW_SHAPE.equals(metric.shape())));
+    }
+
+    @Test
+    void profileIsExposedAsMetersPerShape() {
+        properties.setSampleRate(1.0);
+        properties.setRepeatedQueryThreshold(2);
+        String shape = profiler.shapeOf("select r1_0.id from aigc_gallery_reaction r1_0 where r1_0.asset_id=?");
+
+        profiler.beginRequest("GET /api/aigc/gallery");
+        profiler.recordExecution(shape, TimeUnit.MILLISECONDS.toNanos(4), 1, false);
+        profiler.recordExecution(shape, TimeUnit.MILLISECONDS.toNanos(6), 1, true);
+        profiler.endRequest();
+
+        FunctionTimer timer = registry.find(QueryProfiler.QUERIES).tag(QueryProfiler.TAG_SHAPE, shape).functionTimer();
+        assertEquals(2.0, timer.count());
+        assertEquals(10.0, timer.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1.0, registry.find(QueryProfiler.ERRORS).tag(QueryProfiler.TAG_SHAPE, shape).functionCounter().count());
+        assertEquals(2.0, registry.find(QueryProfiler.ROWS).tag(QueryProfiler.TAG_SHAPE, shape).functionCounter().count());
+        assertEquals(1.0, registry.find(QueryProfiler.REPEATED).tag(QueryProfiler.TAG_SHAPE, shape).functionCounter().count());
+        assertEquals(1.0, registry.find(QueryProfiler.REPEATED_REQUESTS).functionCounter().count());
+        assertEquals(1.0, registry.find(QueryProfiler.SAMPLED_REQUESTS).functionCounter().count());
+    }
+
+    @Test
+    void shapeMetersAreCappedByMaxShapes() {
+        properties.setSampleRate(1.0);
+        properties.setMaxShapes(1);
+
+        profiler.recordExecution("select 1", 1_000, 0, false);
+        profiler.recordExecution("select 2", 1_000, 0, false);
+        profiler.recordExecution("select 3", 1_000, 0, false);
+
+        assertEquals(2, registry.find(QueryProfiler.QUERIES).functionTimers().size());
+    }
+}
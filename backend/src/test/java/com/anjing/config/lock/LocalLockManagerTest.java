@@ -0,0 +1,136 @@
+package com.anjing.config.lock;
+
+import com.anjing.config.lock.LocalLockConfig.LocalLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalLockManagerTest {
+
+    private final LocalLockManager manager = new LocalLockManager(30_000);
+
+    @AfterEach
+    void tearDown() {
+        manager.shutdown();
+    }
+
+    @Test
+    void reentrantHoldIsReleasedOnlyAfterMatchingUnlocks() throws Exception {
+        manager.lock("order#1", -1);
+        manager.lock("order#1", -1);
+
+        manager.unlock("order#1");
+        assertTrue(manager.isLocked("order#1"));
+        assertFalse(tryLockFromOtherThread("order#1"));
+
+        manager.unlock("order#1");
+        assertFalse(manager.isLocked("order#1"));
+        assertTrue(locks().isEmpty());
+    }
+
+    @Test
+    void leaseExpiryLetsAnotherThreadAcquireAndStaleUnlockIsIgnored() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        manager.bindTo(registry);
+        assertTrue(manager.tryLock("order#2", 0, 1));
+
+        assertTrue(runInOtherThread(() -> {
+            boolean acquired = manager.tryLock("order#2", 3, -1);
+            manager.unlock("order#2");
+            return acquired;
+        }));
+
+        manager.unlock("order#2");
+        assertEquals(1, manager.snapshot().expiredLeases());
+        assertEquals(1, manager.snapshot().contendedAcquisitions());
+        assertTrue(locks().isEmpty());
+        assertEquals(1.0, registry.find("local.lock.expired.leases").functionCounter().count());
+        assertEquals(1.0, registry.find("local.lock.contended.wait").functionTimer().count());
+        assertEquals(2.0, registry.find("local.lock.acquisitions").functionCounter().count());
+    }
+
+    @Test
+    void watchdogRenewsLeaseWhileOwnerIsAlive() throws Exception {
+        LocalLockManager shortLease = new LocalLockManager(300);
+        try {
+            shortLease.lock("order#3", -1);
+            Thread.sleep(800);
+
+            assertTrue(shortLease.isLocked("order#3"));
+            assertEquals(0, shortLease.snapshot().expiredLeases());
+            shortLease.unlock("order#3");
+        } finally {
+            shortLease.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentLockersNeverOverlapAndLeaveNoEntriesBehind() throws Exception {
+        int threads = 8;
+        int rounds = 200;
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < rounds; round++) {
+                        manager.lock("hot-key", -1);
+                        try {
+                            if (inside.incrementAndGet() > 1) {
+                                overlaps.incrementAndGet();
+                            }
+                            inside.decrementAndGet();
+                        } finally {
+                            manager.unlock("hot-key");
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, overlaps.get());
+        assertEquals((long) threads * rounds, manager.snapshot().acquisitions());
+        assertTrue(locks().isEmpty());
+    }
+
+    private boolean tryLockFromOtherThread(String key) throws Exception {
+        return runInOtherThread(() -> manager.tryLock(key, 0, -1));
+    }
+
+    private <T> T runInOtherThread(java.util.concurrent.Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<T> future = executor.submit(task);
+            return future.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> locks() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(manager, "locks");
+    }
+}
@@ -0,0 +1,85 @@
+package com.anjing.context;
+
+import com.anjing.model.request.GlobalRequestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GlobalRequestContextHolderTest {
+
+    @AfterEach
+    void tearDown() {
+        GlobalRequestContextHolder.clear();
+    }
+
+    @Test
+    void captureAndRunWithShouldShareTheSameInstance() {
+        GlobalRequestContext context = context("rid-1");
+        GlobalRequestContextHolder.set(context);
+
+        assertSame(context, GlobalRequestContextHolder.capture().orElseThrow());
+
+        AtomicReference<GlobalRequestContext> inner = new AtomicReference<>();
+        GlobalRequestContext other = context("rid-2");
+        GlobalRequestContextHolder.runWith(other, () -> inner.set(GlobalRequestContextHolder.currentOrNull()));
+
+        assertSame(other, inner.get());
+        assertSame(context, GlobalRequestContextHolder.currentOrNull());
+    }
+
+    @Test
+    void contextShouldStayUnchangedWhenDerivedOrWhenArgsAreModified() {
+        Object[] args = {"a"};
+        GlobalRequestContext context = GlobalRequestContext.builder().requestId("rid-1").args(args).build();
+        args[0] = "changed";
+        context.getArgs()[0] = "changed";
+
+        GlobalRequestContext derived = context.toBuilder().callerId("worker").build();
+
+        assertEquals("a", context.getArgs()[0]);
+        assertNull(context.getCallerId());
+        assertEquals("rid-1", derived.getRequestId());
+        assertEquals("worker", derived.getCallerId());
+    }
+
+    @Test
+    void wrappedStagesShouldSeeCallerContextOnPoolThreadsAndLeaveNothingBehind() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            GlobalRequestContext context = context("rid-1");
+            GlobalRequestContextHolder.set(context);
+
+            String result = CompletableFuture
+                    .supplyAsync(GlobalRequestContextHolder.wrapSupplier(GlobalRequestContextHolder::tenantIdOrEmpty),
+                            executor)
+                    .thenApplyAsync(GlobalRequestContextHolder.wrapFunction(
+                            tenantId -> tenantId + "/" + GlobalRequestContextHolder.userIdOrEmpty()), executor)
+                    .get();
+            GlobalRequestContext leftOver = CompletableFuture
+                    .supplyAsync(GlobalRequestContextHolder::currentOrNull, executor)
+                    .get();
+
+            assertEquals("tenant-a/user-a", result);
+            assertNull(leftOver);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static GlobalRequestContext context(String requestId) {
+        return GlobalRequestContext.builder()
+                .requestId(requestId)
+                .traceId("tid-1")
+                .tenantId("tenant-a")
+                .userId("user-a")
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.anjing.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdUtilsTest {
+
+    @AfterEach
+    void tearDown() {
+        IdUtils.configureSnowflakeNode(33);
+        IdUtils.configureSnowflakeLease(Long.MAX_VALUE);
+        IdUtils.configureBusinessIdStrategy(null);
+    }
+
+    @Test
+    void snowflakeIdsAreUniqueAndIncreasingPerThreadUnderContention() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    long previous = Long.MIN_VALUE;
+                    for (int n = 0; n < perThread; n++) {
+                        long id = IdUtils.nextId();
+                        assertTrue(id > previous);
+                        previous = id;
+                        ids.add(id);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    void configuredNodeIdIsEmbeddedInSnowflakeIds() {
+        IdUtils.configureSnowflakeNode(1000);
+
+        long id = IdUtils.nextId();
+
+        assertEquals(1000, IdUtils.snowflakeNodeId());
+        assertEquals(1000, (id >>> 12) & IdUtils.MAX_NODE_ID);
+        assertThrows(IllegalArgumentException.class, () -> IdUtils.configureSnowflakeNode(1024));
+        assertThrows(IllegalArgumentException.class, () -> IdUtils.configureSnowflakeNode(-1));
+    }
+
+    @Test
+    void uuidV7CarriesVersionVariantAndTimestampOrder() {
+        UUID earlier = IdUtils.uuidV7(1_700_000_000_000L);
+        UUID later = IdUtils.uuidV7(1_700_000_000_001L);
+
+        assertEquals(7, earlier.version());
+        assertEquals(2, earlier.variant());
+        assertEquals(1_700_000_000_000L, earlier.getMostSignificantBits() >>> 16);
+        assertTrue(earlier.toString().compareTo(later.toString()) < 0);
+        assertEquals(36, IdUtils.uuidV7().length());
+    }
+
+    @Test
+    void businessIdFollowsConfiguredStrategy() {
+        IdUtils.configureBusinessIdStrategy(IdUtils.BusinessIdStrategy.SNOWFLAKE);
+        assertTrue(IdUtils.businessId().chars().allMatch(Character::isDigit));
+
+        IdUtils.configureBusinessIdStrategy(IdUtils.BusinessIdStrategy.UUID_V7);
+        assertEquals(7, UUID.fromString(IdUtils.businessId()).version());
+
+        IdUtils.configureBusinessIdStrategy(null);
+        assertEquals(4, UUID.fromString(IdUtils.businessId()).version());
+    }
+
+    @Test
+    void expiredSnowflakeLeaseRefusesNextIdAndDegradesBusinessId() {
+        IdUtils.configureBusinessIdStrategy(IdUtils.BusinessIdStrategy.SNOWFLAKE);
+        IdUtils.configureSnowflakeLease(System.currentTimeMillis() - 1);
+
+        assertThrows(IllegalStateException.class, IdUtils::nextId);
+        assertEquals(7, UUID.fromString(IdUtils.businessId()).version());
+
+        IdUtils.configureSnowflakeLease(System.currentTimeMillis() + 60_000L);
+
+        assertTrue(IdUtils.businessId().chars().allMatch(Character::isDigit));
+    }
+}
@@ -21,6 +21,7 @@ import type {
   GalleryAuditLogSearchParams,
   GalleryInteractionReportResponse,
   GalleryInteractionReportSearchParams,
+  AssetItem,
   AssetListResponse,
   GallerySearchParams,
   AssetSearchParams,
@@ -185,6 +186,28 @@ export function fetchGetFavoriteGalleryList(params: Pick<GallerySearchParams, 'c
   }) as Promise<GalleryListResponse>
 }
 
+/**
+ * 获取灵感广场作品详情（完整 Prompt）
+ * @param assetId 资产ID
+ */
+export function fetchGetGalleryDetail(assetId: string) {
+  return openApiRequest('getGalleryDetail', {
+    pathParams: { assetId }
+  }) as Promise<GalleryItem>
+}
+
+/**
+ * 列表中的 Prompt 可能被截断，复制或复用前按需拉取完整内容
+ * @param item 广场作品
+ */
+export async function fetchGalleryFullPrompt(
+  item: Pick<GalleryItem, 'id' | 'prompt' | 'promptTruncated'>
+) {
+  if (!item.promptTruncated) return item.prompt
+  const detail = await fetchGetGalleryDetail(item.id)
+  return detail.prompt || item.prompt
+}
+
 /**
  * 获取公开分享页作品详情
  * @param assetId 资产ID
@@ -240,6 +263,18 @@ export function fetchGetAssetDetail(assetId: string) {
   }) as Promise<AssetDetailResponse>
 }
 
+/**
+ * 列表中的 Prompt 可能被截断，复用前按需拉取完整内容
+ * @param item 资产
+ */
+export async function fetchAssetFullPrompt(
+  item: Pick<AssetItem, 'id' | 'prompt' | 'promptTruncated'>
+) {
+  if (!item.promptTruncated) return item.prompt
+  const detail = await fetchGetAssetDetail(item.id)
+  return detail.asset?.prompt || item.prompt
+}
+
 /**
  * 获取参考素材列表
  * @param params 搜索参数
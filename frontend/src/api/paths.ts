@@ -43,6 +43,11 @@ export const ApiPaths = {
     itemDetail: (id: string | number) =>
       bindApiPathParams(SERVICE_BOUNDARY_ROUTE_PATHS.test.itemDetail, { id })
   },
+  admin: {
+    queryProfile: SERVICE_BOUNDARY_ROUTE_PATHS.admin.queryProfile,
+    outboundHttp: SERVICE_BOUNDARY_ROUTE_PATHS.admin.outboundHttp,
+    remoteCalls: SERVICE_BOUNDARY_ROUTE_PATHS.admin.remoteCalls
+  },
   common: {
     upload: SERVICE_BOUNDARY_ROUTE_PATHS.common.upload,
     uploadImage: SERVICE_BOUNDARY_ROUTE_PATHS.common.uploadImage,
@@ -78,8 +83,13 @@ export const ApiPaths = {
     materialUpload: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.materialUpload,
     storageStatus: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.storageStatus,
     storageAudits: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.storageAudits,
+    storageAuditFeed: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.storageAuditFeed,
+    storageDataUrlMigration: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.storageDataUrlMigration,
     ownershipBackfill: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.ownershipBackfill,
+    taskMaterialBackfill: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.taskMaterialBackfill,
+    galleryTopicBackfill: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryTopicBackfill,
     gallery: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.gallery,
+    galleryFeed: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryFeed,
     galleryRanking: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryRanking,
     galleryCollections: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryCollections,
     galleryTopics: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryTopics,
@@ -87,6 +97,7 @@ export const ApiPaths = {
     galleryCurationRules: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryCurationRules,
     galleryCurationRuleConfig: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryCurationRuleConfig,
     galleryAudits: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryAudits,
+    galleryAuditFeed: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryAuditFeed,
     galleryInteractionReport: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryInteractionReport,
     galleryFavorites: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryFavorites,
     gallerySave: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.gallerySave,
@@ -100,6 +111,8 @@ export const ApiPaths = {
       bindApiPathParams(SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryShare, { assetId }),
     galleryShareReuse: (assetId: string | number) =>
       bindApiPathParams(SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryShareReuse, { assetId }),
+    galleryDetail: (assetId: string | number) =>
+      bindApiPathParams(SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryDetail, { assetId }),
     galleryAuthorProfile: (authorId: string | number) =>
       bindApiPathParams(SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryAuthorProfile, { authorId }),
     galleryAssetPreview: (assetId: string | number) =>
@@ -107,6 +120,7 @@ export const ApiPaths = {
     galleryAssetDownload: (assetId: string | number) =>
       bindApiPathParams(SERVICE_BOUNDARY_ROUTE_PATHS.aigc.galleryAssetDownload, { assetId }),
     assets: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.assets,
+    assetFeed: SERVICE_BOUNDARY_ROUTE_PATHS.aigc.assetFeed,
     assetDetail: (assetId: string | number) =>
       bindApiPathParams(SERVICE_BOUNDARY_ROUTE_PATHS.aigc.assetDetail, { assetId }),
     assetPreview: (assetId: string | number) =>
@@ -13,11 +13,21 @@ export interface OpenApiOperationMeta {
 }
 
 export const OPENAPI_OPERATIONS = {
+  backfillGalleryTopics: {
+    method: "POST",
+    path: "/api/aigc/gallery/topics/backfill",
+    operationId: "backfillGalleryTopics"
+  },
   backfillOwnership: {
     method: "POST",
     path: "/api/aigc/ownership/backfill",
     operationId: "backfillOwnership"
   },
+  backfillTaskMaterials: {
+    method: "POST",
+    path: "/api/aigc/materials/task-links/backfill",
+    operationId: "backfillTaskMaterials"
+  },
   createItem: {
     method: "POST",
     path: "/api/test/items",
@@ -73,6 +83,11 @@ export const OPENAPI_OPERATIONS = {
     path: "/api/aigc/assets/{assetId}",
     operationId: "getAssetDetail"
   },
+  getAssetFeed: {
+    method: "GET",
+    path: "/api/aigc/assets/feed",
+    operationId: "getAssetFeed"
+  },
   getAssetList: {
     method: "GET",
     path: "/api/aigc/assets",
@@ -88,6 +103,11 @@ export const OPENAPI_OPERATIONS = {
     path: "/api/aigc/gallery/favorites",
     operationId: "getFavoriteGalleryList"
   },
+  getGalleryAuditLogFeed: {
+    method: "GET",
+    path: "/api/aigc/gallery/audits/feed",
+    operationId: "getGalleryAuditLogFeed"
+  },
   getGalleryAuditLogs: {
     method: "GET",
     path: "/api/aigc/gallery/audits",
@@ -113,6 +133,16 @@ export const OPENAPI_OPERATIONS = {
     path: "/api/aigc/gallery/curation/rules",
     operationId: "getGalleryCurationRules"
   },
+  getGalleryDetail: {
+    method: "GET",
+    path: "/api/aigc/gallery/{assetId}",
+    operationId: "getGalleryDetail"
+  },
+  getGalleryFeed: {
+    method: "GET",
+    path: "/api/aigc/gallery/feed",
+    operationId: "getGalleryFeed"
+  },
   getGalleryInteractionReport: {
     method: "GET",
     path: "/api/aigc/gallery/reports/interactions",
@@ -168,6 +198,11 @@ export const OPENAPI_OPERATIONS = {
     path: "/api/aigc/models/provider-execution-report",
     operationId: "getProviderExecutionReport"
   },
+  getStorageAuditLogFeed: {
+    method: "GET",
+    path: "/api/aigc/storage/audits/feed",
+    operationId: "getStorageAuditLogFeed"
+  },
   getStorageAuditLogs: {
     method: "GET",
     path: "/api/aigc/storage/audits",
@@ -208,6 +243,16 @@ export const OPENAPI_OPERATIONS = {
     path: "/api/auth/logout",
     operationId: "logout"
   },
+  migrateDataUrls: {
+    method: "POST",
+    path: "/api/aigc/storage/data-url-migration",
+    operationId: "migrateDataUrls"
+  },
+  outboundHttp: {
+    method: "GET",
+    path: "/api/admin/outbound-http",
+    operationId: "outboundHttp"
+  },
   ping: {
     method: "GET",
     path: "/api/test/ping",
@@ -233,6 +278,11 @@ export const OPENAPI_OPERATIONS = {
     path: "/api/aigc/models/probe",
     operationId: "probeModel"
   },
+  queryProfile: {
+    method: "GET",
+    path: "/api/admin/query-profile",
+    operationId: "queryProfile"
+  },
   recordGallerySharePromptReuse: {
     method: "POST",
     path: "/api/aigc/gallery/{assetId}/share/reuse",
@@ -243,6 +293,11 @@ export const OPENAPI_OPERATIONS = {
     path: "/api/auth/refresh",
     operationId: "refreshToken"
   },
+  remoteCalls: {
+    method: "GET",
+    path: "/api/admin/remote-calls",
+    operationId: "remoteCalls"
+  },
   removeFromGallery: {
     method: "DELETE",
     path: "/api/aigc/gallery/{assetId}/publication",
@@ -318,6 +373,13 @@ export const OPENAPI_OPERATIONS = {
 export type OpenApiOperationId = keyof typeof OPENAPI_OPERATIONS
 
 export interface OpenApiOperationTypes {
+  backfillGalleryTopics: {
+    pathParams: undefined
+    query: undefined
+    request: Schemas.GalleryTopicBackfillRequest
+    response: Schemas.APIResponseGalleryTopicBackfillResponse
+    data: NonNullable<Schemas.APIResponseGalleryTopicBackfillResponse['data']>
+  }
   backfillOwnership: {
     pathParams: undefined
     query: undefined
@@ -325,6 +387,13 @@ export interface OpenApiOperationTypes {
     response: Schemas.APIResponseOwnershipBackfillResponse
     data: NonNullable<Schemas.APIResponseOwnershipBackfillResponse['data']>
   }
+  backfillTaskMaterials: {
+    pathParams: undefined
+    query: undefined
+    request: Schemas.TaskMaterialBackfillRequest
+    response: Schemas.APIResponseTaskMaterialBackfillResponse
+    data: NonNullable<Schemas.APIResponseTaskMaterialBackfillResponse['data']>
+  }
   createItem: {
     pathParams: undefined
     query: undefined
@@ -402,6 +471,13 @@ export interface OpenApiOperationTypes {
     response: Schemas.APIResponseAssetDetailResponse
     data: NonNullable<Schemas.APIResponseAssetDetailResponse['data']>
   }
+  getAssetFeed: {
+    pathParams: undefined
+    query: { contentType?: string; cursor?: string; size?: number }
+    request: undefined
+    response: Schemas.APIResponseCursorPageResponseAssetDTO
+    data: NonNullable<Schemas.APIResponseCursorPageResponseAssetDTO['data']>
+  }
   getAssetList: {
     pathParams: undefined
     query: { contentType?: string; current?: number; size?: number }
@@ -423,6 +499,13 @@ export interface OpenApiOperationTypes {
     response: Schemas.APIResponsePageResultGalleryDTO
     data: NonNullable<Schemas.APIResponsePageResultGalleryDTO['data']>
   }
+  getGalleryAuditLogFeed: {
+    pathParams: undefined
+    query: { action?: string; assetId?: string; cursor?: string; size?: number; success?: boolean }
+    request: undefined
+    response: Schemas.APIResponseCursorPageResponseGalleryAuditLogResponse
+    data: NonNullable<Schemas.APIResponseCursorPageResponseGalleryAuditLogResponse['data']>
+  }
   getGalleryAuditLogs: {
     pathParams: undefined
     query: { action?: string; assetId?: string; current?: number; size?: number; success?: boolean }
@@ -458,6 +541,20 @@ export interface OpenApiOperationTypes {
     response: Schemas.APIResponseGalleryCurationRulesResponse
     data: NonNullable<Schemas.APIResponseGalleryCurationRulesResponse['data']>
   }
+  getGalleryDetail: {
+    pathParams: { assetId: string }
+    query: undefined
+    request: undefined
+    response: Schemas.APIResponseGalleryDTO
+    data: NonNullable<Schemas.APIResponseGalleryDTO['data']>
+  }
+  getGalleryFeed: {
+    pathParams: undefined
+    query: { contentType?: string; cursor?: string; keyword?: string; model?: string; size?: number }
+    request: undefined
+    response: Schemas.APIResponseCursorPageResponseGalleryDTO
+    data: NonNullable<Schemas.APIResponseCursorPageResponseGalleryDTO['data']>
+  }
   getGalleryInteractionReport: {
     pathParams: undefined
     query: { contentType?: string; days?: number }
@@ -535,6 +632,13 @@ export interface OpenApiOperationTypes {
     response: Schemas.APIResponseProviderExecutionReportResponse
     data: NonNullable<Schemas.APIResponseProviderExecutionReportResponse['data']>
   }
+  getStorageAuditLogFeed: {
+    pathParams: undefined
+    query: { action?: string; backend?: string; cursor?: string; size?: number; success?: boolean }
+    request: undefined
+    response: Schemas.APIResponseCursorPageResponseStorageAuditLogResponse
+    data: NonNullable<Schemas.APIResponseCursorPageResponseStorageAuditLogResponse['data']>
+  }
   getStorageAuditLogs: {
     pathParams: undefined
     query: { action?: string; backend?: string; current?: number; size?: number; success?: boolean }
@@ -591,6 +695,20 @@ export interface OpenApiOperationTypes {
     response: Schemas.APIResponseVoid
     data: NonNullable<Schemas.APIResponseVoid['data']>
   }
+  migrateDataUrls: {
+    pathParams: undefined
+    query: undefined
+    request: Schemas.DataUrlMigrationRequest
+    response: Schemas.APIResponseDataUrlMigrationResponse
+    data: NonNullable<Schemas.APIResponseDataUrlMigrationResponse['data']>
+  }
+  outboundHttp: {
+    pathParams: undefined
+    query: undefined
+    request: undefined
+    response: Schemas.APIResponseOutboundHttpClientStats
+    data: NonNullable<Schemas.APIResponseOutboundHttpClientStats['data']>
+  }
   ping: {
     pathParams: undefined
     query: undefined
@@ -626,6 +744,13 @@ export interface OpenApiOperationTypes {
     response: Schemas.APIResponseProviderProbeResponse
     data: NonNullable<Schemas.APIResponseProviderProbeResponse['data']>
   }
+  queryProfile: {
+    pathParams: undefined
+    query: { limit?: number }
+    request: undefined
+    response: Schemas.APIResponseQueryProfileReport
+    data: NonNullable<Schemas.APIResponseQueryProfileReport['data']>
+  }
   recordGallerySharePromptReuse: {
     pathParams: { assetId: string }
     query: undefined
@@ -640,6 +765,13 @@ export interface OpenApiOperationTypes {
     response: Schemas.APIResponseAuthTokenResponse
     data: NonNullable<Schemas.APIResponseAuthTokenResponse['data']>
   }
+  remoteCalls: {
+    pathParams: undefined
+    query: { limit?: number }
+    request: undefined
+    response: Schemas.APIResponseRemoteCallMetricsReport
+    data: NonNullable<Schemas.APIResponseRemoteCallMetricsReport['data']>
+  }
   removeFromGallery: {
     pathParams: { assetId: string }
     query: undefined
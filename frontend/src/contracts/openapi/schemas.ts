@@ -64,6 +64,51 @@ export interface APIResponseCurrentUserResponse {
   timestamp?: number
 }
 
+export interface APIResponseCursorPageResponseAssetDTO {
+  code?: string
+  data?: CursorPageResponseAssetDTO
+  message?: string
+  requestId?: string
+  success?: boolean
+  timestamp?: number
+}
+
+export interface APIResponseCursorPageResponseGalleryAuditLogResponse {
+  code?: string
+  data?: CursorPageResponseGalleryAuditLogResponse
+  message?: string
+  requestId?: string
+  success?: boolean
+  timestamp?: number
+}
+
+export interface APIResponseCursorPageResponseGalleryDTO {
+  code?: string
+  data?: CursorPageResponseGalleryDTO
+  message?: string
+  requestId?: string
+  success?: boolean
+  timestamp?: number
+}
+
+export interface APIResponseCursorPageResponseStorageAuditLogResponse {
+  code?: string
+  data?: CursorPageResponseStorageAuditLogResponse
+  message?: string
+  requestId?: string
+  success?: boolean
+  timestamp?: number
+}
+
+export interface APIResponseDataUrlMigrationResponse {
+  code?: string
+  data?: DataUrlMigrationResponse
+  message?: string
+  requestId?: string
+  success?: boolean
+  timestamp?: number
+}
+
 export interface APIResponseGalleryAuthorProfileResponse {
   code?: string
   data?: GalleryAuthorProfileResponse
@@ -127,6 +172,15 @@ export interface APIResponseGalleryShareResponse {
   timestamp?: number
 }
 
+export interface APIResponseGalleryTopicBackfillResponse {
+  code?: string
+  data?: GalleryTopicBackfillResponse
+  message?: string
+  requestId?: string
+  success?: boolean
+  timestamp?: number
+}
+
 export interface APIResponseGalleryTopicsResponse {
   code?: string
   data?: GalleryTopicsResponse
@@ -181,6 +235,15 @@ export interface APIResponseModelListResponse {
   timestamp?: number
 }
 
+export interface APIResponseOutboundHttpClientStats {
+  code?: string
+  data?: OutboundHttpClientStats
+  message?: string
+  requestId?: string
+  success?: boolean
+  timestamp?: number
+}
+
 export interface APIResponseOwnershipBackfillResponse {
   code?: string
   data?: OwnershipBackfillResponse
@@ -307,6 +370,24 @@ export interface APIResponseProviderSmokeTestResponse {
   timestamp?: number
 }
 
+export interface APIResponseQueryProfileReport {
+  code?: string
+  data?: QueryProfileReport
+  message?: string
+  requestId?: string
+  success?: boolean
+  timestamp?: number
+}
+
+export interface APIResponseRemoteCallMetricsReport {
+  code?: string
+  data?: RemoteCallMetricsReport
+  message?: string
+  requestId?: string
+  success?: boolean
+  timestamp?: number
+}
+
 export interface APIResponseStorageStatusResponse {
   code?: string
   data?: StorageStatusResponse
@@ -325,6 +406,15 @@ export interface APIResponseString {
   timestamp?: number
 }
 
+export interface APIResponseTaskMaterialBackfillResponse {
+  code?: string
+  data?: TaskMaterialBackfillResponse
+  message?: string
+  requestId?: string
+  success?: boolean
+  timestamp?: number
+}
+
 export interface APIResponseTaskStatusResponse {
   code?: string
   data?: TaskStatusResponse
@@ -355,6 +445,7 @@ export interface AssetDTO {
   isPublished?: boolean
   model?: string
   prompt?: string
+  promptTruncated?: boolean
   thumbnailUrl?: string
   url?: string
 }
@@ -429,6 +520,154 @@ export interface CurrentUserResponse {
   userName: string
 }
 
+/**
+ * 键集分页结果，使用 nextCursor 继续读取下一页
+ */
+export interface CursorPageResponseAssetDTO {
+  /**
+   * 是否还有下一页
+   */
+  hasMore?: boolean
+  /**
+   * 下一页游标，没有更多数据时为空
+   */
+  nextCursor?: string
+  /**
+   * 当前页记录
+   */
+  records?: AssetDTO[]
+  /**
+   * 每页大小
+   */
+  size?: number
+}
+
+/**
+ * 键集分页结果，使用 nextCursor 继续读取下一页
+ */
+export interface CursorPageResponseGalleryAuditLogResponse {
+  /**
+   * 是否还有下一页
+   */
+  hasMore?: boolean
+  /**
+   * 下一页游标，没有更多数据时为空
+   */
+  nextCursor?: string
+  /**
+   * 当前页记录
+   */
+  records?: GalleryAuditLogResponse[]
+  /**
+   * 每页大小
+   */
+  size?: number
+}
+
+/**
+ * 键集分页结果，使用 nextCursor 继续读取下一页
+ */
+export interface CursorPageResponseGalleryDTO {
+  /**
+   * 是否还有下一页
+   */
+  hasMore?: boolean
+  /**
+   * 下一页游标，没有更多数据时为空
+   */
+  nextCursor?: string
+  /**
+   * 当前页记录
+   */
+  records?: GalleryDTO[]
+  /**
+   * 每页大小
+   */
+  size?: number
+}
+
+/**
+ * 键集分页结果，使用 nextCursor 继续读取下一页
+ */
+export interface CursorPageResponseStorageAuditLogResponse {
+  /**
+   * 是否还有下一页
+   */
+  hasMore?: boolean
+  /**
+   * 下一页游标，没有更多数据时为空
+   */
+  nextCursor?: string
+  /**
+   * 当前页记录
+   */
+  records?: StorageAuditLogResponse[]
+  /**
+   * 每页大小
+   */
+  size?: number
+}
+
+/**
+ * 历史 data URL 资产迁移请求
+ */
+export interface DataUrlMigrationRequest {
+  /**
+   * 每批处理的行数，最大 500
+   */
+  batchSize?: number
+  /**
+   * 当 dryRun=false 时必须显式为 true，防止误写历史数据
+   */
+  confirmMigration?: boolean
+  /**
+   * 是否仅预演；默认 true，不写入数据
+   */
+  dryRun?: boolean
+}
+
+/**
+ * 历史 data URL 资产迁移结果
+ */
+export interface DataUrlMigrationResponse {
+  /**
+   * 仍保存 data URL 的资产数量
+   */
+  assetCandidates?: number
+  /**
+   * 已迁移资产数量
+   */
+  assetMigrated?: number
+  /**
+   * 检查时间
+   */
+  checkedAt?: string
+  /**
+   * 是否已显式确认写入
+   */
+  confirmed?: boolean
+  /**
+   * 是否仅预演
+   */
+  dryRun?: boolean
+  /**
+   * 迁移失败并保留原值的行数
+   */
+  failed?: number
+  /**
+   * 执行提示
+   */
+  message?: string
+  /**
+   * 仍保存 data URL 的任务数量
+   */
+  taskCandidates?: number
+  /**
+   * 已迁移任务数量
+   */
+  taskMigrated?: number
+}
+
 export interface GalleryActionMetricResponse {
   action?: string
   successfulEvents?: number
@@ -818,6 +1057,7 @@ export interface GalleryDTO {
   model?: string
   previewUrl?: string
   prompt?: string
+  promptTruncated?: boolean
   publicAccessMode?: string
   thumbnailUrl?: string
   url?: string
@@ -869,6 +1109,58 @@ export interface GalleryShareResponse {
   sharePath?: string
 }
 
+/**
+ * 已发布作品的专题标签回填请求
+ */
+export interface GalleryTopicBackfillRequest {
+  /**
+   * 每批处理的作品数，最大 500
+   */
+  batchSize?: number
+  /**
+   * 当 dryRun=false 时必须显式为 true，防止误写历史数据
+   */
+  confirmBackfill?: boolean
+  /**
+   * 是否仅预演；默认 true，不写入数据
+   */
+  dryRun?: boolean
+}
+
+/**
+ * 已发布作品的专题标签回填结果
+ */
+export interface GalleryTopicBackfillResponse {
+  /**
+   * 已发布作品数量
+   */
+  assetCandidates?: number
+  /**
+   * 本次重新匹配的作品数量
+   */
+  assetsTagged?: number
+  /**
+   * 检查时间
+   */
+  checkedAt?: string
+  /**
+   * 是否已显式确认写入
+   */
+  confirmed?: boolean
+  /**
+   * 是否仅预演
+   */
+  dryRun?: boolean
+  /**
+   * 执行提示
+   */
+  message?: string
+  /**
+   * 本次写入的专题标签行数
+   */
+  tagsCreated?: number
+}
+
 /**
  * AIGC gallery editorial topic
  */
@@ -1088,6 +1380,24 @@ export interface ModelListResponse {
   videoModels?: ModelInfo[]
 }
 
+export interface OutboundHttpClientStats {
+  calls?: number
+  connectFailures?: number
+  connectionAcquisitions?: number
+  connectionCount?: number
+  connectionReuseRatio?: number
+  connectionsOpened?: number
+  dnsCacheHits?: number
+  dnsCacheMisses?: number
+  failedCalls?: number
+  hostLimitRejections?: number
+  http2Connections?: number
+  idleConnectionCount?: number
+  inFlightByHost?: Record<string, number>
+  queuedAsyncCalls?: number
+  runningAsyncCalls?: number
+}
+
 /**
  * 历史 AIGC 数据归属回填请求
  */
@@ -1571,6 +1881,26 @@ export interface ProviderSmokeTestResponse {
   url?: string
 }
 
+export interface QueryProfileReport {
+  repeatedQueryRequests?: number
+  sampleRate?: number
+  sampledRequests?: number
+  shapes?: QueryShapeMetric[]
+}
+
+export interface QueryShapeMetric {
+  avgMillis?: number
+  errors?: number
+  executions?: number
+  histogram?: Record<string, number>
+  maxMillis?: number
+  p95UpperBoundMillis?: number
+  repeatedQueryRequests?: number
+  rows?: number
+  shape?: string
+  totalMillis?: number
+}
+
 /**
  * Refresh token request
  */
@@ -1581,6 +1911,32 @@ export interface RefreshTokenRequest {
   refreshToken: string
 }
 
+export interface RemoteCallMetricsReport {
+  calls?: number
+  errors?: number
+  inFlight?: number
+  series?: RemoteCallSeriesMetric[]
+  slowCallThresholdMs?: number
+  slowCalls?: SlowRemoteCall[]
+}
+
+export interface RemoteCallSeriesMetric {
+  avgMillis?: number
+  callerId?: string
+  calls?: number
+  errorCodes?: Record<string, number>
+  errorRate?: number
+  errors?: number
+  inFlight?: number
+  maxMillis?: number
+  method?: string
+  p95Millis?: number
+  p99Millis?: number
+  path?: string
+  targetService?: string
+  totalMillis?: number
+}
+
 /**
  * 保存作品到灵感广场请求
  */
@@ -1591,6 +1947,19 @@ export interface SaveToGalleryRequest {
   assetId: string
 }
 
+export interface SlowRemoteCall {
+  callerId?: string
+  durationMs?: number
+  errorCode?: string
+  finishedAt?: number
+  method?: string
+  path?: string
+  requestId?: string
+  success?: boolean
+  targetService?: string
+  traceId?: string
+}
+
 export interface StorageAuditLogResponse {
   action?: string
   backend?: string
@@ -1647,6 +2016,58 @@ export interface StorageStatusResponse {
   oss?: StorageBackendStatusResponse
 }
 
+/**
+ * 历史任务-素材关联回填请求
+ */
+export interface TaskMaterialBackfillRequest {
+  /**
+   * 每批处理的任务数，最大 500
+   */
+  batchSize?: number
+  /**
+   * 当 dryRun=false 时必须显式为 true，防止误写历史数据
+   */
+  confirmBackfill?: boolean
+  /**
+   * 是否仅预演；默认 true，不写入数据
+   */
+  dryRun?: boolean
+}
+
+/**
+ * 历史任务-素材关联回填结果
+ */
+export interface TaskMaterialBackfillResponse {
+  /**
+   * 检查时间
+   */
+  checkedAt?: string
+  /**
+   * 是否已显式确认写入
+   */
+  confirmed?: boolean
+  /**
+   * 是否仅预演
+   */
+  dryRun?: boolean
+  /**
+   * 本次写入的关联行数
+   */
+  linksCreated?: number
+  /**
+   * 执行提示
+   */
+  message?: string
+  /**
+   * 引用了素材的任务数量
+   */
+  taskCandidates?: number
+  /**
+   * 本次补建关联的任务数量
+   */
+  taskLinked?: number
+}
+
 export interface TaskStatusResponse {
   agentAnalysis?: AgentAnalysis
   createdAt?: string
@@ -1678,6 +2099,11 @@ export interface OpenApiSchemas {
   APIResponseAssetDetailResponse: APIResponseAssetDetailResponse
   APIResponseAuthTokenResponse: APIResponseAuthTokenResponse
   APIResponseCurrentUserResponse: APIResponseCurrentUserResponse
+  APIResponseCursorPageResponseAssetDTO: APIResponseCursorPageResponseAssetDTO
+  APIResponseCursorPageResponseGalleryAuditLogResponse: APIResponseCursorPageResponseGalleryAuditLogResponse
+  APIResponseCursorPageResponseGalleryDTO: APIResponseCursorPageResponseGalleryDTO
+  APIResponseCursorPageResponseStorageAuditLogResponse: APIResponseCursorPageResponseStorageAuditLogResponse
+  APIResponseDataUrlMigrationResponse: APIResponseDataUrlMigrationResponse
   APIResponseGalleryAuthorProfileResponse: APIResponseGalleryAuthorProfileResponse
   APIResponseGalleryCollectionsResponse: APIResponseGalleryCollectionsResponse
   APIResponseGalleryCreatorRankingResponse: APIResponseGalleryCreatorRankingResponse
@@ -1685,12 +2111,14 @@ export interface OpenApiSchemas {
   APIResponseGalleryDTO: APIResponseGalleryDTO
   APIResponseGalleryInteractionReportResponse: APIResponseGalleryInteractionReportResponse
   APIResponseGalleryShareResponse: APIResponseGalleryShareResponse
+  APIResponseGalleryTopicBackfillResponse: APIResponseGalleryTopicBackfillResponse
   APIResponseGalleryTopicsResponse: APIResponseGalleryTopicsResponse
   APIResponseGenerateResponse: APIResponseGenerateResponse
   APIResponseMapStringObject: APIResponseMapStringObject
   APIResponseMaterialUploadResponse: APIResponseMaterialUploadResponse
   APIResponseMiddlewareStatusReport: APIResponseMiddlewareStatusReport
   APIResponseModelListResponse: APIResponseModelListResponse
+  APIResponseOutboundHttpClientStats: APIResponseOutboundHttpClientStats
   APIResponseOwnershipBackfillResponse: APIResponseOwnershipBackfillResponse
   APIResponsePageResultAssetDTO: APIResponsePageResultAssetDTO
   APIResponsePageResultGalleryAuditLogResponse: APIResponsePageResultGalleryAuditLogResponse
@@ -1705,8 +2133,11 @@ export interface OpenApiSchemas {
   APIResponseProviderProbeResponse: APIResponseProviderProbeResponse
   APIResponseProviderRouteUpdateResponse: APIResponseProviderRouteUpdateResponse
   APIResponseProviderSmokeTestResponse: APIResponseProviderSmokeTestResponse
+  APIResponseQueryProfileReport: APIResponseQueryProfileReport
+  APIResponseRemoteCallMetricsReport: APIResponseRemoteCallMetricsReport
   APIResponseStorageStatusResponse: APIResponseStorageStatusResponse
   APIResponseString: APIResponseString
+  APIResponseTaskMaterialBackfillResponse: APIResponseTaskMaterialBackfillResponse
   APIResponseTaskStatusResponse: APIResponseTaskStatusResponse
   APIResponseVoid: APIResponseVoid
   AssetDetailResponse: AssetDetailResponse
@@ -1714,6 +2145,12 @@ export interface OpenApiSchemas {
   AudioParams: AudioParams
   AuthTokenResponse: AuthTokenResponse
   CurrentUserResponse: CurrentUserResponse
+  CursorPageResponseAssetDTO: CursorPageResponseAssetDTO
+  CursorPageResponseGalleryAuditLogResponse: CursorPageResponseGalleryAuditLogResponse
+  CursorPageResponseGalleryDTO: CursorPageResponseGalleryDTO
+  CursorPageResponseStorageAuditLogResponse: CursorPageResponseStorageAuditLogResponse
+  DataUrlMigrationRequest: DataUrlMigrationRequest
+  DataUrlMigrationResponse: DataUrlMigrationResponse
   GalleryActionMetricResponse: GalleryActionMetricResponse
   GalleryAssetComparisonResponse: GalleryAssetComparisonResponse
   GalleryAssetMetricResponse: GalleryAssetMetricResponse
@@ -1733,6 +2170,8 @@ export interface OpenApiSchemas {
   GalleryInteractionReportResponse: GalleryInteractionReportResponse
   GalleryShareFunnelResponse: GalleryShareFunnelResponse
   GalleryShareResponse: GalleryShareResponse
+  GalleryTopicBackfillRequest: GalleryTopicBackfillRequest
+  GalleryTopicBackfillResponse: GalleryTopicBackfillResponse
   GalleryTopicResponse: GalleryTopicResponse
   GalleryTopicsResponse: GalleryTopicsResponse
   GenerateRequest: GenerateRequest
@@ -1747,6 +2186,7 @@ export interface OpenApiSchemas {
   MiddlewareSummary: MiddlewareSummary
   ModelInfo: ModelInfo
   ModelListResponse: ModelListResponse
+  OutboundHttpClientStats: OutboundHttpClientStats
   OwnershipBackfillRequest: OwnershipBackfillRequest
   OwnershipBackfillResponse: OwnershipBackfillResponse
   PageResultAssetDTO: PageResultAssetDTO
@@ -1771,11 +2211,18 @@ export interface OpenApiSchemas {
   ProviderRouteUpdateResponse: ProviderRouteUpdateResponse
   ProviderSmokeTestRequest: ProviderSmokeTestRequest
   ProviderSmokeTestResponse: ProviderSmokeTestResponse
+  QueryProfileReport: QueryProfileReport
+  QueryShapeMetric: QueryShapeMetric
   RefreshTokenRequest: RefreshTokenRequest
+  RemoteCallMetricsReport: RemoteCallMetricsReport
+  RemoteCallSeriesMetric: RemoteCallSeriesMetric
   SaveToGalleryRequest: SaveToGalleryRequest
+  SlowRemoteCall: SlowRemoteCall
   StorageAuditLogResponse: StorageAuditLogResponse
   StorageBackendStatusResponse: StorageBackendStatusResponse
   StorageStatusResponse: StorageStatusResponse
+  TaskMaterialBackfillRequest: TaskMaterialBackfillRequest
+  TaskMaterialBackfillResponse: TaskMaterialBackfillResponse
   TaskStatusResponse: TaskStatusResponse
   VideoParams: VideoParams
 }
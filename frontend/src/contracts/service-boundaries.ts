@@ -382,6 +382,24 @@ export const SERVICE_BOUNDARY_CONTRACT = {
             "GET"
           ]
         },
+        {
+          "name": "storageAuditFeed",
+          "backendConstant": "STORAGE_AUDIT_FEED_FULL",
+          "frontendKey": "storageAuditFeed",
+          "path": "/api/aigc/storage/audits/feed",
+          "methods": [
+            "GET"
+          ]
+        },
+        {
+          "name": "storageDataUrlMigration",
+          "backendConstant": "STORAGE_DATA_URL_MIGRATION_FULL",
+          "frontendKey": "storageDataUrlMigration",
+          "path": "/api/aigc/storage/data-url-migration",
+          "methods": [
+            "POST"
+          ]
+        },
         {
           "name": "ownershipBackfill",
           "backendConstant": "OWNERSHIP_BACKFILL_FULL",
@@ -391,6 +409,24 @@ export const SERVICE_BOUNDARY_CONTRACT = {
             "POST"
           ]
         },
+        {
+          "name": "taskMaterialBackfill",
+          "backendConstant": "TASK_MATERIAL_BACKFILL_FULL",
+          "frontendKey": "taskMaterialBackfill",
+          "path": "/api/aigc/materials/task-links/backfill",
+          "methods": [
+            "POST"
+          ]
+        },
+        {
+          "name": "galleryTopicBackfill",
+          "backendConstant": "GALLERY_TOPIC_BACKFILL_FULL",
+          "frontendKey": "galleryTopicBackfill",
+          "path": "/api/aigc/gallery/topics/backfill",
+          "methods": [
+            "POST"
+          ]
+        },
         {
           "name": "gallery",
           "backendConstant": "GALLERY_FULL",
@@ -400,6 +436,15 @@ export const SERVICE_BOUNDARY_CONTRACT = {
             "GET"
           ]
         },
+        {
+          "name": "galleryFeed",
+          "backendConstant": "GALLERY_FEED_FULL",
+          "frontendKey": "galleryFeed",
+          "path": "/api/aigc/gallery/feed",
+          "methods": [
+            "GET"
+          ]
+        },
         {
           "name": "galleryRanking",
           "backendConstant": "GALLERY_RANKING_FULL",
@@ -463,6 +508,15 @@ export const SERVICE_BOUNDARY_CONTRACT = {
             "GET"
           ]
         },
+        {
+          "name": "galleryAuditFeed",
+          "backendConstant": "GALLERY_AUDIT_FEED_FULL",
+          "frontendKey": "galleryAuditFeed",
+          "path": "/api/aigc/gallery/audits/feed",
+          "methods": [
+            "GET"
+          ]
+        },
         {
           "name": "galleryInteractionReport",
           "backendConstant": "GALLERY_INTERACTION_REPORT_FULL",
@@ -537,6 +591,15 @@ export const SERVICE_BOUNDARY_CONTRACT = {
             "POST"
           ]
         },
+        {
+          "name": "galleryDetail",
+          "backendConstant": "GALLERY_DETAIL_FULL",
+          "frontendKey": "galleryDetail",
+          "path": "/api/aigc/gallery/{assetId}",
+          "methods": [
+            "GET"
+          ]
+        },
         {
           "name": "galleryAuthorProfile",
           "backendConstant": "GALLERY_AUTHOR_PROFILE_FULL",
@@ -573,6 +636,15 @@ export const SERVICE_BOUNDARY_CONTRACT = {
             "GET"
           ]
         },
+        {
+          "name": "assetFeed",
+          "backendConstant": "ASSET_FEED_FULL",
+          "frontendKey": "assetFeed",
+          "path": "/api/aigc/assets/feed",
+          "methods": [
+            "GET"
+          ]
+        },
         {
           "name": "assetDetail",
           "backendConstant": "ASSET_DETAIL_FULL",
@@ -618,14 +690,44 @@ export const SERVICE_BOUNDARY_CONTRACT = {
     {
       "id": "admin",
       "name": "Admin Operations",
-      "kind": "reserved",
+      "kind": "runtime",
       "owner": "infra-admin",
-      "currentHost": "future-service",
+      "currentHost": "agent-aigc",
       "basePath": "/api/admin",
       "apiConstantsClass": "Admin",
-      "openapi": false,
+      "apiPathsKey": "admin",
+      "controller": "backend/src/main/java/com/anjing/controller/AdminController.java",
+      "openapi": true,
       "copyAction": "use for operations dashboards, logs, and platform admin APIs",
-      "routes": []
+      "routes": [
+        {
+          "name": "queryProfile",
+          "backendConstant": "QUERY_PROFILE_FULL",
+          "frontendKey": "queryProfile",
+          "path": "/api/admin/query-profile",
+          "methods": [
+            "GET"
+          ]
+        },
+        {
+          "name": "outboundHttp",
+          "backendConstant": "OUTBOUND_HTTP_FULL",
+          "frontendKey": "outboundHttp",
+          "path": "/api/admin/outbound-http",
+          "methods": [
+            "GET"
+          ]
+        },
+        {
+          "name": "remoteCalls",
+          "backendConstant": "REMOTE_CALLS_FULL",
+          "frontendKey": "remoteCalls",
+          "path": "/api/admin/remote-calls",
+          "methods": [
+            "GET"
+          ]
+        }
+      ]
     },
     {
       "id": "integration",
@@ -653,22 +755,31 @@ export const SERVICE_BOUNDARY_BASE_PATHS = {
   "user": "/api/users"
 } as const
 export const SERVICE_BOUNDARY_ROUTE_PATHS = {
+  "admin": {
+    "outboundHttp": "/api/admin/outbound-http",
+    "queryProfile": "/api/admin/query-profile",
+    "remoteCalls": "/api/admin/remote-calls"
+  },
   "aigc": {
     "assetDetail": "/api/aigc/assets/{assetId}",
     "assetDownload": "/api/aigc/assets/{assetId}/download",
+    "assetFeed": "/api/aigc/assets/feed",
     "assetPreview": "/api/aigc/assets/{assetId}/preview",
     "assets": "/api/aigc/assets",
     "gallery": "/api/aigc/gallery",
     "galleryAssetDownload": "/api/aigc/gallery/{assetId}/download",
     "galleryAssetPreview": "/api/aigc/gallery/{assetId}/preview",
+    "galleryAuditFeed": "/api/aigc/gallery/audits/feed",
     "galleryAudits": "/api/aigc/gallery/audits",
     "galleryAuthorProfile": "/api/aigc/gallery/authors/{authorId}",
     "galleryCollections": "/api/aigc/gallery/collections",
     "galleryCreatorRanking": "/api/aigc/gallery/creators/ranking",
     "galleryCurationRuleConfig": "/api/aigc/gallery/curation/rules/config",
     "galleryCurationRules": "/api/aigc/gallery/curation/rules",
+    "galleryDetail": "/api/aigc/gallery/{assetId}",
     "galleryFavorite": "/api/aigc/gallery/{assetId}/favorite",
     "galleryFavorites": "/api/aigc/gallery/favorites",
+    "galleryFeed": "/api/aigc/gallery/feed",
     "galleryInteractionReport": "/api/aigc/gallery/reports/interactions",
     "galleryLike": "/api/aigc/gallery/{assetId}/like",
     "galleryPublication": "/api/aigc/gallery/{assetId}/publication",
@@ -676,6 +787,7 @@ export const SERVICE_BOUNDARY_ROUTE_PATHS = {
     "gallerySave": "/api/aigc/gallery/save",
     "galleryShare": "/api/aigc/gallery/{assetId}/share",
     "galleryShareReuse": "/api/aigc/gallery/{assetId}/share/reuse",
+    "galleryTopicBackfill": "/api/aigc/gallery/topics/backfill",
     "galleryTopics": "/api/aigc/gallery/topics",
     "generate": "/api/aigc/generate",
     "materialDetail": "/api/aigc/materials/{materialId}",
@@ -693,8 +805,11 @@ export const SERVICE_BOUNDARY_ROUTE_PATHS = {
     "modelProviderSmokeTest": "/api/aigc/models/provider-smoke-test",
     "models": "/api/aigc/models",
     "ownershipBackfill": "/api/aigc/ownership/backfill",
+    "storageAuditFeed": "/api/aigc/storage/audits/feed",
     "storageAudits": "/api/aigc/storage/audits",
+    "storageDataUrlMigration": "/api/aigc/storage/data-url-migration",
     "storageStatus": "/api/aigc/storage/status",
+    "taskMaterialBackfill": "/api/aigc/materials/task-links/backfill",
     "taskRetry": "/api/aigc/task/{taskId}/retry",
     "taskStatus": "/api/aigc/task/{taskId}"
   },
@@ -155,7 +155,8 @@ for (const token of [
   'REACTION_FAVORITE',
   'addReaction',
   'removeReaction',
-  'getMyFavoriteReactions'
+  'getMyFavoriteAssets',
+  'findReactedAssetIds'
 ]) {
   requireToken('backend/src/main/java/com/anjing/aigc/service/AigcGalleryReactionService.java', token)
 }
@@ -299,11 +300,18 @@ for (const token of [
   '"credential"',
   '"apiKey"',
   '"secretKey"',
-  'redactJsonNode'
+  'LogPayloadWriter'
 ]) {
   requireToken('backend/src/main/java/com/anjing/aspect/ControllerLogAspect.java', token)
 }
 
+for (const token of [
+  'FILTERED_VALUE',
+  'redactIfSensitive'
+]) {
+  requireToken('backend/src/main/java/com/anjing/aspect/LogPayloadWriter.java', token)
+}
+
 for (const relativeFile of [
   'backend/src/main/java/com/anjing/aigc/provider/google/GoogleImageProvider.java',
   'backend/src/main/java/com/anjing/aigc/provider/google/GoogleVideoProvider.java',
@@ -484,12 +492,19 @@ for (const token of [
 }
 
 for (const token of [
-  'findVisibleAssets',
+  'AigcAssetQueryRepository',
   'findVisibleByAssetId'
 ]) {
   requireToken('backend/src/main/java/com/anjing/aigc/repository/AigcAssetRepository.java', token)
 }
 
+for (const token of [
+  'findVisibleAssetSummaries',
+  'findVisibleAssetSummariesAfter'
+]) {
+  requireToken('backend/src/main/java/com/anjing/aigc/repository/AigcAssetQueryRepository.java', token)
+}
+
 for (const token of [
   'findVisibleMaterials',
   'findVisibleByMaterialId',
@@ -500,12 +515,26 @@ for (const token of [
 
 for (const token of [
   'findVisibleByTaskId',
-  'findVisibleByAssetId',
-  'findVisibleByReferenceMaterialId'
+  'findVisibleByAssetId'
 ]) {
   requireToken('backend/src/main/java/com/anjing/aigc/repository/AigcTaskRepository.java', token)
 }
 
+for (const token of [
+  'aigc_task_material',
+  'uk_aigc_task_material',
+  'idx_aigc_task_material_material_created'
+]) {
+  requireToken('backend/src/main/java/com/anjing/aigc/model/entity/AigcTaskMaterial.java', token)
+}
+
+for (const token of [
+  'findVisibleTaskIdsByMaterialId',
+  'findLinkedTaskIds'
+]) {
+  requireToken('backend/src/main/java/com/anjing/aigc/repository/AigcTaskMaterialRepository.java', token)
+}
+
 for (const token of [
   'AigcOwnershipService',
   'ownershipService.applyOwnership(material)',
@@ -520,9 +549,10 @@ for (const token of [
   'ownershipService.applyOwnership(task)',
   'findVisibleTask',
   'findVisibleAsset',
-  'findVisibleAssets',
+  'findVisibleAssetSummaries',
   'findVisibleByMaterialIdIn',
-  'findVisibleByReferenceMaterialId'
+  'taskMaterialService.linkTask(task)',
+  'taskMaterialService.findVisibleTaskIds'
 ]) {
   requireToken('backend/src/main/java/com/anjing/aigc/service/impl/AigcServiceImpl.java', token)
 }
@@ -73,13 +73,13 @@ for (const token of [
 }
 
 for (const token of [
-  'private String requestId',
-  'private String traceId',
-  'private String tenantId',
-  'private String userId',
-  'private String callerId',
-  'private String locale',
-  'private String timeZone'
+  'private final String requestId',
+  'private final String traceId',
+  'private final String tenantId',
+  'private final String userId',
+  'private final String callerId',
+  'private final String locale',
+  'private final String timeZone'
 ]) {
   requireToken(files.context, token)
 }